@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.executor;
+
+import io.shardingsphere.benchmark.fixture.BenchmarkDataSources;
+import io.shardingsphere.benchmark.fixture.BenchmarkSQLCases;
+import io.shardingsphere.benchmark.fixture.BenchmarkShardingRules;
+import io.shardingsphere.shardingjdbc.jdbc.core.datasource.ShardingDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL executing and result merging with H2 in-memory databases.
+ * 
+ * <p>Each invocation goes through sharding JDBC, from getting connection to iterating all merged rows.</p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLExecuteBenchmark {
+    
+    @Param({"2", "8"})
+    private int shardCount;
+    
+    @Param({"1000", "10000"})
+    private int rowCount;
+    
+    @Param({"select_equal_with_single_table", "select_order_by_asc_and_index_desc", "select_count", "select_distinct_with_count_group_by"})
+    private String sqlCaseId;
+    
+    private Map<String, DataSource> dataSourceMap;
+    
+    private ShardingDataSource shardingDataSource;
+    
+    private String sql;
+    
+    private List<Object> parameters;
+    
+    /**
+     * Set up.
+     * 
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        dataSourceMap = BenchmarkDataSources.createDataSources(shardCount, rowCount);
+        shardingDataSource = new ShardingDataSource(dataSourceMap, BenchmarkShardingRules.createShardingRule(shardCount));
+        sql = BenchmarkSQLCases.getSQL(sqlCaseId);
+        parameters = BenchmarkSQLCases.getParameters(sql);
+    }
+    
+    /**
+     * Execute query and iterate all rows.
+     * 
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void executeQuery(final Blackhole blackhole) throws SQLException {
+        try (
+                Connection connection = shardingDataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                preparedStatement.setObject(i + 1, parameters.get(i));
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                int columnCount = resultSet.getMetaData().getColumnCount();
+                while (resultSet.next()) {
+                    for (int i = 1; i <= columnCount; i++) {
+                        blackhole.consume(resultSet.getObject(i));
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * Tear down.
+     * 
+     * @throws SQLException SQL exception
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        BenchmarkDataSources.close(dataSourceMap);
+        shardingDataSource.close();
+    }
+}
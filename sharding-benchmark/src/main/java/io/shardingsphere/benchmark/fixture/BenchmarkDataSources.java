@@ -0,0 +1,117 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.fixture;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.dbcp2.BasicDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * H2 in-memory data sources for benchmark.
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkDataSources {
+    
+    /**
+     * Create data sources and fill rows.
+     * 
+     * <p>Row with {@code i} as {@code order_id} and {@code user_id} is inserted into the shard which sharding rule routes to.</p>
+     *
+     * @param shardCount shard count of databases
+     * @param rowCount row count of each logic table
+     * @return data source map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, DataSource> createDataSources(final int shardCount, final int rowCount) throws SQLException {
+        Map<String, DataSource> result = new LinkedHashMap<>(shardCount, 1);
+        for (String each : BenchmarkShardingRules.getDataSourceNames(shardCount)) {
+            result.put(each, createDataSource(each));
+        }
+        for (DataSource each : result.values()) {
+            createTables(each);
+        }
+        for (int i = 0; i < rowCount; i++) {
+            DataSource dataSource = result.get("ds_" + i % shardCount);
+            int tableIndex = i % BenchmarkShardingRules.TABLE_SHARD_COUNT;
+            insert(dataSource, "INSERT INTO t_order_" + tableIndex + " (order_id, user_id, status) VALUES (?, ?, ?)", i, i, "init");
+            insert(dataSource, "INSERT INTO t_order_item_" + tableIndex + " (item_id, order_id, user_id, status) VALUES (?, ?, ?, ?)", i, i, i, "init");
+        }
+        return result;
+    }
+    
+    private static DataSource createDataSource(final String dataSourceName) {
+        BasicDataSource result = new BasicDataSource();
+        result.setDriverClassName(org.h2.Driver.class.getName());
+        result.setUrl(String.format("jdbc:h2:mem:benchmark_%s;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", dataSourceName));
+        result.setUsername("sa");
+        result.setPassword("");
+        result.setMaxTotal(50);
+        return result;
+    }
+    
+    private static void createTables(final DataSource dataSource) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            for (int i = 0; i < BenchmarkShardingRules.TABLE_SHARD_COUNT; i++) {
+                statement.execute(String.format("DROP TABLE IF EXISTS t_order_%d", i));
+                statement.execute(String.format("DROP TABLE IF EXISTS t_order_item_%d", i));
+                statement.execute(String.format("CREATE TABLE t_order_%d (order_id BIGINT PRIMARY KEY, user_id INT NOT NULL, status VARCHAR(50))", i));
+                statement.execute(String.format("CREATE TABLE t_order_item_%d (item_id BIGINT PRIMARY KEY, order_id BIGINT, user_id INT NOT NULL, status VARCHAR(50))", i));
+            }
+        }
+    }
+    
+    private static void insert(final DataSource dataSource, final String sql, final Object... parameters) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                preparedStatement.setObject(i + 1, parameters[i]);
+            }
+            preparedStatement.executeUpdate();
+        }
+    }
+    
+    /**
+     * Close data sources.
+     *
+     * @param dataSourceMap data source map
+     * @throws SQLException SQL exception
+     */
+    public static void close(final Map<String, DataSource> dataSourceMap) throws SQLException {
+        for (DataSource each : dataSourceMap.values()) {
+            try (
+                    Connection connection = each.getConnection();
+                    Statement statement = connection.createStatement()) {
+                statement.execute("SHUTDOWN");
+            }
+            ((BasicDataSource) each).close();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.fixture;
+
+import io.shardingsphere.test.sql.SQLCaseType;
+import io.shardingsphere.test.sql.SQLCasesLoader;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL cases for benchmark, which are loaded from sharding SQL test cases.
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkSQLCases {
+    
+    /**
+     * Get SQL with placeholders.
+     *
+     * @param sqlCaseId SQL case ID
+     * @return SQL with placeholders
+     */
+    public static String getSQL(final String sqlCaseId) {
+        return SQLCasesLoader.getInstance().getSupportedSQL(sqlCaseId, SQLCaseType.Placeholder, Collections.emptyList());
+    }
+    
+    /**
+     * Get parameters for SQL placeholders.
+     * 
+     * <p>Parameters are sequential integers which start from 1, so each benchmark run uses same parameters.</p>
+     *
+     * @param sql SQL with placeholders
+     * @return parameters
+     */
+    public static List<Object> getParameters(final String sql) {
+        List<Object> result = new ArrayList<>();
+        for (char each : sql.toCharArray()) {
+            if ('?' == each) {
+                result.add(result.size() + 1);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.fixture;
+
+import io.shardingsphere.api.config.rule.ShardingRuleConfiguration;
+import io.shardingsphere.api.config.rule.TableRuleConfiguration;
+import io.shardingsphere.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.metadata.table.ColumnMetaData;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.rule.ShardingRule;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sharding rules for benchmark.
+ * 
+ * <p>
+ * Logic tables {@code t_order} and {@code t_order_item} are binding tables,
+ * databases are sharded by {@code user_id} to shard count, and tables are sharded by {@code order_id} to 2 in each database.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkShardingRules {
+    
+    public static final int TABLE_SHARD_COUNT = 2;
+    
+    /**
+     * Get data source names.
+     *
+     * @param shardCount shard count of databases
+     * @return data source names
+     */
+    public static Collection<String> getDataSourceNames(final int shardCount) {
+        Collection<String> result = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            result.add("ds_" + i);
+        }
+        return result;
+    }
+    
+    /**
+     * Create sharding rule configuration.
+     *
+     * @param shardCount shard count of databases
+     * @return sharding rule configuration
+     */
+    public static ShardingRuleConfiguration createShardingRuleConfiguration(final int shardCount) {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getTableRuleConfigs().add(createTableRuleConfiguration("t_order", shardCount));
+        result.getTableRuleConfigs().add(createTableRuleConfiguration("t_order_item", shardCount));
+        result.getBindingTableGroups().add("t_order, t_order_item");
+        result.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % " + shardCount + "}"));
+        return result;
+    }
+    
+    private static TableRuleConfiguration createTableRuleConfiguration(final String logicTable, final int shardCount) {
+        TableRuleConfiguration result = new TableRuleConfiguration();
+        result.setLogicTable(logicTable);
+        result.setActualDataNodes(String.format("ds_${0..%d}.%s_${0..%d}", shardCount - 1, logicTable, TABLE_SHARD_COUNT - 1));
+        result.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", logicTable + "_${order_id % " + TABLE_SHARD_COUNT + "}"));
+        return result;
+    }
+    
+    /**
+     * Create sharding rule.
+     *
+     * @param shardCount shard count of databases
+     * @return sharding rule
+     */
+    public static ShardingRule createShardingRule(final int shardCount) {
+        return new ShardingRule(createShardingRuleConfiguration(shardCount), getDataSourceNames(shardCount));
+    }
+    
+    /**
+     * Create sharding table meta data.
+     *
+     * @return sharding table meta data
+     */
+    public static ShardingTableMetaData createShardingTableMetaData() {
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(2, 1);
+        tableMetaDataMap.put("t_order", new TableMetaData(Arrays.asList(
+                new ColumnMetaData("order_id", "bigint", true), new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false))));
+        tableMetaDataMap.put("t_order_item", new TableMetaData(Arrays.asList(new ColumnMetaData("item_id", "bigint", true),
+                new ColumnMetaData("order_id", "bigint", false), new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false))));
+        return new ShardingTableMetaData(tableMetaDataMap);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.fixture;
+
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.util.NumberUtil;
+import lombok.RequiredArgsConstructor;
+
+import java.io.InputStream;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Query result for benchmark, which iterates rows loaded in advance.
+ * 
+ * <p>Rows are shared with other query results and never be copied, so creating query result costs nothing in merging benchmark.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class ListQueryResult implements QueryResult {
+    
+    private final List<String> columnLabels;
+    
+    private final List<Integer> columnTypes;
+    
+    private final Iterator<List<Object>> rows;
+    
+    private List<Object> currentRow;
+    
+    @Override
+    public boolean next() {
+        if (rows.hasNext()) {
+            currentRow = rows.next();
+            return true;
+        }
+        currentRow = null;
+        return false;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        return currentRow.get(columnIndex - 1);
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) {
+        return currentRow.get(columnLabels.indexOf(columnLabel));
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) {
+        return NumberUtil.toNumber(getValue(columnIndex, Object.class)).intValue();
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        return NumberUtil.toNumber(getValue(columnIndex, Object.class)).longValue();
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        return NumberUtil.toNumber(getValue(columnIndex, Object.class)).doubleValue();
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
+        return getValue(columnLabel, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        return (InputStream) getValue(columnIndex, InputStream.class);
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) {
+        return (InputStream) getValue(columnLabel, InputStream.class);
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return null == currentRow;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnLabels.size();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnLabels.get(columnIndex - 1);
+    }
+    
+    @Override
+    public int getColumnType(final int columnIndex) {
+        return columnTypes.get(columnIndex - 1);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.merger;
+
+import io.shardingsphere.benchmark.fixture.BenchmarkDataSources;
+import io.shardingsphere.benchmark.fixture.BenchmarkSQLCases;
+import io.shardingsphere.benchmark.fixture.BenchmarkShardingRules;
+import io.shardingsphere.benchmark.fixture.ListQueryResult;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.DQLMergeEngine;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.routing.PreparedStatementRoutingEngine;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.cache.RoutingResultCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for DQL result merging.
+ * 
+ * <p>Results of each route unit are loaded from H2 in-memory databases in setup, so only merging is measured.</p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DQLMergeBenchmark {
+    
+    @Param({"2", "8"})
+    private int shardCount;
+    
+    @Param({"1000", "10000"})
+    private int rowCount;
+    
+    @Param({"select_order_by_asc_and_index_desc", "select_count", "select_distinct_with_count_group_by"})
+    private String sqlCaseId;
+    
+    @Param({"false", "true"})
+    private boolean parallel;
+    
+    private ShardingExecuteEngine executeEngine;
+    
+    private SelectStatement selectStatement;
+    
+    private List<String> columnLabels;
+    
+    private List<Integer> columnTypes;
+    
+    private List<List<List<Object>>> shardRows;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        String sql = BenchmarkSQLCases.getSQL(sqlCaseId);
+        SQLRouteResult routeResult = new PreparedStatementRoutingEngine(sql, BenchmarkShardingRules.createShardingRule(shardCount), BenchmarkShardingRules.createShardingTableMetaData(),
+                DatabaseType.MySQL, false, null, new ParsingResultCache(), new RoutingResultCache()).route(BenchmarkSQLCases.getParameters(sql));
+        selectStatement = (SelectStatement) routeResult.getSqlStatement();
+        executeEngine = parallel ? new ShardingExecuteEngine(Runtime.getRuntime().availableProcessors()) : null;
+        shardRows = new ArrayList<>(routeResult.getRouteUnits().size());
+        Map<String, DataSource> dataSourceMap = BenchmarkDataSources.createDataSources(shardCount, rowCount);
+        try {
+            for (RouteUnit each : routeResult.getRouteUnits()) {
+                shardRows.add(loadRows(dataSourceMap.get(each.getDataSourceName()), each));
+            }
+        } finally {
+            BenchmarkDataSources.close(dataSourceMap);
+        }
+    }
+    
+    private List<List<Object>> loadRows(final DataSource dataSource, final RouteUnit routeUnit) throws SQLException {
+        List<List<Object>> result = new LinkedList<>();
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(routeUnit.getSqlUnit().getSql())) {
+            List<Object> parameters = routeUnit.getSqlUnit().getParameterSets().get(0);
+            for (int i = 0; i < parameters.size(); i++) {
+                preparedStatement.setObject(i + 1, parameters.get(i));
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                columnLabels = new ArrayList<>(metaData.getColumnCount());
+                columnTypes = new ArrayList<>(metaData.getColumnCount());
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    columnLabels.add(metaData.getColumnLabel(i));
+                    columnTypes.add(metaData.getColumnType(i));
+                }
+                while (resultSet.next()) {
+                    List<Object> row = new ArrayList<>(metaData.getColumnCount());
+                    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                        row.add(resultSet.getObject(i));
+                    }
+                    result.add(row);
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        if (null != executeEngine) {
+            executeEngine.close();
+        }
+    }
+    
+    /**
+     * Merge query results and iterate all merged rows.
+     *
+     * @param blackhole black hole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardRows.size());
+        for (List<List<Object>> each : shardRows) {
+            queryResults.add(new ListQueryResult(columnLabels, columnTypes, each.iterator()));
+        }
+        MergedResult mergedResult = new DQLMergeEngine(queryResults, selectStatement, executeEngine, 0).merge();
+        while (mergedResult.next()) {
+            for (int i = 1; i <= columnLabels.size(); i++) {
+                blackhole.consume(mergedResult.getValue(i, Object.class));
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.routing;
+
+import io.shardingsphere.benchmark.fixture.BenchmarkSQLCases;
+import io.shardingsphere.benchmark.fixture.BenchmarkShardingRules;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.routing.PreparedStatementRoutingEngine;
+import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.cache.RoutingResultCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL routing and rewriting.
+ * 
+ * <p>SQL is parsed only once in setup, and routing result cache is disabled, so only routing and rewriting are measured.</p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLRoutingBenchmark {
+    
+    @Param({"2", "8", "32"})
+    private int shardCount;
+    
+    @Param({"select_equal_with_single_table", "select_in_with_single_table", "select_full_route_with_binding_tables", "insert_with_all_placeholders", "update_without_alias"})
+    private String sqlCaseId;
+    
+    private PreparedStatementRoutingEngine routingEngine;
+    
+    private List<Object> parameters;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        String sql = BenchmarkSQLCases.getSQL(sqlCaseId);
+        routingEngine = new PreparedStatementRoutingEngine(sql, BenchmarkShardingRules.createShardingRule(shardCount), BenchmarkShardingRules.createShardingTableMetaData(),
+                DatabaseType.MySQL, false, null, new ParsingResultCache(), new RoutingResultCache());
+        parameters = BenchmarkSQLCases.getParameters(sql);
+        routingEngine.route(parameters);
+    }
+    
+    /**
+     * Route SQL.
+     *
+     * @return SQL route result
+     */
+    @Benchmark
+    public SQLRouteResult route() {
+        return routingEngine.route(parameters);
+    }
+}
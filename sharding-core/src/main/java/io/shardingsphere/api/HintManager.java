@@ -45,6 +45,12 @@ public final class HintManager implements AutoCloseable {
 
     @Getter
     private boolean masterRouteOnly;
+    
+    @Getter
+    private boolean keysetPagination;
+    
+    @Getter
+    private Comparable<?> keysetCursor;
 
     /**
      * Get a new instance for {@code HintManager}.
@@ -104,6 +110,19 @@ public final class HintManager implements AutoCloseable {
         databaseShardingOnly = false;
     }
     
+    /**
+     * Set keyset pagination for query ordered by one unique column.
+     *
+     * <p>Rows after keyset cursor in order by sequence are queried from every data node, instead of skipping rows by limit offset.
+     * Cursor of next page can be got from result set after rows are fetched.</p>
+     *
+     * @param cursor order by value of last row in previous page, null for first page
+     */
+    public void setKeysetPagination(final Comparable<?> cursor) {
+        keysetPagination = true;
+        keysetCursor = cursor;
+    }
+    
     @Override
     public void close() {
         HintManagerHolder.clear();
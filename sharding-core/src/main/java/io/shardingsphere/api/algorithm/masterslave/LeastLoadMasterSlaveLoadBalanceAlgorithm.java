@@ -0,0 +1,82 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.api.algorithm.masterslave;
+
+import com.google.common.base.Preconditions;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLoadStatistics;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Least load slave database load-balance algorithm.
+ * 
+ * <p>
+ * Select slave database with least load, load is count of outstanding requests multiplied by EWMA of response time and divided by weight.
+ * Each algorithm instance owns its load statistics, which are fed by SQL executed on slave databases of master-slave rules using this instance.
+ * Slave databases without load statistics are selected randomly.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class LeastLoadMasterSlaveLoadBalanceAlgorithm implements MasterSlaveLoadBalanceAlgorithm {
+    
+    private static final int DEFAULT_WEIGHT = 1;
+    
+    private final Map<String, Integer> weights;
+    
+    @Getter
+    private final DataSourceLoadStatistics dataSourceLoadStatistics = new DataSourceLoadStatistics();
+    
+    public LeastLoadMasterSlaveLoadBalanceAlgorithm() {
+        this(Collections.<String, Integer>emptyMap());
+    }
+    
+    public LeastLoadMasterSlaveLoadBalanceAlgorithm(final Map<String, Integer> weights) {
+        for (Entry<String, Integer> entry : weights.entrySet()) {
+            Preconditions.checkArgument(null != entry.getValue() && entry.getValue() > 0, "Weight of slave data source '%s' should be positive.", entry.getKey());
+        }
+        this.weights = weights;
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames) {
+        int size = slaveDataSourceNames.size();
+        int offset = 1 == size ? 0 : ThreadLocalRandom.current().nextInt(size);
+        String result = null;
+        double minLoad = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            String each = slaveDataSourceNames.get((offset + i) % size);
+            double load = dataSourceLoadStatistics.getDataSourceLoad(each).getLoad() / getWeight(each);
+            if (null == result || load < minLoad) {
+                result = each;
+                minLoad = load;
+            }
+        }
+        return result;
+    }
+    
+    private int getWeight(final String slaveDataSourceName) {
+        Integer result = weights.get(slaveDataSourceName);
+        return null == result ? DEFAULT_WEIGHT : result;
+    }
+}
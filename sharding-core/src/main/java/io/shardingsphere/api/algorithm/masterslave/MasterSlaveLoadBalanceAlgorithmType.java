@@ -30,7 +30,14 @@ import lombok.RequiredArgsConstructor;
 public enum MasterSlaveLoadBalanceAlgorithmType {
     
     ROUND_ROBIN(new RoundRobinMasterSlaveLoadBalanceAlgorithm()),
-    RANDOM(new RandomMasterSlaveLoadBalanceAlgorithm());
+    RANDOM(new RandomMasterSlaveLoadBalanceAlgorithm()),
+    LEAST_LOAD(null) {
+        
+        @Override
+        public MasterSlaveLoadBalanceAlgorithm getAlgorithm() {
+            return new LeastLoadMasterSlaveLoadBalanceAlgorithm();
+        }
+    };
     
     private final MasterSlaveLoadBalanceAlgorithm algorithm;
     
@@ -70,6 +70,135 @@ public enum ShardingPropertiesConstant {
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
     
+    /**
+     * Enable or disable sampling when loading table meta data.
+     * 
+     * <p>
+     * Only first actual table of each data source is loaded for every logic table if enabled, 
+     * which makes startup faster but can not check whether all actual tables have uniformed structure.
+     * Default: false.
+     * </p>
+     */
+    TABLE_META_DATA_SAMPLING_ENABLED("table.meta.data.sampling.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Local file of table meta data snapshot.
+     * 
+     * <p>
+     * Table meta data is saved to this file after loaded. If snapshot of same sharding rule exists at startup,
+     * table meta data is loaded from snapshot and verified with databases in background.
+     * Sharding-Proxy appends logic schema name to this value as file name of each logic schema.
+     * Snapshot is disabled if this value is empty.
+     * Default: empty.
+     * </p>
+     */
+    TABLE_META_DATA_SNAPSHOT_FILE("table.meta.data.snapshot.file", "", String.class),
+    
+    /**
+     * Max size of parsing result cache.
+     * 
+     * <p>
+     * Parsed SQL statements are cached per sharding data source (or per logic schema for Sharding-Proxy).
+     * Least recently used SQL will be evicted when cache size exceeds this value.
+     * Default: 65535.
+     * </p>
+     */
+    PARSING_CACHE_MAX_SIZE("parsing.cache.max.size", String.valueOf(65535), long.class),
+    
+    /**
+     * SQL file to warm up parser.
+     * 
+     * <p>
+     * SQL in this file (one SQL per line) are parsed at startup to build DFA of SQL parser, so first requests after deploy are not slow.
+     * File is loaded from class path first, then from file system.
+     * Warm up is disabled if this value is empty.
+     * Default: empty.
+     * </p>
+     */
+    PARSING_WARMUP_SQL_FILE("parsing.warmup.sql.file", "", String.class),
+    
+    /**
+     * Max size of routing result cache.
+     * 
+     * <p>
+     * Routing results and rewritten SQL of DQL and DML (except insert) are cached by logic SQL and sharding values,
+     * so repeated executions on same shards can skip routing and rewriting.
+     * Unicast routing results are not cached, so that a random data source is still chosen for each execution.
+     * Routing result cache is disabled if this value is 0.
+     * Default: 0.
+     * </p>
+     */
+    ROUTE_CACHE_MAX_SIZE("route.cache.max.size", String.valueOf(0), long.class),
+    
+    /**
+     * Spill threshold of memory merge.
+     * 
+     * <p>
+     * Max rows held in memory when merging group by results which order by items are different with group by items.
+     * Sorted rows are spilled to local temporary files when this value reached, and merged back by streaming merge.
+     * Spill is disabled if this value is 0.
+     * Default: 0.
+     * </p>
+     */
+    MERGE_SPILL_THRESHOLD("merge.spill.threshold", String.valueOf(0), int.class),
+    
+    /**
+     * Offset threshold of deep pagination.
+     * 
+     * <p>
+     * Ordered queries with limit offset not less than this value are paginated by probing boundary key of every data node,
+     * instead of fetching {@code offset + row count} rows from every data node and discarding skipped rows in merging.
+     * Only single table queries ordered by single column primary key without group by, aggregation or distinct are supported,
+     * and primary key values should be unique in all data nodes.
+     * Only {@code ShardingPreparedStatement} of sharding-jdbc honours this value, {@code ShardingStatement} and sharding-proxy paginate as usual.
+     * Deep pagination is disabled if this value is 0.
+     * Default: 0.
+     * </p>
+     */
+    DEEP_PAGINATION_OFFSET_THRESHOLD("deep.pagination.offset.threshold", String.valueOf(0), int.class),
+    
+    /**
+     * Max bytes of query results buffered in memory for each query.
+     * 
+     * <p>
+     * Query results of {@code CONNECTION_STRICTLY} connection mode are buffered in memory,
+     * query is refused if buffered bytes of all data nodes exceed this value.
+     * Memory budget is unlimited if this value is 0.
+     * Default: 0.
+     * </p>
+     */
+    MEMORY_QUERY_RESULT_MAX_BYTES("memory.query.result.max.bytes", String.valueOf(0), long.class),
+    
+    /**
+     * Enable or disable to store strings and bytes of query results buffered in memory out of heap.
+     * 
+     * <p>
+     * Default: false.
+     * </p>
+     */
+    MEMORY_QUERY_RESULT_OFF_HEAP_ENABLED("memory.query.result.off.heap.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Replication lag threshold milliseconds of master-slave slaves.
+     * 
+     * <p>
+     * Replication lag of slaves are probed periodically in background,
+     * slaves which lag exceeds this value are excluded from load balance, and master is used if no slave is available.
+     * Replication lag probe is disabled if this value is 0.
+     * Default: 0.
+     * </p>
+     */
+    MASTER_SLAVE_REPLICATION_LAG_THRESHOLD_MILLISECONDS("master.slave.replication.lag.threshold.milliseconds", String.valueOf(0), long.class),
+    
+    /**
+     * Interval milliseconds of replication lag probe.
+     * 
+     * <p>
+     * Default: 1000.
+     * </p>
+     */
+    MASTER_SLAVE_REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS("master.slave.replication.lag.probe.interval.milliseconds", String.valueOf(1000), long.class),
+    
     /**
      * Sharding-Proxy's flush threshold for every records from databases.
      */
@@ -17,15 +17,15 @@
 
 package io.shardingsphere.core.executor.sql.execute;
 
-import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.executor.ShardingExecuteCallback;
 import io.shardingsphere.core.executor.ShardingGroupExecuteCallback;
 import io.shardingsphere.core.executor.StatementExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
 import io.shardingsphere.core.metadata.datasource.DataSourceMetaData;
-import io.shardingsphere.core.metadata.datasource.DataSourceMetaDataFactory;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLoad;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLoadStatistics;
 import io.shardingsphere.spi.executor.SPISQLExecutionHook;
-import io.shardingsphere.spi.executor.SQLExecutionHook;
 import lombok.RequiredArgsConstructor;
 
 import java.sql.SQLException;
@@ -44,7 +44,9 @@ import java.util.Map;
 @RequiredArgsConstructor
 public abstract class SQLExecuteCallback<T> implements ShardingExecuteCallback<StatementExecuteUnit, T>, ShardingGroupExecuteCallback<StatementExecuteUnit, T> {
     
-    private final DatabaseType databaseType;
+    private final ShardingDataSourceMetaData shardingDataSourceMetaData;
+    
+    private final Map<String, DataSourceLoadStatistics> dataSourceLoadStatisticsMap;
     
     private final boolean isExceptionThrown;
     
@@ -65,8 +67,10 @@ public abstract class SQLExecuteCallback<T> implements ShardingExecuteCallback<S
     
     private T execute0(final StatementExecuteUnit statementExecuteUnit, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
         ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
-        DataSourceMetaData dataSourceMetaData = DataSourceMetaDataFactory.newInstance(databaseType, statementExecuteUnit.getDatabaseMetaData().getURL());
-        SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+        SPISQLExecutionHook sqlExecutionHook = SPISQLExecutionHook.newInstance();
+        DataSourceMetaData dataSourceMetaData = sqlExecutionHook.isEmpty() ? null : shardingDataSourceMetaData.getRoutedDataSourceMetaData(statementExecuteUnit.getRouteUnit().getDataSourceName());
+        DataSourceLoad dataSourceLoad = startDataSourceLoad(statementExecuteUnit.getRouteUnit().getDataSourceName());
+        long startNanos = null == dataSourceLoad ? 0L : System.nanoTime();
         try {
             sqlExecutionHook.start(statementExecuteUnit.getRouteUnit(), dataSourceMetaData, isTrunkThread, shardingExecuteDataMap);
             T result = executeSQL(statementExecuteUnit);
@@ -76,8 +80,17 @@ public abstract class SQLExecuteCallback<T> implements ShardingExecuteCallback<S
             sqlExecutionHook.finishFailure(ex);
             ExecutorExceptionHandler.handleException(ex);
             return null;
+        } finally {
+            if (null != dataSourceLoad) {
+                dataSourceLoad.finish(System.nanoTime() - startNanos);
+            }
         }
     }
     
+    private DataSourceLoad startDataSourceLoad(final String dataSourceName) {
+        DataSourceLoadStatistics dataSourceLoadStatistics = dataSourceLoadStatisticsMap.get(dataSourceName);
+        return null == dataSourceLoadStatistics ? null : dataSourceLoadStatistics.start(dataSourceName);
+    }
+    
     protected abstract T executeSQL(StatementExecuteUnit statementExecuteUnit) throws SQLException;
 }
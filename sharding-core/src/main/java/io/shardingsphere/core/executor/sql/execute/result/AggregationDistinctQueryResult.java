@@ -19,29 +19,22 @@ package io.shardingsphere.core.executor.sql.execute.result;
 
 import com.google.common.base.Function;
 import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import io.shardingsphere.core.constant.AggregationType;
-import io.shardingsphere.core.executor.sql.execute.row.QueryRow;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationDistinctSelectItem;
 import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
-import lombok.SneakyThrows;
 
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 
 /**
  * Aggregation distinct query result.
@@ -58,25 +51,16 @@ public final class AggregationDistinctQueryResult extends DistinctQueryResult {
     
     private final Map<Integer, Integer> derivedSumIndexAndDistinctIndexes = new LinkedHashMap<>();
     
-    private AggregationDistinctQueryResult(final Multimap<String, Integer> columnLabelAndIndexMap, final Iterator<QueryRow> resultData,
-                                           final Multimap<String, Integer> distinctAggregationColumnLabelAndIndexes, final Map<Integer, AggregationType> distinctAggregationIndexAndTypes,
-                                           final Map<Integer, Integer> derivedCountIndexAndDistinctIndexes, final Map<Integer, Integer> derivedSumIndexAndDistinctIndexes) {
-        super(columnLabelAndIndexMap, resultData);
-        this.distinctAggregationColumnLabelAndIndexes.putAll(distinctAggregationColumnLabelAndIndexes);
-        this.distinctAggregationIndexAndTypes.putAll(distinctAggregationIndexAndTypes);
-        this.derivedCountIndexAndDistinctIndexes.putAll(derivedCountIndexAndDistinctIndexes);
-        this.derivedSumIndexAndDistinctIndexes.putAll(derivedSumIndexAndDistinctIndexes);
-    }
+    private boolean countValueRead;
     
-    @SneakyThrows
-    public AggregationDistinctQueryResult(final Collection<QueryResult> queryResults, final SelectStatement selectStatement) {
+    public AggregationDistinctQueryResult(final List<QueryResult> queryResults, final SelectStatement selectStatement, final int spillThreshold) {
         super(queryResults, Lists.transform(selectStatement.getAggregationDistinctSelectItems(), new Function<AggregationDistinctSelectItem, String>() {
-    
+            
             @Override
             public String apply(final AggregationDistinctSelectItem input) {
                 return input.getDistinctColumnLabel();
             }
-        }));
+        }), selectStatement.getOrderByItems(), spillThreshold);
         init(selectStatement);
     }
     
@@ -96,80 +80,74 @@ public final class AggregationDistinctQueryResult extends DistinctQueryResult {
         }
     }
     
-    /**
-     * Divide one distinct query result to multiple child ones.
-     *
-     * @return multiple child distinct query results
-     */
-    @Override
-    public List<DistinctQueryResult> divide() {
-        return Lists.newArrayList(Iterators.transform(getResultData(), new Function<QueryRow, DistinctQueryResult>() {
+    private Object getValue(final int columnIndex) throws SQLException {
+        countValueRead = isCountValue(columnIndex);
+        return countValueRead ? 1 : super.getValue(getActualColumnIndex(columnIndex), Object.class);
+    }
     
-            @Override
-            public DistinctQueryResult apply(final QueryRow input) {
-                Set<QueryRow> resultData = new LinkedHashSet<>();
-                resultData.add(input);
-                return new AggregationDistinctQueryResult(getColumnLabelAndIndexMap(),
-                        resultData.iterator(), distinctAggregationColumnLabelAndIndexes, distinctAggregationIndexAndTypes, derivedCountIndexAndDistinctIndexes, derivedSumIndexAndDistinctIndexes);
-            }
-        }));
+    private boolean isCountValue(final int columnIndex) {
+        return AggregationType.COUNT == distinctAggregationIndexAndTypes.get(columnIndex) || derivedCountIndexAndDistinctIndexes.containsKey(columnIndex);
     }
     
-    private Object getValue(final int columnIndex) {
-        if (distinctAggregationIndexAndTypes.keySet().contains(columnIndex)) {
-            return AggregationType.COUNT == distinctAggregationIndexAndTypes.get(columnIndex) ? 1 : super.getValue(columnIndex, Object.class);
-        }
-        if (derivedCountIndexAndDistinctIndexes.keySet().contains(columnIndex)) {
-            return 1;
-        }
-        if (derivedSumIndexAndDistinctIndexes.keySet().contains(columnIndex)) {
-            return super.getValue(derivedSumIndexAndDistinctIndexes.get(columnIndex), Object.class);
-        }
-        return super.getValue(columnIndex, Object.class);
+    private int getActualColumnIndex(final int columnIndex) {
+        return derivedSumIndexAndDistinctIndexes.containsKey(columnIndex) ? derivedSumIndexAndDistinctIndexes.get(columnIndex) : columnIndex;
     }
     
-    private Object getValue(final String columnLabel) {
+    private Object getValue(final String columnLabel) throws SQLException {
         return getValue(getColumnIndex(columnLabel));
     }
     
     @Override
-    public Object getValue(final int columnIndex, final Class<?> type) {
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
         return getValue(columnIndex);
     }
     
     @Override
-    public Object getValue(final String columnLabel, final Class<?> type) {
+    public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
         return getValue(columnLabel);
     }
     
     @Override
-    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return getValue(columnIndex);
+    public int getInt(final int columnIndex) throws SQLException {
+        countValueRead = isCountValue(columnIndex);
+        return countValueRead ? 1 : super.getInt(getActualColumnIndex(columnIndex));
     }
     
     @Override
-    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
-        return getValue(columnLabel);
+    public long getLong(final int columnIndex) throws SQLException {
+        countValueRead = isCountValue(columnIndex);
+        return countValueRead ? 1L : super.getLong(getActualColumnIndex(columnIndex));
     }
     
     @Override
-    public InputStream getInputStream(final int columnIndex, final String type) {
-        return (InputStream) getValue(columnIndex);
+    public double getDouble(final int columnIndex) throws SQLException {
+        countValueRead = isCountValue(columnIndex);
+        return countValueRead ? 1D : super.getDouble(getActualColumnIndex(columnIndex));
     }
     
     @Override
-    public InputStream getInputStream(final String columnLabel, final String type) {
-        return (InputStream) getValue(columnLabel);
+    public boolean wasNull() throws SQLException {
+        return !countValueRead && super.wasNull();
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getValue(columnIndex);
     }
     
     @Override
-    public boolean wasNull() {
-        return null == getCurrentRow();
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getValue(columnLabel);
     }
     
     @Override
-    public int getColumnCount() {
-        return getColumnLabelAndIndexMap().size();
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return (InputStream) getValue(columnIndex);
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        return (InputStream) getValue(columnLabel);
     }
     
     @Override
@@ -15,15 +15,22 @@
  * </p>
  */
 
+
 package io.shardingsphere.core.executor.sql.execute.result;
 
-import com.google.common.base.Function;
+import com.google.common.base.Objects;
 import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Iterators;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
-import io.shardingsphere.core.executor.sql.execute.row.QueryRow;
+import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.common.ExternalRowSorter;
+import io.shardingsphere.core.merger.dql.common.MemoryMergedResult;
+import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRow;
+import io.shardingsphere.core.merger.dql.groupby.GroupByRowComparator;
+import io.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResult;
+import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResult;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.SneakyThrows;
@@ -31,41 +38,66 @@ import lombok.SneakyThrows;
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 
 /**
  * Distinct query result.
+ * 
+ * <p>
+ * Query results are merged as one stream and duplicated rows are skipped while streaming, rows are not buffered or wrapped as query results.
+ * If first order by items are just distinct columns, rows with same distinct values are adjacent after sorted merge, so only previous distinct values are kept.
+ * Otherwise distinct values already returned are kept in hash set,
+ * or rows are sorted by distinct columns with spilling to remove duplicated rows and sorted again by order by items if spill threshold is greater than 0.
+ * </p>
  *
  * @author panjuan
+ * @author zhangliang
  */
-@Getter(AccessLevel.PROTECTED)
 public class DistinctQueryResult implements QueryResult {
     
+    private final List<QueryResult> queryResults;
+    
+    @Getter(AccessLevel.PROTECTED)
     private final Multimap<String, Integer> columnLabelAndIndexMap;
     
-    private final Iterator<QueryRow> resultData;
+    private final List<Integer> columnTypes;
     
-    private QueryRow currentRow;
+    private final List<Integer> distinctColumnIndexes;
     
-    protected DistinctQueryResult(final Multimap<String, Integer> columnLabelAndIndexMap, final Iterator<QueryRow> resultData) {
-        this.columnLabelAndIndexMap = columnLabelAndIndexMap;
-        this.resultData = resultData;
-    }
+    private final List<OrderItem> orderByItems;
+    
+    private final int spillThreshold;
+    
+    private final Collection<ExternalRowSorter> rowSorters = new LinkedList<>();
+    
+    private MergedResult mergedResult;
+    
+    private boolean isSortedByDistinctColumns;
+    
+    private Object[] previousDistinctValues;
+    
+    private Set<List<Object>> returnedDistinctValues;
     
     @SneakyThrows
-    public DistinctQueryResult(final Collection<QueryResult> queryResults, final List<String> distinctColumnLabels) {
-        this.columnLabelAndIndexMap = getColumnLabelAndIndexMap(queryResults.iterator().next());
-        resultData = getResultData(queryResults, distinctColumnLabels);
+    public DistinctQueryResult(final List<QueryResult> queryResults, final Collection<String> distinctColumnLabels, final List<OrderItem> orderByItems, final int spillThreshold) {
+        this.queryResults = queryResults;
+        columnLabelAndIndexMap = getColumnLabelAndIndexMap(queryResults.get(0));
+        columnTypes = getColumnTypes(queryResults.get(0));
+        distinctColumnIndexes = getDistinctColumnIndexes(distinctColumnLabels);
+        this.orderByItems = orderByItems;
+        this.spillThreshold = spillThreshold;
     }
     
-    @SneakyThrows
-    private Multimap<String, Integer> getColumnLabelAndIndexMap(final QueryResult queryResult) {
+    private Multimap<String, Integer> getColumnLabelAndIndexMap(final QueryResult queryResult) throws SQLException {
         Multimap<String, Integer> result = HashMultimap.create();
         for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
             result.put(queryResult.getColumnLabel(columnIndex), columnIndex);
@@ -73,92 +105,179 @@ public class DistinctQueryResult implements QueryResult {
         return result;
     }
     
-    @SneakyThrows
-    private Iterator<QueryRow> getResultData(final Collection<QueryResult> queryResults, final List<String> distinctColumnLabels) {
-        Set<QueryRow> resultData = new LinkedHashSet<>();
-        List<Integer> distinctColumnIndexes = Lists.transform(distinctColumnLabels, new Function<String, Integer>() {
+    private List<Integer> getColumnTypes(final QueryResult queryResult) throws SQLException {
+        List<Integer> result = new ArrayList<>(queryResult.getColumnCount());
+        for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
+            result.add(queryResult.getColumnType(columnIndex));
+        }
+        return result;
+    }
     
-            @Override
-            public Integer apply(final String input) {
-                return getColumnIndex(input);
+    private List<Integer> getDistinctColumnIndexes(final Collection<String> distinctColumnLabels) {
+        List<Integer> result = new ArrayList<>(distinctColumnLabels.isEmpty() ? columnTypes.size() : distinctColumnLabels.size());
+        if (distinctColumnLabels.isEmpty()) {
+            for (int columnIndex = 1; columnIndex <= columnTypes.size(); columnIndex++) {
+                result.add(columnIndex);
             }
-        });
-        for (QueryResult each : queryResults) {
-            fill(resultData, each, distinctColumnIndexes);
+            return result;
+        }
+        for (String each : distinctColumnLabels) {
+            result.add(getColumnIndex(each));
         }
-        return resultData.iterator();
+        return result;
     }
     
-    private void fill(final Set<QueryRow> resultData, final QueryResult queryResult, final List<Integer> distinctColumnIndexes) throws SQLException {
-        while (queryResult.next()) {
-            List<Object> rowData = new ArrayList<>(queryResult.getColumnCount());
-            for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
-                rowData.add(queryResult.getValue(columnIndex, Object.class));
+    @Override
+    public final boolean next() throws SQLException {
+        if (null == mergedResult) {
+            mergedResult = createMergedResult();
+        }
+        while (mergedResult.next()) {
+            if (!isDuplicated()) {
+                return true;
             }
-            resultData.add(new QueryRow(rowData, distinctColumnIndexes));
         }
+        return false;
     }
     
-    /**
-     * Divide one distinct query result to multiple child ones.
-     *
-     * @return multiple child distinct query results
-     */
-    public List<DistinctQueryResult> divide() {
-        return Lists.newArrayList(Iterators.transform(resultData, new Function<QueryRow, DistinctQueryResult>() {
-    
-            @Override
-            public DistinctQueryResult apply(final QueryRow row) {
-                Set<QueryRow> resultData = new LinkedHashSet<>();
-                resultData.add(row);
-                return new DistinctQueryResult(columnLabelAndIndexMap, resultData.iterator());
+    private MergedResult createMergedResult() throws SQLException {
+        if (isFirstOrderByItemsDistinctColumns()) {
+            isSortedByDistinctColumns = true;
+            return new OrderByStreamMergedResult(queryResults, orderByItems);
+        }
+        if (spillThreshold > 0) {
+            isSortedByDistinctColumns = orderByItems.isEmpty();
+            return new SortedMemoryMergedResult(orderByItems.isEmpty() ? sortByDistinctColumns() : sortByOrderByItems(sortByDistinctColumns()));
+        }
+        returnedDistinctValues = new HashSet<>();
+        return orderByItems.isEmpty() ? new IteratorStreamMergedResult(queryResults) : new OrderByStreamMergedResult(queryResults, orderByItems);
+    }
+    
+    private boolean isFirstOrderByItemsDistinctColumns() {
+        if (orderByItems.size() < distinctColumnIndexes.size()) {
+            return false;
+        }
+        Set<Integer> orderByIndexes = new HashSet<>(distinctColumnIndexes.size(), 1);
+        for (OrderItem each : orderByItems.subList(0, distinctColumnIndexes.size())) {
+            orderByIndexes.add(each.getIndex());
+        }
+        return orderByIndexes.equals(new HashSet<>(distinctColumnIndexes));
+    }
+    
+    private Iterator<MemoryQueryResultRow> sortByDistinctColumns() throws SQLException {
+        List<OrderItem> distinctOrderItems = new ArrayList<>(distinctColumnIndexes.size());
+        for (int each : distinctColumnIndexes) {
+            distinctOrderItems.add(new OrderItem(each, OrderDirection.ASC, OrderDirection.ASC));
+        }
+        ExternalRowSorter result = new ExternalRowSorter(new GroupByRowComparator(distinctOrderItems), spillThreshold);
+        rowSorters.add(result);
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                result.add(new MemoryQueryResultRow(each));
             }
-        }));
+        }
+        return result.sort();
     }
     
-    @Override
-    public boolean next() {
-        if (resultData.hasNext()) {
-            currentRow = resultData.next();
-            return true;
+    private Iterator<MemoryQueryResultRow> sortByOrderByItems(final Iterator<MemoryQueryResultRow> sortedRows) {
+        ExternalRowSorter result = new ExternalRowSorter(new GroupByRowComparator(orderByItems), spillThreshold);
+        rowSorters.add(result);
+        Object[] previousValues = null;
+        while (sortedRows.hasNext()) {
+            MemoryQueryResultRow row = sortedRows.next();
+            Object[] values = getDistinctValues(row);
+            if (!Arrays.equals(values, previousValues)) {
+                result.add(row);
+            }
+            previousValues = values;
         }
-        currentRow = null;
-        return false;
+        return result.sort();
+    }
+    
+    private Object[] getDistinctValues(final MemoryQueryResultRow row) {
+        Object[] result = new Object[distinctColumnIndexes.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = row.getCell(distinctColumnIndexes.get(i));
+        }
+        return result;
+    }
+    
+    private boolean isDuplicated() throws SQLException {
+        if (isSortedByDistinctColumns) {
+            return isSameAsPreviousDistinctValues();
+        }
+        return null != returnedDistinctValues && !returnedDistinctValues.add(getDistinctValues());
+    }
+    
+    private boolean isSameAsPreviousDistinctValues() throws SQLException {
+        boolean result = null != previousDistinctValues;
+        if (null == previousDistinctValues) {
+            previousDistinctValues = new Object[distinctColumnIndexes.size()];
+        }
+        for (int i = 0; i < previousDistinctValues.length; i++) {
+            Object value = mergedResult.getValue(distinctColumnIndexes.get(i), Object.class);
+            result = result && Objects.equal(value, previousDistinctValues[i]);
+            previousDistinctValues[i] = value;
+        }
+        return result;
+    }
+    
+    private List<Object> getDistinctValues() throws SQLException {
+        Object[] result = new Object[distinctColumnIndexes.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = mergedResult.getValue(distinctColumnIndexes.get(i), Object.class);
+        }
+        return Arrays.asList(result);
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return mergedResult.getValue(columnIndex, type);
     }
     
     @Override
-    public Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.getColumnValue(columnIndex);
+    public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
+        return mergedResult.getValue(getColumnIndex(columnLabel), type);
     }
     
     @Override
-    public Object getValue(final String columnLabel, final Class<?> type) {
-        return currentRow.getColumnValue(getColumnIndex(columnLabel));
+    public int getInt(final int columnIndex) throws SQLException {
+        return mergedResult.getInt(columnIndex);
     }
     
     @Override
-    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.getColumnValue(columnIndex);
+    public long getLong(final int columnIndex) throws SQLException {
+        return mergedResult.getLong(columnIndex);
     }
     
     @Override
-    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
-        return currentRow.getColumnValue(getColumnIndex(columnLabel));
+    public double getDouble(final int columnIndex) throws SQLException {
+        return mergedResult.getDouble(columnIndex);
     }
     
     @Override
-    public InputStream getInputStream(final int columnIndex, final String type) {
-        return (InputStream) currentRow.getColumnValue(columnIndex);
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return mergedResult.getCalendarValue(columnIndex, type, calendar);
     }
     
     @Override
-    public InputStream getInputStream(final String columnLabel, final String type) {
-        return (InputStream) currentRow.getColumnValue(getColumnIndex(columnLabel));
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) throws SQLException {
+        return mergedResult.getCalendarValue(getColumnIndex(columnLabel), type, calendar);
     }
     
     @Override
-    public boolean wasNull() {
-        return null == currentRow;
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return mergedResult.getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        return mergedResult.getInputStream(getColumnIndex(columnLabel), type);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return mergedResult.wasNull();
     }
     
     @Override
@@ -176,7 +295,41 @@ public class DistinctQueryResult implements QueryResult {
         throw new SQLException("Column index out of range", "9999");
     }
     
+    @Override
+    public int getColumnType(final int columnIndex) {
+        return columnTypes.get(columnIndex - 1);
+    }
+    
+    /**
+     * Close distinct query result and delete rows spilled to temporary files.
+     */
+    public final void close() {
+        for (ExternalRowSorter each : rowSorters) {
+            each.close();
+        }
+        rowSorters.clear();
+    }
+    
     protected Integer getColumnIndex(final String columnLabel) {
         return new ArrayList<>(columnLabelAndIndexMap.get(columnLabel)).get(0);
     }
+    
+    private static final class SortedMemoryMergedResult extends MemoryMergedResult {
+        
+        private final Iterator<MemoryQueryResultRow> sortedRows;
+        
+        SortedMemoryMergedResult(final Iterator<MemoryQueryResultRow> sortedRows) {
+            super(new HashMap<String, Integer>());
+            this.sortedRows = sortedRows;
+        }
+        
+        @Override
+        public boolean next() {
+            if (sortedRows.hasNext()) {
+                setCurrentResultSetRow(sortedRows.next());
+                return true;
+            }
+            return false;
+        }
+    }
 }
@@ -19,7 +19,10 @@ package io.shardingsphere.core.executor.sql.execute.result;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
-import io.shardingsphere.core.executor.sql.execute.row.QueryRow;
+import io.shardingsphere.core.executor.sql.execute.result.column.ByteSlab;
+import io.shardingsphere.core.executor.sql.execute.result.column.ColumnBuffer;
+import io.shardingsphere.core.executor.sql.execute.result.column.ColumnBufferFactory;
+import io.shardingsphere.core.executor.sql.execute.result.column.ObjectColumnBuffer;
 import io.shardingsphere.core.merger.QueryResult;
 
 import java.io.InputStream;
@@ -28,29 +31,49 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map.Entry;
 
 /**
  * Query result for memory loading.
+ * 
+ * <p>
+ * Rows are stored by columns, numeric values are stored in primitive arrays and strings or bytes are stored in shared byte slab.
+ * Buffered bytes are allocated from memory budget of the query every {@code ACCOUNTING_ROWS_INTERVAL} rows.
+ * </p>
  *
  * @author zhangliang
  * @author panjuan
  */
 public final class MemoryQueryResult implements QueryResult {
     
+    private static final int ACCOUNTING_ROWS_INTERVAL = 1024;
+    
     private final Multimap<String, Integer> columnLabelAndIndexMap;
     
-    private final Iterator<QueryRow> resultData;
+    private final List<Integer> columnTypes;
+    
+    private final ByteSlab byteSlab;
+    
+    private final ColumnBuffer[] columnBuffers;
     
-    private QueryRow currentRow;
+    private final int rowCount;
+    
+    private int currentRowIndex = -1;
+    
+    private boolean wasNull;
     
     public MemoryQueryResult(final ResultSet resultSet) throws SQLException {
-        columnLabelAndIndexMap = getMetaData(resultSet.getMetaData());
-        resultData = getResultData(resultSet);
+        this(resultSet, new QueryResultMemoryBudget(0), false);
+    }
+    
+    public MemoryQueryResult(final ResultSet resultSet, final QueryResultMemoryBudget memoryBudget, final boolean offHeap) throws SQLException {
+        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+        columnLabelAndIndexMap = getMetaData(resultSetMetaData);
+        columnTypes = getColumnTypes(resultSetMetaData);
+        byteSlab = new ByteSlab(offHeap);
+        columnBuffers = createColumnBuffers();
+        rowCount = load(resultSet, memoryBudget);
     }
     
     private Multimap<String, Integer> getMetaData(final ResultSetMetaData resultSetMetaData) throws SQLException {
@@ -61,61 +84,126 @@ public final class MemoryQueryResult implements QueryResult {
         return result;
     }
     
-    private Iterator<QueryRow> getResultData(final ResultSet resultSet) throws SQLException {
-        Collection<QueryRow> result = new LinkedList<>();
+    private List<Integer> getColumnTypes(final ResultSetMetaData resultSetMetaData) throws SQLException {
+        List<Integer> result = new ArrayList<>(resultSetMetaData.getColumnCount());
+        for (int columnIndex = 1; columnIndex <= resultSetMetaData.getColumnCount(); columnIndex++) {
+            result.add(resultSetMetaData.getColumnType(columnIndex));
+        }
+        return result;
+    }
+    
+    private ColumnBuffer[] createColumnBuffers() {
+        ColumnBuffer[] result = new ColumnBuffer[columnTypes.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ColumnBufferFactory.newInstance(columnTypes.get(i), byteSlab);
+        }
+        return result;
+    }
+    
+    private int load(final ResultSet resultSet, final QueryResultMemoryBudget memoryBudget) throws SQLException {
+        int result = 0;
+        long allocatedBytes = 0L;
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(columnLabelAndIndexMap.size());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
-                rowData.add(resultSet.getObject(columnIndex));
+            for (int i = 0; i < columnBuffers.length; i++) {
+                Object value = resultSet.getObject(i + 1);
+                if (!columnBuffers[i].add(value)) {
+                    columnBuffers[i] = new ObjectColumnBuffer(columnBuffers[i]);
+                    columnBuffers[i].add(value);
+                }
             }
-            result.add(new QueryRow(rowData));
+            if (0 == ++result % ACCOUNTING_ROWS_INTERVAL) {
+                allocatedBytes = allocate(memoryBudget, allocatedBytes);
+            }
+        }
+        allocate(memoryBudget, allocatedBytes);
+        return result;
+    }
+    
+    private long allocate(final QueryResultMemoryBudget memoryBudget, final long allocatedBytes) throws SQLException {
+        long result = getMemorySize();
+        memoryBudget.allocate(result - allocatedBytes);
+        return result;
+    }
+    
+    /**
+     * Get estimated memory size of buffered rows.
+     *
+     * @return estimated memory size in bytes
+     */
+    public long getMemorySize() {
+        long result = byteSlab.getAllocatedBytes();
+        for (ColumnBuffer each : columnBuffers) {
+            result += each.getMemorySize();
         }
-        return result.iterator();
+        return result;
     }
     
     @Override
     public boolean next() {
-        if (resultData.hasNext()) {
-            currentRow = resultData.next();
+        if (currentRowIndex + 1 < rowCount) {
+            currentRowIndex++;
             return true;
         }
-        currentRow = null;
+        currentRowIndex = rowCount;
         return false;
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.getColumnValue(columnIndex);
+        Object result = columnBuffers[columnIndex - 1].getValue(currentRowIndex);
+        wasNull = null == result;
+        return result;
     }
     
     @Override
     public Object getValue(final String columnLabel, final Class<?> type) {
-        return currentRow.getColumnValue(getColumnIndex(columnLabel));
+        return getValue(getColumnIndex(columnLabel), type);
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) {
+        ColumnBuffer columnBuffer = columnBuffers[columnIndex - 1];
+        wasNull = columnBuffer.isNull(currentRowIndex);
+        return columnBuffer.getInt(currentRowIndex);
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        ColumnBuffer columnBuffer = columnBuffers[columnIndex - 1];
+        wasNull = columnBuffer.isNull(currentRowIndex);
+        return columnBuffer.getLong(currentRowIndex);
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        ColumnBuffer columnBuffer = columnBuffers[columnIndex - 1];
+        wasNull = columnBuffer.isNull(currentRowIndex);
+        return columnBuffer.getDouble(currentRowIndex);
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.getColumnValue(columnIndex);
+        return getValue(columnIndex, type);
     }
     
     @Override
     public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
-        return currentRow.getColumnValue(getColumnIndex(columnLabel));
+        return getValue(getColumnIndex(columnLabel), type);
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return (InputStream) currentRow.getColumnValue(columnIndex);
+        return (InputStream) getValue(columnIndex, InputStream.class);
     }
     
     @Override
     public InputStream getInputStream(final String columnLabel, final String type) {
-        return (InputStream) currentRow.getColumnValue(getColumnIndex(columnLabel));
+        return (InputStream) getValue(getColumnIndex(columnLabel), InputStream.class);
     }
     
     @Override
     public boolean wasNull() {
-        return null == currentRow;
+        return wasNull;
     }
     
     @Override
@@ -133,6 +221,11 @@ public final class MemoryQueryResult implements QueryResult {
         throw new SQLException("Column index out of range", "9999");
     }
     
+    @Override
+    public int getColumnType(final int columnIndex) {
+        return columnTypes.get(columnIndex - 1);
+    }
+    
     private Integer getColumnIndex(final String columnLabel) {
         return new ArrayList<>(columnLabelAndIndexMap.get(columnLabel)).get(0);
     }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memory budget of query results buffered in memory.
+ *
+ * <p>
+ * Memory query results of all data nodes for same query share one budget.
+ * Query is refused if buffered bytes exceed max bytes, budget is unlimited if max bytes is not greater than 0.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class QueryResultMemoryBudget {
+    
+    private final long maxBytes;
+    
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    
+    public QueryResultMemoryBudget(final long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+    
+    /**
+     * Allocate bytes from budget.
+     *
+     * @param bytes bytes to be allocated
+     * @throws SQLException SQL exception if budget exceeded
+     */
+    public void allocate(final long bytes) throws SQLException {
+        if (maxBytes <= 0) {
+            return;
+        }
+        long allocated = allocatedBytes.addAndGet(bytes);
+        if (allocated > maxBytes) {
+            throw new SQLException(String.format("Buffered query result size '%s' bytes exceeds memory budget '%s' bytes, please use MEMORY_STRICTLY connection mode or narrow query.", allocated, maxBytes));
+        }
+    }
+    
+    /**
+     * Get allocated bytes.
+     *
+     * @return allocated bytes
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes.get();
+    }
+}
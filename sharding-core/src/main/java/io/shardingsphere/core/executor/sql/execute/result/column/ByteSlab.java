@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Byte slab.
+ *
+ * <p>
+ * Variable length values of all columns in same query result are appended into shared chunks instead of one array per value.
+ * Chunks are allocated out of heap by direct byte buffer if off heap is enabled.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class ByteSlab {
+    
+    private static final int CHUNK_SIZE = 64 * 1024;
+    
+    private final boolean offHeap;
+    
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    
+    private ByteBuffer currentChunk;
+    
+    private long allocatedBytes;
+    
+    public ByteSlab(final boolean offHeap) {
+        this.offHeap = offHeap;
+    }
+    
+    /**
+     * Append bytes.
+     *
+     * @param bytes bytes to be appended
+     * @return address of bytes
+     */
+    public long append(final byte[] bytes) {
+        if (null == currentChunk || currentChunk.remaining() < bytes.length) {
+            currentChunk = allocateChunk(Math.max(CHUNK_SIZE, bytes.length));
+            chunks.add(currentChunk);
+        }
+        long result = (long) (chunks.size() - 1) << 32 | currentChunk.position();
+        currentChunk.put(bytes);
+        return result;
+    }
+    
+    private ByteBuffer allocateChunk(final int capacity) {
+        allocatedBytes += capacity;
+        return offHeap ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+    
+    /**
+     * Get bytes.
+     *
+     * @param address address of bytes
+     * @param length length of bytes
+     * @return bytes
+     */
+    public byte[] get(final long address, final int length) {
+        byte[] result = new byte[length];
+        ByteBuffer chunk = chunks.get((int) (address >>> 32));
+        int offset = (int) address;
+        if (chunk.hasArray()) {
+            System.arraycopy(chunk.array(), chunk.arrayOffset() + offset, result, 0, length);
+        } else {
+            ByteBuffer duplicate = chunk.duplicate();
+            duplicate.position(offset);
+            duplicate.get(result);
+        }
+        return result;
+    }
+    
+    /**
+     * Get allocated bytes.
+     *
+     * @return allocated bytes
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+import io.shardingsphere.core.util.NumberUtil;
+
+import java.util.BitSet;
+
+/**
+ * Column buffer.
+ *
+ * <p>
+ * Values of one column are stored in typed array and null values are marked in bitmap.
+ * Rows of null values keep default value in typed array, so primitive getters of null value return 0 without checking bitmap.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public abstract class ColumnBuffer {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private final BitSet nullBitmap = new BitSet();
+    
+    private int capacity;
+    
+    private int size;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     * @return added or not, return false if value type is not acceptable for this column buffer
+     */
+    public final boolean add(final Object value) {
+        if (null != value && !isAcceptable(value)) {
+            return false;
+        }
+        if (size == capacity) {
+            capacity = 0 == capacity ? INITIAL_CAPACITY : capacity << 1;
+            resize(capacity);
+        }
+        if (null == value) {
+            nullBitmap.set(size);
+        } else {
+            set(size, value);
+        }
+        size++;
+        return true;
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index
+     * @return value
+     */
+    public final Object getValue(final int rowIndex) {
+        return nullBitmap.get(rowIndex) ? null : get(rowIndex);
+    }
+    
+    /**
+     * Judge is null value or not.
+     *
+     * @param rowIndex row index
+     * @return is null value or not
+     */
+    public final boolean isNull(final int rowIndex) {
+        return nullBitmap.get(rowIndex);
+    }
+    
+    /**
+     * Get int value.
+     *
+     * @param rowIndex row index
+     * @return int value
+     */
+    public int getInt(final int rowIndex) {
+        return NumberUtil.toNumber(getValue(rowIndex)).intValue();
+    }
+    
+    /**
+     * Get long value.
+     *
+     * @param rowIndex row index
+     * @return long value
+     */
+    public long getLong(final int rowIndex) {
+        return NumberUtil.toNumber(getValue(rowIndex)).longValue();
+    }
+    
+    /**
+     * Get double value.
+     *
+     * @param rowIndex row index
+     * @return double value
+     */
+    public double getDouble(final int rowIndex) {
+        return NumberUtil.toNumber(getValue(rowIndex)).doubleValue();
+    }
+    
+    /**
+     * Get row size.
+     *
+     * @return row size
+     */
+    public final int size() {
+        return size;
+    }
+    
+    /**
+     * Get estimated memory size.
+     *
+     * @return estimated memory size in bytes
+     */
+    public final long getMemorySize() {
+        return (long) capacity * getBytesPerRow() + nullBitmap.size() / Byte.SIZE;
+    }
+    
+    protected abstract boolean isAcceptable(Object value);
+    
+    protected abstract void resize(int capacity);
+    
+    protected abstract void set(int rowIndex, Object value);
+    
+    protected abstract Object get(int rowIndex);
+    
+    protected abstract int getBytesPerRow();
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Types;
+
+/**
+ * Column buffer factory.
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColumnBufferFactory {
+    
+    /**
+     * Create new instance of column buffer.
+     * 
+     * <p>Column buffer is chosen by column type of result set meta data, values which type is not matched are stored by {@code ObjectColumnBuffer}.</p>
+     *
+     * @param columnType column type, which is constant of {@code java.sql.Types}
+     * @param byteSlab byte slab for variable length values
+     * @return column buffer
+     */
+    public static ColumnBuffer newInstance(final int columnType, final ByteSlab byteSlab) {
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return new IntColumnBuffer();
+            case Types.BIGINT:
+                return new LongColumnBuffer();
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleColumnBuffer();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return new StringColumnBuffer(byteSlab);
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return new BytesColumnBuffer(byteSlab);
+            default:
+                return new ObjectColumnBuffer();
+        }
+    }
+}
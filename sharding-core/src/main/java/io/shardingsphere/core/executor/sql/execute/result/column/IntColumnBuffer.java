@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+import java.util.Arrays;
+
+/**
+ * Column buffer for int values.
+ *
+ * @author zhangliang
+ */
+public final class IntColumnBuffer extends ColumnBuffer {
+    
+    private int[] values = new int[0];
+    
+    @Override
+    protected boolean isAcceptable(final Object value) {
+        return value instanceof Integer;
+    }
+    
+    @Override
+    protected void resize(final int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+    
+    @Override
+    protected void set(final int rowIndex, final Object value) {
+        values[rowIndex] = (Integer) value;
+    }
+    
+    @Override
+    protected Object get(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    @Override
+    public int getInt(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    @Override
+    public long getLong(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    @Override
+    public double getDouble(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    @Override
+    protected int getBytesPerRow() {
+        return 4;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+import java.util.Arrays;
+
+/**
+ * Column buffer for values which can not be stored in typed array.
+ *
+ * @author zhangliang
+ */
+public final class ObjectColumnBuffer extends ColumnBuffer {
+    
+    private static final int ESTIMATED_BYTES_PER_ROW = 32;
+    
+    private Object[] values = new Object[0];
+    
+    public ObjectColumnBuffer() {
+    }
+    
+    public ObjectColumnBuffer(final ColumnBuffer columnBuffer) {
+        for (int i = 0; i < columnBuffer.size(); i++) {
+            add(columnBuffer.getValue(i));
+        }
+    }
+    
+    @Override
+    protected boolean isAcceptable(final Object value) {
+        return true;
+    }
+    
+    @Override
+    protected void resize(final int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+    
+    @Override
+    protected void set(final int rowIndex, final Object value) {
+        values[rowIndex] = value;
+    }
+    
+    @Override
+    protected Object get(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    @Override
+    protected int getBytesPerRow() {
+        return ESTIMATED_BYTES_PER_ROW;
+    }
+}
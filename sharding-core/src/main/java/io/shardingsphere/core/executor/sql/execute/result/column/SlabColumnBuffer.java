@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+import java.util.Arrays;
+
+/**
+ * Column buffer for variable length values, which bytes are stored in shared byte slab.
+ *
+ * @author zhangliang
+ */
+public abstract class SlabColumnBuffer extends ColumnBuffer {
+    
+    private final ByteSlab byteSlab;
+    
+    private long[] addresses = new long[0];
+    
+    private int[] lengths = new int[0];
+    
+    protected SlabColumnBuffer(final ByteSlab byteSlab) {
+        this.byteSlab = byteSlab;
+    }
+    
+    @Override
+    protected final void resize(final int capacity) {
+        addresses = Arrays.copyOf(addresses, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+    }
+    
+    @Override
+    protected final void set(final int rowIndex, final Object value) {
+        byte[] bytes = toBytes(value);
+        addresses[rowIndex] = byteSlab.append(bytes);
+        lengths[rowIndex] = bytes.length;
+    }
+    
+    @Override
+    protected final Object get(final int rowIndex) {
+        return fromBytes(byteSlab.get(addresses[rowIndex], lengths[rowIndex]));
+    }
+    
+    @Override
+    protected final int getBytesPerRow() {
+        return 12;
+    }
+    
+    protected abstract byte[] toBytes(Object value);
+    
+    protected abstract Object fromBytes(byte[] bytes);
+}
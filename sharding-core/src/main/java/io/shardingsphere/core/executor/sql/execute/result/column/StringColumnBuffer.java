@@ -0,0 +1,47 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+import com.google.common.base.Charsets;
+
+/**
+ * Column buffer for string values.
+ *
+ * @author zhangliang
+ */
+public final class StringColumnBuffer extends SlabColumnBuffer {
+    
+    public StringColumnBuffer(final ByteSlab byteSlab) {
+        super(byteSlab);
+    }
+    
+    @Override
+    protected boolean isAcceptable(final Object value) {
+        return value instanceof String;
+    }
+    
+    @Override
+    protected byte[] toBytes(final Object value) {
+        return ((String) value).getBytes(Charsets.UTF_8);
+    }
+    
+    @Override
+    protected Object fromBytes(final byte[] bytes) {
+        return new String(bytes, Charsets.UTF_8);
+    }
+}
@@ -72,6 +72,27 @@ public final class HintManagerHolder {
         return null != HINT_MANAGER_HOLDER.get() && HINT_MANAGER_HOLDER.get().isMasterRouteOnly();
     }
     
+    /**
+     * Judge whether keyset pagination is used or not.
+     *
+     * @return keyset pagination is used or not
+     */
+    public static boolean isKeysetPagination() {
+        return null != HINT_MANAGER_HOLDER.get() && HINT_MANAGER_HOLDER.get().isKeysetPagination();
+    }
+    
+    /**
+     * Get keyset cursor.
+     *
+     * @return keyset cursor, absent if keyset pagination is not used or for first page
+     */
+    public static Optional<Comparable<?>> getKeysetCursor() {
+        if (!isKeysetPagination()) {
+            return Optional.absent();
+        }
+        return Optional.<Comparable<?>>fromNullable(HINT_MANAGER_HOLDER.get().getKeysetCursor());
+    }
+    
     /**
      * Get database sharding value.
      * 
@@ -19,9 +19,9 @@ package io.shardingsphere.core.keygen;
 
 import com.google.common.base.Preconditions;
 import lombok.Setter;
-import lombok.SneakyThrows;
 
 import java.util.Calendar;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Default distributed primary key generator.
@@ -45,9 +45,15 @@ import java.util.Calendar;
  * Call @{@code DefaultKeyGenerator.setMaxTolerateTimeDifferenceMilliseconds} to set max tolerate time difference milliseconds, default value is 0.
  * </p>
  * 
+ * <p>
+ * Generating is lock free, last timestamp and sequence are updated by CAS.
+ * If sequence is exhausted in one mills or clock is moving backwards within max tolerate time difference milliseconds,
+ * timestamp of key is borrowed from next mills, only if it is not ahead of clock more than max tolerate time difference milliseconds.
+ * </p>
+ * 
  * @author gaohongtao
  */
-public final class DefaultKeyGenerator implements KeyGenerator {
+public final class DefaultKeyGenerator implements BatchKeyGenerator {
     
     public static final long EPOCH;
     
@@ -80,11 +86,7 @@ public final class DefaultKeyGenerator implements KeyGenerator {
         EPOCH = calendar.getTimeInMillis();
     }
     
-    private byte sequenceOffset;
-    
-    private long sequence;
-    
-    private long lastMilliseconds;
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong();
     
     /**
      * Set work process id.
@@ -111,44 +113,67 @@ public final class DefaultKeyGenerator implements KeyGenerator {
      * @return key type is @{@link Long}.
      */
     @Override
-    public synchronized Number generateKey() {
-        long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
-            currentMilliseconds = timeService.getCurrentMillis();
-        }
-        if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
-                currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+    public Number generateKey() {
+        while (true) {
+            long last = lastTimestampAndSequence.get();
+            long next = nextTimestampAndSequence(last);
+            if (lastTimestampAndSequence.compareAndSet(last, next)) {
+                return toKey(next);
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
     }
     
-    @SneakyThrows
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
-        if (lastMilliseconds <= currentMilliseconds) {
-            return false;
+    /**
+     * Generate keys.
+     * 
+     * <p>Keys are reserved by one CAS for each mills, instead of one CAS for each key.</p>
+     * 
+     * @param count count of keys
+     * @return generated keys
+     */
+    @Override
+    public long[] generateKeys(final int count) {
+        long[] result = new long[count];
+        int generatedCount = 0;
+        while (generatedCount < count) {
+            long last = lastTimestampAndSequence.get();
+            long first = nextTimestampAndSequence(last);
+            int reservedCount = (int) Math.min(count - generatedCount, SEQUENCE_MASK + 1 - (first & SEQUENCE_MASK));
+            if (lastTimestampAndSequence.compareAndSet(last, first + reservedCount - 1)) {
+                for (int i = 0; i < reservedCount; i++) {
+                    result[generatedCount++] = toKey(first + i);
+                }
+            }
         }
-        long timeDifferenceMilliseconds = lastMilliseconds - currentMilliseconds;
-        Preconditions.checkState(timeDifferenceMilliseconds > maxTolerateTimeDifferenceMilliseconds, 
-                "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastMilliseconds, currentMilliseconds);
-        Thread.sleep(timeDifferenceMilliseconds);
-        return true;
+        return result;
     }
     
-    private long waitUntilNextTime(final long lastTime) {
-        long result = timeService.getCurrentMillis();
-        while (result <= lastTime) {
-            result = timeService.getCurrentMillis();
+    private long toKey(final long timestampAndSequence) {
+        return ((timestampAndSequence >>> SEQUENCE_BITS) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | (timestampAndSequence & SEQUENCE_MASK);
+    }
+    
+    private long nextTimestampAndSequence(final long last) {
+        long lastMilliseconds = last >>> SEQUENCE_BITS;
+        long currentMilliseconds = timeService.getCurrentMillis() - EPOCH;
+        if (currentMilliseconds > lastMilliseconds) {
+            return (currentMilliseconds << SEQUENCE_BITS) | vibrateSequenceOffset(last);
         }
+        Preconditions.checkState(lastMilliseconds - currentMilliseconds <= maxTolerateTimeDifferenceMilliseconds,
+                "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastMilliseconds + EPOCH, currentMilliseconds + EPOCH);
+        long result = last + 1;
+        waitUntilTolerableTime(result >>> SEQUENCE_BITS, currentMilliseconds);
         return result;
     }
     
-    private void vibrateSequenceOffset() {
-        sequenceOffset = (byte) (~sequenceOffset & 1);
+    private void waitUntilTolerableTime(final long milliseconds, final long currentMilliseconds) {
+        long current = currentMilliseconds;
+        while (milliseconds - current > maxTolerateTimeDifferenceMilliseconds) {
+            Thread.yield();
+            current = timeService.getCurrentMillis() - EPOCH;
+        }
+    }
+    
+    private long vibrateSequenceOffset(final long last) {
+        return ~last & 1;
     }
 }
@@ -17,6 +17,7 @@
 
 package io.shardingsphere.core.merger;
 
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.merger.dal.DALMergeEngine;
 import io.shardingsphere.core.merger.dql.DQLMergeEngine;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
@@ -46,13 +47,16 @@ public final class MergeEngineFactory {
      * @param queryResults query results
      * @param sqlStatement SQL statement
      * @param shardingTableMetaData sharding table meta Data
+     * @param executeEngine execute engine for merging in parallel, merge on current thread if absent
+     * @param spillThreshold spill threshold of memory merge, 0 means never spill
      * @return merge engine instance
      * @throws SQLException SQL exception
      */
     public static MergeEngine newInstance(final ShardingRule shardingRule, final List<QueryResult> queryResults,
-                                          final SQLStatement sqlStatement, final ShardingTableMetaData shardingTableMetaData) throws SQLException {
+                                          final SQLStatement sqlStatement, final ShardingTableMetaData shardingTableMetaData, 
+                                          final ShardingExecuteEngine executeEngine, final int spillThreshold) throws SQLException {
         if (sqlStatement instanceof SelectStatement) {
-            return new DQLMergeEngine(queryResults, (SelectStatement) sqlStatement);
+            return new DQLMergeEngine(queryResults, (SelectStatement) sqlStatement, executeEngine, spillThreshold);
         } 
         if (sqlStatement instanceof DALStatement) {
             return new DALMergeEngine(shardingRule, queryResults, (DALStatement) sqlStatement, shardingTableMetaData);
@@ -18,6 +18,7 @@
 package io.shardingsphere.core.merger.dal.show;
 
 import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.util.NumberUtil;
 
 import java.io.InputStream;
 import java.sql.SQLException;
@@ -36,6 +37,21 @@ public abstract class LocalMergedResultAdapter implements MergedResult {
         return getValue(1, type);
     }
     
+    @Override
+    public final int getInt(final int columnIndex) throws SQLException {
+        return NumberUtil.toNumber(getValue(columnIndex, Object.class)).intValue();
+    }
+    
+    @Override
+    public final long getLong(final int columnIndex) throws SQLException {
+        return NumberUtil.toNumber(getValue(columnIndex, Object.class)).longValue();
+    }
+    
+    @Override
+    public final double getDouble(final int columnIndex) throws SQLException {
+        return NumberUtil.toNumber(getValue(columnIndex, Object.class)).doubleValue();
+    }
+    
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
         throw new SQLFeatureNotSupportedException();
@@ -61,4 +77,8 @@ public abstract class LocalMergedResultAdapter implements MergedResult {
         return false;
     }
     
+    @Override
+    public final void close() {
+    }
+
 }
@@ -51,6 +51,21 @@ public final class ShowOtherMergedResult implements MergedResult {
         return queryResult.getValue(columnLabel, type);
     }
     
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return queryResult.getInt(columnIndex);
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return queryResult.getLong(columnIndex);
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return queryResult.getDouble(columnIndex);
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
         throw new SQLFeatureNotSupportedException();
@@ -75,4 +90,8 @@ public final class ShowOtherMergedResult implements MergedResult {
     public boolean wasNull() {
         return false;
     }
+    
+    @Override
+    public void close() {
+    }
 }
@@ -17,18 +17,20 @@
 
 package io.shardingsphere.core.merger.dql;
 
-import com.google.common.base.Function;
-import com.google.common.collect.Lists;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.executor.sql.execute.result.AggregationDistinctQueryResult;
 import io.shardingsphere.core.executor.sql.execute.result.DistinctQueryResult;
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.merger.MergeEngine;
 import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.common.DecoratorMergedResult;
 import io.shardingsphere.core.merger.dql.groupby.GroupByMemoryMergedResult;
 import io.shardingsphere.core.merger.dql.groupby.GroupByStreamMergedResult;
 import io.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResult;
 import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResult;
+import io.shardingsphere.core.merger.dql.pagination.KeysetDecoratorMergedResult;
 import io.shardingsphere.core.merger.dql.pagination.LimitDecoratorMergedResult;
 import io.shardingsphere.core.merger.dql.pagination.RowNumberDecoratorMergedResult;
 import io.shardingsphere.core.merger.dql.pagination.TopAndRowNumberDecoratorMergedResult;
@@ -37,7 +39,7 @@ import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.util.SQLUtil;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -56,36 +58,41 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private final Map<String, Integer> columnLabelIndexMap;
     
+    private final ShardingExecuteEngine executeEngine;
+    
+    private final int spillThreshold;
+    
+    private final Limit limit;
+    
     public DQLMergeEngine(final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        this(queryResults, selectStatement, null, 0);
+    }
+    
+    public DQLMergeEngine(final List<QueryResult> queryResults, final SelectStatement selectStatement, final ShardingExecuteEngine executeEngine, final int spillThreshold) throws SQLException {
+        this(queryResults, selectStatement, executeEngine, spillThreshold, selectStatement.getLimit());
+    }
+    
+    public DQLMergeEngine(final List<QueryResult> queryResults, final SelectStatement selectStatement, 
+                          final ShardingExecuteEngine executeEngine, final int spillThreshold, final Limit limit) throws SQLException {
         this.selectStatement = selectStatement;
-        List<QueryResult> realQueryResult = getRealQueryResults(queryResults);
-        if(!realQueryResult.isEmpty()) {
-            this.queryResults = realQueryResult;
-        }else {
-            this.queryResults = queryResults;
-        }
+        this.executeEngine = executeEngine;
+        this.spillThreshold = spillThreshold;
+        this.limit = limit;
+        this.queryResults = getRealQueryResults(queryResults);
         columnLabelIndexMap = getColumnLabelIndexMap(this.queryResults.get(0));
     }
     
     private List<QueryResult> getRealQueryResults(final List<QueryResult> queryResults) {
         if (!selectStatement.getAggregationDistinctSelectItems().isEmpty()) {
-            return getDividedQueryResults(new AggregationDistinctQueryResult(queryResults, selectStatement));
+            return Collections.<QueryResult>singletonList(new AggregationDistinctQueryResult(queryResults, selectStatement, spillThreshold));
         }
         if (!selectStatement.getDistinctSelectItems().isEmpty()) {
-            return getDividedQueryResults(new DistinctQueryResult(queryResults, new ArrayList<>(selectStatement.getDistinctSelectItems().get(0).getDistinctColumnLabels())));
+            return Collections.<QueryResult>singletonList(
+                    new DistinctQueryResult(queryResults, selectStatement.getDistinctSelectItems().get(0).getDistinctColumnLabels(), selectStatement.getOrderByItems(), spillThreshold));
         }
         return queryResults;
     }
     
-    private List<QueryResult> getDividedQueryResults(final DistinctQueryResult distinctQueryResult) {
-        return Lists.transform(distinctQueryResult.divide(), new Function<DistinctQueryResult, QueryResult>() {
-            @Override
-            public QueryResult apply(final DistinctQueryResult input) {
-                return input;
-            }
-        });
-    }
-    
     private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
         Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
         for (int i = 1; i <= queryResult.getColumnCount(); i++) {
@@ -97,7 +104,11 @@ public final class DQLMergeEngine implements MergeEngine {
     @Override
     public MergedResult merge() throws SQLException {
         selectStatement.setIndexForItems(columnLabelIndexMap);
-        return decorate(build());
+        MergedResult result = build();
+        if (queryResults.get(0) instanceof DistinctQueryResult) {
+            result = new DistinctClosingMergedResult(result, (DistinctQueryResult) queryResults.get(0));
+        }
+        return decorate(result);
     }
     
     private MergedResult build() throws SQLException {
@@ -114,24 +125,55 @@ public final class DQLMergeEngine implements MergeEngine {
         if (selectStatement.isSameGroupByAndOrderByItems()) {
             return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatement);
         } else {
-            return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement);
+            return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement, executeEngine, spillThreshold);
         }
     }
     
     private MergedResult decorate(final MergedResult mergedResult) throws SQLException {
-        Limit limit = selectStatement.getLimit();
+        MergedResult result = decorateLimit(mergedResult);
+        if (HintManagerHolder.isKeysetPagination() && 1 == selectStatement.getOrderByItems().size()) {
+            return new KeysetDecoratorMergedResult(result, selectStatement.getOrderByItems().get(0));
+        }
+        return result;
+    }
+    
+    private MergedResult decorateLimit(final MergedResult mergedResult) throws SQLException {
         if (null == limit) {
             return mergedResult;
         }
         if (DatabaseType.MySQL == limit.getDatabaseType() || DatabaseType.PostgreSQL == limit.getDatabaseType() || DatabaseType.H2 == limit.getDatabaseType()) {
-            return new LimitDecoratorMergedResult(mergedResult, selectStatement.getLimit());
+            return new LimitDecoratorMergedResult(mergedResult, limit);
         }
         if (DatabaseType.Oracle == limit.getDatabaseType()) {
-            return new RowNumberDecoratorMergedResult(mergedResult, selectStatement.getLimit());
+            return new RowNumberDecoratorMergedResult(mergedResult, limit);
         }
         if (DatabaseType.SQLServer == limit.getDatabaseType()) {
-            return new TopAndRowNumberDecoratorMergedResult(mergedResult, selectStatement.getLimit());
+            return new TopAndRowNumberDecoratorMergedResult(mergedResult, limit);
         }
         return mergedResult;
     }
+    
+    private static final class DistinctClosingMergedResult extends DecoratorMergedResult {
+        
+        private final DistinctQueryResult distinctQueryResult;
+        
+        DistinctClosingMergedResult(final MergedResult mergedResult, final DistinctQueryResult distinctQueryResult) {
+            super(mergedResult);
+            this.distinctQueryResult = distinctQueryResult;
+        }
+        
+        @Override
+        public boolean next() throws SQLException {
+            return getMergedResult().next();
+        }
+        
+        @Override
+        public void close() throws SQLException {
+            try {
+                super.close();
+            } finally {
+                distinctQueryResult.close();
+            }
+        }
+    }
 }
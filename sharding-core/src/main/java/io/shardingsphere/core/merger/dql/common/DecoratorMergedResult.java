@@ -35,7 +35,7 @@ import java.util.Calendar;
 public abstract class DecoratorMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
-        
+    
     @Override
     public final Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
         return mergedResult.getValue(columnIndex, type);
@@ -46,6 +46,21 @@ public abstract class DecoratorMergedResult implements MergedResult {
         return mergedResult.getValue(columnLabel, type);
     }
     
+    @Override
+    public final int getInt(final int columnIndex) throws SQLException {
+        return mergedResult.getInt(columnIndex);
+    }
+    
+    @Override
+    public final long getLong(final int columnIndex) throws SQLException {
+        return mergedResult.getLong(columnIndex);
+    }
+    
+    @Override
+    public final double getDouble(final int columnIndex) throws SQLException {
+        return mergedResult.getDouble(columnIndex);
+    }
+    
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
         return mergedResult.getCalendarValue(columnIndex, type, calendar);
@@ -70,4 +85,9 @@ public abstract class DecoratorMergedResult implements MergedResult {
     public final boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
 }
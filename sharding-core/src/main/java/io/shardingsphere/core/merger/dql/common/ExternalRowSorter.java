@@ -0,0 +1,117 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.common;
+
+import com.google.common.collect.Iterators;
+import io.shardingsphere.core.exception.ShardingException;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * External sorter for memory query result rows.
+ * 
+ * <p>
+ * Rows are buffered in memory until count of buffered rows reaches spill threshold,
+ * then buffered rows are sorted and spilled to local temporary file as a sorted run.
+ * Sorted rows are merged back from memory and all spilled runs by k-way streaming merge.
+ * Sorter should be closed to release spilled runs which are not read completely.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class ExternalRowSorter implements Closeable {
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final int spillThreshold;
+    
+    private final List<MemoryQueryResultRow> bufferedRows = new ArrayList<>();
+    
+    private final List<SpilledRun> spilledRuns = new LinkedList<>();
+    
+    /**
+     * Add row.
+     * 
+     * @param row memory query result row
+     */
+    public void add(final MemoryQueryResultRow row) {
+        bufferedRows.add(row);
+        if (bufferedRows.size() >= spillThreshold) {
+            spill();
+        }
+    }
+    
+    private void spill() {
+        Collections.sort(bufferedRows, comparator);
+        try {
+            spilledRuns.add(SpilledRun.write(bufferedRows));
+        } catch (final IOException ex) {
+            throw new ShardingException("Cannot spill sorted rows to temporary file", ex);
+        }
+        bufferedRows.clear();
+    }
+    
+    /**
+     * Get count of spilled runs.
+     * 
+     * @return count of spilled runs
+     */
+    public int getSpilledRunCount() {
+        return spilledRuns.size();
+    }
+    
+    /**
+     * Sort all added rows.
+     * 
+     * @return iterator of sorted rows
+     */
+    public Iterator<MemoryQueryResultRow> sort() {
+        Collections.sort(bufferedRows, comparator);
+        if (spilledRuns.isEmpty()) {
+            return bufferedRows.iterator();
+        }
+        List<Iterator<MemoryQueryResultRow>> result = new ArrayList<>(spilledRuns.size() + 1);
+        result.add(bufferedRows.iterator());
+        try {
+            for (SpilledRun each : spilledRuns) {
+                result.add(each.iterator());
+            }
+        } catch (final IOException ex) {
+            close();
+            throw new ShardingException("Cannot read spilled rows", ex);
+        }
+        return Iterators.mergeSorted(result, comparator);
+    }
+    
+    @Override
+    public void close() {
+        for (SpilledRun each : spilledRuns) {
+            each.close();
+        }
+        spilledRuns.clear();
+    }
+}
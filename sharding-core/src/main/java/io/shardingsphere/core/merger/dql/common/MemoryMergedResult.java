@@ -18,6 +18,7 @@
 package io.shardingsphere.core.merger.dql.common;
 
 import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.util.NumberUtil;
 import io.shardingsphere.core.util.SQLUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -72,6 +73,27 @@ public abstract class MemoryMergedResult implements MergedResult {
         return result;
     }
     
+    @Override
+    public final int getInt(final int columnIndex) {
+        Object value = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == value;
+        return NumberUtil.toNumber(value).intValue();
+    }
+    
+    @Override
+    public final long getLong(final int columnIndex) {
+        Object value = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == value;
+        return NumberUtil.toNumber(value).longValue();
+    }
+    
+    @Override
+    public final double getDouble(final int columnIndex) {
+        Object value = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == value;
+        return NumberUtil.toNumber(value).doubleValue();
+    }
+    
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
         // TODO implement with calendar
@@ -102,4 +124,8 @@ public abstract class MemoryMergedResult implements MergedResult {
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public void close() {
+    }
 }
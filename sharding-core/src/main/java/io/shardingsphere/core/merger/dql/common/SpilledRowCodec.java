@@ -0,0 +1,252 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.common;
+
+import com.google.common.base.Charsets;
+import io.shardingsphere.core.exception.ShardingException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+/**
+ * Codec for memory query result row in compact binary format.
+ * 
+ * <p>
+ * Each row is written as column count followed by cells, and each cell is written as one byte type tag followed by its value.
+ * Values of types not listed here are written by java serialization.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpilledRowCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte STRING = 1;
+    
+    private static final byte INTEGER = 2;
+    
+    private static final byte LONG = 3;
+    
+    private static final byte SHORT = 4;
+    
+    private static final byte BYTE = 5;
+    
+    private static final byte BOOLEAN = 6;
+    
+    private static final byte DOUBLE = 7;
+    
+    private static final byte FLOAT = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte BIG_INTEGER = 10;
+    
+    private static final byte DATE = 11;
+    
+    private static final byte TIME = 12;
+    
+    private static final byte TIMESTAMP = 13;
+    
+    private static final byte UTIL_DATE = 14;
+    
+    private static final byte BYTES = 15;
+    
+    private static final byte SERIALIZABLE = 16;
+    
+    /**
+     * Write row.
+     * 
+     * @param output data output
+     * @param row memory query result row
+     * @throws IOException IO exception
+     */
+    public static void write(final DataOutput output, final MemoryQueryResultRow row) throws IOException {
+        output.writeInt(row.getColumnCount());
+        for (int i = 1; i <= row.getColumnCount(); i++) {
+            writeCell(output, row.getCell(i));
+        }
+    }
+    
+    private static void writeCell(final DataOutput output, final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof String) {
+            writeString(output, (String) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, ((BigInteger) value).toByteArray());
+        } else if (value instanceof Timestamp) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof Date) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (value instanceof Time) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+        } else if (java.util.Date.class == value.getClass()) {
+            output.writeByte(UTIL_DATE);
+            output.writeLong(((java.util.Date) value).getTime());
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) value);
+        } else if (value instanceof Serializable) {
+            output.writeByte(SERIALIZABLE);
+            writeBytes(output, serialize(value));
+        } else {
+            throw new ShardingException("Cannot spill value of type '%s'", value.getClass().getName());
+        }
+    }
+    
+    private static void writeString(final DataOutput output, final String value) throws IOException {
+        output.writeByte(STRING);
+        writeBytes(output, value.getBytes(Charsets.UTF_8));
+    }
+    
+    private static void writeBytes(final DataOutput output, final byte[] value) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    private static byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Read row.
+     * 
+     * @param input data input
+     * @return memory query result row
+     * @throws IOException IO exception
+     */
+    public static MemoryQueryResultRow read(final DataInput input) throws IOException {
+        Object[] data = new Object[input.readInt()];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = readCell(input);
+        }
+        return new MemoryQueryResultRow(data);
+    }
+    
+    private static Object readCell(final DataInput input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(input);
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case SHORT:
+                return input.readShort();
+            case BYTE:
+                return input.readByte();
+            case BOOLEAN:
+                return input.readBoolean();
+            case DOUBLE:
+                return input.readDouble();
+            case FLOAT:
+                return input.readFloat();
+            case BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case TIMESTAMP:
+                Timestamp result = new Timestamp(input.readLong());
+                result.setNanos(input.readInt());
+                return result;
+            case DATE:
+                return new Date(input.readLong());
+            case TIME:
+                return new Time(input.readLong());
+            case UTIL_DATE:
+                return new java.util.Date(input.readLong());
+            case BYTES:
+                return readBytes(input);
+            case SERIALIZABLE:
+                return deserialize(readBytes(input));
+            default:
+                throw new ShardingException("Unknown spilled value type '%s'", type);
+        }
+    }
+    
+    private static String readString(final DataInput input) throws IOException {
+        return new String(readBytes(input), Charsets.UTF_8);
+    }
+    
+    private static byte[] readBytes(final DataInput input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+    
+    private static Object deserialize(final byte[] value) throws IOException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(value))) {
+            return objectInputStream.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new ShardingException(ex);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.common;
+
+import com.google.common.collect.AbstractIterator;
+import io.shardingsphere.core.exception.ShardingException;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Sorted run of memory query result rows which spilled to local temporary file.
+ * 
+ * <p>Temporary file is deleted after all rows read or run closed.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class SpilledRun implements Closeable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final File file;
+    
+    private final int rowCount;
+    
+    private DataInputStream input;
+    
+    /**
+     * Write sorted rows to temporary file.
+     * 
+     * @param sortedRows sorted rows
+     * @return spilled run
+     * @throws IOException IO exception
+     */
+    static SpilledRun write(final Collection<MemoryQueryResultRow> sortedRows) throws IOException {
+        File file = File.createTempFile("sharding-merge-", ".run");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE))) {
+            for (MemoryQueryResultRow each : sortedRows) {
+                SpilledRowCodec.write(output, each);
+            }
+        } catch (final IOException | ShardingException ex) {
+            file.delete();
+            throw ex;
+        }
+        return new SpilledRun(file, sortedRows.size());
+    }
+    
+    /**
+     * Open iterator to read rows in order.
+     * 
+     * @return iterator of rows
+     * @throws IOException IO exception
+     */
+    Iterator<MemoryQueryResultRow> iterator() throws IOException {
+        input = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+        return new AbstractIterator<MemoryQueryResultRow>() {
+            
+            private int readRowCount;
+            
+            @Override
+            protected MemoryQueryResultRow computeNext() {
+                if (readRowCount == rowCount) {
+                    close();
+                    return endOfData();
+                }
+                readRowCount++;
+                try {
+                    return SpilledRowCodec.read(input);
+                } catch (final IOException ex) {
+                    close();
+                    throw new ShardingException("Cannot read spilled rows", ex);
+                }
+            }
+        };
+    }
+    
+    @Override
+    public void close() {
+        try {
+            if (null != input) {
+                input.close();
+            }
+        } catch (final IOException ignored) {
+        } finally {
+            input = null;
+            file.delete();
+        }
+    }
+}
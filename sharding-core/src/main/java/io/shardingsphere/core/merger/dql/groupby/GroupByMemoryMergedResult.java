@@ -17,15 +17,14 @@
 
 package io.shardingsphere.core.merger.dql.groupby;
 
-import com.google.common.base.Function;
-import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
+import io.shardingsphere.core.executor.ShardingExecuteCallback;
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.common.ExternalRowSorter;
 import io.shardingsphere.core.merger.dql.common.MemoryMergedResult;
 import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRow;
-import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnit;
-import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnitFactory;
-import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
+import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationColumns;
+import io.shardingsphere.core.merger.dql.groupby.aggregation.SingleValueAggregationUnit;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 
 import java.sql.SQLException;
@@ -39,6 +38,21 @@ import java.util.Map.Entry;
 
 /**
  * Memory merged result for group by.
+ * 
+ * <p>
+ * If execute engine is present and there are group by items, rows of each query result are aggregated on executor threads,
+ * then aggregation units of the same group are merged on current thread without reading rows again.
+ * </p>
+ * 
+ * <p>
+ * If spill threshold is greater than 0, at most spill threshold groups are aggregated in memory,
+ * partial aggregated rows are spilled to local temporary files in order of group by items when threshold reached.
+ * Partial aggregated rows are merged back and aggregated again, then sorted with spilling by order by items.
+ * </p>
+ *
+ * <p>
+ * Aggregation units are chosen by column type of the first query result, values are aggregated without creating objects for each row.
+ * </p>
  *
  * @author zhangliang
  */
@@ -46,75 +60,154 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     
     private final SelectStatement selectStatement;
     
+    private final AggregationColumns aggregationColumns;
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
+    private ExternalRowSorter resultRowSorter;
+    
     public GroupByMemoryMergedResult(
             final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        this(labelAndIndexMap, queryResults, selectStatement, null, 0);
+    }
+    
+    public GroupByMemoryMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, 
+                                     final SelectStatement selectStatement, final ShardingExecuteEngine executeEngine, final int spillThreshold) throws SQLException {
         super(labelAndIndexMap);
         this.selectStatement = selectStatement;
-        memoryResultSetRows = init(queryResults);
+        aggregationColumns = new AggregationColumns(selectStatement.getAggregationSelectItems(), queryResults.get(0));
+        memoryResultSetRows = spillThreshold > 0 ? initWithSpill(queryResults, spillThreshold) : init(queryResults, executeEngine);
     }
     
-    private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
-        for (QueryResult each : queryResults) {
-            while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
-                initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
-                aggregate(each, groupByValue, aggregationMap);
+    private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults, final ShardingExecuteEngine executeEngine) throws SQLException {
+        GroupByAggregation aggregation;
+        if (null == executeEngine || queryResults.size() < 2 || selectStatement.getGroupByItems().isEmpty()) {
+            aggregation = new GroupByAggregation();
+            for (QueryResult each : queryResults) {
+                aggregate(each, aggregation);
             }
+        } else {
+            aggregation = combine(aggregateInParallel(queryResults, executeEngine));
         }
-        setAggregationValueToMemoryRow(dataMap, aggregationMap);
-        List<MemoryQueryResultRow> result = getMemoryResultSetRows(dataMap);
+        setAggregationValueToMemoryRow(aggregation.dataMap, aggregation.aggregationMap);
+        List<MemoryQueryResultRow> result = getMemoryResultSetRows(aggregation.dataMap);
         if (!result.isEmpty()) {
             setCurrentResultSetRow(result.get(0));
         }
         return result.iterator();
     }
     
-    private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+    private List<GroupByAggregation> aggregateInParallel(final List<QueryResult> queryResults, final ShardingExecuteEngine executeEngine) throws SQLException {
+        return executeEngine.execute(queryResults, new ShardingExecuteCallback<QueryResult, GroupByAggregation>() {
+            
+            @Override
+            public GroupByAggregation execute(final QueryResult input, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+                GroupByAggregation result = new GroupByAggregation();
+                aggregate(input, result);
+                return result;
+            }
+        });
+    }
+    
+    private void aggregate(final QueryResult queryResult, final GroupByAggregation aggregation) throws SQLException {
+        while (queryResult.next()) {
+            GroupByValue groupByValue = new GroupByValue(queryResult, selectStatement.getGroupByItems());
+            aggregationColumns.aggregate(getAggregationUnits(queryResult, groupByValue, aggregation.dataMap, aggregation.aggregationMap), queryResult);
         }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationSelectItem, AggregationUnit> map = Maps.toMap(selectStatement.getAggregationSelectItems(), new Function<AggregationSelectItem, AggregationUnit>() {
-                
-                @Override
-                public AggregationUnit apply(final AggregationSelectItem input) {
-                    return AggregationUnitFactory.create(input.getType());
+    }
+    
+    private GroupByAggregation combine(final List<GroupByAggregation> aggregations) {
+        GroupByAggregation result = aggregations.get(0);
+        for (GroupByAggregation each : aggregations.subList(1, aggregations.size())) {
+            for (Entry<GroupByValue, SingleValueAggregationUnit[]> entry : each.aggregationMap.entrySet()) {
+                SingleValueAggregationUnit[] aggregationUnits = result.aggregationMap.get(entry.getKey());
+                if (null == aggregationUnits) {
+                    result.dataMap.put(entry.getKey(), each.dataMap.get(entry.getKey()));
+                    result.aggregationMap.put(entry.getKey(), entry.getValue());
+                } else {
+                    aggregationColumns.merge(aggregationUnits, entry.getValue());
                 }
-            });
-            aggregationMap.put(groupByValue, map);
+            }
         }
+        return result;
     }
     
-    private void aggregate(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationSelectItems().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
-            } else {
-                for (AggregationSelectItem derived : each.getDerivedAggregationSelectItems()) {
-                    values.add(getAggregationValue(queryResult, derived));
+    private Iterator<MemoryQueryResultRow> initWithSpill(final List<QueryResult> queryResults, final int spillThreshold) throws SQLException {
+        try (ExternalRowSorter partialRowSorter = new ExternalRowSorter(new GroupByRowComparator(selectStatement.getGroupByItems()), spillThreshold)) {
+            Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+            Map<GroupByValue, SingleValueAggregationUnit[]> aggregationMap = new HashMap<>(1024);
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
+                    if (dataMap.size() >= spillThreshold && !dataMap.containsKey(groupByValue)) {
+                        flushPartialRows(dataMap, aggregationMap, partialRowSorter);
+                    }
+                    aggregationColumns.aggregate(getAggregationUnits(each, groupByValue, dataMap, aggregationMap), each);
                 }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            flushPartialRows(dataMap, aggregationMap, partialRowSorter);
+            resultRowSorter = new ExternalRowSorter(new GroupByRowComparator(selectStatement), spillThreshold);
+            aggregatePartialRows(partialRowSorter.sort(), resultRowSorter);
+            return resultRowSorter.sort();
+        } catch (final SQLException | RuntimeException ex) {
+            close();
+            throw ex;
+        }
+    }
+    
+    private SingleValueAggregationUnit[] getAggregationUnits(final QueryResult queryResult, final GroupByValue groupByValue, 
+                                                             final Map<GroupByValue, MemoryQueryResultRow> dataMap, 
+                                                             final Map<GroupByValue, SingleValueAggregationUnit[]> aggregationMap) throws SQLException {
+        SingleValueAggregationUnit[] result = aggregationMap.get(groupByValue);
+        if (null == result) {
+            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+            result = aggregationColumns.createAggregationUnits();
+            aggregationMap.put(groupByValue, result);
         }
+        return result;
     }
     
-    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationSelectItem aggregationSelectItem) throws SQLException {
-        Object result = queryResult.getValue(aggregationSelectItem.getIndex(), Object.class);
-        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
-        return (Comparable<?>) result;
+    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, SingleValueAggregationUnit[]> aggregationMap) {
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            aggregationColumns.setAggregationValues(aggregationMap.get(entry.getKey()), entry.getValue());
+        }
     }
     
-    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
+    private void setPartialAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, SingleValueAggregationUnit[]> aggregationMap) {
         for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+            aggregationColumns.setPartialAggregationValues(aggregationMap.get(entry.getKey()), entry.getValue());
+        }
+    }
+    
+    private void flushPartialRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap,
+                                  final Map<GroupByValue, SingleValueAggregationUnit[]> aggregationMap, final ExternalRowSorter partialRowSorter) {
+        setPartialAggregationValueToMemoryRow(dataMap, aggregationMap);
+        for (MemoryQueryResultRow each : dataMap.values()) {
+            partialRowSorter.add(each);
+        }
+        dataMap.clear();
+        aggregationMap.clear();
+    }
+    
+    private void aggregatePartialRows(final Iterator<MemoryQueryResultRow> partialRows, final ExternalRowSorter resultRowSorter) {
+        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement.getGroupByItems());
+        MemoryQueryResultRow currentRow = null;
+        SingleValueAggregationUnit[] aggregationUnits = null;
+        while (partialRows.hasNext()) {
+            MemoryQueryResultRow each = partialRows.next();
+            if (null == currentRow || 0 != groupByRowComparator.compare(currentRow, each)) {
+                if (null != currentRow) {
+                    aggregationColumns.setAggregationValues(aggregationUnits, currentRow);
+                    resultRowSorter.add(currentRow);
+                }
+                currentRow = each;
+                aggregationUnits = aggregationColumns.createAggregationUnits();
             }
+            aggregationColumns.aggregate(aggregationUnits, each);
+        }
+        if (null != currentRow) {
+            aggregationColumns.setAggregationValues(aggregationUnits, currentRow);
+            resultRowSorter.add(currentRow);
         }
     }
     
@@ -132,4 +225,18 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         }
         return false;
     }
+    
+    @Override
+    public void close() {
+        if (null != resultRowSorter) {
+            resultRowSorter.close();
+        }
+    }
+    
+    private static final class GroupByAggregation {
+        
+        private final Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+        
+        private final Map<GroupByValue, SingleValueAggregationUnit[]> aggregationMap = new HashMap<>(1024);
+    }
 }
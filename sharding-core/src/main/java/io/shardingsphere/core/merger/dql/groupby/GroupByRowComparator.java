@@ -35,14 +35,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class GroupByRowComparator implements Comparator<MemoryQueryResultRow> {
     
-    private final SelectStatement selectStatement;
+    private final List<OrderItem> orderItems;
+    
+    public GroupByRowComparator(final SelectStatement selectStatement) {
+        this(selectStatement.getOrderByItems().isEmpty() ? selectStatement.getGroupByItems() : selectStatement.getOrderByItems());
+    }
     
     @Override
     public int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
-        if (!selectStatement.getOrderByItems().isEmpty()) {
-            return compare(o1, o2, selectStatement.getOrderByItems());
-        }
-        return compare(o1, o2, selectStatement.getGroupByItems());
+        return compare(o1, o2, orderItems);
     }
     
     private int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2, final List<OrderItem> orderItems) {
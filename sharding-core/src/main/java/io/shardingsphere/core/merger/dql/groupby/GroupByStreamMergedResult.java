@@ -17,15 +17,13 @@
 
 package io.shardingsphere.core.merger.dql.groupby;
 
-import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
 import io.shardingsphere.core.merger.QueryResult;
-import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnit;
-import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnitFactory;
+import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationColumns;
+import io.shardingsphere.core.merger.dql.groupby.aggregation.SingleValueAggregationUnit;
 import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResult;
-import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.util.NumberUtil;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -33,7 +31,6 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Stream merged result for group by.
@@ -46,6 +43,8 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final SelectStatement selectStatement;
     
+    private final AggregationColumns aggregationColumns;
+    
     private final List<Object> currentRow;
     
     private List<?> currentGroupByValues;
@@ -55,14 +54,15 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         super(queryResults, selectStatement.getOrderByItems());
         this.labelAndIndexMap = labelAndIndexMap;
         this.selectStatement = selectStatement;
+        aggregationColumns = new AggregationColumns(selectStatement.getAggregationSelectItems(), queryResults.get(0));
         currentRow = new ArrayList<>(labelAndIndexMap.size());
-        currentGroupByValues = getOrderByValuesQueue().isEmpty() ? Collections.emptyList() : new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues();
+        currentGroupByValues = getOrderByValues().isEmpty() ? Collections.emptyList() : new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues();
     }
     
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
-        if (getOrderByValuesQueue().isEmpty()) {
+        if (getOrderByValues().isEmpty()) {
             return false;
         }
         if (isFirstNext()) {
@@ -76,54 +76,28 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private boolean aggregateCurrentGroupByRowAndNext() throws SQLException {
         boolean result = false;
-        Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap = Maps.toMap(selectStatement.getAggregationSelectItems(), new Function<AggregationSelectItem, AggregationUnit>() {
-            
-            @Override
-            public AggregationUnit apply(final AggregationSelectItem input) {
-                return AggregationUnitFactory.create(input.getType());
-            }
-        });
+        SingleValueAggregationUnit[] aggregationUnits = aggregationColumns.createAggregationUnits();
         while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues())) {
-            aggregate(aggregationUnitMap);
+            aggregationColumns.aggregate(aggregationUnits, getCurrentQueryResult());
             cacheCurrentRow();
             result = super.next();
             if (!result) {
                 break;
             }
         }
-        setAggregationValueToCurrentRow(aggregationUnitMap);
+        setAggregationValueToCurrentRow(aggregationUnits);
         return result;
     }
     
-    private void aggregate(final Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap) throws SQLException {
-        for (Entry<AggregationSelectItem, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (entry.getKey().getDerivedAggregationSelectItems().isEmpty()) {
-                values.add(getAggregationValue(entry.getKey()));
-            } else {
-                for (AggregationSelectItem each : entry.getKey().getDerivedAggregationSelectItems()) {
-                    values.add(getAggregationValue(each));
-                }
-            }
-            entry.getValue().merge(values);
-        }
-    }
-    
     private void cacheCurrentRow() throws SQLException {
         for (int i = 0; i < getCurrentQueryResult().getColumnCount(); i++) {
             currentRow.add(getCurrentQueryResult().getValue(i + 1, Object.class));
         }
     }
     
-    private Comparable<?> getAggregationValue(final AggregationSelectItem aggregationSelectItem) throws SQLException {
-        Object result = getCurrentQueryResult().getValue(aggregationSelectItem.getIndex(), Object.class);
-        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
-        return (Comparable<?>) result;
-    }
-    
-    private void setAggregationValueToCurrentRow(final Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap) {
-        for (Entry<AggregationSelectItem, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            currentRow.set(entry.getKey().getIndex() - 1, entry.getValue().getResult());
+    private void setAggregationValueToCurrentRow(final SingleValueAggregationUnit[] aggregationUnits) {
+        for (int i = 0; i < aggregationColumns.getAggregationSelectItemSize(); i++) {
+            currentRow.set(aggregationColumns.getAggregationSelectItemIndex(i) - 1, aggregationColumns.getAggregationValue(aggregationUnits, i));
         }
     }
     
@@ -138,6 +112,27 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         return currentRow.get(labelAndIndexMap.get(columnLabel) - 1);
     }
     
+    @Override
+    public int getInt(final int columnIndex) {
+        Object value = currentRow.get(columnIndex - 1);
+        setWasNull(null == value);
+        return NumberUtil.toNumber(value).intValue();
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        Object value = currentRow.get(columnIndex - 1);
+        setWasNull(null == value);
+        return NumberUtil.toNumber(value).longValue();
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        Object value = currentRow.get(columnIndex - 1);
+        setWasNull(null == value);
+        return NumberUtil.toNumber(value).doubleValue();
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
         return currentRow.get(columnIndex - 1);
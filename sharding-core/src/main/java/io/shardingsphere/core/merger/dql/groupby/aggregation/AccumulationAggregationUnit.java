@@ -17,9 +17,11 @@
 
 package io.shardingsphere.core.merger.dql.groupby.aggregation;
 
+import io.shardingsphere.core.merger.QueryResult;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.util.List;
 
 /**
@@ -28,19 +30,31 @@ import java.util.List;
  * @author zhangliang
  */
 @RequiredArgsConstructor
-public final class AccumulationAggregationUnit implements AggregationUnit {
+public final class AccumulationAggregationUnit implements SingleValueAggregationUnit {
     
     private BigDecimal result;
     
     @Override
     public void merge(final List<Comparable<?>> values) {
-        if (null == values || null == values.get(0)) {
+        if (null != values) {
+            merge(values.get(0));
+        }
+    }
+    
+    @Override
+    public void merge(final Object value) {
+        if (null == value) {
             return;
         }
         if (null == result) {
             result = new BigDecimal("0");
         }
-        result = result.add(new BigDecimal(values.get(0).toString()));
+        result = result.add(new BigDecimal(value.toString()));
+    }
+    
+    @Override
+    public void merge(final QueryResult queryResult, final int columnIndex) throws SQLException {
+        merge(AggregationValues.getValue(queryResult, columnIndex));
     }
     
     @Override
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import com.google.common.base.Preconditions;
+import io.shardingsphere.core.constant.AggregationType;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRow;
+import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Aggregation columns.
+ *
+ * <p>
+ * Aggregation select items are flattened to single value columns, average is replaced by its derived count and sum columns.
+ * Aggregation unit of each column is chosen by column type once, integral and approximate numeric values are read as primitive values.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class AggregationColumns {
+    
+    private final AggregationType[] types;
+    
+    private final int[] columnIndexes;
+    
+    private final int[] columnTypes;
+    
+    private final int[] itemIndexes;
+    
+    private final int[] itemCountPositions;
+    
+    private final int[] itemSumPositions;
+    
+    public AggregationColumns(final List<AggregationSelectItem> aggregationSelectItems, final QueryResult queryResult) throws SQLException {
+        List<AggregationSelectItem> columns = new ArrayList<>(aggregationSelectItems.size());
+        itemIndexes = new int[aggregationSelectItems.size()];
+        itemCountPositions = new int[aggregationSelectItems.size()];
+        itemSumPositions = new int[aggregationSelectItems.size()];
+        for (int i = 0; i < aggregationSelectItems.size(); i++) {
+            AggregationSelectItem each = aggregationSelectItems.get(i);
+            itemIndexes[i] = each.getIndex();
+            if (each.getDerivedAggregationSelectItems().isEmpty()) {
+                itemCountPositions[i] = columns.size();
+                itemSumPositions[i] = -1;
+                columns.add(each);
+            } else {
+                itemCountPositions[i] = columns.size();
+                itemSumPositions[i] = columns.size() + 1;
+                columns.addAll(each.getDerivedAggregationSelectItems());
+            }
+        }
+        types = new AggregationType[columns.size()];
+        columnIndexes = new int[columns.size()];
+        columnTypes = new int[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            types[i] = columns.get(i).getType();
+            columnIndexes[i] = columns.get(i).getIndex();
+            columnTypes[i] = queryResult.getColumnType(columnIndexes[i]);
+        }
+    }
+    
+    /**
+     * Create aggregation units for one group.
+     * 
+     * @return aggregation units, one for each column
+     */
+    public SingleValueAggregationUnit[] createAggregationUnits() {
+        SingleValueAggregationUnit[] result = new SingleValueAggregationUnit[types.length];
+        for (int i = 0; i < types.length; i++) {
+            result[i] = AggregationUnitFactory.create(types[i], columnTypes[i]);
+        }
+        return result;
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     * 
+     * @param aggregationUnits aggregation units
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final SingleValueAggregationUnit[] aggregationUnits, final QueryResult queryResult) throws SQLException {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            aggregationUnits[i].merge(queryResult, columnIndexes[i]);
+        }
+    }
+    
+    /**
+     * Aggregate memory query result row.
+     * 
+     * @param aggregationUnits aggregation units
+     * @param row memory query result row
+     */
+    public void aggregate(final SingleValueAggregationUnit[] aggregationUnits, final MemoryQueryResultRow row) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            aggregationUnits[i].merge(getAggregationValue(row.getCell(columnIndexes[i])));
+        }
+    }
+    
+    /**
+     * Merge aggregation units of the same group which are aggregated from another query result.
+     * 
+     * @param aggregationUnits aggregation units
+     * @param partialAggregationUnits aggregation units from another query result
+     */
+    public void merge(final SingleValueAggregationUnit[] aggregationUnits, final SingleValueAggregationUnit[] partialAggregationUnits) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            aggregationUnits[i].merge(partialAggregationUnits[i].getResult());
+        }
+    }
+    
+    private Object getAggregationValue(final Object value) {
+        Preconditions.checkState(null == value || value instanceof Comparable, "Aggregation value must implements Comparable");
+        return value;
+    }
+    
+    /**
+     * Set partial aggregation values to row, average is kept as derived count and sum columns.
+     * 
+     * @param aggregationUnits aggregation units
+     * @param row memory query result row
+     */
+    public void setPartialAggregationValues(final SingleValueAggregationUnit[] aggregationUnits, final MemoryQueryResultRow row) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            row.setCell(columnIndexes[i], aggregationUnits[i].getResult());
+        }
+    }
+    
+    /**
+     * Set aggregation values to row.
+     * 
+     * @param aggregationUnits aggregation units
+     * @param row memory query result row
+     */
+    public void setAggregationValues(final SingleValueAggregationUnit[] aggregationUnits, final MemoryQueryResultRow row) {
+        for (int i = 0; i < itemIndexes.length; i++) {
+            row.setCell(itemIndexes[i], getAggregationValue(aggregationUnits, i));
+        }
+    }
+    
+    /**
+     * Get aggregation select item size.
+     * 
+     * @return aggregation select item size
+     */
+    public int getAggregationSelectItemSize() {
+        return itemIndexes.length;
+    }
+    
+    /**
+     * Get column index of aggregation select item.
+     * 
+     * @param itemPosition position of aggregation select item
+     * @return column index of aggregation select item
+     */
+    public int getAggregationSelectItemIndex(final int itemPosition) {
+        return itemIndexes[itemPosition];
+    }
+    
+    /**
+     * Get aggregation value of aggregation select item.
+     * 
+     * @param aggregationUnits aggregation units
+     * @param itemPosition position of aggregation select item
+     * @return aggregation value
+     */
+    public Comparable<?> getAggregationValue(final SingleValueAggregationUnit[] aggregationUnits, final int itemPosition) {
+        Comparable<?> result = aggregationUnits[itemCountPositions[itemPosition]].getResult();
+        if (-1 == itemSumPositions[itemPosition]) {
+            return result;
+        }
+        Comparable<?> sum = aggregationUnits[itemSumPositions[itemPosition]].getResult();
+        if (null == sum) {
+            return null;
+        }
+        if (null == result || BigDecimal.ZERO.equals(result)) {
+            return result;
+        }
+        // TODO use metadata to fetch float number precise for database field
+        return ((BigDecimal) sum).divide((BigDecimal) result, 4, BigDecimal.ROUND_HALF_UP);
+    }
+}
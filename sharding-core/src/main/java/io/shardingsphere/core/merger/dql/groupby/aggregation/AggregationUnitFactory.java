@@ -21,6 +21,8 @@ import io.shardingsphere.core.constant.AggregationType;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import java.sql.Types;
+
 /**
  * Aggregation unit factory.
  * 
@@ -50,4 +52,63 @@ public final class AggregationUnitFactory {
                 throw new UnsupportedOperationException(type.name());
         }
     }
+    
+    /**
+     * Create single value aggregation unit instance by column type.
+     *
+     * <p>Average is not supported, which should be merged by its derived count and sum columns.</p>
+     * 
+     * @param type aggregation function type
+     * @param columnType column type, which is constant of {@code java.sql.Types}
+     * @return single value aggregation unit instance
+     */
+    public static SingleValueAggregationUnit create(final AggregationType type, final int columnType) {
+        switch (type) {
+            case MAX:
+                return createComparableAggregationUnit(false, columnType);
+            case MIN:
+                return createComparableAggregationUnit(true, columnType);
+            case SUM:
+                return createAccumulationAggregationUnit(columnType);
+            case COUNT:
+                return isIntegral(columnType) || isDecimal(columnType) ? new LongAccumulationAggregationUnit() : new AccumulationAggregationUnit();
+            default:
+                throw new UnsupportedOperationException(type.name());
+        }
+    }
+    
+    private static SingleValueAggregationUnit createComparableAggregationUnit(final boolean asc, final int columnType) {
+        if (isIntegral(columnType)) {
+            return new LongComparableAggregationUnit(asc);
+        }
+        if (isApproximate(columnType)) {
+            return new DoubleComparableAggregationUnit(asc);
+        }
+        return new ComparableAggregationUnit(asc);
+    }
+    
+    private static SingleValueAggregationUnit createAccumulationAggregationUnit(final int columnType) {
+        if (isIntegral(columnType)) {
+            return new LongAccumulationAggregationUnit();
+        }
+        if (isApproximate(columnType)) {
+            return new DoubleAccumulationAggregationUnit(Types.REAL == columnType);
+        }
+        if (isDecimal(columnType)) {
+            return new DecimalAccumulationAggregationUnit();
+        }
+        return new AccumulationAggregationUnit();
+    }
+    
+    private static boolean isIntegral(final int columnType) {
+        return Types.TINYINT == columnType || Types.SMALLINT == columnType || Types.INTEGER == columnType || Types.BIGINT == columnType;
+    }
+    
+    private static boolean isDecimal(final int columnType) {
+        return Types.DECIMAL == columnType || Types.NUMERIC == columnType;
+    }
+    
+    private static boolean isApproximate(final int columnType) {
+        return Types.FLOAT == columnType || Types.REAL == columnType || Types.DOUBLE == columnType;
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import com.google.common.base.Preconditions;
+import io.shardingsphere.core.merger.QueryResult;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+/**
+ * Aggregation values utility.
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class AggregationValues {
+    
+    static Object getValue(final QueryResult queryResult, final int columnIndex) throws SQLException {
+        Object result = queryResult.getValue(columnIndex, Object.class);
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return result;
+    }
+    
+    static boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    static BigDecimal toBigDecimal(final Object value) {
+        return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+    }
+    
+    static boolean isReplaced(final boolean asc, final int comparedValue) {
+        return asc && comparedValue < 0 || !asc && comparedValue > 0;
+    }
+    
+    @SuppressWarnings("unchecked")
+    static Comparable<?> compare(final boolean asc, final Comparable<?> result, final Object value) {
+        if (null == result) {
+            return (Comparable<?>) value;
+        }
+        return isReplaced(asc, ((Comparable) value).compareTo(result)) ? (Comparable<?>) value : result;
+    }
+}
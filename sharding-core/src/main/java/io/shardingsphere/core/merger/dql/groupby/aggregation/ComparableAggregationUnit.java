@@ -17,8 +17,10 @@
 
 package io.shardingsphere.core.merger.dql.groupby.aggregation;
 
+import io.shardingsphere.core.merger.QueryResult;
 import lombok.RequiredArgsConstructor;
 
+import java.sql.SQLException;
 import java.util.List;
 
 /**
@@ -27,28 +29,40 @@ import java.util.List;
  * @author gaohongtao
  */
 @RequiredArgsConstructor
-public final class ComparableAggregationUnit implements AggregationUnit {
+public final class ComparableAggregationUnit implements SingleValueAggregationUnit {
     
     private final boolean asc;
     
     private Comparable<?> result;
     
-    @SuppressWarnings("unchecked")
     @Override
     public void merge(final List<Comparable<?>> values) {
-        if (null == values || null == values.get(0)) {
+        if (null != values) {
+            merge(values.get(0));
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public void merge(final Object value) {
+        if (null == value) {
             return;
         }
         if (null == result) {
-            result = values.get(0);
+            result = (Comparable<?>) value;
             return;
         }
-        int comparedValue = ((Comparable) values.get(0)).compareTo(result);
+        int comparedValue = ((Comparable) value).compareTo(result);
         if (asc && comparedValue < 0 || !asc && comparedValue > 0) {
-            result = values.get(0);
+            result = (Comparable<?>) value;
         }
     }
     
+    @Override
+    public void merge(final QueryResult queryResult, final int columnIndex) throws SQLException {
+        merge(AggregationValues.getValue(queryResult, columnIndex));
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return result;
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import io.shardingsphere.core.merger.QueryResult;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Accumulation aggregation unit for exact decimal values.
+ *
+ * <p>{@code BigDecimal} values are added directly without converting from string.</p>
+ * 
+ * @author zhangliang
+ */
+public final class DecimalAccumulationAggregationUnit implements SingleValueAggregationUnit {
+    
+    private BigDecimal result;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null != values) {
+            merge(values.get(0));
+        }
+    }
+    
+    @Override
+    public void merge(final Object value) {
+        if (null == value) {
+            return;
+        }
+        BigDecimal addend = AggregationValues.toBigDecimal(value);
+        result = null == result ? addend : result.add(addend);
+    }
+    
+    @Override
+    public void merge(final QueryResult queryResult, final int columnIndex) throws SQLException {
+        merge(AggregationValues.getValue(queryResult, columnIndex));
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import io.shardingsphere.core.merger.QueryResult;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Accumulation aggregation unit for approximate numeric values.
+ *
+ * <p>
+ * Values are read as primitive double, and accumulated exactly as {@code BigDecimal} of their string representation.
+ * Single precision values are represented as float, so the sum is the same as accumulating their original values.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class DoubleAccumulationAggregationUnit implements SingleValueAggregationUnit {
+    
+    private final boolean singlePrecision;
+    
+    private BigDecimal result;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null != values) {
+            merge(values.get(0));
+        }
+    }
+    
+    @Override
+    public void merge(final Object value) {
+        if (null != value) {
+            add(AggregationValues.toBigDecimal(value));
+        }
+    }
+    
+    @Override
+    public void merge(final QueryResult queryResult, final int columnIndex) throws SQLException {
+        double value = queryResult.getDouble(columnIndex);
+        if (!queryResult.wasNull()) {
+            add(singlePrecision ? new BigDecimal(Float.toString((float) value)) : BigDecimal.valueOf(value));
+        }
+    }
+    
+    private void add(final BigDecimal addend) {
+        result = null == result ? addend : result.add(addend);
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return result;
+    }
+}
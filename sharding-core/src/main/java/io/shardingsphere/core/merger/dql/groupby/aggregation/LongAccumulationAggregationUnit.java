@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import io.shardingsphere.core.merger.QueryResult;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Accumulation aggregation unit for integral values.
+ *
+ * <p>Values are read and accumulated as primitive long, and switch to {@code BigDecimal} when overflow or non integral value merged.</p>
+ * 
+ * @author zhangliang
+ */
+public final class LongAccumulationAggregationUnit implements SingleValueAggregationUnit {
+    
+    private boolean merged;
+    
+    private long sum;
+    
+    private BigDecimal decimalSum;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null != values) {
+            merge(values.get(0));
+        }
+    }
+    
+    @Override
+    public void merge(final Object value) {
+        if (null == value) {
+            return;
+        }
+        if (AggregationValues.isIntegral(value)) {
+            add(((Number) value).longValue());
+            return;
+        }
+        merged = true;
+        decimalSum = (null == decimalSum ? BigDecimal.valueOf(sum) : decimalSum).add(AggregationValues.toBigDecimal(value));
+    }
+    
+    @Override
+    public void merge(final QueryResult queryResult, final int columnIndex) throws SQLException {
+        long value = queryResult.getLong(columnIndex);
+        if (!queryResult.wasNull()) {
+            add(value);
+        }
+    }
+    
+    private void add(final long addend) {
+        merged = true;
+        if (null == decimalSum) {
+            long result = sum + addend;
+            if (((sum ^ result) & (addend ^ result)) >= 0) {
+                sum = result;
+                return;
+            }
+        }
+        decimalSum = (null == decimalSum ? BigDecimal.valueOf(sum) : decimalSum).add(BigDecimal.valueOf(addend));
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (!merged) {
+            return null;
+        }
+        return null == decimalSum ? BigDecimal.valueOf(sum) : decimalSum;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import io.shardingsphere.core.merger.QueryResult;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Comparable aggregation unit for integral values.
+ *
+ * <p>
+ * Integral values are compared as primitive long, other values are compared as {@code Comparable}.
+ * Original value of query result is read only when it replaces the result, so the result keeps the type of original value.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class LongComparableAggregationUnit implements SingleValueAggregationUnit {
+    
+    private final boolean asc;
+    
+    private Comparable<?> result;
+    
+    private long longResult;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null != values) {
+            merge(values.get(0));
+        }
+    }
+    
+    @Override
+    public void merge(final Object value) {
+        if (null == value) {
+            return;
+        }
+        if (AggregationValues.isIntegral(value) && (null == result || AggregationValues.isIntegral(result))) {
+            long longValue = ((Number) value).longValue();
+            if (null == result || AggregationValues.isReplaced(asc, Long.compare(longValue, longResult))) {
+                result = (Comparable<?>) value;
+                longResult = longValue;
+            }
+            return;
+        }
+        result = AggregationValues.compare(asc, result, value);
+    }
+    
+    @Override
+    public void merge(final QueryResult queryResult, final int columnIndex) throws SQLException {
+        long value = queryResult.getLong(columnIndex);
+        if (queryResult.wasNull()) {
+            return;
+        }
+        if (null == result || !AggregationValues.isIntegral(result) || AggregationValues.isReplaced(asc, Long.compare(value, longResult))) {
+            merge(AggregationValues.getValue(queryResult, columnIndex));
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import io.shardingsphere.core.merger.QueryResult;
+
+import java.sql.SQLException;
+
+/**
+ * Aggregation unit which merges one value for each row.
+ *
+ * <p>Merging single value avoids creating value list for each row.</p>
+ * 
+ * @author zhangliang
+ */
+public interface SingleValueAggregationUnit extends AggregationUnit {
+    
+    /**
+     * Merge aggregation value.
+     * 
+     * @param value aggregation value
+     */
+    void merge(Object value);
+    
+    /**
+     * Merge aggregation value of current row of query result.
+     * 
+     * @param queryResult query result
+     * @param columnIndex column index
+     * @throws SQLException SQL exception
+     */
+    void merge(QueryResult queryResult, int columnIndex) throws SQLException;
+}
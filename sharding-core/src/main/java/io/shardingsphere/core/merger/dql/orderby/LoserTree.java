@@ -0,0 +1,126 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.orderby;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Loser tree for k-way merge.
+ *
+ * <p>
+ * Each internal node keeps the loser of its sub tree and the root keeps the winner.
+ * After the winner moves to next value or is exhausted, only the path from its leaf to root is replayed, which costs log(k) comparisons.
+ * Equal values are taken in order of adjusting, so the value adjusted latest comes after other equal values.
+ * </p>
+ * 
+ * @author zhangliang
+ * 
+ * @param <T> type of value
+ */
+public final class LoserTree<T extends Comparable<T>> {
+    
+    private final List<T> values;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    private final long[] sequences;
+    
+    private long sequence;
+    
+    private int remaining;
+    
+    public LoserTree(final Collection<T> values) {
+        this.values = new ArrayList<>(values);
+        exhausted = new boolean[values.size()];
+        losers = new int[values.size()];
+        sequences = new long[values.size()];
+        remaining = values.size();
+        Arrays.fill(losers, values.size());
+        for (int i = values.size() - 1; i >= 0; i--) {
+            sequences[i] = i;
+            replay(i);
+        }
+        sequence = values.size();
+    }
+    
+    /**
+     * Judge tree is empty or not.
+     * 
+     * @return tree is empty or not
+     */
+    public boolean isEmpty() {
+        return 0 == remaining;
+    }
+    
+    /**
+     * Get winner value.
+     * 
+     * @return winner value, return {@code null} if tree is empty
+     */
+    public T peek() {
+        return isEmpty() ? null : values.get(losers[0]);
+    }
+    
+    /**
+     * Adjust tree after winner value changed.
+     */
+    public void adjustWinner() {
+        sequences[losers[0]] = sequence++;
+        replay(losers[0]);
+    }
+    
+    /**
+     * Remove winner value from tree.
+     */
+    public void removeWinner() {
+        exhausted[losers[0]] = true;
+        remaining--;
+        replay(losers[0]);
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int parent = (leaf + values.size()) / 2; parent > 0; parent /= 2) {
+            if (isBefore(losers[parent], winner)) {
+                int loser = winner;
+                winner = losers[parent];
+                losers[parent] = loser;
+            }
+        }
+        losers[0] = winner;
+    }
+    
+    private boolean isBefore(final int index, final int otherIndex) {
+        if (values.size() == index) {
+            return true;
+        }
+        if (values.size() == otherIndex) {
+            return false;
+        }
+        if (exhausted[index] || exhausted[otherIndex]) {
+            return !exhausted[index];
+        }
+        int result = values.get(index).compareTo(values.get(otherIndex));
+        return result < 0 || 0 == result && sequences[index] < sequences[otherIndex];
+    }
+}
@@ -18,30 +18,53 @@
 package io.shardingsphere.core.merger.dql.orderby;
 
 import com.google.common.base.Preconditions;
+import io.shardingsphere.core.constant.OrderDirection;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.parsing.parser.context.OrderItem;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
  * Order by value.
  * 
+ * <p>
+ * Order values of current row are extracted once when iterate next data, and kept in arrays reused for each row.
+ * Integral and approximate numeric values are compared as primitive, other values are compared by {@code CompareUtil}.
+ * </p>
+ * 
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class OrderByValue implements Comparable<OrderByValue> {
     
+    private static final byte OBJECT_KEY = 0;
+    
+    private static final byte LONG_KEY = 1;
+    
+    private static final byte DOUBLE_KEY = 2;
+    
     @Getter
     private final QueryResult queryResult;
     
-    private final List<OrderItem> orderByItems;
+    private final OrderItem[] orderByItems;
+    
+    private final Comparable<?>[] orderValues;
+    
+    private final byte[] keyTypes;
+    
+    private final long[] longKeys;
     
-    private List<Comparable<?>> orderValues;
+    private final double[] doubleKeys;
+    
+    public OrderByValue(final QueryResult queryResult, final List<OrderItem> orderByItems) {
+        this.queryResult = queryResult;
+        this.orderByItems = orderByItems.toArray(new OrderItem[orderByItems.size()]);
+        orderValues = new Comparable<?>[orderByItems.size()];
+        keyTypes = new byte[orderByItems.size()];
+        longKeys = new long[orderByItems.size()];
+        doubleKeys = new double[orderByItems.size()];
+    }
     
     /**
      * iterate next data.
@@ -51,29 +74,46 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.<Comparable<?>>emptyList();
+        if (result) {
+            extractOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void extractOrderValues() throws SQLException {
+        for (int i = 0; i < orderByItems.length; i++) {
+            Object value = queryResult.getValue(orderByItems[i].getIndex(), Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues[i] = (Comparable<?>) value;
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                keyTypes[i] = LONG_KEY;
+                longKeys[i] = ((Number) value).longValue();
+            } else if (value instanceof Double || value instanceof Float) {
+                keyTypes[i] = DOUBLE_KEY;
+                doubleKeys[i] = ((Number) value).doubleValue();
+            } else {
+                keyTypes[i] = OBJECT_KEY;
+            }
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        for (int i = 0; i < orderByItems.size(); i++) {
-            OrderItem thisOrderBy = orderByItems.get(i);
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), thisOrderBy.getOrderDirection(), thisOrderBy.getNullOrderDirection());
+        for (int i = 0; i < orderByItems.length; i++) {
+            int result = compareTo(o, i);
             if (0 != result) {
                 return result;
             }
         }
         return 0;
     }
+    
+    private int compareTo(final OrderByValue o, final int position) {
+        OrderItem orderItem = orderByItems[position];
+        if (OBJECT_KEY == keyTypes[position] || keyTypes[position] != o.keyTypes[position]) {
+            return CompareUtil.compareTo(orderValues[position], o.orderValues[position], orderItem.getOrderDirection(), orderItem.getNullOrderDirection());
+        }
+        int result = LONG_KEY == keyTypes[position] ? Long.compare(longKeys[position], o.longKeys[position]) : Double.compare(doubleKeys[position], o.doubleKeys[position]);
+        return OrderDirection.ASC == orderItem.getOrderDirection() ? result : -result;
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.pagination;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.dql.common.DecoratorMergedResult;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
+
+import java.sql.SQLException;
+
+/**
+ * Decorator merged result for keyset pagination.
+ *
+ * <p>Order by value of last fetched row is kept as keyset cursor of next page.</p>
+ *
+ * @author zhangliang
+ */
+public final class KeysetDecoratorMergedResult extends DecoratorMergedResult {
+    
+    private final int orderByColumnIndex;
+    
+    private Comparable<?> keysetCursor;
+    
+    public KeysetDecoratorMergedResult(final MergedResult mergedResult, final OrderItem orderItem) {
+        super(mergedResult);
+        orderByColumnIndex = orderItem.getIndex();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (!getMergedResult().next()) {
+            return false;
+        }
+        Object value = getMergedResult().getValue(orderByColumnIndex, Object.class);
+        if (value instanceof Comparable) {
+            keysetCursor = (Comparable<?>) value;
+        }
+        return true;
+    }
+    
+    /**
+     * Get keyset cursor of next page.
+     *
+     * @return keyset cursor of next page, absent if no row fetched
+     */
+    public Optional<Comparable<?>> getKeysetCursor() {
+        return Optional.<Comparable<?>>fromNullable(keysetCursor);
+    }
+}
@@ -17,16 +17,28 @@
 
 package io.shardingsphere.core.metadata;
 
+import com.google.common.base.Optional;
+import com.google.common.base.Strings;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.executor.ShardingThreadFactoryBuilder;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataConnectionManager;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataInitializer;
+import io.shardingsphere.core.metadata.table.executor.TableMetaDataSnapshot;
 import io.shardingsphere.core.rule.ShardingRule;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Sharding meta data.
@@ -34,15 +46,85 @@ import java.util.Map;
  * @author zhangliang
  */
 @Getter
-public final class ShardingMetaData {
+@Slf4j
+public final class ShardingMetaData implements AutoCloseable {
     
     private final ShardingDataSourceMetaData dataSource;
     
     private final ShardingTableMetaData table;
     
+    private final ExecutorService verifyExecutor = Executors.newSingleThreadExecutor(ShardingThreadFactoryBuilder.build("MetaData-Verifier-%d"));
+    
     public ShardingMetaData(final Map<String, String> dataSourceURLs, final ShardingRule shardingRule,
                             final DatabaseType databaseType, final ShardingExecuteEngine executeEngine, final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery) {
+        this(dataSourceURLs, shardingRule, databaseType, executeEngine, connectionManager, maxConnectionsSizePerQuery, false, "");
+    }
+    
+    public ShardingMetaData(final Map<String, String> dataSourceURLs, final ShardingRule shardingRule, final DatabaseType databaseType, final ShardingExecuteEngine executeEngine, 
+                            final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery, final boolean isSampling, final String snapshotFile) {
         dataSource = new ShardingDataSourceMetaData(dataSourceURLs, shardingRule, databaseType);
-        table = new ShardingTableMetaData(new TableMetaDataInitializer(dataSource, executeEngine, connectionManager, maxConnectionsSizePerQuery).load(shardingRule));
+        TableMetaDataInitializer tableMetaDataInitializer = new TableMetaDataInitializer(dataSource, executeEngine, connectionManager, maxConnectionsSizePerQuery, isSampling);
+        table = Strings.isNullOrEmpty(snapshotFile) ? new ShardingTableMetaData(tableMetaDataInitializer.load(shardingRule))
+                : createTableMetaData(tableMetaDataInitializer, shardingRule, new TableMetaDataSnapshot(snapshotFile, shardingRule, dataSourceURLs, isSampling));
+    }
+    
+    private ShardingTableMetaData createTableMetaData(final TableMetaDataInitializer tableMetaDataInitializer, final ShardingRule shardingRule, final TableMetaDataSnapshot snapshot) {
+        Optional<Map<String, TableMetaData>> cachedTableMetaDataMap = snapshot.load();
+        if (!cachedTableMetaDataMap.isPresent()) {
+            Map<String, TableMetaData> tableMetaDataMap = tableMetaDataInitializer.load(shardingRule);
+            snapshot.save(tableMetaDataMap);
+            return new ShardingTableMetaData(tableMetaDataMap);
+        }
+        ConcurrentMap<String, TableMetaData> tableMetaDataMap = new ConcurrentHashMap<>(cachedTableMetaDataMap.get());
+        verifyInBackground(tableMetaDataInitializer, shardingRule, snapshot, tableMetaDataMap);
+        return new ShardingTableMetaData(tableMetaDataMap);
+    }
+    
+    private void verifyInBackground(final TableMetaDataInitializer tableMetaDataInitializer, final ShardingRule shardingRule, 
+                                    final TableMetaDataSnapshot snapshot, final ConcurrentMap<String, TableMetaData> tableMetaDataMap) {
+        verifyExecutor.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                Map<String, TableMetaData> expectedTableMetaDataMap = new HashMap<>(tableMetaDataMap);
+                try {
+                    Map<String, TableMetaData> actualTableMetaDataMap = tableMetaDataInitializer.load(shardingRule);
+                    if (!Thread.currentThread().isInterrupted() && !actualTableMetaDataMap.equals(expectedTableMetaDataMap)) {
+                        log.info("Table meta data snapshot `{}` is stale, refresh it.", snapshot.getFile());
+                        refresh(tableMetaDataMap, expectedTableMetaDataMap, actualTableMetaDataMap);
+                        snapshot.save(actualTableMetaDataMap);
+                    }
+                // CHECKSTYLE:OFF
+                } catch (final Exception ex) {
+                    // CHECKSTYLE:ON
+                    log.warn("Can not verify table meta data snapshot `{}`.", snapshot.getFile(), ex);
+                }
+            }
+        });
+    }
+    
+    private void refresh(final ConcurrentMap<String, TableMetaData> tableMetaDataMap, 
+                         final Map<String, TableMetaData> expectedTableMetaDataMap, final Map<String, TableMetaData> actualTableMetaDataMap) {
+        for (Entry<String, TableMetaData> entry : actualTableMetaDataMap.entrySet()) {
+            TableMetaData expected = expectedTableMetaDataMap.get(entry.getKey());
+            if (null == expected) {
+                tableMetaDataMap.putIfAbsent(entry.getKey(), entry.getValue());
+            } else if (!expected.equals(entry.getValue())) {
+                tableMetaDataMap.replace(entry.getKey(), expected, entry.getValue());
+            }
+        }
+        for (Entry<String, TableMetaData> entry : expectedTableMetaDataMap.entrySet()) {
+            if (!actualTableMetaDataMap.containsKey(entry.getKey())) {
+                tableMetaDataMap.remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+    
+    /**
+     * Stop verifying table meta data if it is still running.
+     */
+    @Override
+    public void close() {
+        verifyExecutor.shutdownNow();
     }
 }
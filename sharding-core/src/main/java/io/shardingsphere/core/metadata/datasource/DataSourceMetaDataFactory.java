@@ -26,6 +26,11 @@ import io.shardingsphere.core.metadata.datasource.dialect.SQLServerDataSourceMet
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Data source meta data builder.
  *
@@ -34,6 +39,38 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class DataSourceMetaDataFactory {
     
+    private static final Map<DatabaseType, ConcurrentMap<String, DataSourceMetaData>> CACHED_DATA_SOURCE_META_DATA = createCachedDataSourceMetaData();
+    
+    private static Map<DatabaseType, ConcurrentMap<String, DataSourceMetaData>> createCachedDataSourceMetaData() {
+        Map<DatabaseType, ConcurrentMap<String, DataSourceMetaData>> result = new EnumMap<>(DatabaseType.class);
+        for (DatabaseType each : DatabaseType.values()) {
+            result.put(each, new ConcurrentHashMap<String, DataSourceMetaData>());
+        }
+        return result;
+    }
+    
+    /**
+     * Get data source meta data from cache, create and cache it if absent.
+     * 
+     * <p>
+     * Data source meta data is immutable, so URL is only parsed once and parsed result is shared by all executions.
+     * </p>
+     *
+     * @param databaseType database type
+     * @param url data source URL
+     * @return data source meta data
+     */
+    public static DataSourceMetaData getInstance(final DatabaseType databaseType, final String url) {
+        ConcurrentMap<String, DataSourceMetaData> cachedDataSourceMetaData = CACHED_DATA_SOURCE_META_DATA.get(databaseType);
+        DataSourceMetaData result = cachedDataSourceMetaData.get(url);
+        if (null != result) {
+            return result;
+        }
+        result = newInstance(databaseType, url);
+        DataSourceMetaData existed = cachedDataSourceMetaData.putIfAbsent(url, result);
+        return null == existed ? result : existed;
+    }
+    
     /**
      * Create new instance of data source meta data.
      *
@@ -35,15 +35,13 @@ import java.util.Map.Entry;
  */
 public final class ShardingDataSourceMetaData {
     
+    private final Map<String, DataSourceMetaData> routedDataSourceMetaDataMap;
+    
     private final Map<String, DataSourceMetaData> dataSourceMetaDataMap;
     
     public ShardingDataSourceMetaData(final Map<String, String> dataSourceURLs, final ShardingRule shardingRule, final DatabaseType databaseType) {
-        dataSourceMetaDataMap = getDataSourceMetaDataMap(dataSourceURLs, shardingRule, databaseType);
-    }
-    
-    private Map<String, DataSourceMetaData> getDataSourceMetaDataMap(final Map<String, String> dataSourceURLs, final ShardingRule shardingRule, final DatabaseType databaseType) {
-        Map<String, DataSourceMetaData> dataSourceMetaData = getDataSourceMetaDataMapForSharding(dataSourceURLs, databaseType);
-        return shardingRule.getMasterSlaveRules().isEmpty() ? dataSourceMetaData : getDataSourceMetaDataMapForMasterSlave(shardingRule, dataSourceMetaData);
+        routedDataSourceMetaDataMap = getDataSourceMetaDataMapForSharding(dataSourceURLs, databaseType);
+        dataSourceMetaDataMap = shardingRule.getMasterSlaveRules().isEmpty() ? routedDataSourceMetaDataMap : getDataSourceMetaDataMapForMasterSlave(shardingRule, routedDataSourceMetaDataMap);
     }
     
     private Map<String, DataSourceMetaData> getDataSourceMetaDataMapForSharding(final Map<String, String> dataSourceURLs, final DatabaseType databaseType) {
@@ -106,4 +104,19 @@ public final class ShardingDataSourceMetaData {
     public DataSourceMetaData getActualDataSourceMetaData(final String actualDataSourceName) {
         return dataSourceMetaDataMap.get(actualDataSourceName);
     }
+    
+    /**
+     * Get data source meta data of routed data source.
+     * 
+     * <p>
+     * Routed data source is the data source which SQL is executed on, master and slave data sources are not merged by master-slave rule.
+     * Meta data is parsed from data source URL once, so execution need not fetch it from connection.
+     * </p>
+     * 
+     * @param routedDataSourceName routed data source name
+     * @return routed data source meta data
+     */
+    public DataSourceMetaData getRoutedDataSourceMetaData(final String routedDataSourceName) {
+        return routedDataSourceMetaDataMap.get(routedDataSourceName);
+    }
 }
@@ -34,22 +34,22 @@ public final class H2DataSourceMetaData implements DataSourceMetaData {
     
     private static final int DEFAULT_PORT = -1;
     
+    private static final Pattern PATTERN = Pattern.compile("jdbc:h2:(mem|~)[:/]([\\w\\-]+);?\\S*", Pattern.CASE_INSENSITIVE);
+    
     private final String hostName;
     
     private final int port;
     
     private final String schemeName;
     
-    private final Pattern pattern = Pattern.compile("jdbc:h2:(mem|~)[:/]([\\w\\-]+);?\\S*", Pattern.CASE_INSENSITIVE);
-    
     public H2DataSourceMetaData(final String url) {
-        Matcher matcher = pattern.matcher(url);
+        Matcher matcher = PATTERN.matcher(url);
         if (matcher.find()) {
             hostName = matcher.group(1);
             port = DEFAULT_PORT;
             schemeName = matcher.group(2);
         } else {
-            throw new ShardingException("The URL of JDBC is not supported. Please refer to this pattern: %s.", pattern.pattern());
+            throw new ShardingException("The URL of JDBC is not supported. Please refer to this pattern: %s.", PATTERN.pattern());
         }
     }
     
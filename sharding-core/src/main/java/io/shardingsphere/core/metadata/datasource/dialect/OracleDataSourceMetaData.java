@@ -35,22 +35,22 @@ public final class OracleDataSourceMetaData implements DataSourceMetaData {
     
     private static final int DEFAULT_PORT = 1521;
     
+    private static final Pattern PATTERN = Pattern.compile("jdbc:oracle:thin:@/{0,2}([\\w\\-\\.]+):?([0-9]*)[:/]([\\w\\-]+)", Pattern.CASE_INSENSITIVE);
+    
     private final String hostName;
     
     private final int port;
     
     private final String schemeName;
     
-    private final Pattern pattern = Pattern.compile("jdbc:oracle:thin:@/{0,2}([\\w\\-\\.]+):?([0-9]*)[:/]([\\w\\-]+)", Pattern.CASE_INSENSITIVE);
-    
     public OracleDataSourceMetaData(final String url) {
-        Matcher matcher = pattern.matcher(url);
+        Matcher matcher = PATTERN.matcher(url);
         if (matcher.find()) {
             hostName = matcher.group(1);
             port = Strings.isNullOrEmpty(matcher.group(2)) ? DEFAULT_PORT : Integer.valueOf(matcher.group(2));
             schemeName = matcher.group(3);
         } else {
-            throw new ShardingException("The URL of JDBC is not supported. Please refer to this pattern: %s.", pattern.pattern());
+            throw new ShardingException("The URL of JDBC is not supported. Please refer to this pattern: %s.", PATTERN.pattern());
         }
     }
     
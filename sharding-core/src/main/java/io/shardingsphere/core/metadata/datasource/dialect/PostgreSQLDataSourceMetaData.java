@@ -35,25 +35,25 @@ public final class PostgreSQLDataSourceMetaData implements DataSourceMetaData {
     
     private static final int DEFAULT_PORT = 5432;
     
+    private static final Pattern PATTERN = Pattern.compile("jdbc:postgresql://([\\w\\-\\.]+):?([0-9]*)/([\\w\\-]+)", Pattern.CASE_INSENSITIVE);
+    
     private final String hostName;
     
     private final int port;
     
     private final String schemeName;
     
-    private final Pattern pattern = Pattern.compile("jdbc:postgresql://([\\w\\-\\.]+):?([0-9]*)/([\\w\\-]+)", Pattern.CASE_INSENSITIVE);
-    
     public PostgreSQLDataSourceMetaData(final String url) {
-        Matcher matcher = pattern.matcher(url);
+        Matcher matcher = PATTERN.matcher(url);
         if (matcher.find()) {
             hostName = matcher.group(1);
             port = Strings.isNullOrEmpty(matcher.group(2)) ? DEFAULT_PORT : Integer.valueOf(matcher.group(2));
             schemeName = matcher.group(3);
         } else {
-            throw new ShardingException("The URL of JDBC is not supported. Please refer to this pattern: %s.", pattern.pattern());
+            throw new ShardingException("The URL of JDBC is not supported. Please refer to this pattern: %s.", PATTERN.pattern());
         }
     }
-  
+    
     @Override
     public boolean isInSameDatabaseInstance(final DataSourceMetaData dataSourceMetaData) {
         return hostName.equals(dataSourceMetaData.getHostName()) && port == dataSourceMetaData.getPort();
@@ -35,22 +35,22 @@ public final class SQLServerDataSourceMetaData implements DataSourceMetaData {
     
     private static final int DEFAULT_PORT = 1433;
     
+    private static final Pattern PATTERN = Pattern.compile("jdbc:(microsoft:)?sqlserver://([\\w\\-\\.]+):?([0-9]*);\\S*(DatabaseName|database)=([\\w\\-]+);?", Pattern.CASE_INSENSITIVE);
+    
     private final String hostName;
     
     private final int port;
     
     private final String schemeName;
     
-    private final Pattern pattern = Pattern.compile("jdbc:(microsoft:)?sqlserver://([\\w\\-\\.]+):?([0-9]*);\\S*(DatabaseName|database)=([\\w\\-]+);?", Pattern.CASE_INSENSITIVE);
-    
     public SQLServerDataSourceMetaData(final String url) {
-        Matcher matcher = pattern.matcher(url);
+        Matcher matcher = PATTERN.matcher(url);
         if (matcher.find()) {
             hostName = matcher.group(2);
             port = Strings.isNullOrEmpty(matcher.group(3)) ? DEFAULT_PORT : Integer.valueOf(matcher.group(3));
             schemeName = matcher.group(5);
         } else {
-            throw new ShardingException("The URL of JDBC is not supported. Please refer to this pattern: %s.", pattern.pattern());
+            throw new ShardingException("The URL of JDBC is not supported. Please refer to this pattern: %s.", PATTERN.pattern());
         }
     }
     
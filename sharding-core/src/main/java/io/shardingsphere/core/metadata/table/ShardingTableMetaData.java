@@ -56,6 +56,15 @@ public final class ShardingTableMetaData {
         tableMetaDataMap.put(logicTableName, tableMetaData);
     }
     
+    /**
+     * Remove table meta data.
+     * 
+     * @param logicTableName logic table name
+     */
+    public void remove(final String logicTableName) {
+        tableMetaDataMap.remove(logicTableName);
+    }
+    
     /**
      * Judge contains table from table meta data or not.
      *
@@ -30,9 +30,11 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Table meta data initializer.
@@ -49,9 +51,14 @@ public final class TableMetaDataInitializer {
     
     public TableMetaDataInitializer(final ShardingDataSourceMetaData shardingDataSourceMetaData, 
                                     final ShardingExecuteEngine executeEngine, final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery) {
+        this(shardingDataSourceMetaData, executeEngine, connectionManager, maxConnectionsSizePerQuery, false);
+    }
+    
+    public TableMetaDataInitializer(final ShardingDataSourceMetaData shardingDataSourceMetaData, final ShardingExecuteEngine executeEngine, 
+                                    final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery, final boolean isSampling) {
         this.shardingDataSourceMetaData = shardingDataSourceMetaData;
         this.connectionManager = connectionManager;
-        tableMetaDataLoader = new TableMetaDataLoader(shardingDataSourceMetaData, executeEngine, connectionManager, maxConnectionsSizePerQuery);
+        tableMetaDataLoader = new TableMetaDataLoader(shardingDataSourceMetaData, executeEngine, connectionManager, maxConnectionsSizePerQuery, isSampling);
     }
     
     /**
@@ -61,7 +68,7 @@ public final class TableMetaDataInitializer {
      * @return all table meta data
      */
     public Map<String, TableMetaData> load(final ShardingRule shardingRule) {
-        Map<String, TableMetaData> result = new HashMap<>();
+        Map<String, TableMetaData> result = new ConcurrentHashMap<>();
         try {
             result.putAll(loadShardingTables(shardingRule));
             result.putAll(loadDefaultTables(shardingRule));
@@ -72,22 +79,17 @@ public final class TableMetaDataInitializer {
     }
     
     private Map<String, TableMetaData> loadShardingTables(final ShardingRule shardingRule) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
+        Collection<String> logicTableNames = new LinkedList<>();
         for (TableRule each : shardingRule.getTableRules()) {
-            result.put(each.getLogicTable(), tableMetaDataLoader.load(each.getLogicTable(), shardingRule));
+            logicTableNames.add(each.getLogicTable());
         }
-        return result;
+        return tableMetaDataLoader.load(logicTableNames, shardingRule);
     }
     
     private Map<String, TableMetaData> loadDefaultTables(final ShardingRule shardingRule) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
         Optional<String> actualDefaultDataSourceName = shardingRule.findActualDefaultDataSourceName();
-        if (actualDefaultDataSourceName.isPresent()) {
-            for (String each : getAllTableNames(actualDefaultDataSourceName.get())) {
-                result.put(each, tableMetaDataLoader.load(each, shardingRule));
-            }
-        }
-        return result;
+        return actualDefaultDataSourceName.isPresent()
+                ? tableMetaDataLoader.load(getAllTableNames(actualDefaultDataSourceName.get()), shardingRule) : Collections.<String, TableMetaData>emptyMap();
     }
     
     private Collection<String> getAllTableNames(final String dataSourceName) throws SQLException {
@@ -34,9 +34,12 @@ import lombok.RequiredArgsConstructor;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -58,6 +61,13 @@ public final class TableMetaDataLoader {
     
     private final int maxConnectionsSizePerQuery;
     
+    private final boolean isSampling;
+    
+    public TableMetaDataLoader(final ShardingDataSourceMetaData shardingDataSourceMetaData, 
+                               final ShardingExecuteEngine executeEngine, final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery) {
+        this(shardingDataSourceMetaData, executeEngine, connectionManager, maxConnectionsSizePerQuery, false);
+    }
+    
     /**
      * Load table meta data.
      *
@@ -67,30 +77,92 @@ public final class TableMetaDataLoader {
      * @throws SQLException SQL exception
      */
     public TableMetaData load(final String logicTableName, final ShardingRule shardingRule) throws SQLException {
-        List<TableMetaData> actualTableMetaDataList = load(shardingRule.getTableRuleByLogicTableName(logicTableName).getDataNodeGroups(), shardingRule.getShardingDataSourceNames());
-        checkUniformed(logicTableName, actualTableMetaDataList);
-        return actualTableMetaDataList.iterator().next();
+        return load(Collections.singletonList(logicTableName), shardingRule).get(logicTableName);
     }
     
-    private List<TableMetaData> load(final Map<String, List<DataNode>> dataNodeGroups, final ShardingDataSourceNames shardingDataSourceNames) throws SQLException {
-        return executeEngine.groupExecute(getDataNodeGroups(dataNodeGroups), new ShardingGroupExecuteCallback<DataNode, TableMetaData>() {
-            
-            @Override
-            public Collection<TableMetaData> execute(final Collection<DataNode> dataNodes, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
-                String dataSourceName = dataNodes.iterator().next().getDataSourceName();
-                DataSourceMetaData dataSourceMetaData = shardingDataSourceMetaData.getActualDataSourceMetaData(dataSourceName);
-                String catalog = null == dataSourceMetaData ? null : dataSourceMetaData.getSchemeName();
-                return load(shardingDataSourceNames.getRawMasterDataSourceName(dataSourceName), catalog, dataNodes);
+    /**
+     * Load table meta data of logic tables.
+     * 
+     * <p>
+     * Actual tables of all logic tables are grouped by data source and loaded together, so different logic tables are loaded in parallel.
+     * Only first actual table of each data source is loaded if sampling, others are regarded as same structure.
+     * </p>
+     *
+     * @param logicTableNames logic table names
+     * @param shardingRule sharding rule
+     * @return table meta data map, key is logic table name
+     * @throws SQLException SQL exception
+     */
+    public Map<String, TableMetaData> load(final Collection<String> logicTableNames, final ShardingRule shardingRule) throws SQLException {
+        Map<String, Collection<DataNode>> logicTableDataNodes = new LinkedHashMap<>(logicTableNames.size(), 1);
+        Map<String, List<DataNode>> dataNodeGroups = new LinkedHashMap<>();
+        for (String each : logicTableNames) {
+            Collection<DataNode> dataNodes = getDataNodes(shardingRule.getTableRuleByLogicTableName(each).getDataNodeGroups());
+            logicTableDataNodes.put(each, dataNodes);
+            addDataNodeGroups(dataNodeGroups, dataNodes);
+        }
+        Map<DataNode, TableMetaData> actualTableMetaDataMap = load(dataNodeGroups, shardingRule.getShardingDataSourceNames());
+        Map<String, TableMetaData> result = new LinkedHashMap<>(logicTableNames.size(), 1);
+        for (Entry<String, Collection<DataNode>> entry : logicTableDataNodes.entrySet()) {
+            List<TableMetaData> actualTableMetaDataList = new LinkedList<>();
+            for (DataNode each : entry.getValue()) {
+                actualTableMetaDataList.add(actualTableMetaDataMap.get(each));
             }
-        });
+            checkUniformed(entry.getKey(), actualTableMetaDataList);
+            result.put(entry.getKey(), actualTableMetaDataList.iterator().next());
+        }
+        return result;
+    }
+    
+    private Collection<DataNode> getDataNodes(final Map<String, List<DataNode>> dataNodeGroups) {
+        Collection<DataNode> result = new LinkedList<>();
+        for (List<DataNode> each : dataNodeGroups.values()) {
+            if (isSampling) {
+                result.add(each.get(0));
+            } else {
+                result.addAll(each);
+            }
+        }
+        return result;
+    }
+    
+    private void addDataNodeGroups(final Map<String, List<DataNode>> dataNodeGroups, final Collection<DataNode> dataNodes) {
+        for (DataNode each : dataNodes) {
+            if (!dataNodeGroups.containsKey(each.getDataSourceName())) {
+                dataNodeGroups.put(each.getDataSourceName(), new LinkedList<DataNode>());
+            }
+            if (!dataNodeGroups.get(each.getDataSourceName()).contains(each)) {
+                dataNodeGroups.get(each.getDataSourceName()).add(each);
+            }
+        }
+    }
+    
+    private Map<DataNode, TableMetaData> load(final Map<String, List<DataNode>> dataNodeGroups, final ShardingDataSourceNames shardingDataSourceNames) throws SQLException {
+        List<Entry<DataNode, TableMetaData>> actualTableMetaDataList = executeEngine.groupExecute(
+                getDataNodeGroups(dataNodeGroups), new ShardingGroupExecuteCallback<DataNode, Entry<DataNode, TableMetaData>>() {
+                    
+                    @Override
+                    public Collection<Entry<DataNode, TableMetaData>> execute(
+                            final Collection<DataNode> dataNodes, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+                        String dataSourceName = dataNodes.iterator().next().getDataSourceName();
+                        DataSourceMetaData dataSourceMetaData = shardingDataSourceMetaData.getActualDataSourceMetaData(dataSourceName);
+                        String catalog = null == dataSourceMetaData ? null : dataSourceMetaData.getSchemeName();
+                        return load(shardingDataSourceNames.getRawMasterDataSourceName(dataSourceName), catalog, dataNodes);
+                    }
+                });
+        Map<DataNode, TableMetaData> result = new HashMap<>(actualTableMetaDataList.size(), 1);
+        for (Entry<DataNode, TableMetaData> each : actualTableMetaDataList) {
+            result.put(each.getKey(), each.getValue());
+        }
+        return result;
     }
     
-    private Collection<TableMetaData> load(final String dataSourceName, final String catalog, final Collection<DataNode> dataNodes) throws SQLException {
-        Collection<TableMetaData> result = new LinkedList<>();
+    private Collection<Entry<DataNode, TableMetaData>> load(final String dataSourceName, final String catalog, final Collection<DataNode> dataNodes) throws SQLException {
+        Collection<Entry<DataNode, TableMetaData>> result = new LinkedList<>();
         try (Connection connection = connectionManager.getConnection(dataSourceName)) {
             for (DataNode each : dataNodes) {
-                result.add(new TableMetaData(
-                        isTableExist(connection, catalog, each.getTableName()) ? getColumnMetaDataList(connection, catalog, each.getTableName()) : Collections.<ColumnMetaData>emptyList()));
+                result.add(new SimpleImmutableEntry<>(each, new TableMetaData(
+                        isTableExist(connection, catalog, each.getTableName()) ? getColumnMetaDataList(connection, catalog, each.getTableName()) : Collections.<ColumnMetaData>emptyList())));
             }
         }
         return result;
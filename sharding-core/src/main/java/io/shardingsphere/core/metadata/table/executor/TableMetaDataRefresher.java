@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metadata.table.executor;
+
+import io.shardingsphere.core.constant.SQLType;
+import io.shardingsphere.core.metadata.table.ColumnMetaData;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.parsing.antlr.sql.statement.ddl.AlterTableStatement;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.ddl.create.table.CreateTableStatement;
+import io.shardingsphere.core.parsing.parser.sql.ddl.drop.table.DropTableStatement;
+import io.shardingsphere.core.rule.ShardingRule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Table meta data refresher for DDL.
+ * 
+ * <p>
+ * Table meta data is refreshed by parse result of DDL at once, so DDL latency does not depend on count of actual tables.
+ * Table meta data is verified with actual tables asynchronously afterwards, because parse result may differ with database, such as column type names.
+ * Verification runs on verify executor of sharding meta data, which is shut down when sharding meta data is closed.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class TableMetaDataRefresher {
+    
+    private final ShardingTableMetaData shardingTableMetaData;
+    
+    private final TableMetaDataLoader tableMetaDataLoader;
+    
+    private final ShardingRule shardingRule;
+    
+    private final ExecutorService verifyExecutor;
+    
+    /**
+     * Refresh table meta data by SQL statement.
+     * 
+     * @param sqlStatement SQL statement
+     * @return future of asynchronous verification, {@code null} if no verification needed
+     */
+    public Future<?> refresh(final SQLStatement sqlStatement) {
+        if (SQLType.DDL != sqlStatement.getType() || sqlStatement.getTables().isEmpty()) {
+            return null;
+        }
+        if (sqlStatement instanceof DropTableStatement) {
+            for (String each : sqlStatement.getTables().getTableNames()) {
+                shardingTableMetaData.put(each, new TableMetaData(Collections.<ColumnMetaData>emptyList()));
+            }
+            return null;
+        }
+        String logicTableName = sqlStatement.getTables().getSingleTableName();
+        TableMetaData tableMetaData = getTableMetaData(sqlStatement);
+        if (null != tableMetaData) {
+            shardingTableMetaData.put(logicTableName, tableMetaData);
+        }
+        return verify(logicTableName);
+    }
+    
+    private TableMetaData getTableMetaData(final SQLStatement sqlStatement) {
+        if (sqlStatement instanceof CreateTableStatement) {
+            return ((CreateTableStatement) sqlStatement).getTableMetaData();
+        }
+        if (sqlStatement instanceof AlterTableStatement) {
+            return ((AlterTableStatement) sqlStatement).getTableMetaData();
+        }
+        return null;
+    }
+    
+    private Future<?> verify(final String logicTableName) {
+        return verifyExecutor.submit(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    TableMetaData actual = tableMetaDataLoader.load(logicTableName, shardingRule);
+                    if (!actual.equals(shardingTableMetaData.get(logicTableName))) {
+                        shardingTableMetaData.put(logicTableName, actual);
+                    }
+                // CHECKSTYLE:OFF
+                } catch (final Exception ex) {
+                    // CHECKSTYLE:ON
+                    log.warn("Can not verify table meta data of `{}`.", logicTableName, ex);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metadata.table.executor;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
+import com.google.common.base.Splitter;
+import com.google.common.hash.Hashing;
+import io.shardingsphere.core.metadata.table.ColumnMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.core.rule.TableRule;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Table meta data snapshot on local disk.
+ * 
+ * <p>
+ * Snapshot is versioned by hash of sharding rule, data source URLs and whether sampling, snapshot of other version is ignored.
+ * One line for one column, which is table name, column name, column type and whether primary key separated by tab.
+ * Table without columns only has table name in line.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+@Slf4j
+public final class TableMetaDataSnapshot {
+    
+    private static final String VERSION_PREFIX = "#version=";
+    
+    private static final char DELIMITER = '\t';
+    
+    private final Path file;
+    
+    private final String version;
+    
+    public TableMetaDataSnapshot(final String file, final ShardingRule shardingRule, final Map<String, String> dataSourceURLs, final boolean isSampling) {
+        this(Paths.get(file), getVersion(shardingRule, dataSourceURLs, isSampling));
+    }
+    
+    private static String getVersion(final ShardingRule shardingRule, final Map<String, String> dataSourceURLs, final boolean isSampling) {
+        StringBuilder result = new StringBuilder();
+        for (Entry<String, String> entry : new TreeMap<>(dataSourceURLs).entrySet()) {
+            result.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        for (TableRule each : shardingRule.getTableRules()) {
+            result.append(each.getLogicTable()).append('=').append(each.getActualDataNodes()).append('\n');
+        }
+        result.append(shardingRule.getShardingDataSourceNames().getDefaultDataSourceName()).append('\n');
+        result.append(shardingRule.getBroadcastTables()).append('\n');
+        result.append("sampling=").append(isSampling).append('\n');
+        return Hashing.md5().hashString(result, Charsets.UTF_8).toString();
+    }
+    
+    /**
+     * Load table meta data from snapshot.
+     * 
+     * @return table meta data map, absent if snapshot does not exist, is unreadable or is different version
+     */
+    public Optional<Map<String, TableMetaData>> load() {
+        if (!Files.isRegularFile(file)) {
+            return Optional.absent();
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, Charsets.UTF_8)) {
+            if (!(VERSION_PREFIX + version).equals(reader.readLine())) {
+                return Optional.absent();
+            }
+            Map<String, Collection<ColumnMetaData>> columnMetaDataMap = new LinkedHashMap<>();
+            String line;
+            while (null != (line = reader.readLine())) {
+                List<String> segments = Splitter.on(DELIMITER).splitToList(line);
+                if (!columnMetaDataMap.containsKey(segments.get(0))) {
+                    columnMetaDataMap.put(segments.get(0), new LinkedList<ColumnMetaData>());
+                }
+                if (segments.size() > 1) {
+                    columnMetaDataMap.get(segments.get(0)).add(new ColumnMetaData(segments.get(1), segments.get(2), Boolean.parseBoolean(segments.get(3))));
+                }
+            }
+            Map<String, TableMetaData> result = new LinkedHashMap<>(columnMetaDataMap.size(), 1);
+            for (Entry<String, Collection<ColumnMetaData>> entry : columnMetaDataMap.entrySet()) {
+                result.put(entry.getKey(), new TableMetaData(entry.getValue()));
+            }
+            return Optional.of(result);
+        } catch (final IOException | IndexOutOfBoundsException ex) {
+            log.warn("Can not load table meta data snapshot from `{}`, ignore it.", file, ex);
+            return Optional.absent();
+        }
+    }
+    
+    /**
+     * Save table meta data to snapshot.
+     * 
+     * <p>
+     * Snapshot is written to temporary file and moved to target, so readers never see partial snapshot.
+     * Failure is logged and ignored, snapshot is only an optimization of startup.
+     * </p>
+     * 
+     * @param tableMetaDataMap table meta data map
+     */
+    public void save(final Map<String, TableMetaData> tableMetaDataMap) {
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            if (null != file.toAbsolutePath().getParent()) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, Charsets.UTF_8)) {
+                writer.write(VERSION_PREFIX + version);
+                writer.newLine();
+                for (Entry<String, TableMetaData> entry : tableMetaDataMap.entrySet()) {
+                    write(writer, entry.getKey(), entry.getValue());
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            log.warn("Can not save table meta data snapshot to `{}`.", file, ex);
+        }
+    }
+    
+    private void write(final BufferedWriter writer, final String tableName, final TableMetaData tableMetaData) throws IOException {
+        if (tableMetaData.getColumnMetaData().isEmpty()) {
+            writer.write(tableName);
+            writer.newLine();
+            return;
+        }
+        for (ColumnMetaData each : tableMetaData.getColumnMetaData()) {
+            writer.write(Joiner.on(DELIMITER).join(tableName, each.getColumnName(), each.getColumnType(), each.isPrimaryKey()));
+            writer.newLine();
+        }
+    }
+}
@@ -17,7 +17,6 @@
 
 package io.shardingsphere.core.parsing;
 
-import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.parsing.cache.ParsingResultCache;
@@ -28,6 +27,8 @@ import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.rule.ShardingRule;
 import lombok.RequiredArgsConstructor;
 
+import java.util.concurrent.Callable;
+
 /**
  * SQL parsing engine.
  *
@@ -44,6 +45,8 @@ public final class SQLParsingEngine {
     
     private final ShardingTableMetaData shardingTableMetaData;
     
+    private final ParsingResultCache parsingResultCache;
+    
     /**
      * Parse SQL.
      * 
@@ -51,19 +54,20 @@ public final class SQLParsingEngine {
      * @return parsed SQL statement
      */
     public SQLStatement parse(final boolean useCache) {
-        Optional<SQLStatement> cachedSQLStatement = getSQLStatementFromCache(useCache);
-        if (cachedSQLStatement.isPresent()) {
-            return cachedSQLStatement.get();
+        if (!useCache) {
+            return parse();
         }
-        LexerEngine lexerEngine = LexerEngineFactory.newInstance(dbType, sql);
-        SQLStatement result = SQLParserFactory.newInstance(dbType, shardingRule, lexerEngine, shardingTableMetaData, sql).parse();
-        if (useCache) {
-            ParsingResultCache.getInstance().put(sql, result);
-        }
-        return result;
+        return parsingResultCache.getSQLStatement(sql, new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                return parse();
+            }
+        });
     }
     
-    private Optional<SQLStatement> getSQLStatementFromCache(final boolean useCache) {
-        return useCache ? Optional.fromNullable(ParsingResultCache.getInstance().getSQLStatement(sql)) : Optional.<SQLStatement>absent();
+    private SQLStatement parse() {
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(dbType, sql);
+        return SQLParserFactory.newInstance(dbType, shardingRule, lexerEngine, shardingTableMetaData, sql).parse();
     }
 }
@@ -69,6 +69,7 @@ public final class FromWhereExtractor implements OptionalSQLSegmentExtractor {
         }
         extractAndFillTableSegment(result, tableReferenceNodes, questionNodeIndexMap);
         extractAndFillWhere(result, questionNodeIndexMap, fromNode.get().getParent());
+        fillWherePosition(result, questionNodes, fromNode.get());
         return Optional.of(result);
     }
     
@@ -142,6 +143,26 @@ public final class FromWhereExtractor implements OptionalSQLSegmentExtractor {
         return Optional.absent();
     }
     
+    private void fillWherePosition(final FromWhereSegment fromWhereSegment, final Collection<ParserRuleContext> questionNodes, final ParserRuleContext fromNode) {
+        Optional<ParserRuleContext> whereNode = ExtractorUtils.findFirstChildNodeNoneRecursive(fromNode.getParent(), RuleName.WHERE_CLAUSE);
+        int whereLastPosition;
+        if (whereNode.isPresent()) {
+            ParserRuleContext exprNode = (ParserRuleContext) whereNode.get().getChild(1);
+            fromWhereSegment.setWhereStartPosition(exprNode.getStart().getStartIndex());
+            whereLastPosition = exprNode.getStop().getStopIndex() + 1;
+        } else {
+            whereLastPosition = fromNode.getStop().getStopIndex() + 1;
+        }
+        fromWhereSegment.setWhereLastPosition(whereLastPosition);
+        int whereParametersIndex = 0;
+        for (ParserRuleContext each : questionNodes) {
+            if (each.getStart().getStartIndex() < whereLastPosition) {
+                whereParametersIndex++;
+            }
+        }
+        fromWhereSegment.setWhereParametersIndex(whereParametersIndex);
+    }
+    
     private void extractAndFillWhere(final FromWhereSegment fromWhereSegment, final Map<ParserRuleContext, Integer> questionNodeIndexMap, final ParserRuleContext ancestorNode) {
         Optional<ParserRuleContext> whereNode = ExtractorUtils.findFirstChildNodeNoneRecursive(ancestorNode, RuleName.WHERE_CLAUSE);
         if (!whereNode.isPresent()) {
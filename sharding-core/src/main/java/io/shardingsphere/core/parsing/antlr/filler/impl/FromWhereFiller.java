@@ -75,6 +75,11 @@ public final class FromWhereFiller implements SQLStatementFiller {
                 new SubqueryFiller().fill(each, sqlStatement, sql, shardingRule, shardingTableMetaData);
             }
         }
+        if (sqlStatement instanceof SelectStatement) {
+            ((SelectStatement) sqlStatement).setWhereStartPosition(fromWhereSegment.getWhereStartPosition());
+            ((SelectStatement) sqlStatement).setWhereLastPosition(fromWhereSegment.getWhereLastPosition());
+            ((SelectStatement) sqlStatement).setWhereParametersIndex(fromWhereSegment.getWhereParametersIndex());
+        }
         int count = 0;
         while (count < fromWhereSegment.getParameterCount()) {
             sqlStatement.increaseParametersIndex();
@@ -19,6 +19,7 @@ package io.shardingsphere.core.parsing.antlr.parser;
 
 import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.antlr.parser.impl.SQLParser;
 import io.shardingsphere.core.parsing.antlr.parser.impl.SQLParserFactory;
 import io.shardingsphere.core.parsing.antlr.rule.registry.ParsingRuleRegistry;
 import io.shardingsphere.core.parsing.antlr.rule.registry.statement.SQLStatementRule;
@@ -48,7 +49,13 @@ public final class SQLParserEngine {
      * @return Abstract syntax tree of SQL
      */
     public SQLAST parse() {
-        ParseTree parseTree = SQLParserFactory.newInstance(databaseType, sql).execute().getChild(0);
+        SQLParser sqlParser = SQLParserFactory.getInstance(databaseType, sql);
+        ParseTree parseTree;
+        try {
+            parseTree = sqlParser.execute().getChild(0);
+        } finally {
+            SQLParserFactory.release(sqlParser);
+        }
         if (parseTree instanceof ErrorNode) {
             throw new SQLParsingUnsupportedException(String.format("Unsupported SQL of `%s`", sql));
         }
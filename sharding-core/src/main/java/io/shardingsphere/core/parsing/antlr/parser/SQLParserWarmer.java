@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.antlr.parser;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.io.CharStreams;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.exception.ShardingException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * SQL parser warmer.
+ * 
+ * <p>
+ * Parse SQL corpus at startup to build shared DFA of SQL parsers, so first requests do not pay for cold ATN simulation.
+ * Each line of SQL file is one SQL, blank lines and lines start with {@code --} are ignored.
+ * Unsupported SQL is skipped, and SQL which fails with other exception is skipped with a warning.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class SQLParserWarmer {
+    
+    /**
+     * Warm up SQL parser with SQL file.
+     * 
+     * <p>SQL file is loaded from class path first, then from file system.</p>
+     * 
+     * @param databaseType database type
+     * @param sqlFile SQL file, warm up is skipped if empty
+     * @return count of SQL parsed successfully
+     */
+    public static int warmUp(final DatabaseType databaseType, final String sqlFile) {
+        if (Strings.isNullOrEmpty(sqlFile)) {
+            return 0;
+        }
+        return warmUp(databaseType, loadSQLs(sqlFile));
+    }
+    
+    /**
+     * Warm up SQL parser with SQLs.
+     * 
+     * @param databaseType database type
+     * @param sqls SQLs
+     * @return count of SQL parsed successfully
+     */
+    public static int warmUp(final DatabaseType databaseType, final Collection<String> sqls) {
+        int result = 0;
+        for (String each : sqls) {
+            try {
+                new SQLParserEngine(databaseType, each).parse();
+                result++;
+            } catch (final ShardingException ignored) {
+            } catch (final RuntimeException ex) {
+                log.warn("Can not parse SQL `{}` to warm up parser.", each, ex);
+            }
+        }
+        return result;
+    }
+    
+    @SneakyThrows
+    private static Collection<String> loadSQLs(final String sqlFile) {
+        try (Reader reader = new InputStreamReader(getInputStream(sqlFile), Charsets.UTF_8)) {
+            List<String> lines = CharStreams.readLines(reader);
+            Collection<String> result = new LinkedList<>();
+            for (String each : lines) {
+                String sql = each.trim();
+                if (sql.isEmpty() || sql.startsWith("--")) {
+                    continue;
+                }
+                result.add(sql.endsWith(";") ? sql.substring(0, sql.length() - 1) : sql);
+            }
+            return result;
+        }
+    }
+    
+    @SneakyThrows
+    private static InputStream getInputStream(final String sqlFile) {
+        InputStream result = SQLParserWarmer.class.getClassLoader().getResourceAsStream(sqlFile);
+        if (null != result) {
+            return result;
+        }
+        File file = new File(sqlFile);
+        Preconditions.checkArgument(file.isFile(), "Cannot load SQL file to warm up parser: %s", sqlFile);
+        return new FileInputStream(file);
+    }
+}
@@ -34,6 +34,8 @@ import org.antlr.v4.runtime.dfa.DFAState;
  * 
  * <p>Failed calculating alt, try again with ID.</p>
  * 
+ * <p>Token stream and context of last prediction are cleared when parser is reset, so parse tree is not kept by simulator.</p>
+ * 
  * @author duhongjun
  */
 public final class AdvancedParserATNSimulator extends ParserATNSimulator {
@@ -45,6 +47,12 @@ public final class AdvancedParserATNSimulator extends ParserATNSimulator {
         this.identifierTokenIndex = identifierTokenIndex;
     }
     
+    @Override
+    public void reset() {
+        _input = null;
+        _outerContext = null;
+    }
+    
     @Override
     protected int execATN(final DFA dfa, final DFAState s0, final TokenStream input, final int startIndex, final ParserRuleContext outerContext) {
         try {
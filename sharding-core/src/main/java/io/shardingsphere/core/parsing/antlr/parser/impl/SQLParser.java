@@ -18,6 +18,7 @@
 package io.shardingsphere.core.parsing.antlr.parser.impl;
 
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.TokenStream;
 
 /**
  * SQL parser.
@@ -32,4 +33,18 @@ public interface SQLParser {
      * @return AST
      */
     ParserRuleContext execute();
+    
+    /**
+     * Get token stream.
+     * 
+     * @return token stream
+     */
+    TokenStream getTokenStream();
+    
+    /**
+     * Set token stream and reset parser.
+     * 
+     * @param input token stream
+     */
+    void setTokenStream(TokenStream input);
 }
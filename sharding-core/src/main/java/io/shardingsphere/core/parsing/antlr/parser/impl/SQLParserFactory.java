@@ -35,24 +35,61 @@ import io.shardingsphere.core.parsing.antlr.parser.impl.dialect.SQLServerParser;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * SQL parser factory.
  * 
+ * <p>
+ * Lexer and parser are held per thread and per database type, they are reset with new SQL instead of created for every SQL.
+ * Lexer and parser are released after parsing, so they do not keep SQL, tokens and parse tree of current thread alive.
+ * DFA of generated parser is static, so it is shared by all parsers of same database type.
+ * </p>
+ * 
  * @author duhongjun
  * @author zhangliang
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserFactory {
     
+    private static final ThreadLocal<Map<DatabaseType, SQLParser>> SQL_PARSERS = new ThreadLocal<Map<DatabaseType, SQLParser>>() {
+        
+        @Override
+        protected Map<DatabaseType, SQLParser> initialValue() {
+            return new EnumMap<>(DatabaseType.class);
+        }
+    };
+    
     /** 
-     * New instance of SQL parser.
+     * Get SQL parser of current thread.
      * 
      * @param databaseType database type
      * @param sql SQL
      * @return SQL parser
      */
-    public static SQLParser newInstance(final DatabaseType databaseType, final String sql) {
-        return createSQLParser(databaseType, createLexer(databaseType, sql));
+    public static SQLParser getInstance(final DatabaseType databaseType, final String sql) {
+        SQLParser result = SQL_PARSERS.get().get(databaseType);
+        if (null == result) {
+            result = createSQLParser(databaseType, createLexer(databaseType, sql));
+            SQL_PARSERS.get().put(databaseType, result);
+            return result;
+        }
+        Lexer lexer = (Lexer) result.getTokenStream().getTokenSource();
+        lexer.setInputStream(CharStreams.fromString(sql));
+        result.setTokenStream(new CommonTokenStream(lexer));
+        return result;
+    }
+    
+    /**
+     * Release SQL and parse tree referenced by SQL parser of current thread.
+     * 
+     * @param sqlParser SQL parser
+     */
+    public static void release(final SQLParser sqlParser) {
+        Lexer lexer = (Lexer) sqlParser.getTokenStream().getTokenSource();
+        lexer.setInputStream(CharStreams.fromString(""));
+        sqlParser.setTokenStream(new CommonTokenStream(lexer));
     }
     
     private static Lexer createLexer(final DatabaseType databaseType, final String sql) {
@@ -43,4 +43,13 @@ public final class FromWhereSegment implements SQLSegment {
     
     @Setter
     private Integer parameterCount;
+    
+    @Setter
+    private int whereStartPosition = -1;
+    
+    @Setter
+    private int whereLastPosition = -1;
+    
+    @Setter
+    private int whereParametersIndex = -1;
 }
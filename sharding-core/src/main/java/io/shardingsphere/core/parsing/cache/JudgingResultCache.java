@@ -0,0 +1,155 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.shardingsphere.core.constant.SQLType;
+import io.shardingsphere.core.parsing.SQLJudgeEngine;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.DMLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Judging result cache.
+ *
+ * <p>
+ * SQL starts with {@code SELECT}, {@code INSERT}, {@code UPDATE} or {@code DELETE} is judged by prefix only, without lexing and caching.
+ * Other SQL is judged by {@code SQLJudgeEngine}, and judged SQL statement is cached and shared, so it should not be modified.
+ * Judging does not depend on sharding rule, so one cache instance is shared by master-slave router and Sharding-Proxy handlers.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class JudgingResultCache {
+    
+    private static final long DEFAULT_MAXIMUM_SIZE = 4096L;
+    
+    private static final JudgingResultCache INSTANCE = new JudgingResultCache(DEFAULT_MAXIMUM_SIZE);
+    
+    private final Cache<String, SQLStatement> cache;
+    
+    public JudgingResultCache(final long maximumSize) {
+        cache = CacheBuilder.newBuilder().concurrencyLevel(Runtime.getRuntime().availableProcessors()).maximumSize(maximumSize).build();
+    }
+    
+    /**
+     * Get instance.
+     *
+     * @return instance
+     */
+    public static JudgingResultCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get SQL type.
+     *
+     * @param sql SQL
+     * @return SQL type
+     */
+    public SQLType getSQLType(final String sql) {
+        Optional<SQLType> result = judgeByPrefix(sql);
+        return result.isPresent() ? result.get() : getCachedSQLStatement(sql).getType();
+    }
+    
+    /**
+     * Get judged SQL statement.
+     *
+     * @param sql SQL
+     * @return judged SQL statement
+     */
+    public SQLStatement getSQLStatement(final String sql) {
+        Optional<SQLType> sqlType = judgeByPrefix(sql);
+        if (!sqlType.isPresent()) {
+            return getCachedSQLStatement(sql);
+        }
+        if (SQLType.DQL == sqlType.get()) {
+            return new SelectStatement();
+        }
+        return startsWith(sql, getBeginPosition(sql), "INSERT") ? new InsertStatement() : new DMLStatement();
+    }
+    
+    private SQLStatement getCachedSQLStatement(final String sql) {
+        try {
+            return cache.get(sql, new Callable<SQLStatement>() {
+                
+                @Override
+                public SQLStatement call() {
+                    return new SQLJudgeEngine(sql).judge();
+                }
+            });
+        } catch (final ExecutionException | UncheckedExecutionException ex) {
+            throw Throwables.propagate(ex.getCause());
+        }
+    }
+    
+    private Optional<SQLType> judgeByPrefix(final String sql) {
+        int beginPosition = getBeginPosition(sql);
+        if (startsWith(sql, beginPosition, "SELECT")) {
+            return Optional.of(SQLType.DQL);
+        }
+        if (startsWith(sql, beginPosition, "INSERT") || startsWith(sql, beginPosition, "UPDATE") || startsWith(sql, beginPosition, "DELETE")) {
+            return Optional.of(SQLType.DML);
+        }
+        return Optional.absent();
+    }
+    
+    private int getBeginPosition(final String sql) {
+        int result = 0;
+        while (result < sql.length() && Character.isWhitespace(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private boolean startsWith(final String sql, final int beginPosition, final String keyword) {
+        int endPosition = beginPosition + keyword.length();
+        if (!sql.regionMatches(true, beginPosition, keyword, 0, keyword.length())) {
+            return false;
+        }
+        if (endPosition == sql.length()) {
+            return true;
+        }
+        char ch = sql.charAt(endPosition);
+        return !Character.isLetterOrDigit(ch) && '_' != ch && '$' != ch;
+    }
+    
+    /**
+     * Get cached SQL size.
+     *
+     * @return cached SQL size
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
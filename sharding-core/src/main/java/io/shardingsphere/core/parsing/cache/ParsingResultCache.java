@@ -17,37 +17,43 @@
 
 package io.shardingsphere.core.parsing.cache;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
 
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Parsing result cache.
  *
+ * <p>
+ * Cache is bounded by maximum size and evicts least recently used SQL when full.
+ * One cache instance should be held by one sharding runtime context, so different sharding rules do not share parsing results.
+ * </p>
+ *
  * @author zhangliang
  */
-@NoArgsConstructor(access = AccessLevel.NONE)
 public final class ParsingResultCache {
     
-    private static final ParsingResultCache INSTANCE = new ParsingResultCache();
+    private static final long DEFAULT_MAXIMUM_SIZE = 65535L;
     
-    private final Map<String, SQLStatement> cache = new WeakHashMap<>(65535, 1);
+    private final Cache<String, SQLStatement> cache;
     
-    /**
-     * Get parsing result cache instance.
-     * 
-     * @return parsing result cache instance
-     */
-    public static ParsingResultCache getInstance() {
-        return INSTANCE;
+    public ParsingResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+    
+    public ParsingResultCache(final long maximumSize) {
+        cache = CacheBuilder.newBuilder().concurrencyLevel(Runtime.getRuntime().availableProcessors()).maximumSize(maximumSize).recordStats().build();
     }
     
     /**
      * Put SQL and parsing result into cache.
-     * 
+     *
      * @param sql SQL
      * @param sqlStatement SQL statement
      */
@@ -59,16 +65,51 @@ public final class ParsingResultCache {
      * Get SQL statement.
      *
      * @param sql SQL
-     * @return SQL statement
+     * @return SQL statement, return {@code null} if absent
      */
     public SQLStatement getSQLStatement(final String sql) {
-        return cache.get(sql);
+        return cache.getIfPresent(sql);
+    }
+    
+    /**
+     * Get SQL statement, parse and cache it via loader if absent.
+     *
+     * <p>Concurrent calls for same absent SQL will only parse once.</p>
+     *
+     * @param sql SQL
+     * @param loader loader to parse SQL
+     * @return SQL statement
+     */
+    public SQLStatement getSQLStatement(final String sql, final Callable<SQLStatement> loader) {
+        try {
+            return cache.get(sql, loader);
+        } catch (final ExecutionException | UncheckedExecutionException ex) {
+            throw Throwables.propagate(ex.getCause());
+        }
+    }
+    
+    /**
+     * Get cached SQL size.
+     *
+     * @return cached SQL size
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Get cache statistics, include hit, miss, eviction and load time.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
     }
     
     /**
      * Clear cache.
      */
-    public synchronized void clear() {
-        cache.clear();
+    public void clear() {
+        cache.invalidateAll();
     }
 }
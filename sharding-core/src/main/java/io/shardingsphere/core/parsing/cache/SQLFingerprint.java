@@ -0,0 +1,428 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.cache;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.util.NumberUtil;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL fingerprint.
+ *
+ * <p>
+ * Fingerprint is SQL whose literals are replaced by placeholders in one pass, literals are extracted as parameters in order.
+ * SQL with same shape but different literals has same fingerprint, so parsing result of fingerprint can be cached and reused.
+ * </p>
+ *
+ * <p>
+ * Only literals in value positions are replaced: after comparison operators, in {@code IN} and {@code VALUES} lists, 
+ * after {@code BETWEEN} and its {@code AND}, after {@code LIMIT} and {@code OFFSET}.
+ * SQL which is not DQL or DML, or contains comments, placeholders or backslash in string, is not fingerprinted.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class SQLFingerprint {
+    
+    private static final String[] FINGERPRINT_STATEMENT_KEYWORDS = {"SELECT", "INSERT", "UPDATE", "DELETE"};
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<Object, String> literals;
+    
+    /**
+     * Create SQL fingerprint.
+     *
+     * @param sql SQL with literals
+     * @return SQL fingerprint, return absent if SQL can not be fingerprinted or has no literal to be replaced
+     */
+    public static Optional<SQLFingerprint> newInstance(final String sql) {
+        return new Scanner(sql).scan();
+    }
+    
+    /**
+     * Restore literals into SQL with placeholders.
+     *
+     * @param sql SQL with placeholders, which is rewritten from fingerprint
+     * @param parameters parameters of placeholders
+     * @return SQL with literals, return absent if placeholders and parameters are not matched
+     */
+    public Optional<String> restore(final String sql, final List<Object> parameters) {
+        StringBuilder result = new StringBuilder(sql.length() + 16 * parameters.size());
+        int parameterIndex = 0;
+        int position = 0;
+        while (position < sql.length()) {
+            char current = sql.charAt(position);
+            if ('\'' == current || '"' == current || '`' == current) {
+                int end = getQuotedEnd(sql, position, current);
+                if (-1 == end) {
+                    return Optional.absent();
+                }
+                result.append(sql, position, end);
+                position = end;
+                continue;
+            }
+            if ('?' == current) {
+                if (parameterIndex >= parameters.size()) {
+                    return Optional.absent();
+                }
+                Optional<String> literal = getLiteral(parameters.get(parameterIndex++));
+                if (!literal.isPresent()) {
+                    return Optional.absent();
+                }
+                result.append(literal.get());
+            } else {
+                result.append(current);
+            }
+            position++;
+        }
+        return parameterIndex == parameters.size() ? Optional.of(result.toString()) : Optional.<String>absent();
+    }
+    
+    private Optional<String> getLiteral(final Object parameter) {
+        String result = literals.get(parameter);
+        if (null != result) {
+            return Optional.of(result);
+        }
+        if (parameter instanceof Integer || parameter instanceof Long || parameter instanceof Short || parameter instanceof Byte) {
+            return Optional.of(parameter.toString());
+        }
+        return Optional.absent();
+    }
+    
+    private static int getQuotedEnd(final String sql, final int beginPosition, final char quote) {
+        int position = beginPosition + 1;
+        while (position < sql.length()) {
+            if (quote == sql.charAt(position)) {
+                if (position + 1 < sql.length() && quote == sql.charAt(position + 1)) {
+                    position += 2;
+                    continue;
+                }
+                return position + 1;
+            }
+            position++;
+        }
+        return -1;
+    }
+    
+    private static boolean isIdentifierBegin(final char ch) {
+        return ch >= 'A' && ch <= 'Z' || ch >= 'a' && ch <= 'z' || '_' == ch || '$' == ch;
+    }
+    
+    private static boolean isIdentifierChar(final char ch) {
+        return isIdentifierBegin(ch) || isDigital(ch) || '#' == ch;
+    }
+    
+    private static boolean isDigital(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+    
+    private enum Position {
+        
+        VALUE, LIST_ITEM, LIMIT_VALUE, BETWEEN_VALUE, IN, OTHER
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Scanner {
+        
+        private final String sql;
+        
+        private final StringBuilder fingerprint = new StringBuilder();
+        
+        private final List<Object> parameters = new ArrayList<>();
+        
+        private final Map<Object, String> literals = new IdentityHashMap<>();
+        
+        private final LinkedList<Boolean> listParentheses = new LinkedList<>();
+        
+        private int position;
+        
+        private Position previous = Position.OTHER;
+        
+        private boolean inValues;
+        
+        private boolean betweenAndExpected;
+        
+        private boolean limitCommaExpected;
+        
+        Optional<SQLFingerprint> scan() {
+            if (sql.indexOf('\\') >= 0 || !isFingerprintStatement()) {
+                return Optional.absent();
+            }
+            while (position < sql.length()) {
+                if (!scanNext()) {
+                    return Optional.absent();
+                }
+            }
+            return parameters.isEmpty() ? Optional.<SQLFingerprint>absent() : Optional.of(new SQLFingerprint(fingerprint.toString(), parameters, literals));
+        }
+        
+        private boolean isFingerprintStatement() {
+            int begin = 0;
+            while (begin < sql.length() && Character.isWhitespace(sql.charAt(begin))) {
+                begin++;
+            }
+            for (String each : FINGERPRINT_STATEMENT_KEYWORDS) {
+                int end = begin + each.length();
+                if (sql.regionMatches(true, begin, each, 0, each.length()) && (end == sql.length() || !isIdentifierChar(sql.charAt(end)))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        private boolean scanNext() {
+            char current = sql.charAt(position);
+            if (Character.isWhitespace(current)) {
+                fingerprint.append(current);
+                position++;
+                return true;
+            }
+            if (isCommentBegin(current) || '?' == current) {
+                return false;
+            }
+            if (isLiteralAllowed() && ('\'' == current || isNumberBegin(current)) && scanLiteral()) {
+                return true;
+            }
+            if ('\'' == current || '"' == current || '`' == current) {
+                return scanQuoted(current);
+            }
+            if (isIdentifierBegin(current)) {
+                scanWord();
+                return true;
+            }
+            if (isDigital(current)) {
+                scanOther();
+                return true;
+            }
+            return scanSymbol(current);
+        }
+        
+        private boolean isCommentBegin(final char current) {
+            char next = position + 1 < sql.length() ? sql.charAt(position + 1) : 0;
+            return '#' == current || '-' == current && '-' == next || '/' == current && ('*' == next || '/' == next);
+        }
+        
+        private boolean isLiteralAllowed() {
+            return Position.VALUE == previous || Position.LIST_ITEM == previous || Position.LIMIT_VALUE == previous || Position.BETWEEN_VALUE == previous;
+        }
+        
+        private boolean isNumberBegin(final char current) {
+            return isDigital(current) || '-' == current && position + 1 < sql.length() && isDigital(sql.charAt(position + 1));
+        }
+        
+        private boolean scanLiteral() {
+            int end;
+            Object value;
+            if ('\'' == sql.charAt(position)) {
+                end = getQuotedEnd(sql, position, '\'');
+                if (-1 == end) {
+                    return false;
+                }
+                value = sql.substring(position + 1, end - 1);
+            } else {
+                end = getNumberEnd();
+                if (-1 == end) {
+                    return false;
+                }
+                String number = sql.substring(position, end);
+                value = number.indexOf('.') >= 0 || number.indexOf('e') >= 0 || number.indexOf('E') >= 0 ? Double.parseDouble(number) : NumberUtil.getExactlyNumber(number, 10);
+            }
+            if (!isLiteralEnd(end)) {
+                return false;
+            }
+            fingerprint.append('?');
+            parameters.add(value);
+            literals.put(value, sql.substring(position, end));
+            position = end;
+            betweenAndExpected = Position.BETWEEN_VALUE == previous;
+            limitCommaExpected = Position.LIMIT_VALUE == previous;
+            previous = Position.OTHER;
+            return true;
+        }
+        
+        private int getNumberEnd() {
+            int result = position;
+            if ('-' == sql.charAt(result)) {
+                result++;
+            }
+            result = skipDigits(result);
+            if (result < sql.length() && '.' == sql.charAt(result)) {
+                result = skipDigits(result + 1);
+            }
+            if (result < sql.length() && ('e' == sql.charAt(result) || 'E' == sql.charAt(result))) {
+                result++;
+                if (result < sql.length() && ('+' == sql.charAt(result) || '-' == sql.charAt(result))) {
+                    result++;
+                }
+                int exponentBegin = result;
+                result = skipDigits(result);
+                if (exponentBegin == result) {
+                    return -1;
+                }
+            }
+            return result < sql.length() && (isIdentifierChar(sql.charAt(result)) || '.' == sql.charAt(result)) ? -1 : result;
+        }
+        
+        private int skipDigits(final int beginPosition) {
+            int result = beginPosition;
+            while (result < sql.length() && isDigital(sql.charAt(result))) {
+                result++;
+            }
+            return result;
+        }
+        
+        private boolean isLiteralEnd(final int end) {
+            int next = end;
+            while (next < sql.length() && Character.isWhitespace(sql.charAt(next))) {
+                next++;
+            }
+            if (next == sql.length()) {
+                return true;
+            }
+            char nextChar = sql.charAt(next);
+            return ')' == nextChar || ',' == nextChar || ';' == nextChar || next > end && isIdentifierBegin(nextChar);
+        }
+        
+        private boolean scanQuoted(final char quote) {
+            int end = getQuotedEnd(sql, position, quote);
+            if (-1 == end) {
+                return false;
+            }
+            fingerprint.append(sql, position, end);
+            position = end;
+            leaveList();
+            markOther();
+            return true;
+        }
+        
+        private void scanWord() {
+            int end = position;
+            while (end < sql.length() && isIdentifierChar(sql.charAt(end))) {
+                end++;
+            }
+            Position current = Position.OTHER;
+            if (isWord(end, "IN")) {
+                current = Position.IN;
+            } else if (isWord(end, "LIMIT") || isWord(end, "OFFSET")) {
+                current = Position.LIMIT_VALUE;
+            } else if (isWord(end, "BETWEEN") || betweenAndExpected && isWord(end, "AND")) {
+                current = Position.BETWEEN_VALUE;
+            } else if (listParentheses.isEmpty() && (isWord(end, "VALUES") || isWord(end, "VALUE"))) {
+                inValues = true;
+            }
+            fingerprint.append(sql, position, end);
+            position = end;
+            leaveList();
+            markOther();
+            previous = current;
+        }
+        
+        private boolean isWord(final int end, final String word) {
+            return end - position == word.length() && sql.regionMatches(true, position, word, 0, word.length());
+        }
+        
+        private void scanOther() {
+            int end = position;
+            while (end < sql.length() && (isIdentifierChar(sql.charAt(end)) || '.' == sql.charAt(end))) {
+                end++;
+            }
+            fingerprint.append(sql, position, end);
+            position = end;
+            leaveList();
+            markOther();
+        }
+        
+        private boolean scanSymbol(final char current) {
+            if ('<' == current || '>' == current || '=' == current || '!' == current) {
+                int end = position;
+                while (end < sql.length() && ('<' == sql.charAt(end) || '>' == sql.charAt(end) || '=' == sql.charAt(end) || '!' == sql.charAt(end))) {
+                    end++;
+                }
+                String operator = sql.substring(position, end);
+                fingerprint.append(operator);
+                position = end;
+                leaveList();
+                markOther();
+                previous = isComparisonOperator(operator) ? Position.VALUE : Position.OTHER;
+                return true;
+            }
+            fingerprint.append(current);
+            position++;
+            if ('(' == current) {
+                boolean isList = Position.IN == previous || inValues && listParentheses.isEmpty();
+                leaveList();
+                markOther();
+                listParentheses.push(isList);
+                previous = isList ? Position.LIST_ITEM : Position.OTHER;
+                return true;
+            }
+            if (')' == current) {
+                if (listParentheses.isEmpty()) {
+                    return false;
+                }
+                listParentheses.pop();
+                markOther();
+                return true;
+            }
+            if (',' == current) {
+                boolean isLimit = limitCommaExpected;
+                markOther();
+                if (!listParentheses.isEmpty() && listParentheses.peek()) {
+                    previous = Position.LIST_ITEM;
+                } else if (isLimit) {
+                    previous = Position.LIMIT_VALUE;
+                }
+                return true;
+            }
+            leaveList();
+            markOther();
+            return true;
+        }
+        
+        private boolean isComparisonOperator(final String operator) {
+            return "=".equals(operator) || "<>".equals(operator) || "!=".equals(operator) || "<".equals(operator) || ">".equals(operator) || "<=".equals(operator) || ">=".equals(operator);
+        }
+        
+        private void leaveList() {
+            if (!listParentheses.isEmpty() && listParentheses.peek()) {
+                listParentheses.pop();
+                listParentheses.push(false);
+            }
+        }
+        
+        private void markOther() {
+            previous = Position.OTHER;
+            betweenAndExpected = false;
+            limitCommaExpected = false;
+        }
+    }
+}
@@ -24,45 +24,54 @@ import io.shardingsphere.core.parsing.lexer.token.Assist;
 import io.shardingsphere.core.parsing.lexer.token.Token;
 import io.shardingsphere.core.parsing.parser.exception.SQLParsingException;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Lexical analysis.
  * 
+ * <p>One tokenizer is reused for whole input, skipping whitespace and comments does not create any object.</p>
+ * 
  * @author zhangliang 
  */
-@RequiredArgsConstructor
 public class Lexer {
     
     @Getter
     private final String input;
     
-    private final Dictionary dictionary;
+    private final Tokenizer tokenizer;
     
     private int offset;
     
     @Getter
     private Token currentToken;
     
+    @Getter
+    private int currentTokenBeginPosition;
+    
+    public Lexer(final String input, final Dictionary dictionary) {
+        this.input = input;
+        tokenizer = new Tokenizer(input, dictionary, 0);
+    }
+    
     /**
      * Analyse next token.
      */
     public final void nextToken() {
         skipIgnoredToken();
+        currentTokenBeginPosition = offset;
         if (isVariableBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanVariable();
+            currentToken = getTokenizer(offset).scanVariable();
         } else if (isNCharBegin()) {
-            currentToken = new Tokenizer(input, dictionary, ++offset).scanChars();
+            currentToken = getTokenizer(++offset).scanChars();
         } else if (isIdentifierBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanIdentifier();
+            currentToken = getTokenizer(offset).scanIdentifier();
         } else if (isHexDecimalBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanHexDecimal();
+            currentToken = getTokenizer(offset).scanHexDecimal();
         } else if (isNumberBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanNumber();
+            currentToken = getTokenizer(offset).scanNumber();
         } else if (isSymbolBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanSymbol();
+            currentToken = getTokenizer(offset).scanSymbol();
         } else if (isCharsBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanChars();
+            currentToken = getTokenizer(offset).scanChars();
         } else if (isEnd()) {
             currentToken = new Token(Assist.END, "", offset);
         } else {
@@ -72,17 +81,22 @@ public class Lexer {
     }
     
     private void skipIgnoredToken() {
-        offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+        offset = getTokenizer(offset).skipWhitespace();
         while (isHintBegin()) {
-            offset = new Tokenizer(input, dictionary, offset).skipHint();
-            offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+            offset = getTokenizer(offset).skipHint();
+            offset = getTokenizer(offset).skipWhitespace();
         }
         while (isCommentBegin()) {
-            offset = new Tokenizer(input, dictionary, offset).skipComment();
-            offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+            offset = getTokenizer(offset).skipComment();
+            offset = getTokenizer(offset).skipWhitespace();
         }
     }
     
+    private Tokenizer getTokenizer(final int offset) {
+        tokenizer.setOffset(offset);
+        return tokenizer;
+    }
+    
     protected boolean isHintBegin() {
         return false;
     }
@@ -79,6 +79,17 @@ public final class LexerEngine {
         return lexer.getCurrentToken();
     }
     
+    /**
+     * Get begin position of current token.
+     * 
+     * <p>Quotes and prefix of chars token are included, which are excluded from literals.</p>
+     * 
+     * @return begin position of current token
+     */
+    public int getCurrentTokenBeginPosition() {
+        return lexer.getCurrentTokenBeginPosition();
+    }
+    
     /**
      * skip all tokens that inside parentheses.
      *
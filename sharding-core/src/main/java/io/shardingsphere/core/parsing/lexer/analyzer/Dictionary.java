@@ -21,23 +21,41 @@ import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
 import io.shardingsphere.core.parsing.lexer.token.Keyword;
 import io.shardingsphere.core.parsing.lexer.token.TokenType;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Token dictionary.
+ * 
+ * <p>
+ * Keywords are kept in open addressing hash table, and looked up by range of input case insensitively.
+ * Looking up identifier does not create upper case string or any other object.
+ * </p>
  *
  * @author zhangliang
  */
 public final class Dictionary {
     
-    private final Map<String, Keyword> tokens = new HashMap<>(1024);
+    private final String[] keys;
+    
+    private final Keyword[] keywords;
+    
+    private final int mask;
     
     public Dictionary(final Keyword... dialectKeywords) {
-        fill(dialectKeywords);
+        Map<String, Keyword> tokens = new LinkedHashMap<>(1024);
+        fill(tokens, dialectKeywords);
+        int capacity = Integer.highestOneBit(tokens.size() * 4 - 1);
+        keys = new String[capacity];
+        keywords = new Keyword[capacity];
+        mask = capacity - 1;
+        for (Entry<String, Keyword> entry : tokens.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
     }
     
-    private void fill(final Keyword... dialectKeywords) {
+    private void fill(final Map<String, Keyword> tokens, final Keyword... dialectKeywords) {
         for (DefaultKeyword each : DefaultKeyword.values()) {
             tokens.put(each.name(), each);
         }
@@ -46,16 +64,35 @@ public final class Dictionary {
         }
     }
     
-    TokenType findTokenType(final String literals, final TokenType defaultTokenType) {
-        String key = null == literals ? null : literals.toUpperCase();
-        return tokens.containsKey(key) ? tokens.get(key) : defaultTokenType;
+    private void put(final String key, final Keyword keyword) {
+        int index = hash(key, 0, key.length()) & mask;
+        while (null != keys[index]) {
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        keywords[index] = keyword;
     }
     
-    TokenType findTokenType(final String literals) {
-        String key = null == literals ? null : literals.toUpperCase();
-        if (tokens.containsKey(key)) {
-            return tokens.get(key);
+    TokenType findTokenType(final String input, final int beginPosition, final int endPosition, final TokenType defaultTokenType) {
+        int index = hash(input, beginPosition, endPosition) & mask;
+        while (null != keys[index]) {
+            if (keys[index].length() == endPosition - beginPosition && keys[index].regionMatches(true, 0, input, beginPosition, endPosition - beginPosition)) {
+                return keywords[index];
+            }
+            index = (index + 1) & mask;
         }
-        throw new IllegalArgumentException();
+        return defaultTokenType;
+    }
+    
+    private int hash(final String input, final int beginPosition, final int endPosition) {
+        int result = 0;
+        for (int i = beginPosition; i < endPosition; i++) {
+            result = 31 * result + toUpperCase(input.charAt(i));
+        }
+        return result ^ result >>> 16;
+    }
+    
+    private char toUpperCase(final char ch) {
+        return ch >= 'a' && ch <= 'z' ? (char) (ch - 'a' + 'A') : ch;
     }
 }
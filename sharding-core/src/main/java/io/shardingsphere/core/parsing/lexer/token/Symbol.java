@@ -75,6 +75,8 @@ public enum Symbol implements TokenType, Keyword {
     
     private static Map<String, Symbol> symbols = new HashMap<>(128);
     
+    private static Symbol[] allSymbols = Symbol.values();
+    
     @Getter
     private static Symbol[] operators;
     
@@ -97,4 +99,22 @@ public enum Symbol implements TokenType, Keyword {
     public static Symbol literalsOf(final String literals) {
         return symbols.get(literals);
     }
+    
+    /**
+     * Find symbol by range of input.
+     * 
+     * @param input input
+     * @param beginPosition begin position of literals
+     * @param endPosition end position of literals
+     * @return symbol, return {@code null} if absent
+     */
+    public static Symbol literalsOf(final String input, final int beginPosition, final int endPosition) {
+        int length = endPosition - beginPosition;
+        for (Symbol each : allSymbols) {
+            if (each.literals.length() == length && input.regionMatches(beginPosition, each.literals, 0, length)) {
+                return each;
+            }
+        }
+        return null;
+    }
 }
@@ -18,20 +18,51 @@
 package io.shardingsphere.core.parsing.lexer.token;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Token.
  *
+ * <p>Token references range of input, literals are created only when used.</p>
+ *
  * @author zhangliang
  */
-@RequiredArgsConstructor
-@Getter
 public final class Token {
     
+    @Getter
     private final TokenType type;
     
-    private final String literals;
+    private final String input;
+    
+    private final int literalsBeginPosition;
     
+    private final int literalsEndPosition;
+    
+    @Getter
     private final int endPosition;
+    
+    private String literals;
+    
+    public Token(final TokenType type, final String literals, final int endPosition) {
+        this(type, literals, 0, literals.length(), endPosition);
+    }
+    
+    public Token(final TokenType type, final String input, final int literalsBeginPosition, final int literalsEndPosition, final int endPosition) {
+        this.type = type;
+        this.input = input;
+        this.literalsBeginPosition = literalsBeginPosition;
+        this.literalsEndPosition = literalsEndPosition;
+        this.endPosition = endPosition;
+    }
+    
+    /**
+     * Get literals.
+     * 
+     * @return literals
+     */
+    public String getLiterals() {
+        if (null == literals) {
+            literals = input.substring(literalsBeginPosition, literalsEndPosition);
+        }
+        return literals;
+    }
 }
@@ -86,7 +86,15 @@ public abstract class WhereClauseParser implements SQLClauseParser {
     public void parse(final ShardingRule shardingRule, final SQLStatement sqlStatement, final List<SelectItem> items) {
         aliasExpressionParser.parseTableAlias();
         if (lexerEngine.skipIfEqual(DefaultKeyword.WHERE)) {
+            int whereStartPosition = lexerEngine.getCurrentTokenBeginPosition();
             parseWhere(shardingRule, sqlStatement, items);
+            if (sqlStatement instanceof SelectStatement) {
+                ((SelectStatement) sqlStatement).setWhereStartPosition(whereStartPosition);
+            }
+        }
+        if (sqlStatement instanceof SelectStatement) {
+            ((SelectStatement) sqlStatement).setWhereLastPosition(lexerEngine.getCurrentTokenBeginPosition());
+            ((SelectStatement) sqlStatement).setWhereParametersIndex(sqlStatement.getParametersIndex());
         }
     }
     
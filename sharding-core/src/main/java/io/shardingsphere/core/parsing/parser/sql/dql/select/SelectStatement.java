@@ -60,6 +60,12 @@ public final class SelectStatement extends DQLStatement {
     
     private int groupByLastPosition;
     
+    private int whereStartPosition = -1;
+    
+    private int whereLastPosition = -1;
+    
+    private int whereParametersIndex = -1;
+    
     private final Set<SelectItem> items = new HashSet<>();
     
     private final List<OrderItem> groupByItems = new LinkedList<>();
@@ -40,6 +40,8 @@ import io.shardingsphere.core.parsing.parser.token.RowCountToken;
 import io.shardingsphere.core.parsing.parser.token.SQLToken;
 import io.shardingsphere.core.parsing.parser.token.SchemaToken;
 import io.shardingsphere.core.parsing.parser.token.TableToken;
+import io.shardingsphere.core.rewrite.pagination.KeysetCondition;
+import io.shardingsphere.core.rewrite.pagination.PaginationRewriteContext;
 import io.shardingsphere.core.rewrite.placeholder.AggregationDistinctPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.IndexPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.InsertValuesPlaceholder;
@@ -52,6 +54,7 @@ import io.shardingsphere.core.rule.BindingTableRule;
 import io.shardingsphere.core.rule.ShardingRule;
 import io.shardingsphere.core.util.SQLUtil;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -81,6 +84,12 @@ public final class SQLRewriteEngine {
     
     private final List<Object> parameters;
     
+    private final PaginationRewriteContext paginationRewriteContext;
+    
+    private int pendingWhereStartPosition = -1;
+    
+    private int pendingWhereLastPosition = -1;
+    
     /**
      * Constructs SQL rewrite engine.
      * 
@@ -93,6 +102,22 @@ public final class SQLRewriteEngine {
      */
     public SQLRewriteEngine(final ShardingRule shardingRule, final String originalSQL, final DatabaseType databaseType,
                             final SQLStatement sqlStatement, final ShardingConditions shardingConditions, final List<Object> parameters) {
+        this(shardingRule, originalSQL, databaseType, sqlStatement, shardingConditions, parameters, null);
+    }
+    
+    /**
+     * Constructs SQL rewrite engine.
+     * 
+     * @param shardingRule databases and tables sharding rule
+     * @param originalSQL original SQL
+     * @param databaseType database type
+     * @param sqlStatement SQL statement
+     * @param shardingConditions sharding conditions
+     * @param parameters parameters
+     * @param paginationRewriteContext pagination rewrite context, {@code null} if rewrite pagination as usual
+     */
+    public SQLRewriteEngine(final ShardingRule shardingRule, final String originalSQL, final DatabaseType databaseType, final SQLStatement sqlStatement,
+                            final ShardingConditions shardingConditions, final List<Object> parameters, final PaginationRewriteContext paginationRewriteContext) {
         this.shardingRule = shardingRule;
         this.originalSQL = originalSQL;
         this.databaseType = databaseType;
@@ -100,6 +125,7 @@ public final class SQLRewriteEngine {
         sqlTokens = sqlStatement.getSQLTokens();
         this.shardingConditions = shardingConditions;
         this.parameters = parameters;
+        this.paginationRewriteContext = paginationRewriteContext;
     }
     
     /**
@@ -109,15 +135,25 @@ public final class SQLRewriteEngine {
      * @return SQL builder
      */
     public SQLBuilder rewrite(final boolean isRewriteLimit) {
-        SQLBuilder result = new SQLBuilder(parameters);
+        SQLBuilder result;
+        if (isRewritePagination()) {
+            SelectStatement selectStatement = (SelectStatement) sqlStatement;
+            if (!paginationRewriteContext.getKeysetConditions().isEmpty()) {
+                pendingWhereStartPosition = selectStatement.getWhereStartPosition();
+                pendingWhereLastPosition = selectStatement.getWhereLastPosition();
+            }
+            result = new SQLBuilder(getPaginationParameters(selectStatement));
+        } else {
+            result = new SQLBuilder(parameters);
+        }
         if (sqlTokens.isEmpty()) {
-            result.appendLiterals(originalSQL);
+            appendOriginalLiterals(result, 0, originalSQL.length());
             return result;
         }
         int count = 0;
         for (SQLToken each : sqlTokens) {
             if (0 == count) {
-                result.appendLiterals(originalSQL.substring(0, each.getBeginPosition()));
+                appendOriginalLiterals(result, 0, each.getBeginPosition());
             }
             if (each instanceof TableToken) {
                 appendTablePlaceholder(result, (TableToken) each, count);
@@ -147,6 +183,28 @@ public final class SQLRewriteEngine {
         return result;
     }
     
+    private boolean isRewritePagination() {
+        return null != paginationRewriteContext && sqlStatement instanceof SelectStatement;
+    }
+    
+    private List<Object> getPaginationParameters(final SelectStatement selectStatement) {
+        List<Object> result = new ArrayList<>(parameters);
+        Limit limit = selectStatement.getLimit();
+        if (paginationRewriteContext.isRewriteLimit() && null != limit) {
+            if (null != limit.getOffset() && limit.getOffset().getIndex() > -1) {
+                result.set(limit.getOffset().getIndex(), paginationRewriteContext.getOffset());
+            }
+            if (null != limit.getRowCount() && limit.getRowCount().getIndex() > -1) {
+                result.set(limit.getRowCount().getIndex(), paginationRewriteContext.getRowCount());
+            }
+        }
+        int index = selectStatement.getWhereParametersIndex();
+        for (KeysetCondition each : paginationRewriteContext.getKeysetConditions()) {
+            result.add(index++, each.getValue());
+        }
+        return result;
+    }
+    
     private void appendTablePlaceholder(final SQLBuilder sqlBuilder, final TableToken tableToken, final int count) {
         sqlBuilder.appendPlaceholder(new TablePlaceholder(tableToken.getTableName().toLowerCase(), tableToken.getOriginalLiterals()));
         int beginPosition = tableToken.getBeginPosition() + tableToken.getSkippedSchemaNameLength() + tableToken.getOriginalLiterals().length();
@@ -192,6 +250,8 @@ public final class SQLRewriteEngine {
         Limit limit = selectStatement.getLimit();
         if (!isRewrite) {
             sqlBuilder.appendLiterals(String.valueOf(rowCountToken.getRowCount()));
+        } else if (null != paginationRewriteContext && paginationRewriteContext.isRewriteLimit()) {
+            sqlBuilder.appendLiterals(String.valueOf(paginationRewriteContext.getRowCount()));
         } else if ((!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty()) && !selectStatement.isSameGroupByAndOrderByItems()) {
             sqlBuilder.appendLiterals(String.valueOf(Integer.MAX_VALUE));
         } else {
@@ -202,7 +262,13 @@ public final class SQLRewriteEngine {
     }
     
     private void appendLimitOffsetToken(final SQLBuilder sqlBuilder, final OffsetToken offsetToken, final int count, final boolean isRewrite) {
-        sqlBuilder.appendLiterals(isRewrite ? "0" : String.valueOf(offsetToken.getOffset()));
+        if (!isRewrite) {
+            sqlBuilder.appendLiterals(String.valueOf(offsetToken.getOffset()));
+        } else if (null != paginationRewriteContext && paginationRewriteContext.isRewriteLimit()) {
+            sqlBuilder.appendLiterals(String.valueOf(paginationRewriteContext.getOffset()));
+        } else {
+            sqlBuilder.appendLiterals("0");
+        }
         int beginPosition = offsetToken.getBeginPosition() + String.valueOf(offsetToken.getOffset()).length();
         appendRest(sqlBuilder, count, beginPosition);
     }
@@ -240,7 +306,53 @@ public final class SQLRewriteEngine {
     
     private void appendRest(final SQLBuilder sqlBuilder, final int count, final int beginPosition) {
         int endPosition = sqlTokens.size() - 1 == count ? originalSQL.length() : sqlTokens.get(count + 1).getBeginPosition();
-        sqlBuilder.appendLiterals(originalSQL.substring(beginPosition, endPosition));
+        appendOriginalLiterals(sqlBuilder, beginPosition, endPosition);
+    }
+    
+    private void appendOriginalLiterals(final SQLBuilder sqlBuilder, final int beginPosition, final int endPosition) {
+        int position = beginPosition;
+        if (pendingWhereStartPosition >= position && pendingWhereStartPosition <= endPosition) {
+            sqlBuilder.appendLiterals(originalSQL.substring(position, pendingWhereStartPosition));
+            sqlBuilder.appendLiterals("(");
+            position = pendingWhereStartPosition;
+            pendingWhereStartPosition = -1;
+        }
+        if (pendingWhereLastPosition >= position && pendingWhereLastPosition <= endPosition) {
+            sqlBuilder.appendLiterals(originalSQL.substring(position, pendingWhereLastPosition));
+            appendKeysetConditions(sqlBuilder, pendingWhereLastPosition);
+            position = pendingWhereLastPosition;
+            pendingWhereLastPosition = -1;
+        }
+        sqlBuilder.appendLiterals(originalSQL.substring(position, endPosition));
+    }
+    
+    private void appendKeysetConditions(final SQLBuilder sqlBuilder, final int position) {
+        if (-1 != ((SelectStatement) sqlStatement).getWhereStartPosition()) {
+            sqlBuilder.appendLiterals(") AND ");
+        } else {
+            sqlBuilder.appendLiterals(0 < position && Character.isWhitespace(originalSQL.charAt(position - 1)) ? "WHERE " : " WHERE ");
+        }
+        OrderItem orderItem = paginationRewriteContext.getOrderItem();
+        int count = 0;
+        for (KeysetCondition each : paginationRewriteContext.getKeysetConditions()) {
+            if (0 != count) {
+                sqlBuilder.appendLiterals(" AND ");
+            }
+            if (orderItem.getOwner().isPresent() && sqlStatement.getTables().getTableNames().contains(orderItem.getOwner().get())) {
+                sqlBuilder.appendPlaceholder(new TablePlaceholder(orderItem.getOwner().get().toLowerCase(), orderItem.getOwner().get()));
+                sqlBuilder.appendLiterals(".");
+                sqlBuilder.appendLiterals(orderItem.getName().get());
+            } else {
+                sqlBuilder.appendLiterals(orderItem.getQualifiedName().get());
+            }
+            sqlBuilder.appendLiterals(" ");
+            sqlBuilder.appendLiterals(each.getOperator());
+            sqlBuilder.appendLiterals(" ?");
+            count++;
+        }
+        if (position < originalSQL.length() && !Character.isWhitespace(originalSQL.charAt(position))) {
+            sqlBuilder.appendLiterals(" ");
+        }
     }
     
     /**
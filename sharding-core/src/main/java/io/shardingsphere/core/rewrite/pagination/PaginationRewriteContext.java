@@ -0,0 +1,55 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.rewrite.pagination;
+
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Pagination rewrite context.
+ * 
+ * <p>Rewrite limit offset and row count to given values instead of fetching from first row, and append keyset conditions of order by item into where clause.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class PaginationRewriteContext {
+    
+    private final OrderItem orderItem;
+    
+    private final List<KeysetCondition> keysetConditions;
+    
+    private final int offset;
+    
+    private final int rowCount;
+    
+    /**
+     * Judge is rewrite limit to given values or not.
+     * 
+     * @return is rewrite limit to given values or not
+     */
+    public boolean isRewriteLimit() {
+        return rowCount >= 0;
+    }
+}
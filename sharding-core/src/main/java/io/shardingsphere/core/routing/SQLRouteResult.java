@@ -18,9 +18,11 @@
 package io.shardingsphere.core.routing;
 
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.routing.pagination.PaginationRouteContext;
 import io.shardingsphere.core.routing.router.sharding.GeneratedKey;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
@@ -42,6 +44,9 @@ public final class SQLRouteResult {
     
     private final Collection<RouteUnit> routeUnits = new LinkedHashSet<>();
     
+    @Setter
+    private PaginationRouteContext paginationRouteContext;
+    
     public SQLRouteResult(final SQLStatement sqlStatement) {
         this(sqlStatement, null);
     }
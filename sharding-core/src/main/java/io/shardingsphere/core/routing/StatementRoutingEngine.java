@@ -17,32 +17,65 @@
 
 package io.shardingsphere.core.routing;
 
+import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.cache.SQLFingerprint;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.routing.cache.RoutingResultCache;
 import io.shardingsphere.core.routing.router.masterslave.ShardingMasterSlaveRouter;
 import io.shardingsphere.core.routing.router.sharding.ShardingRouter;
 import io.shardingsphere.core.routing.router.sharding.ShardingRouterFactory;
 import io.shardingsphere.core.rule.ShardingRule;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Statement routing engine.
  * 
+ * <p>
+ * Literals of SQL are replaced by placeholders as fingerprint, so SQL with same shape shares one parsing result.
+ * Literals are restored into actual SQL after routing, SQL is routed as is if fingerprint can not be parsed or restored.
+ * Fingerprint and SQL are routed by different sharding routers, so keys generated for fingerprint are not accumulated into keys of SQL.
+ * </p>
+ * 
  * @author zhangliang
  * @author panjuan
  */
 public final class StatementRoutingEngine {
     
-    private final ShardingRouter shardingRouter;
+    private final ShardingRule shardingRule;
+    
+    private final ShardingTableMetaData shardingTableMetaData;
+    
+    private final DatabaseType databaseType;
+    
+    private final boolean showSQL;
+    
+    private final ShardingDataSourceMetaData shardingDataSourceMetaData;
+    
+    private final ParsingResultCache parsingResultCache;
+    
+    private final RoutingResultCache routingResultCache;
     
     private final ShardingMasterSlaveRouter masterSlaveRouter;
     
     public StatementRoutingEngine(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData,
-                                  final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
-        shardingRouter = ShardingRouterFactory.createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData);
+                                  final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData,
+                                  final ParsingResultCache parsingResultCache, final RoutingResultCache routingResultCache) {
+        this.shardingRule = shardingRule;
+        this.shardingTableMetaData = shardingTableMetaData;
+        this.databaseType = databaseType;
+        this.showSQL = showSQL;
+        this.shardingDataSourceMetaData = shardingDataSourceMetaData;
+        this.parsingResultCache = parsingResultCache;
+        this.routingResultCache = routingResultCache;
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
     }
     
@@ -53,7 +86,56 @@ public final class StatementRoutingEngine {
      * @return route result
      */
     public SQLRouteResult route(final String logicSQL) {
+        Optional<SQLFingerprint> fingerprint = SQLFingerprint.newInstance(logicSQL);
+        if (fingerprint.isPresent()) {
+            Optional<SQLRouteResult> result = route(createShardingRouter(), fingerprint.get());
+            if (result.isPresent()) {
+                return masterSlaveRouter.route(result.get());
+            }
+        }
+        ShardingRouter shardingRouter = createShardingRouter();
         SQLStatement sqlStatement = shardingRouter.parse(logicSQL, true);
-        return masterSlaveRouter.route(shardingRouter.route(logicSQL, Collections.emptyList(), sqlStatement));
+        SQLRouteResult result = shardingRouter.route(logicSQL, Collections.emptyList(), sqlStatement);
+        checkKeysetCursor(result);
+        return masterSlaveRouter.route(result);
+    }
+    
+    private void checkKeysetCursor(final SQLRouteResult routeResult) {
+        Optional<Comparable<?>> keysetCursor = HintManagerHolder.getKeysetCursor();
+        if (!keysetCursor.isPresent()) {
+            return;
+        }
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            if (!each.getSqlUnit().getParameterSets().get(0).isEmpty()) {
+                throw new ShardingException("Keyset cursor '%s' can not be restored into SQL, please use prepared statement.", keysetCursor.get());
+            }
+        }
+    }
+    
+    private ShardingRouter createShardingRouter() {
+        return ShardingRouterFactory.createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData, parsingResultCache, routingResultCache, 0);
+    }
+    
+    private Optional<SQLRouteResult> route(final ShardingRouter shardingRouter, final SQLFingerprint fingerprint) {
+        SQLStatement sqlStatement;
+        try {
+            sqlStatement = shardingRouter.parse(fingerprint.getSql(), true);
+        } catch (final ShardingException ex) {
+            return Optional.absent();
+        }
+        if (sqlStatement.getParametersIndex() != fingerprint.getParameters().size()) {
+            return Optional.absent();
+        }
+        SQLRouteResult routeResult = shardingRouter.route(fingerprint.getSql(), new ArrayList<>(fingerprint.getParameters()), sqlStatement);
+        SQLRouteResult result = new SQLRouteResult(routeResult.getSqlStatement(), routeResult.getGeneratedKey());
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            Optional<String> actualSQL = fingerprint.restore(each.getSqlUnit().getSql(), each.getSqlUnit().getParameterSets().get(0));
+            if (!actualSQL.isPresent()) {
+                return Optional.absent();
+            }
+            List<List<Object>> parameterSets = new ArrayList<>(Collections.singleton(Collections.emptyList()));
+            result.getRouteUnits().add(new RouteUnit(each.getDataSourceName(), new SQLUnit(actualSQL.get(), parameterSets)));
+        }
+        return Optional.of(result);
     }
 }
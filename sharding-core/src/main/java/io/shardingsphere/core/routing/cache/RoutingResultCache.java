@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.shardingsphere.api.algorithm.sharding.ListShardingValue;
+import io.shardingsphere.api.algorithm.sharding.RangeShardingValue;
+import io.shardingsphere.api.algorithm.sharding.ShardingValue;
+import io.shardingsphere.core.optimizer.condition.ShardingCondition;
+import io.shardingsphere.core.optimizer.condition.ShardingConditions;
+import io.shardingsphere.core.optimizer.query.AlwaysFalseShardingCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routing result cache.
+ *
+ * <p>
+ * Cache routing result and rewritten SQL by logic SQL and sharding values, parameters which are not sharding values are not part of cache key.
+ * One cache instance should be held by one sharding runtime context, and it is disabled if maximum size is {@code 0}.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class RoutingResultCache {
+    
+    private final boolean enabled;
+    
+    private final Cache<List<Object>, CachedRoutingResult> cache;
+    
+    public RoutingResultCache() {
+        this(0L);
+    }
+    
+    public RoutingResultCache(final long maximumSize) {
+        enabled = maximumSize > 0L;
+        cache = CacheBuilder.newBuilder().concurrencyLevel(Runtime.getRuntime().availableProcessors()).maximumSize(maximumSize).recordStats().build();
+    }
+    
+    /**
+     * Judge routing result cache is enabled or not.
+     *
+     * @return routing result cache is enabled or not
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Get cached routing result.
+     *
+     * @param logicSQL logic SQL
+     * @param shardingConditions sharding conditions
+     * @return cached routing result
+     */
+    public Optional<CachedRoutingResult> getRoutingResult(final String logicSQL, final ShardingConditions shardingConditions) {
+        return enabled ? Optional.fromNullable(cache.getIfPresent(createKey(logicSQL, shardingConditions))) : Optional.<CachedRoutingResult>absent();
+    }
+    
+    /**
+     * Put routing result into cache.
+     *
+     * @param logicSQL logic SQL
+     * @param shardingConditions sharding conditions
+     * @param cachedRoutingResult cached routing result
+     */
+    public void put(final String logicSQL, final ShardingConditions shardingConditions, final CachedRoutingResult cachedRoutingResult) {
+        if (enabled) {
+            cache.put(createKey(logicSQL, shardingConditions), cachedRoutingResult);
+        }
+    }
+    
+    private List<Object> createKey(final String logicSQL, final ShardingConditions shardingConditions) {
+        List<Object> result = new ArrayList<>();
+        result.add(logicSQL);
+        for (ShardingCondition each : shardingConditions.getShardingConditions()) {
+            result.add(each instanceof AlwaysFalseShardingCondition ? AlwaysFalseShardingCondition.class : ShardingCondition.class);
+            for (ShardingValue eachShardingValue : each.getShardingValues()) {
+                result.add(eachShardingValue.getLogicTableName());
+                result.add(eachShardingValue.getColumnName());
+                if (eachShardingValue instanceof ListShardingValue) {
+                    result.add(new ArrayList<>(((ListShardingValue<?>) eachShardingValue).getValues()));
+                } else if (eachShardingValue instanceof RangeShardingValue) {
+                    result.add(((RangeShardingValue<?>) eachShardingValue).getValueRange());
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get cache statistics, include hit, miss and eviction.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
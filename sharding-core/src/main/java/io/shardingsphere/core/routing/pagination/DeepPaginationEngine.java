@@ -0,0 +1,242 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.pagination;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.DQLMergeEngine;
+import io.shardingsphere.core.merger.dql.orderby.CompareUtil;
+import io.shardingsphere.core.metadata.table.ColumnMetaData;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import io.shardingsphere.core.parsing.parser.context.limit.Limit;
+import io.shardingsphere.core.parsing.parser.context.limit.LimitValue;
+import io.shardingsphere.core.parsing.parser.context.selectitem.SelectItem;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.rewrite.pagination.KeysetCondition;
+import io.shardingsphere.core.rewrite.pagination.PaginationRewriteContext;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.type.TableUnit;
+import io.shardingsphere.core.util.SQLUtil;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Deep pagination engine.
+ * 
+ * <p>
+ * Limit offset is rewritten to 0 and row count is rewritten to {@code offset + row count} for every data node usually,
+ * so rows fetched from databases are scaled with offset. Deep pagination probes boundary key of every data node instead:
+ * </p>
+ * 
+ * <ol>
+ *     <li>Probe: fetch key at {@code offset / data nodes count} of every data node, the first probed key in order is boundary key.</li>
+ *     <li>Count: count rows between boundary key and probed key of every data node, to calculate offset of boundary key in all rows.</li>
+ *     <li>Fetch: fetch rows from boundary key of every data node, and skip rows between boundary key and offset in merging.</li>
+ * </ol>
+ * 
+ * <p>Rows fetched are scaled with page size if data is distributed evenly. Pagination is executed as usual if any data node can not be probed.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class DeepPaginationEngine {
+    
+    private final PaginationRouteContext paginationRouteContext;
+    
+    private final PaginationQueryExecutor paginationQueryExecutor;
+    
+    /**
+     * Judge pagination route context is supported by deep pagination or not.
+     *
+     * @param paginationRouteContext pagination route context
+     * @param shardingTableMetaData sharding table meta data
+     * @param offsetThreshold offset threshold of deep pagination, 0 means disabled
+     * @return pagination route context is supported by deep pagination or not
+     */
+    public static boolean isSupported(final PaginationRouteContext paginationRouteContext, final ShardingTableMetaData shardingTableMetaData, final int offsetThreshold) {
+        if (offsetThreshold <= 0 || null == paginationRouteContext) {
+            return false;
+        }
+        SelectStatement selectStatement = paginationRouteContext.getSelectStatement();
+        Limit limit = selectStatement.getLimit();
+        int tableUnitsSize = paginationRouteContext.getRoutingResult().getTableUnits().getTableUnits().size();
+        if (null == limit || !limit.isNeedRewriteRowCount() || null == limit.getOffset() || limit.getRowCountValue() < 0
+                || limit.getOffsetValue() < offsetThreshold || tableUnitsSize < 2 || limit.getOffsetValue() < tableUnitsSize) {
+            return false;
+        }
+        if (!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty()
+                || !selectStatement.getDistinctSelectItems().isEmpty() || !selectStatement.getAggregationDistinctSelectItems().isEmpty()) {
+            return false;
+        }
+        if (null != selectStatement.getSubQueryStatement() || !selectStatement.getSubQueryStatements().isEmpty()
+                || -1 == selectStatement.getWhereLastPosition() || !selectStatement.getTables().isSingleTable() || 1 != selectStatement.getOrderByItems().size()) {
+            return false;
+        }
+        return isOrderByPrimaryKey(selectStatement, selectStatement.getOrderByItems().get(0), shardingTableMetaData);
+    }
+    
+    private static boolean isOrderByPrimaryKey(final SelectStatement selectStatement, final OrderItem orderItem, final ShardingTableMetaData shardingTableMetaData) {
+        if (!orderItem.getName().isPresent() || orderItem.getOwner().isPresent() && !selectStatement.getTables().find(orderItem.getOwner().get()).isPresent()) {
+            return false;
+        }
+        String tableName = selectStatement.getTables().getSingleTableName();
+        if (null == shardingTableMetaData || !shardingTableMetaData.containsTable(tableName)) {
+            return false;
+        }
+        String primaryKey = null;
+        for (ColumnMetaData each : shardingTableMetaData.get(tableName).getColumnMetaData()) {
+            if (!each.isPrimaryKey()) {
+                continue;
+            }
+            if (null != primaryKey) {
+                return false;
+            }
+            primaryKey = each.getColumnName();
+        }
+        String columnName = SQLUtil.getExactlyValue(orderItem.getName().get());
+        return null != primaryKey && primaryKey.equalsIgnoreCase(columnName) && !isAliasOfOtherSelectItem(selectStatement, columnName);
+    }
+    
+    private static boolean isAliasOfOtherSelectItem(final SelectStatement selectStatement, final String columnName) {
+        for (SelectItem each : selectStatement.getItems()) {
+            if (each.getAlias().isPresent() && columnName.equalsIgnoreCase(SQLUtil.getExactlyValue(each.getAlias().get()))) {
+                String expression = SQLUtil.getExactlyValue(each.getExpression());
+                return !columnName.equalsIgnoreCase(expression.substring(expression.lastIndexOf('.') + 1));
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Execute deep pagination.
+     *
+     * @return merged result, absent if any data node can not be probed
+     * @throws SQLException SQL exception
+     */
+    public Optional<MergedResult> execute() throws SQLException {
+        SelectStatement selectStatement = paginationRouteContext.getSelectStatement();
+        OrderItem orderItem = selectStatement.getOrderByItems().get(0);
+        Limit limit = selectStatement.getLimit();
+        List<TableUnit> tableUnits = paginationRouteContext.getTableUnits();
+        int probeOffset = limit.getOffsetValue() / tableUnits.size();
+        Optional<List<Comparable<?>>> probedKeys = probe(tableUnits, orderItem, probeOffset);
+        if (!probedKeys.isPresent()) {
+            return Optional.absent();
+        }
+        Comparable<?> boundaryKey = getBoundaryKey(probedKeys.get(), orderItem);
+        Optional<int[]> boundaryDistances = count(tableUnits, orderItem, probeOffset, probedKeys.get(), boundaryKey);
+        if (!boundaryDistances.isPresent()) {
+            return Optional.absent();
+        }
+        long boundaryOffset = (long) probeOffset * tableUnits.size();
+        for (int each : boundaryDistances.get()) {
+            boundaryOffset -= each;
+        }
+        int pageOffset = (int) (limit.getOffsetValue() - boundaryOffset);
+        List<QueryResult> queryResults = fetch(tableUnits, orderItem, boundaryKey, (int) Math.min((long) pageOffset + limit.getRowCountValue(), Integer.MAX_VALUE));
+        if (queryResults.contains(null)) {
+            return Optional.absent();
+        }
+        Limit pageLimit = new Limit(limit.getDatabaseType());
+        pageLimit.setOffset(new LimitValue(pageOffset, -1, true));
+        pageLimit.setRowCount(new LimitValue(limit.getRowCountValue(), -1, false));
+        return Optional.of(new DQLMergeEngine(queryResults, selectStatement, null, 0, pageLimit).merge());
+    }
+    
+    private Optional<List<Comparable<?>>> probe(final List<TableUnit> tableUnits, final OrderItem orderItem, final int probeOffset) throws SQLException {
+        PaginationRewriteContext paginationRewriteContext = new PaginationRewriteContext(orderItem, Collections.<KeysetCondition>emptyList(), probeOffset, 1);
+        List<RouteUnit> routeUnits = new ArrayList<>(tableUnits.size());
+        for (TableUnit each : tableUnits) {
+            routeUnits.add(paginationRouteContext.route(each, paginationRewriteContext));
+        }
+        List<Comparable<?>> result = new ArrayList<>(tableUnits.size());
+        for (QueryResult each : paginationQueryExecutor.executeQuery(routeUnits)) {
+            if (null == each || !each.next()) {
+                return Optional.absent();
+            }
+            Object key = each.getValue(orderItem.getColumnLabel(), Object.class);
+            if (!(key instanceof Comparable)) {
+                return Optional.absent();
+            }
+            result.add((Comparable<?>) key);
+        }
+        return result.size() == tableUnits.size() ? Optional.of(result) : Optional.<List<Comparable<?>>>absent();
+    }
+    
+    private Comparable<?> getBoundaryKey(final List<Comparable<?>> probedKeys, final OrderItem orderItem) {
+        Comparable<?> result = probedKeys.get(0);
+        for (Comparable<?> each : probedKeys) {
+            if (CompareUtil.compareTo(each, result, orderItem.getOrderDirection(), orderItem.getNullOrderDirection()) < 0) {
+                result = each;
+            }
+        }
+        return result;
+    }
+    
+    private Optional<int[]> count(final List<TableUnit> tableUnits, final OrderItem orderItem, 
+                                  final int probeOffset, final List<Comparable<?>> probedKeys, final Comparable<?> boundaryKey) throws SQLException {
+        int[] result = new int[tableUnits.size()];
+        List<Integer> countedIndexes = new ArrayList<>(tableUnits.size());
+        List<RouteUnit> routeUnits = new ArrayList<>(tableUnits.size());
+        for (int i = 0; i < tableUnits.size(); i++) {
+            if (0 == CompareUtil.compareTo(probedKeys.get(i), boundaryKey, orderItem.getOrderDirection(), orderItem.getNullOrderDirection())) {
+                continue;
+            }
+            List<KeysetCondition> keysetConditions = Arrays.asList(
+                    new KeysetCondition(getFromOperator(orderItem), boundaryKey), new KeysetCondition(OrderDirection.ASC == orderItem.getOrderDirection() ? "<" : ">", probedKeys.get(i)));
+            routeUnits.add(paginationRouteContext.route(tableUnits.get(i), new PaginationRewriteContext(orderItem, keysetConditions, 0, probeOffset)));
+            countedIndexes.add(i);
+        }
+        if (routeUnits.isEmpty()) {
+            return Optional.of(result);
+        }
+        List<QueryResult> queryResults = paginationQueryExecutor.executeQuery(routeUnits);
+        for (int i = 0; i < countedIndexes.size(); i++) {
+            QueryResult queryResult = queryResults.get(i);
+            if (null == queryResult) {
+                return Optional.absent();
+            }
+            while (queryResult.next()) {
+                result[countedIndexes.get(i)]++;
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private List<QueryResult> fetch(final List<TableUnit> tableUnits, final OrderItem orderItem, final Comparable<?> boundaryKey, final int rowCount) throws SQLException {
+        List<KeysetCondition> keysetConditions = Collections.singletonList(new KeysetCondition(getFromOperator(orderItem), boundaryKey));
+        PaginationRewriteContext paginationRewriteContext = new PaginationRewriteContext(orderItem, keysetConditions, 0, rowCount);
+        List<RouteUnit> routeUnits = new ArrayList<>(tableUnits.size());
+        for (TableUnit each : tableUnits) {
+            routeUnits.add(paginationRouteContext.route(each, paginationRewriteContext));
+        }
+        return paginationQueryExecutor.executeQuery(routeUnits);
+    }
+    
+    private String getFromOperator(final OrderItem orderItem) {
+        return OrderDirection.ASC == orderItem.getOrderDirection() ? ">=" : "<=";
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.pagination;
+
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.routing.RouteUnit;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Query executor for pagination which need to query data nodes more than once.
+ *
+ * @author zhangliang
+ */
+public interface PaginationQueryExecutor {
+    
+    /**
+     * Execute query.
+     * 
+     * <p>Query results of previous execution can be closed when executing again.</p>
+     *
+     * @param routeUnits route units
+     * @return query results, in same sequence with route units
+     * @throws SQLException SQL exception
+     */
+    List<QueryResult> executeQuery(List<RouteUnit> routeUnits) throws SQLException;
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.pagination;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.optimizer.condition.ShardingConditions;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.rewrite.SQLRewriteEngine;
+import io.shardingsphere.core.rewrite.pagination.PaginationRewriteContext;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.type.RoutingResult;
+import io.shardingsphere.core.routing.type.TableUnit;
+import io.shardingsphere.core.rule.ShardingRule;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pagination route context.
+ * 
+ * <p>Keep routing result of paginated select statement, for rewriting it again with other pagination when data nodes need to be queried more than once.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+public final class PaginationRouteContext {
+    
+    private final ShardingRule shardingRule;
+    
+    private final String logicSQL;
+    
+    private final DatabaseType databaseType;
+    
+    private final SelectStatement selectStatement;
+    
+    private final ShardingConditions shardingConditions;
+    
+    private final List<Object> parameters;
+    
+    private final RoutingResult routingResult;
+    
+    private final ShardingDataSourceMetaData shardingDataSourceMetaData;
+    
+    /**
+     * Get table units grouped by data source.
+     * 
+     * <p>Route units of table units in this sequence are executed in same sequence.</p>
+     *
+     * @return table units grouped by data source
+     */
+    public List<TableUnit> getTableUnits() {
+        Map<String, List<TableUnit>> tableUnitGroups = new LinkedHashMap<>();
+        for (TableUnit each : routingResult.getTableUnits().getTableUnits()) {
+            if (!tableUnitGroups.containsKey(each.getDataSourceName())) {
+                tableUnitGroups.put(each.getDataSourceName(), new LinkedList<TableUnit>());
+            }
+            tableUnitGroups.get(each.getDataSourceName()).add(each);
+        }
+        List<TableUnit> result = new LinkedList<>();
+        for (List<TableUnit> each : tableUnitGroups.values()) {
+            result.addAll(each);
+        }
+        return result;
+    }
+    
+    /**
+     * Route table unit with pagination.
+     *
+     * @param tableUnit table unit
+     * @param paginationRewriteContext pagination rewrite context
+     * @return route unit
+     */
+    public RouteUnit route(final TableUnit tableUnit, final PaginationRewriteContext paginationRewriteContext) {
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, logicSQL, databaseType, selectStatement, shardingConditions, parameters, paginationRewriteContext);
+        return new RouteUnit(tableUnit.getDataSourceName(), rewriteEngine.generateSQL(tableUnit, rewriteEngine.rewrite(true), shardingDataSourceMetaData));
+    }
+}
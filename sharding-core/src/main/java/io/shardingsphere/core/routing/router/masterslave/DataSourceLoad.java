@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load of data source.
+ * 
+ * <p>
+ * Load is count of outstanding requests multiplied by peak EWMA (exponentially weighted moving average) of response time.
+ * Response time jumps to slower samples at once, and moves to faster samples by time decay.
+ * Response time decays to zero if data source is not used, so idle data source will be tried again.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class DataSourceLoad {
+    
+    private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private static final double MIN_RESPONSE_NANOS = TimeUnit.MICROSECONDS.toNanos(1L);
+    
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+    
+    private volatile double responseNanos;
+    
+    private volatile long timestamp = System.nanoTime();
+    
+    /**
+     * Handle request started.
+     */
+    public void start() {
+        outstandingRequests.incrementAndGet();
+    }
+    
+    /**
+     * Handle request finished.
+     * 
+     * @param elapsedNanos elapsed nano seconds of request
+     */
+    public synchronized void finish(final long elapsedNanos) {
+        outstandingRequests.decrementAndGet();
+        long now = System.nanoTime();
+        double weight = getDecayWeight(now);
+        responseNanos = elapsedNanos > responseNanos ? elapsedNanos : responseNanos * weight + elapsedNanos * (1 - weight);
+        timestamp = now;
+    }
+    
+    /**
+     * Get count of outstanding requests.
+     * 
+     * @return count of outstanding requests
+     */
+    public int getOutstandingRequests() {
+        return outstandingRequests.get();
+    }
+    
+    /**
+     * Get load.
+     * 
+     * @return load
+     */
+    public double getLoad() {
+        double decayedResponseNanos = responseNanos * getDecayWeight(System.nanoTime());
+        return (outstandingRequests.get() + 1) * Math.max(decayedResponseNanos, MIN_RESPONSE_NANOS);
+    }
+    
+    private double getDecayWeight(final long now) {
+        return Math.exp(-Math.max(now - timestamp, 0L) / DECAY_NANOS);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Data source load statistics.
+ * 
+ * <p>
+ * Statistics is owned by least load master-slave load balance algorithm, so loads are scoped to the rules using the algorithm.
+ * Loads are fed by SQL execution on slave data sources and keyed by actual data source name.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class DataSourceLoadStatistics {
+    
+    private static final DataSourceLoad IDLE_DATA_SOURCE_LOAD = new DataSourceLoad();
+    
+    private final ConcurrentMap<String, DataSourceLoad> dataSourceLoads = new ConcurrentHashMap<>();
+    
+    /**
+     * Get load of data source.
+     * 
+     * @param dataSourceName data source name
+     * @return load of data source
+     */
+    public DataSourceLoad getDataSourceLoad(final String dataSourceName) {
+        DataSourceLoad result = dataSourceLoads.get(dataSourceName);
+        return null == result ? IDLE_DATA_SOURCE_LOAD : result;
+    }
+    
+    /**
+     * Handle request of data source started.
+     * 
+     * @param dataSourceName data source name
+     * @return load of data source
+     */
+    public DataSourceLoad start(final String dataSourceName) {
+        DataSourceLoad result = dataSourceLoads.get(dataSourceName);
+        if (null == result) {
+            DataSourceLoad dataSourceLoad = new DataSourceLoad();
+            result = dataSourceLoads.putIfAbsent(dataSourceName, dataSourceLoad);
+            if (null == result) {
+                result = dataSourceLoad;
+            }
+        }
+        result.start();
+        return result;
+    }
+}
@@ -19,7 +19,7 @@ package io.shardingsphere.core.routing.router.masterslave;
 
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.hint.HintManagerHolder;
-import io.shardingsphere.core.parsing.SQLJudgeEngine;
+import io.shardingsphere.core.parsing.cache.JudgingResultCache;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.core.util.SQLLogger;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +27,7 @@ import lombok.RequiredArgsConstructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Master slave router interface.
@@ -49,7 +50,7 @@ public final class MasterSlaveRouter {
      */
     // TODO for multiple masters may return more than one data source
     public Collection<String> route(final String sql) {
-        Collection<String> result = route(new SQLJudgeEngine(sql).judge().getType());
+        Collection<String> result = route(JudgingResultCache.getInstance().getSQLType(sql));
         if (showSQL) {
             SQLLogger.logSQL(sql, result);
         }
@@ -61,8 +62,15 @@ public final class MasterSlaveRouter {
             MasterVisitedManager.setMasterVisited();
             return Collections.singletonList(masterSlaveRule.getMasterDataSourceName());
         }
-        return Collections.singletonList(masterSlaveRule.getLoadBalanceAlgorithm().getDataSource(
-                masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), new ArrayList<>(masterSlaveRule.getSlaveDataSourceNames())));
+        return Collections.singletonList(getSlaveDataSourceName());
+    }
+    
+    private String getSlaveDataSourceName() {
+        List<String> slaveDataSourceNames = new ArrayList<>(masterSlaveRule.getAvailableSlaveDataSourceNames());
+        if (slaveDataSourceNames.isEmpty()) {
+            return masterSlaveRule.getMasterDataSourceName();
+        }
+        return masterSlaveRule.getLoadBalanceAlgorithm().getDataSource(masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), slaveDataSourceNames);
     }
     
     private boolean isMasterRoute(final SQLType sqlType) {
@@ -27,6 +27,7 @@ import lombok.RequiredArgsConstructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Sharding with master-slave router interface.
@@ -63,14 +64,21 @@ public final class ShardingMasterSlaveRouter {
                 MasterVisitedManager.setMasterVisited();
                 toBeAdded.add(new RouteUnit(masterSlaveRule.getMasterDataSourceName(), each.getSqlUnit()));
             } else {
-                toBeAdded.add(new RouteUnit(masterSlaveRule.getLoadBalanceAlgorithm().getDataSource(
-                        masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), new ArrayList<>(masterSlaveRule.getSlaveDataSourceNames())), each.getSqlUnit()));
+                toBeAdded.add(new RouteUnit(getSlaveDataSourceName(masterSlaveRule), each.getSqlUnit()));
             }
         }
         sqlRouteResult.getRouteUnits().removeAll(toBeRemoved);
         sqlRouteResult.getRouteUnits().addAll(toBeAdded);
     }
     
+    private String getSlaveDataSourceName(final MasterSlaveRule masterSlaveRule) {
+        List<String> slaveDataSourceNames = new ArrayList<>(masterSlaveRule.getAvailableSlaveDataSourceNames());
+        if (slaveDataSourceNames.isEmpty()) {
+            return masterSlaveRule.getMasterDataSourceName();
+        }
+        return masterSlaveRule.getLoadBalanceAlgorithm().getDataSource(masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), slaveDataSourceNames);
+    }
+    
     private boolean isMasterRoute(final SQLType sqlType) {
         return SQLType.DQL != sqlType || MasterVisitedManager.isMasterVisited() || HintManagerHolder.isMasterRouteOnly();
     }
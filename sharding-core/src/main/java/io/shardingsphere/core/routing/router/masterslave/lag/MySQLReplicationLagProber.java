@@ -0,0 +1,57 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave.lag;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.spi.masterslave.ReplicationLagProber;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Replication lag prober for MySQL.
+ * 
+ * <p>
+ * Replication lag is read from {@code Seconds_Behind_Master} of {@code SHOW SLAVE STATUS}.
+ * Data source which is not a slave is regarded as no lag.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class MySQLReplicationLagProber implements ReplicationLagProber {
+    
+    @Override
+    public DatabaseType getDatabaseType() {
+        return DatabaseType.MySQL;
+    }
+    
+    @Override
+    public long probe(final Connection connection) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+            if (!resultSet.next()) {
+                return 0L;
+            }
+            long result = resultSet.getLong("Seconds_Behind_Master");
+            return resultSet.wasNull() ? Long.MAX_VALUE : result * 1000L;
+        }
+    }
+}
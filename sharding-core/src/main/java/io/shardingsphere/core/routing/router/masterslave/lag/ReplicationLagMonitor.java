@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave.lag;
+
+import io.shardingsphere.core.executor.ShardingThreadFactoryBuilder;
+import io.shardingsphere.core.rule.MasterSlaveRule;
+import io.shardingsphere.spi.masterslave.ReplicationLagProber;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication lag monitor.
+ * 
+ * <p>
+ * Probe replication lag of slaves for one master-slave rule periodically,
+ * slaves which lag exceeds threshold are excluded from load balance until they catch up.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@Slf4j
+public final class ReplicationLagMonitor implements AutoCloseable {
+    
+    private final MasterSlaveRule masterSlaveRule;
+    
+    private final Map<String, DataSource> dataSourceMap;
+    
+    private final ReplicationLagProber prober;
+    
+    private final long thresholdMilliseconds;
+    
+    private final ScheduledExecutorService scheduledService;
+    
+    public ReplicationLagMonitor(final MasterSlaveRule masterSlaveRule, final Map<String, DataSource> dataSourceMap, 
+                                 final ReplicationLagProber prober, final long thresholdMilliseconds, final long intervalMilliseconds) {
+        this.masterSlaveRule = masterSlaveRule;
+        this.dataSourceMap = dataSourceMap;
+        this.prober = prober;
+        this.thresholdMilliseconds = thresholdMilliseconds;
+        scheduledService = Executors.newSingleThreadScheduledExecutor(ShardingThreadFactoryBuilder.build("ReplicationLag-" + masterSlaveRule.getName() + "-%d"));
+        scheduledService.scheduleWithFixedDelay(new Runnable() {
+            
+            @Override
+            public void run() {
+                probe();
+            }
+        }, intervalMilliseconds, intervalMilliseconds, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Probe replication lag of all slaves and update lagging state of master-slave rule.
+     * 
+     * <p>
+     * Lagging state of slave is kept if it can not be probed.
+     * </p>
+     */
+    public void probe() {
+        for (String each : masterSlaveRule.getMasterSlaveRuleConfiguration().getSlaveDataSourceNames()) {
+            DataSource dataSource = dataSourceMap.get(each);
+            if (null == dataSource) {
+                continue;
+            }
+            try (Connection connection = dataSource.getConnection()) {
+                long lagMilliseconds = prober.probe(connection);
+                boolean isLagging = lagMilliseconds > thresholdMilliseconds;
+                if (isLagging != masterSlaveRule.isReplicationLagging(each)) {
+                    log.info("Replication lag of data source `{}` is {} ms, lagging state changed to {}.", each, lagMilliseconds, isLagging);
+                }
+                masterSlaveRule.updateReplicationLagging(each, isLagging);
+            // CHECKSTYLE:OFF
+            } catch (final SQLException | RuntimeException ex) {
+                // CHECKSTYLE:ON
+                log.warn("Can not probe replication lag of data source `{}`.", each, ex);
+            }
+        }
+    }
+    
+    @Override
+    public void close() {
+        scheduledService.shutdownNow();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave.lag;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.properties.ShardingProperties;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.rule.MasterSlaveRule;
+import io.shardingsphere.spi.NewInstanceServiceLoader;
+import io.shardingsphere.spi.masterslave.ReplicationLagProber;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Replication lag monitor factory.
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReplicationLagMonitorFactory {
+    
+    /**
+     * Create replication lag monitors for master-slave rules.
+     * 
+     * <p>
+     * Return empty collection if replication lag threshold is not configured.
+     * </p>
+     * 
+     * @param masterSlaveRules master-slave rules
+     * @param dataSourceMap data source map
+     * @param databaseType database type
+     * @param shardingProperties sharding properties
+     * @return replication lag monitors
+     */
+    public static Collection<ReplicationLagMonitor> newInstances(final Collection<MasterSlaveRule> masterSlaveRules, final Map<String, DataSource> dataSourceMap, 
+                                                                 final DatabaseType databaseType, final ShardingProperties shardingProperties) {
+        Collection<ReplicationLagMonitor> result = new LinkedList<>();
+        long thresholdMilliseconds = shardingProperties.getValue(ShardingPropertiesConstant.MASTER_SLAVE_REPLICATION_LAG_THRESHOLD_MILLISECONDS);
+        if (thresholdMilliseconds <= 0L || masterSlaveRules.isEmpty()) {
+            return result;
+        }
+        long intervalMilliseconds = shardingProperties.getValue(ShardingPropertiesConstant.MASTER_SLAVE_REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS);
+        for (MasterSlaveRule each : masterSlaveRules) {
+            result.add(new ReplicationLagMonitor(each, dataSourceMap, newProber(databaseType), thresholdMilliseconds, intervalMilliseconds));
+        }
+        return result;
+    }
+    
+    private static ReplicationLagProber newProber(final DatabaseType databaseType) {
+        for (ReplicationLagProber each : NewInstanceServiceLoader.load(ReplicationLagProber.class)) {
+            if (databaseType == each.getDatabaseType()) {
+                return each;
+            }
+        }
+        throw new ShardingException("Can not find replication lag prober for database type `%s`.", databaseType);
+    }
+}
@@ -36,5 +36,9 @@ public final class GeneratedKey {
     
     private final Column column;
     
-    private final List<Number> generatedKeys = new LinkedList<>();
+    private final List<Number> generatedKeys;
+    
+    public GeneratedKey(final Column column) {
+        this(column, new LinkedList<Number>());
+    }
 }
@@ -17,9 +17,10 @@
 
 package io.shardingsphere.core.routing.router.sharding;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 import com.google.common.base.Optional;
@@ -29,17 +30,23 @@ import io.shardingsphere.api.algorithm.sharding.ListShardingValue;
 import io.shardingsphere.api.algorithm.sharding.PreciseShardingValue;
 import io.shardingsphere.api.algorithm.sharding.ShardingValue;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.constant.ShardingOperator;
+import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.optimizer.OptimizeEngineFactory;
 import io.shardingsphere.core.optimizer.condition.ShardingCondition;
 import io.shardingsphere.core.optimizer.condition.ShardingConditions;
 import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
 import io.shardingsphere.core.parsing.parser.context.condition.AndCondition;
 import io.shardingsphere.core.parsing.parser.context.condition.Column;
 import io.shardingsphere.core.parsing.parser.context.condition.Condition;
 import io.shardingsphere.core.parsing.parser.context.condition.GeneratedKeyCondition;
+import io.shardingsphere.core.parsing.parser.context.limit.Limit;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowDatabasesStatement;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowTableStatusStatement;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowTablesStatement;
@@ -54,8 +61,15 @@ import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.rewrite.SQLBuilder;
 import io.shardingsphere.core.rewrite.SQLRewriteEngine;
+import io.shardingsphere.core.rewrite.pagination.KeysetCondition;
+import io.shardingsphere.core.rewrite.pagination.PaginationRewriteContext;
 import io.shardingsphere.core.routing.RouteUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.SQLUnit;
+import io.shardingsphere.core.routing.cache.CachedRoutingResult;
+import io.shardingsphere.core.routing.cache.RoutingResultCache;
+import io.shardingsphere.core.routing.pagination.DeepPaginationEngine;
+import io.shardingsphere.core.routing.pagination.PaginationRouteContext;
 import io.shardingsphere.core.routing.type.RoutingEngine;
 import io.shardingsphere.core.routing.type.RoutingResult;
 import io.shardingsphere.core.routing.type.TableUnit;
@@ -94,17 +108,23 @@ public final class ParsingSQLRouter implements ShardingRouter {
     
     private final boolean showSQL;
     
-    private final List<Number> generatedKeys = new LinkedList<>();
+    private List<Number> generatedKeys = Collections.emptyList();
     
     private final ShardingDataSourceMetaData shardingDataSourceMetaData;
     
+    private final ParsingResultCache parsingResultCache;
+    
+    private final RoutingResultCache routingResultCache;
+    
+    private final int deepPaginationOffsetThreshold;
+    
     private final ParsingHook parsingHook = new SPIParsingHook();
     
     @Override
     public SQLStatement parse(final String logicSQL, final boolean useCache) {
         parsingHook.start(logicSQL);
         try {
-            SQLStatement result = new SQLParsingEngine(databaseType, logicSQL, shardingRule, shardingTableMetaData).parse(useCache);
+            SQLStatement result = new SQLParsingEngine(databaseType, logicSQL, shardingRule, shardingTableMetaData, parsingResultCache).parse(useCache);
             parsingHook.finishSuccess();
             return result;
         } catch (final Exception ex) {
@@ -119,21 +139,39 @@ public final class ParsingSQLRouter implements ShardingRouter {
         if (sqlStatement instanceof InsertStatement) {
             generatedKey = getGenerateKey(shardingRule, (InsertStatement) sqlStatement, parameters);
         }
-        SQLRouteResult result = new SQLRouteResult(sqlStatement, generatedKey);
         ShardingConditions shardingConditions = OptimizeEngineFactory.newInstance(shardingRule, sqlStatement, parameters, generatedKey).optimize();
-        if (null != generatedKey) {
-            setGeneratedKeys(result, generatedKey);
-        }
+        SQLRouteResult result = new SQLRouteResult(sqlStatement, null == generatedKey ? null : accumulateGeneratedKeys(generatedKey));
         checkAndMergeShardingValue(sqlStatement, shardingConditions);
-        RoutingResult routingResult = route(sqlStatement, shardingConditions);
-        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, logicSQL, databaseType, sqlStatement, shardingConditions, parameters);
-        boolean isSingleRouting = routingResult.isSingleRouting();
         if (sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getLimit()) {
             processLimit(parameters, (SelectStatement) sqlStatement);
         }
-        SQLBuilder sqlBuilder = rewriteEngine.rewrite(!isSingleRouting);
-        for (TableUnit each : routingResult.getTableUnits().getTableUnits()) {
-            result.getRouteUnits().add(new RouteUnit(each.getDataSourceName(), rewriteEngine.generateSQL(each, sqlBuilder, shardingDataSourceMetaData)));
+        boolean isRoutingResultCacheable = isRoutingResultCacheable(sqlStatement);
+        Optional<CachedRoutingResult> cachedRoutingResult = isRoutingResultCacheable ? routingResultCache.getRoutingResult(logicSQL, shardingConditions) : Optional.<CachedRoutingResult>absent();
+        RoutingResult routingResult;
+        if (cachedRoutingResult.isPresent()) {
+            routingResult = cachedRoutingResult.get().getRoutingResult();
+            addRouteUnits(result, cachedRoutingResult.get(), parameters);
+        } else {
+            RoutingEngine routingEngine = createRoutingEngine(sqlStatement, shardingConditions);
+            routingResult = routingEngine.route();
+            SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, logicSQL, databaseType, sqlStatement, shardingConditions, parameters, getKeysetRewriteContext(sqlStatement));
+            SQLBuilder sqlBuilder = rewriteEngine.rewrite(!routingResult.isSingleRouting());
+            List<String> actualSQLs = new ArrayList<>(routingResult.getTableUnits().getTableUnits().size());
+            for (TableUnit each : routingResult.getTableUnits().getTableUnits()) {
+                SQLUnit sqlUnit = rewriteEngine.generateSQL(each, sqlBuilder, shardingDataSourceMetaData);
+                result.getRouteUnits().add(new RouteUnit(each.getDataSourceName(), sqlUnit));
+                actualSQLs.add(sqlUnit.getSql());
+            }
+            if (isRoutingResultCacheable && !(routingEngine instanceof UnicastRoutingEngine)) {
+                routingResultCache.put(logicSQL, shardingConditions, new CachedRoutingResult(routingResult, actualSQLs));
+            }
+        }
+        if (isDeepPaginationCandidate(sqlStatement, routingResult)) {
+            PaginationRouteContext paginationRouteContext = new PaginationRouteContext(
+                    shardingRule, logicSQL, databaseType, (SelectStatement) sqlStatement, shardingConditions, parameters, routingResult, shardingDataSourceMetaData);
+            if (DeepPaginationEngine.isSupported(paginationRouteContext, shardingTableMetaData, deepPaginationOffsetThreshold)) {
+                result.setPaginationRouteContext(paginationRouteContext);
+            }
         }
         if (showSQL) {
             SQLLogger.logSQL(logicSQL, sqlStatement, result.getRouteUnits());
@@ -141,6 +179,47 @@ public final class ParsingSQLRouter implements ShardingRouter {
         return result;
     }
     
+    private boolean isDeepPaginationCandidate(final SQLStatement sqlStatement, final RoutingResult routingResult) {
+        if (deepPaginationOffsetThreshold <= 0 || !(sqlStatement instanceof SelectStatement) || routingResult.isSingleRouting() || HintManagerHolder.isKeysetPagination()) {
+            return false;
+        }
+        Limit limit = ((SelectStatement) sqlStatement).getLimit();
+        return null != limit && null != limit.getOffset() && limit.getOffsetValue() >= deepPaginationOffsetThreshold;
+    }
+    
+    private PaginationRewriteContext getKeysetRewriteContext(final SQLStatement sqlStatement) {
+        if (!HintManagerHolder.isKeysetPagination() || !(sqlStatement instanceof SelectStatement)) {
+            return null;
+        }
+        SelectStatement selectStatement = (SelectStatement) sqlStatement;
+        Preconditions.checkState(1 == selectStatement.getOrderByItems().size() && selectStatement.getOrderByItems().get(0).getName().isPresent(), 
+                "Keyset pagination must order by one column.");
+        Preconditions.checkState(!selectStatement.containsSubQuery() && selectStatement.getSubQueryStatements().isEmpty(), "Keyset pagination can not support sub query.");
+        Optional<Comparable<?>> keysetCursor = HintManagerHolder.getKeysetCursor();
+        if (!keysetCursor.isPresent()) {
+            return null;
+        }
+        Preconditions.checkState(-1 != selectStatement.getWhereLastPosition(), "Can not find where clause position for keyset pagination.");
+        OrderItem orderItem = selectStatement.getOrderByItems().get(0);
+        KeysetCondition keysetCondition = new KeysetCondition(OrderDirection.ASC == orderItem.getOrderDirection() ? ">" : "<", keysetCursor.get());
+        return new PaginationRewriteContext(orderItem, Collections.singletonList(keysetCondition), 0, -1);
+    }
+    
+    private boolean isRoutingResultCacheable(final SQLStatement sqlStatement) {
+        if (!routingResultCache.isEnabled() || null != HintManagerHolder.get()) {
+            return false;
+        }
+        return SQLType.DQL == sqlStatement.getType() || SQLType.DML == sqlStatement.getType() && !(sqlStatement instanceof InsertStatement);
+    }
+    
+    private void addRouteUnits(final SQLRouteResult sqlRouteResult, final CachedRoutingResult cachedRoutingResult, final List<Object> parameters) {
+        Iterator<String> actualSQLs = cachedRoutingResult.getActualSQLs().iterator();
+        for (TableUnit each : cachedRoutingResult.getRoutingResult().getTableUnits().getTableUnits()) {
+            List<List<Object>> parameterSets = new ArrayList<>(Collections.singleton(parameters));
+            sqlRouteResult.getRouteUnits().add(new RouteUnit(each.getDataSourceName(), new SQLUnit(actualSQLs.next(), parameterSets)));
+        }
+    }
+    
     private void checkAndMergeShardingValue(final SQLStatement sqlStatement, final ShardingConditions shardingConditions) {
         if (!(sqlStatement instanceof SelectStatement)) {
             return;
@@ -212,7 +291,7 @@ public final class ParsingSQLRouter implements ShardingRouter {
         return false;
     }
     
-    private RoutingResult route(final SQLStatement sqlStatement, final ShardingConditions shardingConditions) {
+    private RoutingEngine createRoutingEngine(final SQLStatement sqlStatement, final ShardingConditions shardingConditions) {
         Collection<String> tableNames = sqlStatement.getTables().getTableNames();
         RoutingEngine routingEngine;
         if (sqlStatement instanceof UseStatement) {
@@ -242,7 +321,7 @@ public final class ParsingSQLRouter implements ShardingRouter {
             // TODO config for cartesian set
             routingEngine = new ComplexRoutingEngine(shardingRule, tableNames, shardingConditions);
         }
-        return routingEngine.route();
+        return routingEngine;
     }
     
     private GeneratedKey getGenerateKey(final ShardingRule shardingRule, final InsertStatement insertStatement, final List<Object> parameters) {
@@ -267,18 +346,21 @@ public final class ParsingSQLRouter implements ShardingRouter {
         }
         Optional<Column> generateKeyColumn = shardingRule.getGenerateKeyColumn(logicTableName);
         if (generateKeyColumn.isPresent()) {
-            result = new GeneratedKey(generateKeyColumn.get());
-            for (int i = 0; i < insertStatement.getInsertValues().getInsertValues().size(); i++) {
-                result.getGeneratedKeys().add(shardingRule.generateKey(logicTableName));
-            }
+            result = new GeneratedKey(generateKeyColumn.get(), shardingRule.generateKeys(logicTableName, insertStatement.getInsertValues().getInsertValues().size()));
         }
         return result;
     }
     
-    private void setGeneratedKeys(final SQLRouteResult sqlRouteResult, final GeneratedKey generatedKey) {
-        generatedKeys.addAll(generatedKey.getGeneratedKeys());
-        sqlRouteResult.getGeneratedKey().getGeneratedKeys().clear();
-        sqlRouteResult.getGeneratedKey().getGeneratedKeys().addAll(generatedKeys);
+    private GeneratedKey accumulateGeneratedKeys(final GeneratedKey generatedKey) {
+        if (generatedKeys.isEmpty()) {
+            generatedKeys = generatedKey.getGeneratedKeys();
+            return generatedKey;
+        }
+        List<Number> accumulatedGeneratedKeys = new ArrayList<>(generatedKeys.size() + generatedKey.getGeneratedKeys().size());
+        accumulatedGeneratedKeys.addAll(generatedKeys);
+        accumulatedGeneratedKeys.addAll(generatedKey.getGeneratedKeys());
+        generatedKeys = accumulatedGeneratedKeys;
+        return new GeneratedKey(generatedKey.getColumn(), accumulatedGeneratedKeys);
     }
     
     private void processLimit(final List<Object> parameters, final SelectStatement selectStatement) {
@@ -21,6 +21,8 @@ import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.routing.cache.RoutingResultCache;
 import io.shardingsphere.core.rule.ShardingRule;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -42,11 +44,15 @@ public final class ShardingRouterFactory {
      * @param databaseType database type
      * @param showSQL show SQL or not
      * @param shardingDataSourceMetaData sharding data source meta data
+     * @param parsingResultCache parsing result cache
+     * @param routingResultCache routing result cache
+     * @param deepPaginationOffsetThreshold offset threshold of deep pagination, 0 means disabled
      * @return sharding router instance
      */
     public static ShardingRouter createSQLRouter(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData, 
-                                                 final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
+                                                 final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData, 
+                                                 final ParsingResultCache parsingResultCache, final RoutingResultCache routingResultCache, final int deepPaginationOffsetThreshold) {
         return HintManagerHolder.isDatabaseShardingOnly() ? new DatabaseHintSQLRouter(shardingRule, showSQL)
-                : new ParsingSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData);
+                : new ParsingSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData, parsingResultCache, routingResultCache, deepPaginationOffsetThreshold);
     }
 }
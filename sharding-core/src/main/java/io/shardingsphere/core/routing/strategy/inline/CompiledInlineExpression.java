@@ -0,0 +1,199 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.inline;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inline expression compiled into java for common shapes.
+ * 
+ * <p>
+ * Supported placeholders are {@code ${column}}, {@code ${column % N}}, {@code ${column.hashCode() % N}},
+ * {@code ${Math.abs(column.hashCode()) % N}} and {@code ${Math.abs(column.hashCode() % N)}}.
+ * Other expressions cannot be compiled and should be evaluated by groovy.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private static final String IDENTIFIER = "([a-zA-Z_][a-zA-Z0-9_]*)";
+    
+    private static final String DIVISOR = "(\\d{1,9})";
+    
+    private static final Pattern IDENTITY_PATTERN = Pattern.compile(IDENTIFIER);
+    
+    private static final Pattern MODULO_PATTERN = Pattern.compile(IDENTIFIER + "\\s*%\\s*" + DIVISOR);
+    
+    private static final Pattern HASH_MODULO_PATTERN = Pattern.compile(IDENTIFIER + "\\.hashCode\\(\\)\\s*%\\s*" + DIVISOR);
+    
+    private static final Pattern ABS_HASH_MODULO_PATTERN = Pattern.compile("Math\\.abs\\(\\s*" + IDENTIFIER + "\\.hashCode\\(\\)\\s*\\)\\s*%\\s*" + DIVISOR);
+    
+    private static final Pattern ABS_OF_HASH_MODULO_PATTERN = Pattern.compile("Math\\.abs\\(\\s*" + IDENTIFIER + "\\.hashCode\\(\\)\\s*%\\s*" + DIVISOR + "\\s*\\)");
+    
+    private final List<String> literals;
+    
+    private final List<Placeholder> placeholders;
+    
+    /**
+     * Compile inline expression.
+     * 
+     * @param inlineExpression inline expression with {@code $} placeholders
+     * @return compiled inline expression, absent if expression cannot be compiled
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        int position = 0;
+        while (position <= inlineExpression.length()) {
+            int start = inlineExpression.indexOf("${", position);
+            String literal = -1 == start ? inlineExpression.substring(position) : inlineExpression.substring(position, start);
+            if (!isPlainLiteral(literal)) {
+                return Optional.absent();
+            }
+            literals.add(literal);
+            if (-1 == start) {
+                break;
+            }
+            int end = inlineExpression.indexOf('}', start);
+            if (-1 == end) {
+                return Optional.absent();
+            }
+            Optional<Placeholder> placeholder = compilePlaceholder(inlineExpression.substring(start + 2, end).trim());
+            if (!placeholder.isPresent()) {
+                return Optional.absent();
+            }
+            placeholders.add(placeholder.get());
+            position = end + 1;
+        }
+        return placeholders.isEmpty() ? Optional.<CompiledInlineExpression>absent() : Optional.of(new CompiledInlineExpression(literals, placeholders));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        return !literal.contains("$") && !literal.contains("{") && !literal.contains("}") && !literal.contains("\"") && !literal.contains("\\");
+    }
+    
+    private static Optional<Placeholder> compilePlaceholder(final String expression) {
+        Matcher matcher = IDENTITY_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return Optional.of(new Placeholder(Operation.IDENTITY, matcher.group(1), 0));
+        }
+        matcher = MODULO_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return createPlaceholder(Operation.MODULO, matcher);
+        }
+        matcher = HASH_MODULO_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return createPlaceholder(Operation.HASH_MODULO, matcher);
+        }
+        matcher = ABS_HASH_MODULO_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return createPlaceholder(Operation.ABS_HASH_MODULO, matcher);
+        }
+        matcher = ABS_OF_HASH_MODULO_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return createPlaceholder(Operation.ABS_OF_HASH_MODULO, matcher);
+        }
+        return Optional.absent();
+    }
+    
+    private static Optional<Placeholder> createPlaceholder(final Operation operation, final Matcher matcher) {
+        int divisor = Integer.parseInt(matcher.group(2));
+        return 0 == divisor ? Optional.<Placeholder>absent() : Optional.of(new Placeholder(operation, matcher.group(1), divisor));
+    }
+    
+    /**
+     * Evaluate inline expression with sharding value.
+     * 
+     * @param columnName sharding column name
+     * @param value sharding value
+     * @return evaluated result, absent if column or value type is not supported by compiled expression
+     */
+    public Optional<String> evaluate(final String columnName, final Comparable<?> value) {
+        if (!isSupportedValue(value)) {
+            return Optional.absent();
+        }
+        String variableName = columnName.toLowerCase();
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < placeholders.size(); i++) {
+            Placeholder each = placeholders.get(i);
+            if (!variableName.equals(each.variableName)) {
+                return Optional.absent();
+            }
+            result.append(literals.get(i));
+            Optional<String> evaluatedPlaceholder = each.evaluate(value);
+            if (!evaluatedPlaceholder.isPresent()) {
+                return Optional.absent();
+            }
+            result.append(evaluatedPlaceholder.get());
+        }
+        result.append(literals.get(placeholders.size()));
+        return Optional.of(result.toString());
+    }
+    
+    private boolean isSupportedValue(final Comparable<?> value) {
+        return value instanceof String || isIntegralValue(value);
+    }
+    
+    private static boolean isIntegralValue(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private enum Operation {
+        
+        IDENTITY, MODULO, HASH_MODULO, ABS_HASH_MODULO, ABS_OF_HASH_MODULO
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Placeholder {
+        
+        private final Operation operation;
+        
+        private final String variableName;
+        
+        private final int divisor;
+        
+        private Optional<String> evaluate(final Comparable<?> value) {
+            switch (operation) {
+                case IDENTITY:
+                    return Optional.of(value.toString());
+                case MODULO:
+                    if (value instanceof Long) {
+                        return Optional.of(String.valueOf((Long) value % divisor));
+                    }
+                    return isIntegralValue(value) ? Optional.of(String.valueOf(((Number) value).intValue() % divisor)) : Optional.<String>absent();
+                case HASH_MODULO:
+                    return Optional.of(String.valueOf(value.hashCode() % divisor));
+                case ABS_HASH_MODULO:
+                    return Optional.of(String.valueOf(Math.abs(value.hashCode()) % divisor));
+                case ABS_OF_HASH_MODULO:
+                    return Optional.of(String.valueOf(Math.abs(value.hashCode() % divisor)));
+                default:
+                    return Optional.absent();
+            }
+        }
+    }
+}
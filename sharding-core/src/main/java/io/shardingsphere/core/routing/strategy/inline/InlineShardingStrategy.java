@@ -17,39 +17,51 @@
 
 package io.shardingsphere.core.routing.strategy.inline;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import groovy.lang.Closure;
 import groovy.util.Expando;
 import io.shardingsphere.api.algorithm.sharding.ListShardingValue;
-import io.shardingsphere.api.algorithm.sharding.PreciseShardingValue;
 import io.shardingsphere.api.algorithm.sharding.ShardingValue;
 import io.shardingsphere.api.config.strategy.InlineShardingStrategyConfiguration;
 import io.shardingsphere.core.routing.strategy.ShardingStrategy;
 import io.shardingsphere.core.util.InlineExpressionParser;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Standard sharding strategy.
+ * Inline sharding strategy.
+ * 
+ * <p>
+ * Common expression shapes are evaluated by compiled java code, others are evaluated by groovy closure.
+ * Evaluated target names are memorized for first {@code 1024} different sharding values.
+ * </p>
  * 
  * @author zhangliang
  */
 public final class InlineShardingStrategy implements ShardingStrategy {
     
+    private static final int MAX_MEMORIZED_SIZE = 1024;
+    
     private final String shardingColumn;
     
     private final Closure<?> closure;
     
+    private final Optional<CompiledInlineExpression> compiledInlineExpression;
+    
+    private final Map<Comparable<?>, String> memorizedTargetNames = new ConcurrentHashMap<>();
+    
     public InlineShardingStrategy(final InlineShardingStrategyConfiguration inlineShardingStrategyConfig) {
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getAlgorithmExpression(), "Sharding algorithm expression cannot be null.");
         shardingColumn = inlineShardingStrategyConfig.getShardingColumn();
         String algorithmExpression = InlineExpressionParser.handlePlaceHolder(inlineShardingStrategyConfig.getAlgorithmExpression().trim());
         closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        compiledInlineExpression = CompiledInlineExpression.compile(algorithmExpression);
     }
     
     @Override
@@ -62,27 +74,36 @@ public final class InlineShardingStrategy implements ShardingStrategy {
         return result;
     }
     
-    private Collection<String> doSharding(final ListShardingValue shardingValue) {
+    private Collection<String> doSharding(final ListShardingValue<?> shardingValue) {
         Collection<String> result = new LinkedList<>();
-        for (PreciseShardingValue<?> each : transferToPreciseShardingValues(shardingValue)) {
-            result.add(execute(each));
+        for (Comparable<?> each : shardingValue.getValues()) {
+            result.add(execute(shardingValue.getColumnName(), each));
         }
         return result;
     }
     
-    @SuppressWarnings("unchecked")
-    private List<PreciseShardingValue> transferToPreciseShardingValues(final ListShardingValue<?> shardingValue) {
-        List<PreciseShardingValue> result = new ArrayList<>(shardingValue.getValues().size());
-        for (Comparable<?> each : shardingValue.getValues()) {
-            result.add(new PreciseShardingValue(shardingValue.getLogicTableName(), shardingValue.getColumnName(), each));
+    private String execute(final String columnName, final Comparable<?> value) {
+        String result = memorizedTargetNames.get(value);
+        if (null != result) {
+            return result;
+        }
+        result = evaluate(columnName, value);
+        if (memorizedTargetNames.size() < MAX_MEMORIZED_SIZE) {
+            memorizedTargetNames.put(value, result);
         }
         return result;
     }
     
-    private String execute(final PreciseShardingValue shardingValue) {
+    private String evaluate(final String columnName, final Comparable<?> value) {
+        if (compiledInlineExpression.isPresent()) {
+            Optional<String> result = compiledInlineExpression.get().evaluate(columnName, value);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         Closure<?> result = closure.rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        result.setProperty(shardingValue.getColumnName().toLowerCase(), shardingValue.getValue());
+        result.setProperty(columnName.toLowerCase(), value);
         return result.call().toString();
     }
     
@@ -18,12 +18,20 @@
 package io.shardingsphere.core.rule;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Sets;
+import io.shardingsphere.api.algorithm.masterslave.LeastLoadMasterSlaveLoadBalanceAlgorithm;
 import io.shardingsphere.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithm;
 import io.shardingsphere.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithmType;
 import io.shardingsphere.api.config.rule.MasterSlaveRuleConfiguration;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLoadStatistics;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
 
 /**
  * Databases and tables master-slave rule configuration.
@@ -44,6 +52,11 @@ public class MasterSlaveRule {
     
     private final MasterSlaveRuleConfiguration masterSlaveRuleConfiguration;
     
+    private final Map<String, DataSourceLoadStatistics> dataSourceLoadStatisticsMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> replicationLaggingDataSourceNames = Sets.newConcurrentHashSet();
+    
     public MasterSlaveRule(final MasterSlaveRuleConfiguration config) {
         Preconditions.checkNotNull(config.getName(), "Master-slave rule name cannot be null.");
         Preconditions.checkNotNull(config.getMasterDataSourceName(), "Master data source name cannot be null.");
@@ -54,6 +67,18 @@ public class MasterSlaveRule {
         slaveDataSourceNames = config.getSlaveDataSourceNames();
         loadBalanceAlgorithm = null == config.getLoadBalanceAlgorithm() ? MasterSlaveLoadBalanceAlgorithmType.getDefaultAlgorithmType().getAlgorithm() : config.getLoadBalanceAlgorithm();
         masterSlaveRuleConfiguration = config;
+        dataSourceLoadStatisticsMap = createDataSourceLoadStatisticsMap();
+    }
+    
+    private Map<String, DataSourceLoadStatistics> createDataSourceLoadStatisticsMap() {
+        if (!(loadBalanceAlgorithm instanceof LeastLoadMasterSlaveLoadBalanceAlgorithm)) {
+            return Collections.emptyMap();
+        }
+        Map<String, DataSourceLoadStatistics> result = new HashMap<>(slaveDataSourceNames.size(), 1);
+        for (String each : slaveDataSourceNames) {
+            result.put(each, ((LeastLoadMasterSlaveLoadBalanceAlgorithm) loadBalanceAlgorithm).getDataSourceLoadStatistics());
+        }
+        return result;
     }
     
     /**
@@ -65,4 +90,46 @@ public class MasterSlaveRule {
     public boolean containDataSourceName(final String dataSourceName) {
         return masterDataSourceName.equals(dataSourceName) || slaveDataSourceNames.contains(dataSourceName);
     }
+    
+    /**
+     * Get slave data source names which can be routed to.
+     * 
+     * <p>
+     * Slaves which replication lag exceeds threshold are excluded.
+     * </p>
+     *
+     * @return available slave data source names
+     */
+    public Collection<String> getAvailableSlaveDataSourceNames() {
+        if (replicationLaggingDataSourceNames.isEmpty()) {
+            return getSlaveDataSourceNames();
+        }
+        Collection<String> result = new LinkedList<>(getSlaveDataSourceNames());
+        result.removeAll(replicationLaggingDataSourceNames);
+        return result;
+    }
+    
+    /**
+     * Judge whether slave data source is replication lagging.
+     * 
+     * @param dataSourceName data source name
+     * @return replication lagging or not
+     */
+    public boolean isReplicationLagging(final String dataSourceName) {
+        return replicationLaggingDataSourceNames.contains(dataSourceName);
+    }
+    
+    /**
+     * Update replication lagging data source names.
+     * 
+     * @param dataSourceName data source name
+     * @param isLagging is replication lagging
+     */
+    public void updateReplicationLagging(final String dataSourceName, final boolean isLagging) {
+        if (isLagging) {
+            replicationLaggingDataSourceNames.add(dataSourceName);
+        } else {
+            replicationLaggingDataSourceNames.remove(dataSourceName);
+        }
+    }
 }
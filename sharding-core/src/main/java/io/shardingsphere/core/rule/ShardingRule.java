@@ -25,18 +25,23 @@ import io.shardingsphere.api.config.rule.ShardingRuleConfiguration;
 import io.shardingsphere.api.config.rule.TableRuleConfiguration;
 import io.shardingsphere.core.exception.ShardingConfigurationException;
 import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.keygen.BatchKeyGenerator;
 import io.shardingsphere.core.keygen.DefaultKeyGenerator;
 import io.shardingsphere.core.keygen.KeyGenerator;
 import io.shardingsphere.core.parsing.parser.context.condition.Column;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLoadStatistics;
 import io.shardingsphere.core.routing.strategy.ShardingStrategy;
 import io.shardingsphere.core.routing.strategy.ShardingStrategyFactory;
 import io.shardingsphere.core.routing.strategy.none.NoneShardingStrategy;
 import io.shardingsphere.core.util.StringUtil;
 import lombok.Getter;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 /**
@@ -67,6 +72,8 @@ public class ShardingRule {
     
     private final Collection<MasterSlaveRule> masterSlaveRules = new LinkedList<>();
     
+    private final Map<String, DataSourceLoadStatistics> dataSourceLoadStatisticsMap = new HashMap<>();
+    
     public ShardingRule(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames) {
         Preconditions.checkNotNull(dataSourceNames, "Data sources cannot be null.");
         Preconditions.checkArgument(!dataSourceNames.isEmpty(), "Data sources cannot be empty.");
@@ -89,7 +96,9 @@ public class ShardingRule {
                 ? new NoneShardingStrategy() : ShardingStrategyFactory.newInstance(shardingRuleConfig.getDefaultTableShardingStrategyConfig());
         defaultKeyGenerator = null == shardingRuleConfig.getDefaultKeyGenerator() ? new DefaultKeyGenerator() : shardingRuleConfig.getDefaultKeyGenerator();
         for (MasterSlaveRuleConfiguration each : shardingRuleConfig.getMasterSlaveRuleConfigs()) {
-            masterSlaveRules.add(new MasterSlaveRule(each));
+            MasterSlaveRule masterSlaveRule = new MasterSlaveRule(each);
+            masterSlaveRules.add(masterSlaveRule);
+            dataSourceLoadStatisticsMap.putAll(masterSlaveRule.getDataSourceLoadStatisticsMap());
         }
     }
     
@@ -314,6 +323,34 @@ public class ShardingRule {
         return defaultKeyGenerator.generateKey();
     }
     
+    /**
+     * Generate keys.
+     * 
+     * <p>If key generator is {@code BatchKeyGenerator}, keys are reserved at once.</p>
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys
+     * @return generated keys
+     */
+    public List<Number> generateKeys(final String logicTableName, final int count) {
+        Optional<TableRule> tableRule = tryFindTableRuleByLogicTable(logicTableName);
+        if (!tableRule.isPresent()) {
+            throw new ShardingConfigurationException("Cannot find strategy for generate keys.");
+        }
+        KeyGenerator keyGenerator = null == tableRule.get().getKeyGenerator() ? defaultKeyGenerator : tableRule.get().getKeyGenerator();
+        List<Number> result = new ArrayList<>(count);
+        if (keyGenerator instanceof BatchKeyGenerator) {
+            for (long each : ((BatchKeyGenerator) keyGenerator).generateKeys(count)) {
+                result.add(each);
+            }
+            return result;
+        }
+        for (int i = 0; i < count; i++) {
+            result.add(keyGenerator.generateKey());
+        }
+        return result;
+    }
+    
     /**
      * Get logic table name base on logic index name.
      *
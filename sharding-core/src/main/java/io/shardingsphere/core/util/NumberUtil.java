@@ -61,6 +61,30 @@ public final class NumberUtil {
         throw new ShardingException("Invalid value to transfer: %s", obj);
     }
     
+    /**
+     * Convert value to number.
+     *
+     * <p>{@code null} is converted to {@code 0}, number is returned directly without copying.</p>
+     *
+     * @param value value to be converted
+     * @return number
+     */
+    public static Number toNumber(final Object value) {
+        if (null == value) {
+            return 0;
+        }
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+        if (value instanceof String) {
+            return new BigDecimal((String) value);
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        throw new ShardingException("Invalid value to transfer: %s", value);
+    }
+    
     /**
      * Get exactly number value and type.
      * 
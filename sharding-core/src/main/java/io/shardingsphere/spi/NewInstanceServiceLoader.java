@@ -76,6 +76,17 @@ public final class NewInstanceServiceLoader {
         SERVICE_MAP.put(service, serviceClasses);
     }
     
+    /**
+     * Judge whether service has registered classes.
+     *
+     * @param service service class
+     * @return has registered classes or not
+     */
+    public static boolean isRegistered(final Class<?> service) {
+        Collection<Class<?>> serviceClasses = SERVICE_MAP.get(service);
+        return null != serviceClasses && !serviceClasses.isEmpty();
+    }
+    
     /**
      * New service instances.
      *
@@ -22,6 +22,7 @@ import io.shardingsphere.core.routing.RouteUnit;
 import io.shardingsphere.spi.NewInstanceServiceLoader;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -31,7 +32,40 @@ import java.util.Map;
  */
 public final class SPISQLExecutionHook implements SQLExecutionHook {
     
-    private final Collection<SQLExecutionHook> sqlExecutionHooks = NewInstanceServiceLoader.newServiceInstances(SQLExecutionHook.class);
+    private static final SPISQLExecutionHook NOOP_HOOK = new SPISQLExecutionHook(Collections.<SQLExecutionHook>emptyList());
+    
+    private final Collection<SQLExecutionHook> sqlExecutionHooks;
+    
+    public SPISQLExecutionHook() {
+        this(NewInstanceServiceLoader.newServiceInstances(SQLExecutionHook.class));
+    }
+    
+    private SPISQLExecutionHook(final Collection<SQLExecutionHook> sqlExecutionHooks) {
+        this.sqlExecutionHooks = sqlExecutionHooks;
+    }
+    
+    /**
+     * Create SQL execution hook for one execution.
+     * 
+     * <p>
+     * Registered hooks hold execution state, so they are new instances for every execution.
+     * Shared no-op hook is returned without allocation if no hook is registered.
+     * </p>
+     * 
+     * @return SQL execution hook
+     */
+    public static SPISQLExecutionHook newInstance() {
+        return NewInstanceServiceLoader.isRegistered(SQLExecutionHook.class) ? new SPISQLExecutionHook() : NOOP_HOOK;
+    }
+    
+    /**
+     * Judge whether no SQL execution hook is registered.
+     * 
+     * @return no SQL execution hook is registered or not
+     */
+    public boolean isEmpty() {
+        return sqlExecutionHooks.isEmpty();
+    }
     
     @Override
     public void start(final RouteUnit routeUnit, final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.spi.masterslave;
+
+import io.shardingsphere.core.constant.DatabaseType;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Replication lag prober.
+ * 
+ * <p>
+ * Measure how far a slave lags behind its master, implementations are dialect specific.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public interface ReplicationLagProber {
+    
+    /**
+     * Get database type.
+     * 
+     * @return database type
+     */
+    DatabaseType getDatabaseType();
+    
+    /**
+     * Probe replication lag.
+     * 
+     * @param connection connection of slave data source
+     * @return replication lag milliseconds, {@code Long.MAX_VALUE} if replication is stopped
+     * @throws SQLException SQL exception
+     */
+    long probe(Connection connection) throws SQLException;
+}
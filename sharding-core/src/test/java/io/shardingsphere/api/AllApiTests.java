@@ -18,6 +18,7 @@
 package io.shardingsphere.api;
 
 import io.shardingsphere.api.algorithm.common.ShardingStrategyTest;
+import io.shardingsphere.api.algorithm.masterslave.LeastLoadMasterSlaveLoadBalanceAlgorithmTest;
 import io.shardingsphere.api.algorithm.masterslave.RandomMasterSlaveLoadBalanceAlgorithmTest;
 import io.shardingsphere.api.algorithm.masterslave.RoundRobinMasterSlaveLoadBalanceAlgorithmTest;
 import io.shardingsphere.api.algorithm.sharding.DatabaseShardingStrategyTest;
@@ -33,6 +34,7 @@ import org.junit.runners.Suite.SuiteClasses;
         TableShardingStrategyTest.class, 
         RoundRobinMasterSlaveLoadBalanceAlgorithmTest.class, 
         RandomMasterSlaveLoadBalanceAlgorithmTest.class, 
+        LeastLoadMasterSlaveLoadBalanceAlgorithmTest.class, 
         HintManagerTest.class
     })
 public final class AllApiTests {
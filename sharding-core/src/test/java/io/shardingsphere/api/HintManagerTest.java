@@ -72,6 +72,15 @@ public final class HintManagerTest {
         }
     }
     
+    @Test
+    public void assertSetKeysetPagination() {
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setKeysetPagination(100L);
+            assertTrue(hintManager.isKeysetPagination());
+            assertThat(hintManager.getKeysetCursor(), is((Comparable) 100L));
+        }
+    }
+    
     @Test
     public void assertAddDatabaseShardingOnly() {
         try (HintManager hintManager = HintManager.getInstance()) {
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.api.algorithm.masterslave;
+
+import com.google.common.collect.ImmutableMap;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLoad;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class LeastLoadMasterSlaveLoadBalanceAlgorithmTest {
+    
+    private final String masterDataSourceName = "test_ds_master";
+    
+    private final String slaveDataSourceName1 = "test_ds_slave_1";
+    
+    private final String slaveDataSourceName2 = "test_ds_slave_2";
+    
+    private final List<String> slaveDataSourceNames = Arrays.asList(slaveDataSourceName1, slaveDataSourceName2);
+    
+    private final LeastLoadMasterSlaveLoadBalanceAlgorithm algorithm = new LeastLoadMasterSlaveLoadBalanceAlgorithm();
+    
+    @Test
+    public void assertGetDataSourceWithSingleSlave() {
+        assertThat(algorithm.getDataSource("ds", masterDataSourceName, Collections.singletonList(slaveDataSourceName1)), is(slaveDataSourceName1));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithOutstandingRequests() {
+        algorithm.getDataSourceLoadStatistics().start(slaveDataSourceName1);
+        algorithm.getDataSourceLoadStatistics().start(slaveDataSourceName1);
+        algorithm.getDataSourceLoadStatistics().start(slaveDataSourceName2).finish(TimeUnit.MICROSECONDS.toNanos(1L));
+        assertThat(algorithm.getDataSource("ds", masterDataSourceName, slaveDataSourceNames), is(slaveDataSourceName2));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithSlowSlave() {
+        algorithm.getDataSourceLoadStatistics().start(slaveDataSourceName1).finish(TimeUnit.SECONDS.toNanos(1L));
+        algorithm.getDataSourceLoadStatistics().start(slaveDataSourceName2).finish(TimeUnit.MILLISECONDS.toNanos(1L));
+        for (int i = 0; i < 10; i++) {
+            assertThat(algorithm.getDataSource("ds", masterDataSourceName, slaveDataSourceNames), is(slaveDataSourceName2));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithWeights() {
+        LeastLoadMasterSlaveLoadBalanceAlgorithm weightedAlgorithm = new LeastLoadMasterSlaveLoadBalanceAlgorithm(ImmutableMap.of(slaveDataSourceName2, 4));
+        weightedAlgorithm.getDataSourceLoadStatistics().start(slaveDataSourceName1).finish(TimeUnit.MILLISECONDS.toNanos(1L));
+        weightedAlgorithm.getDataSourceLoadStatistics().start(slaveDataSourceName2).finish(TimeUnit.MILLISECONDS.toNanos(2L));
+        assertThat(weightedAlgorithm.getDataSource("ds", masterDataSourceName, slaveDataSourceNames), is(slaveDataSourceName2));
+    }
+    
+    @Test
+    public void assertDataSourceLoadStatisticsNotShared() {
+        algorithm.getDataSourceLoadStatistics().start(slaveDataSourceName1);
+        assertThat(new LeastLoadMasterSlaveLoadBalanceAlgorithm().getDataSourceLoadStatistics().getDataSourceLoad(slaveDataSourceName1).getOutstandingRequests(), is(0));
+        assertThat(MasterSlaveLoadBalanceAlgorithmType.LEAST_LOAD.getAlgorithm(), not(sameInstance(MasterSlaveLoadBalanceAlgorithmType.LEAST_LOAD.getAlgorithm())));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithInvalidWeight() {
+        new LeastLoadMasterSlaveLoadBalanceAlgorithm(ImmutableMap.of(slaveDataSourceName1, 0));
+    }
+    
+    @Test
+    public void assertDataSourceLoad() {
+        DataSourceLoad dataSourceLoad = algorithm.getDataSourceLoadStatistics().start(slaveDataSourceName1);
+        assertThat(dataSourceLoad.getOutstandingRequests(), is(1));
+        dataSourceLoad.finish(TimeUnit.MILLISECONDS.toNanos(1L));
+        assertThat(dataSourceLoad.getOutstandingRequests(), is(0));
+        assertThat(algorithm.getDataSourceLoadStatistics().getDataSourceLoad(slaveDataSourceName1), is(dataSourceLoad));
+    }
+}
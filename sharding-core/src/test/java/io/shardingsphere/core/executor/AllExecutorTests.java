@@ -17,12 +17,26 @@
 
 package io.shardingsphere.core.executor;
 
+import io.shardingsphere.core.executor.sql.execute.SQLExecuteCallbackTest;
+import io.shardingsphere.core.executor.sql.execute.result.DistinctQueryResultTest;
+import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResultTest;
+import io.shardingsphere.core.executor.sql.execute.result.QueryResultMemoryBudgetTest;
+import io.shardingsphere.core.executor.sql.execute.result.column.ByteSlabTest;
+import io.shardingsphere.core.executor.sql.execute.result.column.ColumnBufferFactoryTest;
 import io.shardingsphere.core.executor.threadlocal.ExecutorExceptionHandlerTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses(ExecutorExceptionHandlerTest.class)
+@SuiteClasses({
+        ExecutorExceptionHandlerTest.class, 
+        SQLExecuteCallbackTest.class, 
+        DistinctQueryResultTest.class, 
+        MemoryQueryResultTest.class, 
+        QueryResultMemoryBudgetTest.class, 
+        ByteSlabTest.class, 
+        ColumnBufferFactoryTest.class
+    })
 public final class AllExecutorTests {
 }
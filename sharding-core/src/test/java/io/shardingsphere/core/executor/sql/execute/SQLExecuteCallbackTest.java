@@ -0,0 +1,132 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute;
+
+import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.api.config.rule.ShardingRuleConfiguration;
+import io.shardingsphere.core.executor.StatementExecuteUnit;
+import io.shardingsphere.core.metadata.datasource.DataSourceMetaData;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLoadStatistics;
+import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.spi.NewInstanceServiceLoader;
+import io.shardingsphere.spi.executor.SPISQLExecutionHook;
+import io.shardingsphere.spi.executor.SQLExecutionHook;
+import io.shardingsphere.spi.fixture.FixtureSQLExecutionHook;
+import lombok.SneakyThrows;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public final class SQLExecuteCallbackTest {
+    
+    private final String dataSourceName = "test_ds_slave";
+    
+    private final DataSourceLoadStatistics dataSourceLoadStatistics = new DataSourceLoadStatistics();
+    
+    private final ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(
+            Collections.singletonMap(dataSourceName, "jdbc:mysql://127.0.0.1:3306/test_ds_slave"), new ShardingRule(new ShardingRuleConfiguration(), Collections.singletonList(dataSourceName)), DatabaseType.MySQL);
+    
+    private Statement statement;
+    
+    private StatementExecuteUnit statementExecuteUnit;
+    
+    @Before
+    public void setUp() {
+        statement = mock(Statement.class);
+        statementExecuteUnit = new StatementExecuteUnit(new RouteUnit(dataSourceName, new SQLUnit("SELECT 1", Collections.<List<Object>>emptyList())), statement, ConnectionMode.MEMORY_STRICTLY);
+    }
+    
+    @Test
+    public void assertExecuteWithDataSourceLoadStatistics() throws SQLException {
+        assertThat(createOutstandingRequestsSQLExecuteCallback(Collections.singletonMap(dataSourceName, dataSourceLoadStatistics)).execute(
+                statementExecuteUnit, true, Collections.<String, Object>emptyMap()), is(1));
+        assertThat(dataSourceLoadStatistics.getDataSourceLoad(dataSourceName).getOutstandingRequests(), is(0));
+    }
+    
+    @Test
+    public void assertExecuteWithoutDataSourceLoadStatistics() throws SQLException {
+        assertThat(createOutstandingRequestsSQLExecuteCallback(Collections.<String, DataSourceLoadStatistics>emptyMap()).execute(
+                statementExecuteUnit, true, Collections.<String, Object>emptyMap()), is(0));
+    }
+    
+    @Test
+    public void assertExecuteWithoutSQLExecutionHook() throws SQLException {
+        NewInstanceServiceLoader.register(SQLExecutionHook.class);
+        SPISQLExecutionHook sqlExecutionHook = SPISQLExecutionHook.newInstance();
+        assertTrue(sqlExecutionHook.isEmpty());
+        assertThat(SPISQLExecutionHook.newInstance(), sameInstance(sqlExecutionHook));
+        createOutstandingRequestsSQLExecuteCallback(Collections.<String, DataSourceLoadStatistics>emptyMap()).execute(statementExecuteUnit, true, Collections.<String, Object>emptyMap());
+        verify(statement, never()).getConnection();
+    }
+    
+    @Test
+    public void assertExecuteWithSQLExecutionHookTwice() throws SQLException {
+        Map<Class, Collection<Class<?>>> serviceMap = getServiceMap();
+        serviceMap.put(SQLExecutionHook.class, Collections.<Class<?>>singleton(FixtureSQLExecutionHook.class));
+        FixtureSQLExecutionHook.getDataSourceMetaDataList().clear();
+        try {
+            createOutstandingRequestsSQLExecuteCallback(Collections.<String, DataSourceLoadStatistics>emptyMap()).execute(statementExecuteUnit, true, Collections.<String, Object>emptyMap());
+            createOutstandingRequestsSQLExecuteCallback(Collections.<String, DataSourceLoadStatistics>emptyMap()).execute(statementExecuteUnit, true, Collections.<String, Object>emptyMap());
+        } finally {
+            serviceMap.remove(SQLExecutionHook.class);
+        }
+        List<DataSourceMetaData> actual = FixtureSQLExecutionHook.getDataSourceMetaDataList();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), sameInstance(shardingDataSourceMetaData.getRoutedDataSourceMetaData(dataSourceName)));
+        assertThat(actual.get(1), sameInstance(actual.get(0)));
+        assertThat(actual.get(0).getSchemeName(), is("test_ds_slave"));
+        verify(statement, never()).getConnection();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @SneakyThrows
+    private Map<Class, Collection<Class<?>>> getServiceMap() {
+        Field field = NewInstanceServiceLoader.class.getDeclaredField("SERVICE_MAP");
+        field.setAccessible(true);
+        return (Map<Class, Collection<Class<?>>>) field.get(null);
+    }
+    
+    private SQLExecuteCallback<Integer> createOutstandingRequestsSQLExecuteCallback(final Map<String, DataSourceLoadStatistics> dataSourceLoadStatisticsMap) {
+        return new SQLExecuteCallback<Integer>(shardingDataSourceMetaData, dataSourceLoadStatisticsMap, true) {
+            
+            @Override
+            protected Integer executeSQL(final StatementExecuteUnit statementExecuteUnit) {
+                return dataSourceLoadStatistics.getDataSourceLoad(statementExecuteUnit.getRouteUnit().getDataSourceName()).getOutstandingRequests();
+            }
+        };
+    }
+}
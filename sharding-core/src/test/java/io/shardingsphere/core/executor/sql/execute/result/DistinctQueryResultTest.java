@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result;
+
+import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DistinctQueryResultTest {
+    
+    @Test
+    public void assertNextWithoutOrderBy() throws SQLException {
+        DistinctQueryResult actual = new DistinctQueryResult(
+                Arrays.asList(mockQueryResult(1, 3, 1), mockQueryResult(3, 2)), Collections.singletonList("order_id"), Collections.<OrderItem>emptyList(), 0);
+        assertThat(getOrderIds(actual), is(Arrays.<Object>asList(1, 3, 2)));
+    }
+    
+    @Test
+    public void assertNextWithOrderByDistinctColumns() throws SQLException {
+        DistinctQueryResult actual = new DistinctQueryResult(Arrays.asList(mockQueryResult(1, 1, 3), mockQueryResult(1, 2, 3)), 
+                Collections.singletonList("order_id"), Collections.singletonList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC)), 0);
+        assertThat(getOrderIds(actual), is(Arrays.<Object>asList(1, 2, 3)));
+    }
+    
+    @Test
+    public void assertNextWithAllColumnsDistinct() throws SQLException {
+        DistinctQueryResult actual = new DistinctQueryResult(
+                Arrays.asList(mockQueryResult(2, 1), mockQueryResult(1, 2)), Collections.<String>emptyList(), Collections.<OrderItem>emptyList(), 0);
+        assertThat(getOrderIds(actual), is(Arrays.<Object>asList(2, 1)));
+    }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        DistinctQueryResult actual = new DistinctQueryResult(
+                Arrays.asList(mockQueryResult(3, 1, 3), mockQueryResult(2, 1)), Collections.singletonList("order_id"), Collections.<OrderItem>emptyList(), 1);
+        assertThat(getOrderIds(actual), is(Arrays.<Object>asList(1, 2, 3)));
+    }
+    
+    @Test
+    public void assertNextWithSpillAndOrderByDistinctColumns() throws SQLException {
+        DistinctQueryResult actual = new DistinctQueryResult(Arrays.asList(mockQueryResult(3, 3, 1), mockQueryResult(2, 1)), 
+                Collections.singletonList("order_id"), Collections.singletonList(new OrderItem(1, OrderDirection.DESC, OrderDirection.ASC)), 1);
+        assertThat(getOrderIds(actual), is(Arrays.<Object>asList(3, 2, 1)));
+    }
+    
+    @Test
+    public void assertGetValueWithColumnLabel() throws SQLException {
+        DistinctQueryResult actual = new DistinctQueryResult(
+                Collections.singletonList(mockQueryResult(1)), Collections.singletonList("order_id"), Collections.<OrderItem>emptyList(), 0);
+        assertThat(actual.next(), is(true));
+        assertThat(actual.getValue("order_id", Object.class), is((Object) 1));
+        assertThat(actual.getColumnCount(), is(1));
+        assertThat(actual.getColumnLabel(1), is("order_id"));
+        assertThat(actual.getColumnType(1), is(Types.INTEGER));
+        assertThat(actual.next(), is(false));
+    }
+    
+    private List<Object> getOrderIds(final DistinctQueryResult distinctQueryResult) throws SQLException {
+        List<Object> result = new ArrayList<>();
+        while (distinctQueryResult.next()) {
+            result.add(distinctQueryResult.getValue(1, Object.class));
+        }
+        return result;
+    }
+    
+    private QueryResult mockQueryResult(final Object... orderIds) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        final int[] rowIndex = {-1};
+        when(result.getColumnCount()).thenReturn(1);
+        when(result.getColumnLabel(1)).thenReturn("order_id");
+        when(result.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return ++rowIndex[0] < orderIds.length;
+            }
+        });
+        when(result.getValue(1, Object.class)).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return orderIds[rowIndex[0]];
+            }
+        });
+        return result;
+    }
+}
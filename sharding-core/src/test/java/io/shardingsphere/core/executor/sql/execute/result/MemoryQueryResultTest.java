@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MemoryQueryResultTest {
+    
+    private ResultSet resultSet;
+    
+    @Before
+    public void setUp() throws SQLException {
+        resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(4);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("order_id");
+        when(resultSetMetaData.getColumnLabel(2)).thenReturn("status");
+        when(resultSetMetaData.getColumnLabel(3)).thenReturn("user_id");
+        when(resultSetMetaData.getColumnLabel(4)).thenReturn("amount");
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(resultSetMetaData.getColumnType(3)).thenReturn(Types.INTEGER);
+        when(resultSetMetaData.getColumnType(4)).thenReturn(Types.DECIMAL);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getObject(1)).thenReturn(1L, null);
+        when(resultSet.getObject(2)).thenReturn("init", null);
+        when(resultSet.getObject(3)).thenReturn(10, 20L);
+        when(resultSet.getObject(4)).thenReturn(new BigDecimal("1.5"), null);
+    }
+    
+    @Test
+    public void assertNext() throws SQLException {
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValue() throws SQLException {
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1L));
+        assertFalse(actual.wasNull());
+        assertThat(actual.getValue("status", Object.class), is((Object) "init"));
+        assertThat(actual.getValue(3, Object.class), is((Object) 10));
+        assertThat(actual.getValue(4, Object.class), is((Object) new BigDecimal("1.5")));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), nullValue());
+        assertTrue(actual.wasNull());
+        assertThat(actual.getValue(2, Object.class), nullValue());
+        assertThat(actual.getValue(3, Object.class), is((Object) 20L));
+        assertFalse(actual.wasNull());
+    }
+    
+    @Test
+    public void assertGetPrimitiveValue() throws SQLException {
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertThat(actual.getLong(1), is(1L));
+        assertThat(actual.getInt(3), is(10));
+        assertThat(actual.getDouble(4), is(1.5D));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getLong(1), is(0L));
+        assertTrue(actual.wasNull());
+        assertThat(actual.getInt(3), is(20));
+        assertFalse(actual.wasNull());
+    }
+    
+    @Test
+    public void assertGetMetaData() throws SQLException {
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet);
+        assertThat(actual.getColumnCount(), is(4));
+        assertThat(actual.getColumnLabel(2), is("status"));
+        assertThat(actual.getColumnType(2), is(Types.VARCHAR));
+    }
+    
+    @Test
+    public void assertAllocateMemoryBudget() throws SQLException {
+        QueryResultMemoryBudget memoryBudget = new QueryResultMemoryBudget(1024 * 1024);
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet, memoryBudget, false);
+        assertTrue(actual.getMemorySize() > 0L);
+        assertThat(memoryBudget.getAllocatedBytes(), is(actual.getMemorySize()));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertExceedMemoryBudget() throws SQLException {
+        new MemoryQueryResult(resultSet, new QueryResultMemoryBudget(1), false);
+    }
+    
+    @Test
+    public void assertGetValueWithOffHeap() throws SQLException {
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet, new QueryResultMemoryBudget(0), true);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is((Object) "init"));
+    }
+}
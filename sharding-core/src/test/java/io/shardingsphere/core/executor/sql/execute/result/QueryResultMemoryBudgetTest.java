@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class QueryResultMemoryBudgetTest {
+    
+    @Test
+    public void assertAllocateWithinBudget() throws SQLException {
+        QueryResultMemoryBudget actual = new QueryResultMemoryBudget(100L);
+        actual.allocate(60L);
+        actual.allocate(40L);
+        assertThat(actual.getAllocatedBytes(), is(100L));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertAllocateExceedBudget() throws SQLException {
+        QueryResultMemoryBudget actual = new QueryResultMemoryBudget(100L);
+        actual.allocate(60L);
+        actual.allocate(41L);
+    }
+    
+    @Test
+    public void assertAllocateWithUnlimitedBudget() throws SQLException {
+        QueryResultMemoryBudget actual = new QueryResultMemoryBudget(0L);
+        actual.allocate(Long.MAX_VALUE);
+        assertThat(actual.getAllocatedBytes(), is(0L));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ByteSlabTest {
+    
+    @Test
+    public void assertAppendAndGetOnHeap() {
+        assertAppendAndGet(new ByteSlab(false));
+    }
+    
+    @Test
+    public void assertAppendAndGetOffHeap() {
+        assertAppendAndGet(new ByteSlab(true));
+    }
+    
+    private void assertAppendAndGet(final ByteSlab byteSlab) {
+        long firstAddress = byteSlab.append(new byte[] {1, 2, 3});
+        long secondAddress = byteSlab.append(new byte[] {4, 5});
+        byte[] largeBytes = new byte[128 * 1024];
+        largeBytes[largeBytes.length - 1] = 6;
+        long largeAddress = byteSlab.append(largeBytes);
+        assertThat(byteSlab.get(firstAddress, 3), is(new byte[] {1, 2, 3}));
+        assertThat(byteSlab.get(secondAddress, 2), is(new byte[] {4, 5}));
+        assertThat(byteSlab.get(largeAddress, largeBytes.length), is(largeBytes));
+        assertThat(byteSlab.getAllocatedBytes(), is(64L * 1024 + 128L * 1024));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+import org.junit.Test;
+
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+public final class ColumnBufferFactoryTest {
+    
+    private final ByteSlab byteSlab = new ByteSlab(false);
+    
+    @Test
+    public void assertNewInstanceForInt() {
+        assertThat(ColumnBufferFactory.newInstance(Types.INTEGER, byteSlab), instanceOf(IntColumnBuffer.class));
+    }
+    
+    @Test
+    public void assertNewInstanceForLong() {
+        assertThat(ColumnBufferFactory.newInstance(Types.BIGINT, byteSlab), instanceOf(LongColumnBuffer.class));
+    }
+    
+    @Test
+    public void assertNewInstanceForDouble() {
+        assertThat(ColumnBufferFactory.newInstance(Types.DOUBLE, byteSlab), instanceOf(DoubleColumnBuffer.class));
+    }
+    
+    @Test
+    public void assertNewInstanceForString() {
+        assertThat(ColumnBufferFactory.newInstance(Types.VARCHAR, byteSlab), instanceOf(StringColumnBuffer.class));
+    }
+    
+    @Test
+    public void assertNewInstanceForBytes() {
+        assertThat(ColumnBufferFactory.newInstance(Types.VARBINARY, byteSlab), instanceOf(BytesColumnBuffer.class));
+    }
+    
+    @Test
+    public void assertNewInstanceForOthers() {
+        assertThat(ColumnBufferFactory.newInstance(Types.TIMESTAMP, byteSlab), instanceOf(ObjectColumnBuffer.class));
+    }
+}
@@ -21,8 +21,10 @@ import io.shardingsphere.api.HintManager;
 import org.junit.After;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 public final class HintManagerHolderTest {
@@ -87,6 +89,26 @@ public final class HintManagerHolderTest {
         assertFalse(HintManagerHolder.isMasterRouteOnly());
     }
     
+    @Test
+    public void assertGetKeysetCursor() {
+        hintManager.setKeysetPagination(100L);
+        assertTrue(HintManagerHolder.isKeysetPagination());
+        assertThat(HintManagerHolder.getKeysetCursor().get(), is((Comparable) 100L));
+    }
+    
+    @Test
+    public void assertGetKeysetCursorForFirstPage() {
+        hintManager.setKeysetPagination(null);
+        assertTrue(HintManagerHolder.isKeysetPagination());
+        assertFalse(HintManagerHolder.getKeysetCursor().isPresent());
+    }
+    
+    @Test
+    public void assertGetKeysetCursorWithoutSet() {
+        assertFalse(HintManagerHolder.isKeysetPagination());
+        assertFalse(HintManagerHolder.getKeysetCursor().isPresent());
+    }
+    
     @Test
     public void assertClear() {
         hintManager.addDatabaseShardingValue("logicTable", 1);
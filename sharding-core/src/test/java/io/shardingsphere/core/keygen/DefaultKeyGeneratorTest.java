@@ -17,22 +17,36 @@
 
 package io.shardingsphere.core.keygen;
 
+import io.shardingsphere.core.keygen.fixture.FixedTimeService;
 import lombok.SneakyThrows;
+import org.junit.After;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class DefaultKeyGeneratorTest {
     
+    @After
+    public void tearDown() {
+        DefaultKeyGenerator.setTimeService(new TimeService());
+        DefaultKeyGenerator.setMaxTolerateTimeDifferenceMilliseconds(0);
+    }
+    
     @Test
     public void assertGenerateKey() throws ExecutionException, InterruptedException {
         int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
@@ -52,6 +66,91 @@ public final class DefaultKeyGeneratorTest {
         assertThat(generatedKeys.size(), is(taskNumber));
     }
     
+    @Test
+    public void assertGenerateKeyConcurrently() throws InterruptedException {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 2;
+        final int keyNumberPerThread = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        final DefaultKeyGenerator keyGenerator = new DefaultKeyGenerator();
+        final Set<Number> generatedKeys = Collections.newSetFromMap(new ConcurrentHashMap<Number, Boolean>());
+        final CountDownLatch latch = new CountDownLatch(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            executor.execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    for (int j = 0; j < keyNumberPerThread; j++) {
+                        generatedKeys.add(keyGenerator.generateKey());
+                    }
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+        assertThat(generatedKeys.size(), is(threadNumber * keyNumberPerThread));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithVibratedSequenceOffset() {
+        TimeService timeService = mock(TimeService.class);
+        when(timeService.getCurrentMillis()).thenReturn(DefaultKeyGenerator.EPOCH + 1, DefaultKeyGenerator.EPOCH + 2);
+        DefaultKeyGenerator.setTimeService(timeService);
+        DefaultKeyGenerator keyGenerator = new DefaultKeyGenerator();
+        assertThat(keyGenerator.generateKey(), is((Number) ((1L << 22) | 1L)));
+        assertThat(keyGenerator.generateKey(), is((Number) (2L << 22)));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithSequenceExhausted() {
+        DefaultKeyGenerator.setTimeService(new FixedTimeService(5000));
+        DefaultKeyGenerator keyGenerator = new DefaultKeyGenerator();
+        Set<Number> generatedKeys = new HashSet<>();
+        for (int i = 0; i < 4095; i++) {
+            generatedKeys.add(keyGenerator.generateKey());
+        }
+        Number actual = keyGenerator.generateKey();
+        generatedKeys.add(actual);
+        assertThat(generatedKeys.size(), is(4096));
+        assertThat(actual, is((Number) (1L << 22)));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithClockMovingBackwardsWithinTolerateTimeDifference() {
+        TimeService timeService = mock(TimeService.class);
+        when(timeService.getCurrentMillis()).thenReturn(DefaultKeyGenerator.EPOCH + 2, DefaultKeyGenerator.EPOCH + 1);
+        DefaultKeyGenerator.setTimeService(timeService);
+        DefaultKeyGenerator.setMaxTolerateTimeDifferenceMilliseconds(1);
+        DefaultKeyGenerator keyGenerator = new DefaultKeyGenerator();
+        assertThat(keyGenerator.generateKey(), is((Number) ((2L << 22) | 1L)));
+        assertThat(keyGenerator.generateKey(), is((Number) ((2L << 22) | 2L)));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGenerateKeyFailureWithClockMovingBackwardsBeyondTolerateTimeDifference() {
+        TimeService timeService = mock(TimeService.class);
+        when(timeService.getCurrentMillis()).thenReturn(DefaultKeyGenerator.EPOCH + 3, DefaultKeyGenerator.EPOCH + 1);
+        DefaultKeyGenerator.setTimeService(timeService);
+        DefaultKeyGenerator.setMaxTolerateTimeDifferenceMilliseconds(1);
+        DefaultKeyGenerator keyGenerator = new DefaultKeyGenerator();
+        keyGenerator.generateKey();
+        keyGenerator.generateKey();
+    }
+    
+    @Test
+    public void assertGenerateKeys() {
+        DefaultKeyGenerator.setTimeService(new FixedTimeService(5000));
+        DefaultKeyGenerator keyGenerator = new DefaultKeyGenerator();
+        long[] actual = keyGenerator.generateKeys(5000);
+        assertThat(actual.length, is(5000));
+        for (int i = 1; i < actual.length; i++) {
+            assertTrue(actual[i] > actual[i - 1]);
+        }
+        assertThat(actual[4094], is(4095L));
+        assertThat(actual[4095], is(1L << 22));
+        assertTrue(keyGenerator.generateKey().longValue() > actual[4999]);
+    }
+    
     @Test(expected = IllegalArgumentException.class)
     public void assertSetWorkerIdFailureWhenNegative() {
         DefaultKeyGenerator.setWorkerId(-1L);
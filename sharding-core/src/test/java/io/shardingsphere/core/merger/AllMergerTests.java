@@ -25,7 +25,9 @@ import io.shardingsphere.core.merger.dal.show.ShowTablesMergedResultTest;
 import io.shardingsphere.core.merger.dql.DQLMergeEngineTest;
 import io.shardingsphere.core.merger.dql.common.DecoratorMergedResultTest;
 import io.shardingsphere.core.merger.dql.common.MemoryMergedResultTest;
+import io.shardingsphere.core.merger.dql.common.ExternalRowSorterTest;
 import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRowTest;
+import io.shardingsphere.core.merger.dql.common.SpilledRowCodecTest;
 import io.shardingsphere.core.merger.dql.common.StreamMergedResultTest;
 import io.shardingsphere.core.merger.dql.groupby.GroupByMemoryMergedResultTest;
 import io.shardingsphere.core.merger.dql.groupby.GroupByRowComparatorTest;
@@ -34,8 +36,10 @@ import io.shardingsphere.core.merger.dql.groupby.GroupByValueTest;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AllAggregationTests;
 import io.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResultTest;
 import io.shardingsphere.core.merger.dql.orderby.CompareUtilTest;
+import io.shardingsphere.core.merger.dql.orderby.LoserTreeTest;
 import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResultTest;
 import io.shardingsphere.core.merger.dql.orderby.OrderByValueTest;
+import io.shardingsphere.core.merger.dql.pagination.KeysetDecoratorMergedResultTest;
 import io.shardingsphere.core.merger.dql.pagination.LimitDecoratorMergedResultTest;
 import io.shardingsphere.core.merger.dql.pagination.RowNumberDecoratorMergedResultTest;
 import io.shardingsphere.core.merger.dql.pagination.TopAndRowNumberDecoratorMergedResultTest;
@@ -50,8 +54,11 @@ import org.junit.runners.Suite.SuiteClasses;
         MemoryMergedResultTest.class, 
         DecoratorMergedResultTest.class, 
         MemoryQueryResultRowTest.class, 
+        SpilledRowCodecTest.class,
+        ExternalRowSorterTest.class,
         IteratorStreamMergedResultTest.class, 
         OrderByValueTest.class, 
+        LoserTreeTest.class, 
         OrderByStreamMergedResultTest.class, 
         CompareUtilTest.class, 
         GroupByValueTest.class, 
@@ -62,6 +69,7 @@ import org.junit.runners.Suite.SuiteClasses;
         LimitDecoratorMergedResultTest.class,
         RowNumberDecoratorMergedResultTest.class,
         TopAndRowNumberDecoratorMergedResultTest.class,
+        KeysetDecoratorMergedResultTest.class,
         DALMergeEngineTest.class,
         ShowCreateTableMergedResultTest.class,
         ShowDatabasesMergedResultTest.class,
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.common;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExternalRowSorterTest {
+    
+    @Test
+    public void assertSortWithoutSpill() {
+        ExternalRowSorter sorter = new ExternalRowSorter(new FirstCellComparator(), 10);
+        addRows(sorter, 3, 1, 2);
+        assertThat(sorter.getSpilledRunCount(), is(0));
+        assertSortedRows(sorter.sort(), 1, 2, 3);
+    }
+    
+    @Test
+    public void assertSortWithSpill() {
+        ExternalRowSorter sorter = new ExternalRowSorter(new FirstCellComparator(), 2);
+        addRows(sorter, 5, 3, 1, 4, 2);
+        assertThat(sorter.getSpilledRunCount(), is(2));
+        assertSortedRows(sorter.sort(), 1, 2, 3, 4, 5);
+        sorter.close();
+        assertThat(sorter.getSpilledRunCount(), is(0));
+    }
+    
+    @Test
+    public void assertCloseWithPartiallyReadRows() {
+        int originalSpilledFileCount = getSpilledFileCount();
+        ExternalRowSorter sorter = new ExternalRowSorter(new FirstCellComparator(), 2);
+        addRows(sorter, 5, 3, 1, 4, 2);
+        Iterator<MemoryQueryResultRow> actual = sorter.sort();
+        assertThat((Integer) actual.next().getCell(1), is(1));
+        assertThat(getSpilledFileCount(), is(originalSpilledFileCount + 2));
+        sorter.close();
+        assertThat(sorter.getSpilledRunCount(), is(0));
+        assertThat(getSpilledFileCount(), is(originalSpilledFileCount));
+    }
+    
+    @Test
+    public void assertSortWithoutRows() {
+        assertFalse(new ExternalRowSorter(new FirstCellComparator(), 2).sort().hasNext());
+    }
+    
+    private void addRows(final ExternalRowSorter sorter, final Integer... values) {
+        for (Integer each : values) {
+            sorter.add(new MemoryQueryResultRow(new Object[] {each, "value_" + each}));
+        }
+    }
+    
+    private void assertSortedRows(final Iterator<MemoryQueryResultRow> actual, final Integer... expected) {
+        for (Integer each : expected) {
+            assertTrue(actual.hasNext());
+            MemoryQueryResultRow row = actual.next();
+            assertThat((Integer) row.getCell(1), is(each));
+            assertThat((String) row.getCell(2), is("value_" + each));
+        }
+        assertFalse(actual.hasNext());
+    }
+    
+    private int getSpilledFileCount() {
+        String[] result = new File(System.getProperty("java.io.tmpdir")).list(new FilenameFilter() {
+            
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.startsWith("sharding-merge-") && name.endsWith(".run");
+            }
+        });
+        return null == result ? 0 : result.length;
+    }
+    
+    private static final class FirstCellComparator implements Comparator<MemoryQueryResultRow> {
+        
+        @Override
+        public int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
+            return ((Integer) o1.getCell(1)).compareTo((Integer) o2.getCell(1));
+        }
+    }
+}
@@ -39,6 +39,7 @@ import java.util.Map;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -63,6 +64,19 @@ public final class MemoryMergedResultTest {
         assertThat(memoryMergedResult.getValue(1, Object.class).toString(), is("1"));
     }
     
+    @Test
+    public void assertGetLongWithColumnIndex() {
+        when(memoryResultSetRow.getCell(1)).thenReturn(1);
+        assertThat(memoryMergedResult.getLong(1), is(1L));
+        assertFalse(memoryMergedResult.wasNull());
+    }
+    
+    @Test
+    public void assertGetIntWithColumnIndexForNull() {
+        assertThat(memoryMergedResult.getInt(1), is(0));
+        assertTrue(memoryMergedResult.wasNull());
+    }
+    
     @Test(expected = SQLFeatureNotSupportedException.class)
     public void assertGetValueWithColumnIndexForBlob() throws SQLException {
         memoryMergedResult.getValue(1, Blob.class);
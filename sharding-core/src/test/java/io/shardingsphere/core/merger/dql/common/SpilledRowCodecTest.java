@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.common;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class SpilledRowCodecTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        UUID uuid = UUID.randomUUID();
+        Object[] expected = new Object[] {
+            null, "value_中文", 1, 2L, (short) 3, (byte) 4, true, 5.5D, 6.5F, new BigDecimal("-7.250"), new BigInteger("8"),
+            new Date(1000L), new Time(2000L), timestamp, new java.util.Date(3000L), uuid, };
+        MemoryQueryResultRow actual = writeAndRead(new MemoryQueryResultRow(expected));
+        assertThat(actual.getColumnCount(), is(expected.length));
+        assertThat(actual.getCell(1), nullValue());
+        for (int i = 2; i <= expected.length; i++) {
+            assertThat(actual.getCell(i), is(expected[i - 1]));
+            assertThat(actual.getCell(i), instanceOf(expected[i - 1].getClass()));
+        }
+    }
+    
+    @Test
+    public void assertWriteAndReadBytes() throws IOException {
+        MemoryQueryResultRow actual = writeAndRead(new MemoryQueryResultRow(new Object[] {new byte[] {1, 2, 3}}));
+        assertThat((byte[]) actual.getCell(1), is(new byte[] {1, 2, 3}));
+    }
+    
+    private MemoryQueryResultRow writeAndRead(final MemoryQueryResultRow row) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        SpilledRowCodec.write(new DataOutputStream(output), row);
+        return SpilledRowCodec.read(new DataInputStream(new ByteArrayInputStream(output.toByteArray())));
+    }
+}
@@ -74,6 +74,25 @@ public final class StreamMergedResultTest {
         assertThat(streamMergedResult.getValue(1, Object.class).toString(), is("1"));
     }
     
+    @Test
+    public void assertGetIntWithColumnIndex() throws SQLException {
+        when(resultSet.getInt(1)).thenReturn(1);
+        assertThat(streamMergedResult.getInt(1), is(1));
+    }
+    
+    @Test
+    public void assertGetLongWithColumnIndex() throws SQLException {
+        when(resultSet.getLong(1)).thenReturn(1L);
+        assertThat(streamMergedResult.getLong(1), is(1L));
+    }
+    
+    @Test
+    public void assertGetDoubleWithColumnIndex() throws SQLException {
+        when(resultSet.getDouble(1)).thenReturn(1D);
+        assertThat(streamMergedResult.getDouble(1), is(1D));
+        assertFalse(streamMergedResult.wasNull());
+    }
+    
     @Test
     public void assertGetValueWithColumnIndexWithBoolean() throws SQLException {
         when(resultSet.getBoolean(1)).thenReturn(true);
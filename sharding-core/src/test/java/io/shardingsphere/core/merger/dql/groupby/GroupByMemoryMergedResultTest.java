@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import io.shardingsphere.core.constant.AggregationType;
 import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.merger.dql.DQLMergeEngine;
@@ -30,6 +31,8 @@ import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelec
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.math.BigDecimal;
 import java.sql.ResultSet;
@@ -37,11 +40,13 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -129,4 +134,51 @@ public final class GroupByMemoryMergedResultTest {
         assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        mergeEngine = new DQLMergeEngine(queryResults, selectStatement, null, 1);
+        assertNextWithAggregatedRows();
+    }
+    
+    @Test
+    public void assertNextWithExecuteEngine() throws SQLException {
+        try (ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(2)) {
+            mergeEngine = new DQLMergeEngine(queryResults, selectStatement, executeEngine, 0);
+            assertNextWithAggregatedRows();
+        }
+    }
+    
+    private void assertNextWithAggregatedRows() throws SQLException {
+        mockRows(resultSets.get(0), new Object[] {20, 0, 2, 2, 20}, new Object[] {10, 0, 3, 1, 10});
+        mockRows(resultSets.get(2), new Object[] {20, 0, 3, 2, 40}, new Object[] {30, 0, 2, 3, 60});
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(16));
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(50)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(16));
+        assertThat((Integer) actual.getValue(3, Object.class), is(2));
+        assertFalse(actual.next());
+    }
+    
+    private void mockRows(final ResultSet resultSet, final Object[]... rows) throws SQLException {
+        final AtomicInteger cursor = new AtomicInteger(-1);
+        when(resultSet.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return cursor.incrementAndGet() < rows.length;
+            }
+        });
+        when(resultSet.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return rows[cursor.get()][(Integer) invocation.getArguments()[0] - 1];
+            }
+        });
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.constant.AggregationType;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRow;
+import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class AggregationColumnsTest {
+    
+    private AggregationColumns aggregationColumns;
+    
+    @Before
+    public void setUp() throws SQLException {
+        AggregationSelectItem countItem = new AggregationSelectItem(AggregationType.COUNT, "(*)", Optional.<String>absent());
+        countItem.setIndex(1);
+        AggregationSelectItem avgItem = new AggregationSelectItem(AggregationType.AVG, "(num)", Optional.<String>absent());
+        avgItem.setIndex(2);
+        AggregationSelectItem derivedCountItem = new AggregationSelectItem(AggregationType.COUNT, "(num)", Optional.of("AVG_DERIVED_COUNT_0"));
+        derivedCountItem.setIndex(3);
+        avgItem.getDerivedAggregationSelectItems().add(derivedCountItem);
+        AggregationSelectItem derivedSumItem = new AggregationSelectItem(AggregationType.SUM, "(num)", Optional.of("AVG_DERIVED_SUM_0"));
+        derivedSumItem.setIndex(4);
+        avgItem.getDerivedAggregationSelectItems().add(derivedSumItem);
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(queryResult.getColumnType(3)).thenReturn(Types.BIGINT);
+        when(queryResult.getColumnType(4)).thenReturn(Types.DECIMAL);
+        aggregationColumns = new AggregationColumns(Arrays.asList(countItem, avgItem), queryResult);
+    }
+    
+    @Test
+    public void assertCreateAggregationUnits() {
+        SingleValueAggregationUnit[] actual = aggregationColumns.createAggregationUnits();
+        assertThat(actual.length, is(3));
+        assertThat(actual[0], instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(actual[1], instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(actual[2], instanceOf(DecimalAccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertAggregateQueryResult() throws SQLException {
+        SingleValueAggregationUnit[] aggregationUnits = aggregationColumns.createAggregationUnits();
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getLong(1)).thenReturn(2L, 3L);
+        when(queryResult.getLong(3)).thenReturn(2L, 1L);
+        when(queryResult.getValue(4, Object.class)).thenReturn(new BigDecimal("5"), new BigDecimal("5"));
+        aggregationColumns.aggregate(aggregationUnits, queryResult);
+        aggregationColumns.aggregate(aggregationUnits, queryResult);
+        assertThat(aggregationColumns.getAggregationSelectItemSize(), is(2));
+        assertThat(aggregationColumns.getAggregationSelectItemIndex(1), is(2));
+        assertThat((BigDecimal) aggregationColumns.getAggregationValue(aggregationUnits, 0), is(new BigDecimal("5")));
+        assertThat((BigDecimal) aggregationColumns.getAggregationValue(aggregationUnits, 1), is(new BigDecimal("3.3333")));
+    }
+    
+    @Test
+    public void assertSetAggregationValues() {
+        SingleValueAggregationUnit[] aggregationUnits = aggregationColumns.createAggregationUnits();
+        aggregationColumns.aggregate(aggregationUnits, new MemoryQueryResultRow(new Object[] {2L, null, 2L, new BigDecimal("6")}));
+        aggregationColumns.aggregate(aggregationUnits, new MemoryQueryResultRow(new Object[] {1L, null, 1L, new BigDecimal("3")}));
+        MemoryQueryResultRow partialRow = new MemoryQueryResultRow(new Object[] {0L, null, 0L, null});
+        aggregationColumns.setPartialAggregationValues(aggregationUnits, partialRow);
+        assertThat((BigDecimal) partialRow.getCell(1), is(new BigDecimal("3")));
+        assertThat(partialRow.getCell(2), is((Object) null));
+        assertThat((BigDecimal) partialRow.getCell(3), is(new BigDecimal("3")));
+        assertThat((BigDecimal) partialRow.getCell(4), is(new BigDecimal("9")));
+        MemoryQueryResultRow row = new MemoryQueryResultRow(new Object[] {0L, null, 0L, null});
+        aggregationColumns.setAggregationValues(aggregationUnits, row);
+        assertThat((BigDecimal) row.getCell(1), is(new BigDecimal("3")));
+        assertThat((BigDecimal) row.getCell(2), is(new BigDecimal("3.0000")));
+    }
+    
+    @Test
+    public void assertMerge() {
+        SingleValueAggregationUnit[] aggregationUnits = aggregationColumns.createAggregationUnits();
+        aggregationColumns.aggregate(aggregationUnits, new MemoryQueryResultRow(new Object[] {2L, null, 2L, new BigDecimal("6")}));
+        SingleValueAggregationUnit[] partialAggregationUnits = aggregationColumns.createAggregationUnits();
+        aggregationColumns.aggregate(partialAggregationUnits, new MemoryQueryResultRow(new Object[] {1L, null, 1L, new BigDecimal("3")}));
+        aggregationColumns.merge(aggregationUnits, partialAggregationUnits);
+        assertThat((BigDecimal) aggregationColumns.getAggregationValue(aggregationUnits, 0), is(new BigDecimal("3")));
+        assertThat((BigDecimal) aggregationColumns.getAggregationValue(aggregationUnits, 1), is(new BigDecimal("3.0000")));
+    }
+    
+    @Test
+    public void assertGetAggregationValueWithAllNullGroup() throws SQLException {
+        SingleValueAggregationUnit[] aggregationUnits = aggregationColumns.createAggregationUnits();
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getLong(1)).thenReturn(2L);
+        when(queryResult.getLong(3)).thenReturn(0L);
+        aggregationColumns.aggregate(aggregationUnits, queryResult);
+        aggregationColumns.aggregate(aggregationUnits, queryResult);
+        assertThat((BigDecimal) aggregationColumns.getAggregationValue(aggregationUnits, 0), is(new BigDecimal("4")));
+        assertThat(aggregationColumns.getAggregationValue(aggregationUnits, 1), nullValue());
+    }
+}
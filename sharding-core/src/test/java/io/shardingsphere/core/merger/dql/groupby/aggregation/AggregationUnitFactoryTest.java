@@ -20,6 +20,8 @@ package io.shardingsphere.core.merger.dql.groupby.aggregation;
 import io.shardingsphere.core.constant.AggregationType;
 import org.junit.Test;
 
+import java.sql.Types;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
 
@@ -41,4 +43,26 @@ public final class AggregationUnitFactoryTest {
     public void assertCreateAverageAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.AVG), instanceOf(AverageAggregationUnit.class));
     }
+    
+    @Test
+    public void assertCreateComparableAggregationUnitByColumnType() {
+        assertThat(AggregationUnitFactory.create(AggregationType.MIN, Types.BIGINT), instanceOf(LongComparableAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.MAX, Types.DOUBLE), instanceOf(DoubleComparableAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.MAX, Types.VARCHAR), instanceOf(ComparableAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateAccumulationAggregationUnitByColumnType() {
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, Types.DECIMAL), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, Types.VARCHAR), instanceOf(AccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, Types.INTEGER), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, Types.FLOAT), instanceOf(DoubleAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, Types.DECIMAL), instanceOf(DecimalAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, Types.VARCHAR), instanceOf(AccumulationAggregationUnit.class));
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertCreateAverageAggregationUnitByColumnType() {
+        AggregationUnitFactory.create(AggregationType.AVG, Types.DECIMAL);
+    }
 }
@@ -26,7 +26,13 @@ import org.junit.runners.Suite.SuiteClasses;
         AggregationUnitFactoryTest.class, 
         ComparableAggregationUnitTest.class, 
         AccumulationAggregationUnitTest.class, 
-        AverageAggregationUnitTest.class
+        AverageAggregationUnitTest.class, 
+        LongAccumulationAggregationUnitTest.class, 
+        DoubleAccumulationAggregationUnitTest.class, 
+        DecimalAccumulationAggregationUnitTest.class, 
+        LongComparableAggregationUnitTest.class, 
+        DoubleComparableAggregationUnitTest.class, 
+        AggregationColumnsTest.class
     })
 public final class AllAggregationTests {
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import io.shardingsphere.core.merger.QueryResult;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DoubleAccumulationAggregationUnitTest {
+    
+    @Test
+    public void assertAccumulationAggregation() {
+        DoubleAccumulationAggregationUnit accumulationAggregationUnit = new DoubleAccumulationAggregationUnit(false);
+        accumulationAggregationUnit.merge(null);
+        accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(null));
+        accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(1.5D));
+        accumulationAggregationUnit.merge(1.5F);
+        accumulationAggregationUnit.merge("10");
+        assertThat(((BigDecimal) accumulationAggregationUnit.getResult()).doubleValue(), is(13D));
+    }
+    
+    @Test
+    public void assertAccumulationAggregationWithoutValue() {
+        DoubleAccumulationAggregationUnit accumulationAggregationUnit = new DoubleAccumulationAggregationUnit(false);
+        accumulationAggregationUnit.merge((Object) null);
+        assertThat(accumulationAggregationUnit.getResult(), nullValue());
+    }
+    
+    @Test
+    public void assertAccumulationAggregationWithQueryResult() throws SQLException {
+        DoubleAccumulationAggregationUnit accumulationAggregationUnit = new DoubleAccumulationAggregationUnit(false);
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getDouble(1)).thenReturn(0.1D, 0D, 0.2D);
+        when(queryResult.wasNull()).thenReturn(false, true, false);
+        accumulationAggregationUnit.merge(queryResult, 1);
+        accumulationAggregationUnit.merge(queryResult, 1);
+        accumulationAggregationUnit.merge(queryResult, 1);
+        assertThat((BigDecimal) accumulationAggregationUnit.getResult(), is(new BigDecimal("0.3")));
+    }
+    
+    @Test
+    public void assertAccumulationAggregationWithSinglePrecisionQueryResult() throws SQLException {
+        DoubleAccumulationAggregationUnit accumulationAggregationUnit = new DoubleAccumulationAggregationUnit(true);
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getDouble(1)).thenReturn((double) 0.1F, (double) 0.2F);
+        accumulationAggregationUnit.merge(queryResult, 1);
+        accumulationAggregationUnit.merge(queryResult, 1);
+        assertThat((BigDecimal) accumulationAggregationUnit.getResult(), is(new BigDecimal("0.3")));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import io.shardingsphere.core.merger.QueryResult;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class DoubleComparableAggregationUnitTest {
+    
+    @Test
+    public void assertComparableAggregationForAsc() {
+        DoubleComparableAggregationUnit comparableAggregation = new DoubleComparableAggregationUnit(true);
+        comparableAggregation.merge(null);
+        comparableAggregation.merge(Collections.<Comparable<?>>singletonList(null));
+        comparableAggregation.merge(Collections.<Comparable<?>>singletonList(1.5D));
+        comparableAggregation.merge(10F);
+        comparableAggregation.merge(5D);
+        assertThat((Double) comparableAggregation.getResult(), is(1.5D));
+    }
+    
+    @Test
+    public void assertComparableAggregationForDesc() {
+        DoubleComparableAggregationUnit comparableAggregation = new DoubleComparableAggregationUnit(false);
+        comparableAggregation.merge(1.5D);
+        comparableAggregation.merge(10F);
+        comparableAggregation.merge(5D);
+        assertThat((Float) comparableAggregation.getResult(), is(10F));
+    }
+    
+    @Test
+    public void assertComparableAggregationWithQueryResult() throws SQLException {
+        DoubleComparableAggregationUnit comparableAggregation = new DoubleComparableAggregationUnit(true);
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getDouble(1)).thenReturn(10D, 1.5D, 5D);
+        when(queryResult.getValue(1, Object.class)).thenReturn(10F, 1.5F);
+        comparableAggregation.merge(queryResult, 1);
+        comparableAggregation.merge(queryResult, 1);
+        comparableAggregation.merge(queryResult, 1);
+        assertThat((Float) comparableAggregation.getResult(), is(1.5F));
+        verify(queryResult, times(2)).getValue(1, Object.class);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import io.shardingsphere.core.merger.QueryResult;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class LongAccumulationAggregationUnitTest {
+    
+    @Test
+    public void assertAccumulationAggregation() {
+        LongAccumulationAggregationUnit accumulationAggregationUnit = new LongAccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(null);
+        accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(null));
+        accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(1));
+        accumulationAggregationUnit.merge(1L);
+        accumulationAggregationUnit.merge((short) 10);
+        assertThat((BigDecimal) accumulationAggregationUnit.getResult(), is(new BigDecimal("12")));
+    }
+    
+    @Test
+    public void assertAccumulationAggregationWithoutValue() {
+        LongAccumulationAggregationUnit accumulationAggregationUnit = new LongAccumulationAggregationUnit();
+        accumulationAggregationUnit.merge((Object) null);
+        assertThat(accumulationAggregationUnit.getResult(), nullValue());
+    }
+    
+    @Test
+    public void assertAccumulationAggregationWithOverflow() {
+        LongAccumulationAggregationUnit accumulationAggregationUnit = new LongAccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Long.MAX_VALUE);
+        accumulationAggregationUnit.merge(1);
+        accumulationAggregationUnit.merge(1);
+        assertThat((BigDecimal) accumulationAggregationUnit.getResult(), is(BigDecimal.valueOf(Long.MAX_VALUE).add(new BigDecimal("2"))));
+    }
+    
+    @Test
+    public void assertAccumulationAggregationWithDecimalValue() {
+        LongAccumulationAggregationUnit accumulationAggregationUnit = new LongAccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(1);
+        accumulationAggregationUnit.merge(new BigDecimal("10"));
+        accumulationAggregationUnit.merge("1.5");
+        assertThat((BigDecimal) accumulationAggregationUnit.getResult(), is(new BigDecimal("12.5")));
+    }
+    
+    @Test
+    public void assertAccumulationAggregationWithQueryResult() throws SQLException {
+        LongAccumulationAggregationUnit accumulationAggregationUnit = new LongAccumulationAggregationUnit();
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getLong(1)).thenReturn(2L, 0L, 3L);
+        when(queryResult.wasNull()).thenReturn(false, true, false);
+        accumulationAggregationUnit.merge(queryResult, 1);
+        accumulationAggregationUnit.merge(queryResult, 1);
+        accumulationAggregationUnit.merge(queryResult, 1);
+        assertThat((BigDecimal) accumulationAggregationUnit.getResult(), is(new BigDecimal("5")));
+    }
+}
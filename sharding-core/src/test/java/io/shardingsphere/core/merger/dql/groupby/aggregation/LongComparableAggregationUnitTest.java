@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import io.shardingsphere.core.merger.QueryResult;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class LongComparableAggregationUnitTest {
+    
+    @Test
+    public void assertComparableAggregationForAsc() {
+        LongComparableAggregationUnit comparableAggregation = new LongComparableAggregationUnit(true);
+        comparableAggregation.merge(null);
+        comparableAggregation.merge(Collections.<Comparable<?>>singletonList(null));
+        comparableAggregation.merge(Collections.<Comparable<?>>singletonList(1));
+        comparableAggregation.merge(10L);
+        comparableAggregation.merge(5);
+        assertThat((Integer) comparableAggregation.getResult(), is(1));
+    }
+    
+    @Test
+    public void assertComparableAggregationForDesc() {
+        LongComparableAggregationUnit comparableAggregation = new LongComparableAggregationUnit(false);
+        comparableAggregation.merge(1);
+        comparableAggregation.merge(10L);
+        comparableAggregation.merge(5);
+        assertThat((Long) comparableAggregation.getResult(), is(10L));
+    }
+    
+    @Test
+    public void assertComparableAggregationWithNonIntegralValue() {
+        LongComparableAggregationUnit comparableAggregation = new LongComparableAggregationUnit(false);
+        comparableAggregation.merge("a");
+        comparableAggregation.merge("c");
+        comparableAggregation.merge("b");
+        assertThat((String) comparableAggregation.getResult(), is("c"));
+    }
+    
+    @Test
+    public void assertComparableAggregationWithQueryResult() throws SQLException {
+        LongComparableAggregationUnit comparableAggregation = new LongComparableAggregationUnit(false);
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getLong(1)).thenReturn(1L, 10L, 5L);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1, 10);
+        comparableAggregation.merge(queryResult, 1);
+        comparableAggregation.merge(queryResult, 1);
+        comparableAggregation.merge(queryResult, 1);
+        assertThat((Integer) comparableAggregation.getResult(), is(10));
+        verify(queryResult, times(2)).getValue(1, Object.class);
+    }
+}
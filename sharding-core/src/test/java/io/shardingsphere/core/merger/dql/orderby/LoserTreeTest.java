@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.orderby;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LoserTreeTest {
+    
+    @Test
+    public void assertEmptyTree() {
+        LoserTree<Integer> actual = new LoserTree<>(Collections.<Integer>emptyList());
+        assertTrue(actual.isEmpty());
+        assertThat(actual.peek(), nullValue());
+    }
+    
+    @Test
+    public void assertRemoveWinner() {
+        LoserTree<Integer> actual = new LoserTree<>(Arrays.asList(5, 3, 9, 1, 7));
+        List<Integer> winners = new ArrayList<>(5);
+        while (!actual.isEmpty()) {
+            winners.add(actual.peek());
+            actual.removeWinner();
+        }
+        assertThat(winners, is(Arrays.asList(1, 3, 5, 7, 9)));
+    }
+    
+    @Test
+    public void assertAdjustWinner() {
+        MutableValue[] values = {new MutableValue(1, 4, 7), new MutableValue(2, 5, 8), new MutableValue(3, 6, 9)};
+        LoserTree<MutableValue> actual = new LoserTree<>(Arrays.asList(values));
+        List<Integer> winners = new ArrayList<>(9);
+        while (!actual.isEmpty()) {
+            MutableValue winner = actual.peek();
+            winners.add(winner.getValue());
+            if (winner.next()) {
+                actual.adjustWinner();
+            } else {
+                actual.removeWinner();
+            }
+        }
+        assertThat(winners, is(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9)));
+        assertFalse(values[0].next());
+    }
+    
+    private static final class MutableValue implements Comparable<MutableValue> {
+        
+        private final int[] values;
+        
+        private int position;
+        
+        MutableValue(final int... values) {
+            this.values = values;
+        }
+        
+        int getValue() {
+            return values[position];
+        }
+        
+        boolean next() {
+            if (position + 1 < values.length) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+        
+        @Override
+        public int compareTo(final MutableValue o) {
+            return Integer.compare(getValue(), o.getValue());
+        }
+    }
+}
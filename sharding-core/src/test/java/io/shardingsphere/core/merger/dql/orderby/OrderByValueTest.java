@@ -97,4 +97,38 @@ public final class OrderByValueTest {
         assertFalse(orderByValue1.getQueryResult().next());
         assertFalse(orderByValue2.getQueryResult().next());
     }
+    
+    @Test
+    public void assertCompareToForIntegralValues() throws SQLException {
+        when(resultSet1.getObject(1)).thenReturn(10L);
+        OrderByValue orderByValue1 = new OrderByValue(new TestQueryResult(resultSet1), Arrays.asList(new OrderItem(1, OrderDirection.DESC, OrderDirection.ASC)));
+        assertTrue(orderByValue1.next());
+        when(resultSet2.getObject(1)).thenReturn(9);
+        OrderByValue orderByValue2 = new OrderByValue(new TestQueryResult(resultSet2), Arrays.asList(new OrderItem(1, OrderDirection.DESC, OrderDirection.ASC)));
+        assertTrue(orderByValue2.next());
+        assertTrue(orderByValue1.compareTo(orderByValue2) < 0);
+        assertTrue(orderByValue2.compareTo(orderByValue1) > 0);
+    }
+    
+    @Test
+    public void assertCompareToForApproximateValues() throws SQLException {
+        when(resultSet1.getObject(1)).thenReturn(1.5D);
+        OrderByValue orderByValue1 = new OrderByValue(new TestQueryResult(resultSet1), Arrays.asList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC)));
+        assertTrue(orderByValue1.next());
+        when(resultSet2.getObject(1)).thenReturn(1.5D);
+        OrderByValue orderByValue2 = new OrderByValue(new TestQueryResult(resultSet2), Arrays.asList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC)));
+        assertTrue(orderByValue2.next());
+        assertThat(orderByValue1.compareTo(orderByValue2), is(0));
+    }
+    
+    @Test
+    public void assertCompareToWithNullValue() throws SQLException {
+        when(resultSet1.getObject(1)).thenReturn(null);
+        OrderByValue orderByValue1 = new OrderByValue(new TestQueryResult(resultSet1), Arrays.asList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC)));
+        assertTrue(orderByValue1.next());
+        when(resultSet2.getObject(1)).thenReturn(1L);
+        OrderByValue orderByValue2 = new OrderByValue(new TestQueryResult(resultSet2), Arrays.asList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC)));
+        assertTrue(orderByValue2.next());
+        assertTrue(orderByValue1.compareTo(orderByValue2) < 0);
+    }
 }
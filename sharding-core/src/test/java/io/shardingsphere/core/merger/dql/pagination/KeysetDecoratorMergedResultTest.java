@@ -0,0 +1,89 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.pagination;
+
+import com.google.common.collect.Lists;
+import io.shardingsphere.api.HintManager;
+import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.DQLMergeEngine;
+import io.shardingsphere.core.merger.fixture.TestQueryResult;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class KeysetDecoratorMergedResultTest {
+    
+    private List<QueryResult> queryResults;
+    
+    private SelectStatement selectStatement;
+    
+    @Before
+    public void setUp() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        queryResults = Lists.<QueryResult>newArrayList(new TestQueryResult(resultSet), new TestQueryResult(mock(ResultSet.class)));
+        selectStatement = new SelectStatement();
+        selectStatement.getOrderByItems().add(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC));
+    }
+    
+    @Test
+    public void assertMergeWithKeysetPagination() throws SQLException {
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setKeysetPagination(null);
+            assertThat(new DQLMergeEngine(queryResults, selectStatement).merge(), instanceOf(KeysetDecoratorMergedResult.class));
+        }
+    }
+    
+    @Test
+    public void assertMergeWithoutKeysetPagination() throws SQLException {
+        assertThat(new DQLMergeEngine(queryResults, selectStatement).merge(), not(instanceOf(KeysetDecoratorMergedResult.class)));
+    }
+    
+    @Test
+    public void assertNext() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(10L, 20L);
+        KeysetDecoratorMergedResult actual = new KeysetDecoratorMergedResult(mergedResult, new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC));
+        assertFalse(actual.getKeysetCursor().isPresent());
+        assertTrue(actual.next());
+        assertThat(actual.getKeysetCursor().get(), is((Comparable) 10L));
+        assertTrue(actual.next());
+        assertThat(actual.getKeysetCursor().get(), is((Comparable) 20L));
+        assertFalse(actual.next());
+        assertThat(actual.getKeysetCursor().get(), is((Comparable) 20L));
+    }
+}
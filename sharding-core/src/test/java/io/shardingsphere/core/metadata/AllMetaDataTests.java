@@ -24,6 +24,8 @@ import io.shardingsphere.core.metadata.datasource.dialect.MySQLDataSourceMetaDat
 import io.shardingsphere.core.metadata.datasource.dialect.OracleDataSourceMetaDataTest;
 import io.shardingsphere.core.metadata.datasource.dialect.PostgreSQLDataSourceMetaDataTest;
 import io.shardingsphere.core.metadata.datasource.dialect.SQLServerDataSourceMetaDataTest;
+import io.shardingsphere.core.metadata.table.executor.TableMetaDataRefresherTest;
+import io.shardingsphere.core.metadata.table.executor.TableMetaDataSnapshotTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -36,7 +38,10 @@ import org.junit.runners.Suite.SuiteClasses;
         PostgreSQLDataSourceMetaDataTest.class,
         SQLServerDataSourceMetaDataTest.class,
         DataSourceMetaDataFactoryTest.class,
-        ShardingDataSourceMetaDataTest.class
+        ShardingDataSourceMetaDataTest.class,
+        TableMetaDataSnapshotTest.class,
+        TableMetaDataRefresherTest.class,
+        ShardingMetaDataTest.class
     })
 public final class AllMetaDataTests {
 }
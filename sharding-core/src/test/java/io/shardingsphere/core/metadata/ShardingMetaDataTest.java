@@ -0,0 +1,195 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metadata;
+
+import com.google.common.base.Charsets;
+import io.shardingsphere.api.config.rule.ShardingRuleConfiguration;
+import io.shardingsphere.api.config.rule.TableRuleConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.metadata.table.ColumnMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.metadata.table.executor.TableMetaDataConnectionManager;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingMetaDataTest {
+    
+    private static final String URL = "jdbc:h2:mem:metadata_ds_0;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    private final JdbcDataSource dataSource = new JdbcDataSource();
+    
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(2);
+    
+    private ShardingRule shardingRule;
+    
+    @Before
+    public void setUp() throws SQLException {
+        dataSource.setURL(URL);
+        execute("DROP TABLE IF EXISTS t_order_0", "DROP TABLE IF EXISTS t_order_1", "DROP TABLE IF EXISTS t_config",
+                "CREATE TABLE t_order_0 (order_id INT PRIMARY KEY, status VARCHAR(10))", "CREATE TABLE t_order_1 (order_id INT PRIMARY KEY, status VARCHAR(10))");
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("metadata_ds_0.t_order_${0..1}");
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRule = new ShardingRule(shardingRuleConfig, Collections.singletonList("metadata_ds_0"));
+    }
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+    }
+    
+    @Test
+    public void assertLoadWithSampling() {
+        ShardingMetaData actual = createShardingMetaData(true, "");
+        assertThat(actual.getTable().get("t_order").getAllColumnNames(), is((Object) Arrays.asList("order_id", "status")));
+    }
+    
+    @Test
+    public void assertLoadWithSnapshot() throws SQLException, InterruptedException {
+        String snapshotFile = temporaryFolder.getRoot().toPath().resolve("metadata.snapshot").toString();
+        createShardingMetaData(false, snapshotFile);
+        execute("ALTER TABLE t_order_0 ADD COLUMN user_id INT", "ALTER TABLE t_order_1 ADD COLUMN user_id INT");
+        ShardingMetaData actual = createShardingMetaData(false, snapshotFile);
+        waitForVerification(actual);
+        assertThat(actual.getTable().get("t_order").getAllColumnNames(), is((Object) Arrays.asList("order_id", "status", "user_id")));
+    }
+    
+    @Test
+    public void assertLoadWithStaleSnapshot() throws Exception {
+        Path snapshotFile = temporaryFolder.getRoot().toPath().resolve("metadata.snapshot");
+        createShardingMetaData(false, snapshotFile.toString());
+        List<String> lines = Files.readAllLines(snapshotFile, Charsets.UTF_8);
+        lines.add("t_dropped\tid\tINT\ttrue");
+        Files.write(snapshotFile, lines, Charsets.UTF_8);
+        execute("ALTER TABLE t_order_0 ADD COLUMN user_id INT", "ALTER TABLE t_order_1 ADD COLUMN user_id INT");
+        ShardingMetaData actual = createShardingMetaData(false, snapshotFile.toString());
+        waitForVerification(actual);
+        assertNull(actual.getTable().get("t_dropped"));
+        assertTrue(actual.getTable().containsTable("t_order"));
+    }
+    
+    @Test
+    public void assertLoadWithSnapshotOfOtherSampling() throws SQLException {
+        String snapshotFile = temporaryFolder.getRoot().toPath().resolve("metadata.snapshot").toString();
+        createShardingMetaData(false, snapshotFile);
+        execute("ALTER TABLE t_order_0 ADD COLUMN user_id INT", "ALTER TABLE t_order_1 ADD COLUMN user_id INT");
+        ShardingMetaData actual = createShardingMetaData(true, snapshotFile);
+        assertThat(actual.getTable().get("t_order").getAllColumnNames(), is((Object) Arrays.asList("order_id", "status", "user_id")));
+    }
+    
+    @Test
+    public void assertVerifyWithoutOverwritingTableChangedAfterLoadStarted() throws Exception {
+        Path snapshotFile = temporaryFolder.getRoot().toPath().resolve("metadata.snapshot");
+        createShardingMetaData(false, snapshotFile.toString());
+        execute("ALTER TABLE t_order_0 ADD COLUMN user_id INT", "ALTER TABLE t_order_1 ADD COLUMN user_id INT");
+        final CountDownLatch loadStarted = new CountDownLatch(1);
+        final CountDownLatch tableChanged = new CountDownLatch(1);
+        ShardingMetaData actual = createShardingMetaData(false, snapshotFile.toString(), new TableMetaDataConnectionManager() {
+            
+            @Override
+            public Connection getConnection(final String dataSourceName) throws SQLException {
+                loadStarted.countDown();
+                try {
+                    tableChanged.await();
+                } catch (final InterruptedException ex) {
+                    throw new SQLException(ex);
+                }
+                return dataSource.getConnection();
+            }
+        });
+        assertTrue(loadStarted.await(5L, TimeUnit.SECONDS));
+        TableMetaData changedTableMetaData = new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", "INTEGER", true)));
+        actual.getTable().put("t_order", changedTableMetaData);
+        tableChanged.countDown();
+        for (int i = 0; i < 100 && !new String(Files.readAllBytes(snapshotFile), Charsets.UTF_8).contains("user_id"); i++) {
+            Thread.sleep(50L);
+        }
+        actual.close();
+        assertTrue(new String(Files.readAllBytes(snapshotFile), Charsets.UTF_8).contains("user_id"));
+        assertThat(actual.getTable().get("t_order"), sameInstance(changedTableMetaData));
+    }
+    
+    @Test
+    public void assertCloseWithoutSnapshot() {
+        ShardingMetaData actual = createShardingMetaData(false, "");
+        actual.close();
+        assertTrue(actual.getVerifyExecutor().isShutdown());
+    }
+    
+    private void waitForVerification(final ShardingMetaData shardingMetaData) throws InterruptedException {
+        for (int i = 0; i < 100 && !isVerified(shardingMetaData); i++) {
+            Thread.sleep(50L);
+        }
+    }
+    
+    private boolean isVerified(final ShardingMetaData shardingMetaData) {
+        return !shardingMetaData.getTable().containsTable("t_dropped") && shardingMetaData.getTable().getAllColumnNames("t_order").contains("user_id");
+    }
+    
+    private ShardingMetaData createShardingMetaData(final boolean isSampling, final String snapshotFile) {
+        return createShardingMetaData(isSampling, snapshotFile, new TableMetaDataConnectionManager() {
+            
+            @Override
+            public Connection getConnection(final String dataSourceName) throws SQLException {
+                return dataSource.getConnection();
+            }
+        });
+    }
+    
+    private ShardingMetaData createShardingMetaData(final boolean isSampling, final String snapshotFile, final TableMetaDataConnectionManager connectionManager) {
+        return new ShardingMetaData(Collections.singletonMap("metadata_ds_0", URL), shardingRule, DatabaseType.H2, executeEngine, connectionManager, 1, isSampling, snapshotFile);
+    }
+    
+    private void execute(final String... sqls) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            for (String each : sqls) {
+                statement.execute(each);
+            }
+        }
+    }
+}
@@ -26,6 +26,7 @@ import io.shardingsphere.core.metadata.datasource.dialect.SQLServerDataSourceMet
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 public class DataSourceMetaDataFactoryTest {
@@ -54,4 +55,11 @@ public class DataSourceMetaDataFactoryTest {
     public void assertAllNewInstanceForSQLServer() {
         assertThat(DataSourceMetaDataFactory.newInstance(DatabaseType.SQLServer, "jdbc:microsoft:sqlserver://127.0.0.1:3306;DatabaseName=ds_0"), instanceOf(SQLServerDataSourceMetaData.class));
     }
+    
+    @Test
+    public void assertGetInstanceFromCache() {
+        DataSourceMetaData actual = DataSourceMetaDataFactory.getInstance(DatabaseType.MySQL, "jdbc:mysql://127.0.0.1:3306/db_cached");
+        assertThat(actual, instanceOf(MySQLDataSourceMetaData.class));
+        assertThat(DataSourceMetaDataFactory.getInstance(DatabaseType.MySQL, "jdbc:mysql://127.0.0.1:3306/db_cached"), sameInstance(actual));
+    }
 }
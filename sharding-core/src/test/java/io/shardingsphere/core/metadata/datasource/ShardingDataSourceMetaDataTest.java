@@ -104,4 +104,15 @@ public class ShardingDataSourceMetaDataTest {
     public void assertGetActualSchemaNameForShardingRule() {
         assertEquals(shardingDataSourceMetaData.getActualDataSourceMetaData("ds_0").getSchemeName(), "db_0");
     }
+    
+    @Test
+    public void assertGetRoutedSchemaNameForMasterSlaveShardingRule() {
+        assertEquals(masterSlaveShardingDataSourceMetaData.getRoutedDataSourceMetaData("master_0").getSchemeName(), "master_0");
+        assertEquals(masterSlaveShardingDataSourceMetaData.getRoutedDataSourceMetaData("slave_0").getSchemeName(), "slave_0");
+    }
+    
+    @Test
+    public void assertGetRoutedSchemaNameForShardingRule() {
+        assertEquals(shardingDataSourceMetaData.getRoutedDataSourceMetaData("ds_1").getSchemeName(), "db_1");
+    }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metadata.table.executor;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.api.config.rule.ShardingRuleConfiguration;
+import io.shardingsphere.api.config.rule.TableRuleConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.metadata.table.ColumnMetaData;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.parsing.parser.context.table.Table;
+import io.shardingsphere.core.parsing.parser.sql.ddl.DDLStatement;
+import io.shardingsphere.core.parsing.parser.sql.ddl.create.table.CreateTableStatement;
+import io.shardingsphere.core.parsing.parser.sql.ddl.drop.table.DropTableStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TableMetaDataRefresherTest {
+    
+    private static final String URL = "jdbc:h2:mem:refresher_ds_0;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    
+    private final JdbcDataSource dataSource = new JdbcDataSource();
+    
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(2);
+    
+    private final ExecutorService verifyExecutor = Executors.newSingleThreadExecutor();
+    
+    private final ShardingTableMetaData shardingTableMetaData = new ShardingTableMetaData(new ConcurrentHashMap<String, TableMetaData>());
+    
+    private ShardingRule shardingRule;
+    
+    private TableMetaDataLoader tableMetaDataLoader;
+    
+    @Before
+    public void setUp() throws SQLException {
+        dataSource.setURL(URL);
+        execute("DROP TABLE IF EXISTS t_order_0", "DROP TABLE IF EXISTS t_order_1",
+                "CREATE TABLE t_order_0 (order_id INT PRIMARY KEY, status VARCHAR(10))", "CREATE TABLE t_order_1 (order_id INT PRIMARY KEY, status VARCHAR(10))");
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("refresher_ds_0.t_order_${0..1}");
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRule = new ShardingRule(shardingRuleConfig, Collections.singletonList("refresher_ds_0"));
+        tableMetaDataLoader = new TableMetaDataLoader(new ShardingDataSourceMetaData(Collections.singletonMap("refresher_ds_0", URL), shardingRule, DatabaseType.H2),
+                executeEngine, new TableMetaDataConnectionManager() {
+                    
+                    @Override
+                    public Connection getConnection(final String dataSourceName) throws SQLException {
+                        return dataSource.getConnection();
+                    }
+                }, 1);
+    }
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+        verifyExecutor.shutdownNow();
+    }
+    
+    @Test
+    public void assertRefreshWithoutDDL() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.getTables().add(new Table("t_order", Optional.<String>absent()));
+        assertNull(createTableMetaDataRefresher().refresh(selectStatement));
+        assertNull(shardingTableMetaData.get("t_order"));
+    }
+    
+    @Test
+    public void assertRefreshForCreateTable() throws Exception {
+        CreateTableStatement createTableStatement = new CreateTableStatement();
+        createTableStatement.getTables().add(new Table("t_order", Optional.<String>absent()));
+        TableMetaData parsedTableMetaData = new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", "int", true)));
+        createTableStatement.setTableMetaData(parsedTableMetaData);
+        Future<?> verification = createTableMetaDataRefresher().refresh(createTableStatement);
+        assertTrue(shardingTableMetaData.containsTable("t_order"));
+        verification.get();
+        assertThat(shardingTableMetaData.get("t_order"), is(tableMetaDataLoader.load("t_order", shardingRule)));
+    }
+    
+    @Test
+    public void assertRefreshForOtherDDL() throws Exception {
+        DDLStatement ddlStatement = new DDLStatement();
+        ddlStatement.getTables().add(new Table("t_order", Optional.<String>absent()));
+        createTableMetaDataRefresher().refresh(ddlStatement).get();
+        assertThat(shardingTableMetaData.get("t_order").getAllColumnNames(), is((Object) Arrays.asList("order_id", "status")));
+    }
+    
+    @Test
+    public void assertRefreshForDropTable() {
+        shardingTableMetaData.put("t_order", new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", "INT", true))));
+        DropTableStatement dropTableStatement = new DropTableStatement();
+        dropTableStatement.getTables().add(new Table("t_order", Optional.<String>absent()));
+        assertNull(createTableMetaDataRefresher().refresh(dropTableStatement));
+        assertTrue(shardingTableMetaData.get("t_order").getColumnMetaData().isEmpty());
+    }
+    
+    private TableMetaDataRefresher createTableMetaDataRefresher() {
+        return new TableMetaDataRefresher(shardingTableMetaData, tableMetaDataLoader, shardingRule, verifyExecutor);
+    }
+    
+    private void execute(final String... sqls) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            for (String each : sqls) {
+                statement.execute(each);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metadata.table.executor;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.metadata.table.ColumnMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TableMetaDataSnapshotTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertLoadWithoutFile() throws IOException {
+        assertFalse(new TableMetaDataSnapshot(getFile(), "v1").load().isPresent());
+    }
+    
+    @Test
+    public void assertSaveAndLoad() throws IOException {
+        Path file = getFile();
+        Map<String, TableMetaData> tableMetaDataMap = createTableMetaDataMap();
+        new TableMetaDataSnapshot(file, "v1").save(tableMetaDataMap);
+        Optional<Map<String, TableMetaData>> actual = new TableMetaDataSnapshot(file, "v1").load();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(tableMetaDataMap));
+    }
+    
+    @Test
+    public void assertLoadWithDifferentVersion() throws IOException {
+        Path file = getFile();
+        new TableMetaDataSnapshot(file, "v1").save(createTableMetaDataMap());
+        assertFalse(new TableMetaDataSnapshot(file, "v2").load().isPresent());
+    }
+    
+    private Path getFile() throws IOException {
+        return temporaryFolder.newFolder().toPath().resolve("metadata.snapshot");
+    }
+    
+    private Map<String, TableMetaData> createTableMetaDataMap() {
+        Map<String, TableMetaData> result = new LinkedHashMap<>();
+        result.put("t_order", new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", "INT", true), new ColumnMetaData("status", "VARCHAR", false))));
+        result.put("t_missing", new TableMetaData(Collections.<ColumnMetaData>emptyList()));
+        return result;
+    }
+}
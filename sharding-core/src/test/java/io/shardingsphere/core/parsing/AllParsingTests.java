@@ -17,6 +17,9 @@
 
 package io.shardingsphere.core.parsing;
 
+import io.shardingsphere.core.parsing.cache.JudgingResultCacheTest;
+import io.shardingsphere.core.parsing.cache.ParsingResultCacheTest;
+import io.shardingsphere.core.parsing.cache.SQLFingerprintTest;
 import io.shardingsphere.core.parsing.integrate.AllParsingIntegrateTests;
 import io.shardingsphere.core.parsing.lexer.AllLexerTests;
 import io.shardingsphere.core.parsing.parser.constant.DerivedColumnTest;
@@ -31,6 +34,9 @@ import org.junit.runners.Suite.SuiteClasses;
         AllLexerTests.class, 
         AllSQLTests.class, 
         SQLJudgeEngineTest.class, 
+        ParsingResultCacheTest.class, 
+        JudgingResultCacheTest.class, 
+        SQLFingerprintTest.class, 
         OrderItemTest.class,
         DerivedColumnTest.class, 
         AllParsingIntegrateTests.class
@@ -18,6 +18,9 @@
 package io.shardingsphere.core.parsing.antlr;
 
 import io.shardingsphere.core.parsing.antlr.ddl.IntegrateDDLParsingCompatTest;
+import io.shardingsphere.core.parsing.antlr.parser.SQLParserEngineTest;
+import io.shardingsphere.core.parsing.antlr.parser.SQLParserWarmerTest;
+import io.shardingsphere.core.parsing.antlr.parser.impl.SQLParserFactoryTest;
 import io.shardingsphere.core.parsing.antlr.rule.AllRuleTests;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -26,6 +29,9 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         AllRuleTests.class,
+        SQLParserEngineTest.class,
+        SQLParserWarmerTest.class,
+        SQLParserFactoryTest.class,
         AntlrIntegrateParsingTest.class,
         IntegrateDDLParsingCompatTest.class
 })
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.antlr.parser;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.parser.exception.SQLParsingUnsupportedException;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserEngineTest {
+    
+    @Test
+    public void assertParseWithReusedParser() {
+        assertThat(new SQLParserEngine(DatabaseType.MySQL, "CREATE TABLE t_order (order_id INT)").parse().getRule().getContextName(), is("createTable"));
+        assertThat(new SQLParserEngine(DatabaseType.MySQL, "DROP TABLE t_order").parse().getRule().getContextName(), is("dropTable"));
+    }
+    
+    @Test
+    public void assertParseWithKeywordAsIdentifier() {
+        assertThat(new SQLParserEngine(DatabaseType.MySQL, "CREATE TABLE `status` (status INT)").parse().getRule().getContextName(), is("createTable"));
+    }
+    
+    @Test(expected = SQLParsingUnsupportedException.class)
+    public void assertParseWithUnsupportedSQL() {
+        new SQLParserEngine(DatabaseType.MySQL, "UNKNOWN SQL").parse();
+    }
+}
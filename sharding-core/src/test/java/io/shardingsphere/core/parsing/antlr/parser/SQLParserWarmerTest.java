@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.antlr.parser;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserWarmerTest {
+    
+    @Test
+    public void assertWarmUpWithSQLFile() {
+        assertThat(SQLParserWarmer.warmUp(DatabaseType.MySQL, "warm_up/mysql.sql"), is(4));
+    }
+    
+    @Test
+    public void assertWarmUpWithEmptySQLFile() {
+        assertThat(SQLParserWarmer.warmUp(DatabaseType.MySQL, ""), is(0));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertWarmUpWithNotExistedSQLFile() {
+        SQLParserWarmer.warmUp(DatabaseType.MySQL, "warm_up/not_existed.sql");
+    }
+    
+    @Test
+    public void assertWarmUpWithUnsupportedSQL() {
+        assertThat(SQLParserWarmer.warmUp(DatabaseType.MySQL, Arrays.asList("DROP TABLE t_order", "SHOW PROCESSLIST xxx")), is(1));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.antlr.parser.impl;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserFactoryTest {
+    
+    @Test
+    public void assertGetInstanceWithSameDatabaseType() {
+        SQLParser expected = SQLParserFactory.getInstance(DatabaseType.MySQL, "DROP TABLE t_order");
+        assertThat(SQLParserFactory.getInstance(DatabaseType.MySQL, "DROP TABLE t_order_item"), is(expected));
+    }
+    
+    @Test
+    public void assertGetInstanceWithDifferentDatabaseTypes() {
+        SQLParser mysqlParser = SQLParserFactory.getInstance(DatabaseType.MySQL, "DROP TABLE t_order");
+        assertThat(SQLParserFactory.getInstance(DatabaseType.PostgreSQL, "DROP TABLE t_order"), not(mysqlParser));
+    }
+    
+    @Test
+    public void assertExecuteWithReusedParser() {
+        SQLParserFactory.getInstance(DatabaseType.MySQL, "DROP TABLE t_order").execute();
+        assertThat(SQLParserFactory.getInstance(DatabaseType.MySQL, "TRUNCATE TABLE t_order_item").execute().getStop().getText(), is("t_order_item"));
+    }
+    
+    @Test
+    public void assertRelease() {
+        SQLParser sqlParser = SQLParserFactory.getInstance(DatabaseType.MySQL, "DROP TABLE t_order");
+        sqlParser.execute();
+        SQLParserFactory.release(sqlParser);
+        assertThat(sqlParser.getTokenStream().getTokenSource().getInputStream().size(), is(0));
+        assertThat(SQLParserFactory.getInstance(DatabaseType.MySQL, "TRUNCATE TABLE t_order_item").execute().getStop().getText(), is("t_order_item"));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.cache;
+
+import io.shardingsphere.core.constant.SQLType;
+import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.UseStatement;
+import io.shardingsphere.core.parsing.parser.exception.SQLParsingException;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class JudgingResultCacheTest {
+    
+    @Test
+    public void assertGetSQLTypeByPrefix() {
+        JudgingResultCache judgingResultCache = new JudgingResultCache(16L);
+        assertThat(judgingResultCache.getSQLType("  select * from t_order"), is(SQLType.DQL));
+        assertThat(judgingResultCache.getSQLType("INSERT INTO t_order VALUES (1)"), is(SQLType.DML));
+        assertThat(judgingResultCache.getSQLType("UPDATE t_order SET status = 'init'"), is(SQLType.DML));
+        assertThat(judgingResultCache.getSQLType("DELETE FROM t_order"), is(SQLType.DML));
+        assertThat(judgingResultCache.size(), is(0L));
+    }
+    
+    @Test
+    public void assertGetSQLTypeWithJudgeEngine() {
+        JudgingResultCache judgingResultCache = new JudgingResultCache(16L);
+        assertThat(judgingResultCache.getSQLType("/* comment */ SELECT * FROM t_order"), is(SQLType.DQL));
+        assertThat(judgingResultCache.getSQLType("CREATE TABLE t_order (order_id INT)"), is(SQLType.DDL));
+        assertThat(judgingResultCache.getSQLType("DESC t_order"), is(SQLType.DAL));
+        assertThat(judgingResultCache.size(), is(3L));
+    }
+    
+    @Test(expected = SQLParsingException.class)
+    public void assertGetSQLTypeWithKeywordPrefixedIdentifier() {
+        new JudgingResultCache(16L).getSQLType("SELECTED_TABLE");
+    }
+    
+    @Test
+    public void assertGetSQLStatementByPrefix() {
+        JudgingResultCache judgingResultCache = new JudgingResultCache(16L);
+        assertThat(judgingResultCache.getSQLStatement("SELECT 1"), instanceOf(SelectStatement.class));
+        assertThat(judgingResultCache.getSQLStatement("insert into t_order values (1)"), instanceOf(InsertStatement.class));
+        assertThat(judgingResultCache.getSQLStatement("UPDATE t_order SET status = 'init'").getType(), is(SQLType.DML));
+    }
+    
+    @Test
+    public void assertGetSQLStatementWithCache() {
+        JudgingResultCache judgingResultCache = new JudgingResultCache(16L);
+        SQLStatement actual = judgingResultCache.getSQLStatement("USE sharding_db");
+        assertThat(actual, instanceOf(UseStatement.class));
+        assertThat(judgingResultCache.getSQLStatement("USE sharding_db"), is(actual));
+        judgingResultCache.clear();
+        assertThat(judgingResultCache.size(), is(0L));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.cache;
+
+import io.shardingsphere.core.parsing.parser.exception.SQLParsingException;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class ParsingResultCacheTest {
+    
+    @Test
+    public void assertPutAndGetSQLStatement() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache();
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        parsingResultCache.put("SELECT 1", sqlStatement);
+        assertThat(parsingResultCache.getSQLStatement("SELECT 1"), is(sqlStatement));
+        assertNull(parsingResultCache.getSQLStatement("SELECT 2"));
+        assertThat(parsingResultCache.getStats().hitCount(), is(1L));
+        assertThat(parsingResultCache.getStats().missCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetSQLStatementWithLoader() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache();
+        final SQLStatement sqlStatement = mock(SQLStatement.class);
+        Callable<SQLStatement> loader = new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                return sqlStatement;
+            }
+        };
+        assertThat(parsingResultCache.getSQLStatement("SELECT 1", loader), is(sqlStatement));
+        assertThat(parsingResultCache.getSQLStatement("SELECT 1", loader), is(sqlStatement));
+        assertThat(parsingResultCache.getStats().loadSuccessCount(), is(1L));
+        assertThat(parsingResultCache.getStats().hitCount(), is(1L));
+    }
+    
+    @Test(expected = SQLParsingException.class)
+    public void assertGetSQLStatementWithFailureLoader() {
+        new ParsingResultCache().getSQLStatement("SELECT", new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                throw new SQLParsingException("SQL is incomplete.");
+            }
+        });
+    }
+    
+    @Test
+    public void assertEvictWhenExceedMaximumSize() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(1L);
+        parsingResultCache.put("SELECT 1", mock(SQLStatement.class));
+        parsingResultCache.put("SELECT 2", mock(SQLStatement.class));
+        assertThat(parsingResultCache.size(), is(1L));
+        assertThat(parsingResultCache.getStats().evictionCount(), is(1L));
+        assertNull(parsingResultCache.getSQLStatement("SELECT 1"));
+    }
+    
+    @Test
+    public void assertClear() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache();
+        parsingResultCache.put("SELECT 1", mock(SQLStatement.class));
+        parsingResultCache.clear();
+        assertNull(parsingResultCache.getSQLStatement("SELECT 1"));
+    }
+}
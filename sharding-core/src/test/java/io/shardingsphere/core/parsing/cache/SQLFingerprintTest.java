@@ -0,0 +1,106 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.cache;
+
+import com.google.common.base.Optional;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLFingerprintTest {
+    
+    @Test
+    public void assertNewInstanceWithComparison() {
+        Optional<SQLFingerprint> actual = SQLFingerprint.newInstance("SELECT * FROM t_order WHERE user_id = 10 AND status <> 'init' AND order_id>=1000");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE user_id = ? AND status <> ? AND order_id>=?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, "init", 1000)));
+    }
+    
+    @Test
+    public void assertNewInstanceWithInAndBetween() {
+        Optional<SQLFingerprint> actual = SQLFingerprint.newInstance("SELECT * FROM t_order WHERE user_id IN (1, 2, 3) AND order_id BETWEEN 100 AND 200");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE user_id IN (?, ?, ?) AND order_id BETWEEN ? AND ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, 3, 100, 200)));
+    }
+    
+    @Test
+    public void assertNewInstanceWithLimit() {
+        Optional<SQLFingerprint> actual = SQLFingerprint.newInstance("SELECT * FROM t_order WHERE user_id = 1 LIMIT 10, 20");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE user_id = ? LIMIT ?, ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 10, 20)));
+    }
+    
+    @Test
+    public void assertNewInstanceWithInsertValues() {
+        Optional<SQLFingerprint> actual = SQLFingerprint.newInstance("INSERT INTO t_order (order_id, status) VALUES (1, 'init')");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?)"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, "init")));
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutLiteral() {
+        assertFalse(SQLFingerprint.newInstance("SELECT * FROM t_order WHERE user_id = order_id").isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithDDL() {
+        assertFalse(SQLFingerprint.newInstance("CREATE TABLE t_order (order_id INT DEFAULT 1)").isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithComment() {
+        assertFalse(SQLFingerprint.newInstance("SELECT * FROM t_order WHERE user_id = 1 /* comment */").isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithPlaceholder() {
+        assertFalse(SQLFingerprint.newInstance("SELECT * FROM t_order WHERE user_id = ? AND order_id = 1").isPresent());
+    }
+    
+    @Test
+    public void assertRestore() {
+        SQLFingerprint fingerprint = SQLFingerprint.newInstance("SELECT * FROM t_order WHERE user_id = 10 AND status = 'init'").get();
+        Optional<String> actual = fingerprint.restore("SELECT * FROM t_order_0 WHERE user_id = ? AND status = ? AND remark = '?'", fingerprint.getParameters());
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT * FROM t_order_0 WHERE user_id = 10 AND status = 'init' AND remark = '?'"));
+    }
+    
+    @Test
+    public void assertRestoreWithRewrittenParameter() {
+        SQLFingerprint fingerprint = SQLFingerprint.newInstance("SELECT * FROM t_order WHERE user_id = 10 LIMIT 5, 10").get();
+        Optional<String> actual = fingerprint.restore("SELECT * FROM t_order_0 WHERE user_id = ? LIMIT ?, ?", Arrays.<Object>asList(10, 0, 15));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT * FROM t_order_0 WHERE user_id = 10 LIMIT 0, 15"));
+    }
+    
+    @Test
+    public void assertRestoreWithMismatchedParameters() {
+        SQLFingerprint fingerprint = SQLFingerprint.newInstance("SELECT * FROM t_order WHERE user_id = 10").get();
+        assertFalse(fingerprint.restore("SELECT * FROM t_order_0 WHERE user_id = ?", Collections.emptyList()).isPresent());
+    }
+}
@@ -26,6 +26,9 @@ import io.shardingsphere.core.parsing.lexer.token.TokenType;
 import io.shardingsphere.core.parsing.parser.exception.SQLParsingException;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
 public final class LexerTest {
     
     private final Dictionary dictionary = new Dictionary();
@@ -40,6 +43,17 @@ public final class LexerTest {
         LexerAssert.assertNextToken(lexer, Assist.END, "");
     }
     
+    @Test
+    public void assertGetCurrentTokenBeginPositionForChars() {
+        Lexer lexer = new Lexer("WHERE  'x' = col", dictionary);
+        LexerAssert.assertNextToken(lexer, DefaultKeyword.WHERE, "WHERE");
+        assertThat(lexer.getCurrentTokenBeginPosition(), is(0));
+        LexerAssert.assertNextToken(lexer, Literals.CHARS, "x");
+        assertThat(lexer.getCurrentTokenBeginPosition(), is(7));
+        LexerAssert.assertNextToken(lexer, Symbol.EQ, "=");
+        assertThat(lexer.getCurrentTokenBeginPosition(), is(11));
+    }
+    
     @Test
     public void assertNextTokenForOrderBy() {
         Lexer lexer = new Lexer("SELECT * FROM ORDER  ORDER \t  BY XX DESC", dictionary);
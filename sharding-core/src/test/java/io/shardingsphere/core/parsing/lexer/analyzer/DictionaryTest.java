@@ -0,0 +1,47 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.lexer.analyzer;
+
+import io.shardingsphere.core.parsing.lexer.dialect.mysql.MySQLKeyword;
+import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
+import io.shardingsphere.core.parsing.lexer.token.Literals;
+import io.shardingsphere.core.parsing.lexer.token.TokenType;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class DictionaryTest {
+    
+    private final Dictionary dictionary = new Dictionary(MySQLKeyword.values());
+    
+    @Test
+    public void assertFindTokenTypeIgnoreCase() {
+        String sql = "select * From t_order LIMIT 1";
+        assertThat(dictionary.findTokenType(sql, 0, 6, Literals.IDENTIFIER), is((TokenType) DefaultKeyword.SELECT));
+        assertThat(dictionary.findTokenType(sql, 9, 13, Literals.IDENTIFIER), is((TokenType) DefaultKeyword.FROM));
+        assertThat(dictionary.findTokenType(sql, 22, 27, Literals.IDENTIFIER), is((TokenType) MySQLKeyword.LIMIT));
+    }
+    
+    @Test
+    public void assertFindTokenTypeForIdentifier() {
+        String sql = "select * From t_order";
+        assertThat(dictionary.findTokenType(sql, 14, 21, Literals.IDENTIFIER), is((TokenType) Literals.IDENTIFIER));
+        assertThat(dictionary.findTokenType(sql, 0, 5, Literals.IDENTIFIER), is((TokenType) Literals.IDENTIFIER));
+    }
+}
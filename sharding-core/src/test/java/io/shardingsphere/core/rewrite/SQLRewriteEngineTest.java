@@ -42,6 +42,9 @@ import io.shardingsphere.core.parsing.parser.token.OrderByToken;
 import io.shardingsphere.core.parsing.parser.token.RowCountToken;
 import io.shardingsphere.core.parsing.parser.token.SchemaToken;
 import io.shardingsphere.core.parsing.parser.token.TableToken;
+import io.shardingsphere.core.rewrite.pagination.KeysetCondition;
+import io.shardingsphere.core.rewrite.pagination.PaginationRewriteContext;
+import io.shardingsphere.core.routing.SQLUnit;
 import io.shardingsphere.core.routing.type.RoutingTable;
 import io.shardingsphere.core.routing.type.TableUnit;
 import io.shardingsphere.core.rule.DataNode;
@@ -283,6 +286,60 @@ public final class SQLRewriteEngineTest {
         assertThat(rewriteEngine.rewrite(true).toSQL(null, tableTokens, null, shardingDataSourceMetaData).getSql(), is("SELECT x.id FROM table_1 x LIMIT 0, 4"));
     }
     
+    @Test
+    public void assertRewriteForPaginationWithWhere() {
+        selectStatement.setLimit(new Limit(DatabaseType.MySQL));
+        selectStatement.getLimit().setOffset(new LimitValue(100, 1, true));
+        selectStatement.getLimit().setRowCount(new LimitValue(10, 2, false));
+        selectStatement.setWhereStartPosition(33);
+        selectStatement.setWhereLastPosition(44);
+        selectStatement.setWhereParametersIndex(1);
+        selectStatement.addSQLToken(new TableToken(17, 0, "table_x"));
+        OrderItem orderItem = new OrderItem("x", "id", OrderDirection.ASC, OrderDirection.ASC, Optional.<String>absent());
+        PaginationRewriteContext paginationRewriteContext = new PaginationRewriteContext(orderItem, Arrays.asList(new KeysetCondition(">=", 50), new KeysetCondition("<", 80)), 0, 20);
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, "SELECT x.id FROM table_x x WHERE x.status=? ORDER BY x.id LIMIT ?, ?", 
+                DatabaseType.MySQL, selectStatement, null, Arrays.<Object>asList("OK", 100, 10), paginationRewriteContext);
+        SQLUnit actual = rewriteEngine.rewrite(true).toSQL(null, tableTokens, null, shardingDataSourceMetaData);
+        assertThat(actual.getSql(), is("SELECT x.id FROM table_1 x WHERE (x.status=? ) AND x.id >= ? AND x.id < ? ORDER BY x.id LIMIT ?, ?"));
+        assertThat(actual.getParameterSets().get(0), is(Arrays.<Object>asList("OK", 50, 80, 0, 20)));
+    }
+    
+    @Test
+    public void assertRewriteForPaginationWithoutWhere() {
+        selectStatement.setLimit(new Limit(DatabaseType.MySQL));
+        selectStatement.getLimit().setOffset(new LimitValue(100, -1, true));
+        selectStatement.getLimit().setRowCount(new LimitValue(10, -1, false));
+        selectStatement.setWhereLastPosition(27);
+        selectStatement.setWhereParametersIndex(0);
+        selectStatement.addSQLToken(new TableToken(17, 0, "table_x"));
+        selectStatement.addSQLToken(new OffsetToken(52, 100));
+        selectStatement.addSQLToken(new RowCountToken(57, 10));
+        OrderItem orderItem = new OrderItem("x", "id", OrderDirection.DESC, OrderDirection.ASC, Optional.<String>absent());
+        PaginationRewriteContext paginationRewriteContext = new PaginationRewriteContext(orderItem, Collections.singletonList(new KeysetCondition("<=", 7)), 0, 51);
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, "SELECT x.id FROM table_x x ORDER BY x.id DESC LIMIT 100, 10", 
+                DatabaseType.MySQL, selectStatement, null, Collections.emptyList(), paginationRewriteContext);
+        SQLUnit actual = rewriteEngine.rewrite(true).toSQL(null, tableTokens, null, shardingDataSourceMetaData);
+        assertThat(actual.getSql(), is("SELECT x.id FROM table_1 x WHERE x.id <= ? ORDER BY x.id DESC LIMIT 0, 51"));
+        assertThat(actual.getParameterSets().get(0), is(Collections.<Object>singletonList(7)));
+    }
+    
+    @Test
+    public void assertRewriteForPaginationWithoutKeysetConditions() {
+        selectStatement.setLimit(new Limit(DatabaseType.MySQL));
+        selectStatement.getLimit().setOffset(new LimitValue(100, -1, true));
+        selectStatement.getLimit().setRowCount(new LimitValue(10, -1, false));
+        selectStatement.setWhereLastPosition(27);
+        selectStatement.setWhereParametersIndex(0);
+        selectStatement.addSQLToken(new TableToken(17, 0, "table_x"));
+        selectStatement.addSQLToken(new OffsetToken(52, 100));
+        selectStatement.addSQLToken(new RowCountToken(57, 10));
+        OrderItem orderItem = new OrderItem("x", "id", OrderDirection.DESC, OrderDirection.ASC, Optional.<String>absent());
+        PaginationRewriteContext paginationRewriteContext = new PaginationRewriteContext(orderItem, Collections.<KeysetCondition>emptyList(), 33, 1);
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, "SELECT x.id FROM table_x x ORDER BY x.id DESC LIMIT 100, 10", 
+                DatabaseType.MySQL, selectStatement, null, Collections.emptyList(), paginationRewriteContext);
+        assertThat(rewriteEngine.rewrite(true).toSQL(null, tableTokens, null, shardingDataSourceMetaData).getSql(), is("SELECT x.id FROM table_1 x ORDER BY x.id DESC LIMIT 33, 1"));
+    }
+    
     @Test
     public void assertRewriteForRowNum() {
         selectStatement.setLimit(new Limit(DatabaseType.Oracle));
@@ -17,7 +17,14 @@
 
 package io.shardingsphere.core.routing;
 
+import io.shardingsphere.core.routing.cache.RoutingResultCacheTest;
+import io.shardingsphere.core.routing.pagination.DeepPaginationEngineTest;
 import io.shardingsphere.core.routing.router.DatabaseHintSQLRouterTest;
+import io.shardingsphere.core.routing.router.masterslave.lag.MySQLReplicationLagProberTest;
+import io.shardingsphere.core.routing.router.masterslave.lag.ReplicationLagMonitorFactoryTest;
+import io.shardingsphere.core.routing.router.masterslave.lag.ReplicationLagMonitorTest;
+import io.shardingsphere.core.routing.strategy.inline.CompiledInlineExpressionTest;
+import io.shardingsphere.core.routing.strategy.inline.InlineShardingStrategyTest;
 import io.shardingsphere.core.routing.type.broadcast.DatabaseBroadcastRoutingEngineTest;
 import io.shardingsphere.core.routing.type.broadcast.TableBroadcastRoutingEngineTest;
 import io.shardingsphere.core.routing.type.defaultdb.DefaultDatabaseRoutingEngineTest;
@@ -37,7 +44,14 @@ import org.junit.runners.Suite.SuiteClasses;
         DefaultDatabaseRoutingEngineTest.class,
         DatabaseHintRoutingEngineTest.class,
         IgnoreRoutingEngineTest.class,
-        StandardRoutingEngineTest.class
+        StandardRoutingEngineTest.class,
+        CompiledInlineExpressionTest.class,
+        InlineShardingStrategyTest.class,
+        RoutingResultCacheTest.class,
+        ReplicationLagMonitorTest.class,
+        ReplicationLagMonitorFactoryTest.class,
+        MySQLReplicationLagProberTest.class,
+        DeepPaginationEngineTest.class
 })
 public final class AllRoutingTests {
 }
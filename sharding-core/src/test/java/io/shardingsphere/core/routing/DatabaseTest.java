@@ -27,22 +27,29 @@ import io.shardingsphere.api.config.strategy.HintShardingStrategyConfiguration;
 import io.shardingsphere.api.config.strategy.InlineShardingStrategyConfiguration;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.fixture.OrderDatabaseHintShardingAlgorithm;
+import io.shardingsphere.core.keygen.KeyGenerator;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.routing.cache.RoutingResultCache;
 import io.shardingsphere.core.rule.ShardingRule;
 import org.junit.Before;
 import org.junit.Test;
 
 import javax.sql.DataSource;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class DatabaseTest {
     
@@ -75,7 +82,7 @@ public final class DatabaseTest {
     @Test
     public void assertDatabaseAllRoutingSQL() {
         String originSQL = "select * from tesT";
-        SQLRouteResult actual = new StatementRoutingEngine(shardingRule, null, DatabaseType.MySQL, false, null).route(originSQL);
+        SQLRouteResult actual = new StatementRoutingEngine(shardingRule, null, DatabaseType.MySQL, false, null, new ParsingResultCache(), new RoutingResultCache()).route(originSQL);
         assertThat(actual.getRouteUnits().size(), is(1));
         Set<String> actualDataSources = new HashSet<>(Collections2.transform(actual.getRouteUnits(), new Function<RouteUnit, String>() {
         
@@ -99,12 +106,12 @@ public final class DatabaseTest {
     @Test
     public void assertDatabaseSelectSQLPagination() {
         String originSQL = "select user_id from tbl_pagination limit 0,5";
-        SQLRouteResult actual = new StatementRoutingEngine(shardingRule, null, DatabaseType.MySQL, false, null).route(originSQL);
+        SQLRouteResult actual = new StatementRoutingEngine(shardingRule, null, DatabaseType.MySQL, false, null, new ParsingResultCache(), new RoutingResultCache()).route(originSQL);
         SelectStatement stmt = (SelectStatement) actual.getSqlStatement();
         assertThat(stmt.getLimit().getOffsetValue(), is(0));
         assertThat(stmt.getLimit().getRowCountValue(), is(5));
         originSQL = "select user_id from tbl_pagination limit 5,5";
-        actual = new StatementRoutingEngine(shardingRule, null, DatabaseType.MySQL, false, null).route(originSQL);
+        actual = new StatementRoutingEngine(shardingRule, null, DatabaseType.MySQL, false, null, new ParsingResultCache(), new RoutingResultCache()).route(originSQL);
         stmt = (SelectStatement) actual.getSqlStatement();
         assertThat(stmt.getLimit().getOffsetValue(), is(5));
         assertThat(stmt.getLimit().getRowCountValue(), is(5));
@@ -112,6 +119,72 @@ public final class DatabaseTest {
     
     @Test
     public void assertDatabasePrepareSelectSQLPagination() {
+        ShardingRule rule = createUserShardingRule();
+        String originSQL = "select city_id from user where city_id in (?,?) limit 5,10";
+        SQLRouteResult actual = new PreparedStatementRoutingEngine(originSQL, rule, null, DatabaseType.MySQL, false, null, new ParsingResultCache(), new RoutingResultCache()).route(Lists.<Object>newArrayList(13, 173));
+        SelectStatement selectStatement = (SelectStatement) actual.getSqlStatement();
+        assertThat(selectStatement.getLimit().getOffsetValue(), is(5));
+        assertThat(selectStatement.getLimit().getRowCountValue(), is(10));
+        assertThat(actual.getRouteUnits().size(), is(1));
+        originSQL = "select city_id from user where city_id in (?,?) limit 5,10";
+        actual = new PreparedStatementRoutingEngine(originSQL, rule, null, DatabaseType.MySQL, false, null, new ParsingResultCache(), new RoutingResultCache()).route(Lists.<Object>newArrayList(89, 84));
+        selectStatement = (SelectStatement) actual.getSqlStatement();
+        assertThat(selectStatement.getLimit().getOffsetValue(), is(5));
+        assertThat(selectStatement.getLimit().getRowCountValue(), is(10));
+        assertThat(actual.getRouteUnits().size(), is(2));
+    }
+    
+    @Test
+    public void assertDatabasePrepareSelectSQLWithRoutingResultCache() {
+        ShardingRule rule = createUserShardingRule();
+        ParsingResultCache parsingResultCache = new ParsingResultCache();
+        RoutingResultCache routingResultCache = new RoutingResultCache(16L);
+        String originSQL = "select city_id from user where city_id in (?,?)";
+        SQLRouteResult expected = new PreparedStatementRoutingEngine(
+                originSQL, rule, null, DatabaseType.MySQL, false, null, parsingResultCache, routingResultCache).route(Lists.<Object>newArrayList(13, 173));
+        SQLRouteResult actual = new PreparedStatementRoutingEngine(
+                originSQL, rule, null, DatabaseType.MySQL, false, null, parsingResultCache, routingResultCache).route(Lists.<Object>newArrayList(13, 173));
+        assertThat(routingResultCache.getStats().hitCount(), is(1L));
+        assertThat(actual.getRouteUnits(), is(expected.getRouteUnits()));
+        assertThat(actual.getRouteUnits().iterator().next().getSqlUnit().getParameterSets().get(0), is((List<Object>) Lists.<Object>newArrayList(13, 173)));
+        actual = new PreparedStatementRoutingEngine(originSQL, rule, null, DatabaseType.MySQL, false, null, parsingResultCache, routingResultCache).route(Lists.<Object>newArrayList(89, 84));
+        assertThat(routingResultCache.getStats().hitCount(), is(1L));
+        assertThat(actual.getRouteUnits().size(), is(2));
+    }
+    
+    @Test
+    public void assertDatabasePrepareSelectSQLWithoutCachingUnicastRoutingResult() {
+        ShardingRule rule = createUserShardingRule();
+        ParsingResultCache parsingResultCache = new ParsingResultCache();
+        RoutingResultCache routingResultCache = new RoutingResultCache(16L);
+        String originSQL = "select city_id from user where city_id = ? and city_id = ?";
+        for (int i = 0; i < 2; i++) {
+            SQLRouteResult actual = new PreparedStatementRoutingEngine(
+                    originSQL, rule, null, DatabaseType.MySQL, false, null, parsingResultCache, routingResultCache).route(Lists.<Object>newArrayList(13, 173));
+            assertThat(actual.getRouteUnits().size(), is(1));
+        }
+        assertThat(routingResultCache.getStats().hitCount(), is(0L));
+    }
+    
+    @Test
+    public void assertInsertSQLWithFingerprintNotRestored() {
+        KeyGenerator keyGenerator = mock(KeyGenerator.class);
+        when(keyGenerator.generateKey()).thenReturn(1.5D, 2.5D);
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("ds_0.t_order");
+        tableRuleConfig.setKeyGeneratorColumnName("order_id");
+        tableRuleConfig.setKeyGenerator(keyGenerator);
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        ShardingRule rule = new ShardingRule(shardingRuleConfig, Collections.singletonList("ds_0"));
+        String originSQL = "insert into t_order (user_id) values (1)";
+        SQLRouteResult actual = new StatementRoutingEngine(rule, null, DatabaseType.MySQL, false, null, new ParsingResultCache(), new RoutingResultCache()).route(originSQL);
+        assertThat(actual.getRouteUnits().size(), is(1));
+        assertThat(actual.getGeneratedKey().getGeneratedKeys(), is(Collections.<Number>singletonList(2.5D)));
+    }
+    
+    private ShardingRule createUserShardingRule() {
         String shardingPrefix = "user_db";
         String shardingTable = "user";
         Map<String, DataSource> dataSourceMap = new HashMap<>();
@@ -123,23 +196,11 @@ public final class DatabaseTest {
         tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("city_id", shardingPrefix + "${city_id % 2 + 1}"));
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
         shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
-        ShardingRule rule = new ShardingRule(shardingRuleConfig, dataSourceMap.keySet());
-        String originSQL = "select city_id from user where city_id in (?,?) limit 5,10";
-        SQLRouteResult actual = new PreparedStatementRoutingEngine(originSQL, rule, null, DatabaseType.MySQL, false, null).route(Lists.<Object>newArrayList(13, 173));
-        SelectStatement selectStatement = (SelectStatement) actual.getSqlStatement();
-        assertThat(selectStatement.getLimit().getOffsetValue(), is(5));
-        assertThat(selectStatement.getLimit().getRowCountValue(), is(10));
-        assertThat(actual.getRouteUnits().size(), is(1));
-        originSQL = "select city_id from user where city_id in (?,?) limit 5,10";
-        actual = new PreparedStatementRoutingEngine(originSQL, rule, null, DatabaseType.MySQL, false, null).route(Lists.<Object>newArrayList(89, 84));
-        selectStatement = (SelectStatement) actual.getSqlStatement();
-        assertThat(selectStatement.getLimit().getOffsetValue(), is(5));
-        assertThat(selectStatement.getLimit().getRowCountValue(), is(10));
-        assertThat(actual.getRouteUnits().size(), is(2));
+        return new ShardingRule(shardingRuleConfig, dataSourceMap.keySet());
     }
     
     private void assertTarget(final String originSql, final String targetDataSource) {
-        SQLRouteResult actual = new StatementRoutingEngine(shardingRule, null, DatabaseType.MySQL, false, null).route(originSql);
+        SQLRouteResult actual = new StatementRoutingEngine(shardingRule, null, DatabaseType.MySQL, false, null, new ParsingResultCache(), new RoutingResultCache()).route(originSql);
         assertThat(actual.getRouteUnits().size(), is(1));
         Set<String> actualDataSources = new HashSet<>(Collections2.transform(actual.getRouteUnits(), new Function<RouteUnit, String>() {
             
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.cache;
+
+import io.shardingsphere.api.algorithm.sharding.ListShardingValue;
+import io.shardingsphere.core.optimizer.condition.ShardingCondition;
+import io.shardingsphere.core.optimizer.condition.ShardingConditions;
+import io.shardingsphere.core.routing.type.RoutingResult;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RoutingResultCacheTest {
+    
+    private final CachedRoutingResult cachedRoutingResult = new CachedRoutingResult(new RoutingResult(), Collections.singletonList("SELECT * FROM t_order_0 WHERE order_id = ?"));
+    
+    @Test
+    public void assertGetRoutingResultWhenDisabled() {
+        RoutingResultCache routingResultCache = new RoutingResultCache();
+        assertFalse(routingResultCache.isEnabled());
+        routingResultCache.put("SELECT * FROM t_order WHERE order_id = ?", createShardingConditions(1), cachedRoutingResult);
+        assertFalse(routingResultCache.getRoutingResult("SELECT * FROM t_order WHERE order_id = ?", createShardingConditions(1)).isPresent());
+    }
+    
+    @Test
+    public void assertGetRoutingResultWithSameShardingValues() {
+        RoutingResultCache routingResultCache = new RoutingResultCache(16L);
+        assertTrue(routingResultCache.isEnabled());
+        routingResultCache.put("SELECT * FROM t_order WHERE order_id = ?", createShardingConditions(1), cachedRoutingResult);
+        assertThat(routingResultCache.getRoutingResult("SELECT * FROM t_order WHERE order_id = ?", createShardingConditions(1)).get(), is(cachedRoutingResult));
+    }
+    
+    @Test
+    public void assertGetRoutingResultWithDifferentShardingValues() {
+        RoutingResultCache routingResultCache = new RoutingResultCache(16L);
+        routingResultCache.put("SELECT * FROM t_order WHERE order_id = ?", createShardingConditions(1), cachedRoutingResult);
+        assertFalse(routingResultCache.getRoutingResult("SELECT * FROM t_order WHERE order_id = ?", createShardingConditions(2)).isPresent());
+        assertFalse(routingResultCache.getRoutingResult("SELECT * FROM t_order WHERE order_id = ? AND 1 = 1", createShardingConditions(1)).isPresent());
+    }
+    
+    @Test
+    public void assertClear() {
+        RoutingResultCache routingResultCache = new RoutingResultCache(16L);
+        routingResultCache.put("SELECT * FROM t_order WHERE order_id = ?", createShardingConditions(1), cachedRoutingResult);
+        routingResultCache.clear();
+        assertFalse(routingResultCache.getRoutingResult("SELECT * FROM t_order WHERE order_id = ?", createShardingConditions(1)).isPresent());
+    }
+    
+    private ShardingConditions createShardingConditions(final int orderId) {
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getShardingValues().add(new ListShardingValue<>("t_order", "order_id", Collections.singletonList(orderId)));
+        return new ShardingConditions(Collections.singletonList(shardingCondition));
+    }
+}
@@ -0,0 +1,500 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.pagination;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.api.config.rule.ShardingRuleConfiguration;
+import io.shardingsphere.api.config.rule.TableRuleConfiguration;
+import io.shardingsphere.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.fixture.TestQueryResult;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.metadata.table.ColumnMetaData;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.optimizer.condition.ShardingCondition;
+import io.shardingsphere.core.optimizer.condition.ShardingConditions;
+import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parser.context.limit.Limit;
+import io.shardingsphere.core.parsing.parser.context.limit.LimitValue;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.routing.PreparedStatementRoutingEngine;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.cache.RoutingResultCache;
+import io.shardingsphere.core.routing.type.RoutingResult;
+import io.shardingsphere.core.routing.type.RoutingTable;
+import io.shardingsphere.core.routing.type.TableUnit;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class DeepPaginationEngineTest {
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingTableMetaData shardingTableMetaData;
+    
+    private ShardingDataSourceMetaData shardingDataSourceMetaData;
+    
+    private PaginationQueryExecutor paginationQueryExecutor;
+    
+    @Before
+    public void setUp() {
+        shardingRule = createShardingRule();
+        shardingTableMetaData = createShardingTableMetaData(new ColumnMetaData("order_id", "int", true), new ColumnMetaData("user_id", "int", false));
+        shardingDataSourceMetaData = createShardingDataSourceMetaData();
+        paginationQueryExecutor = mock(PaginationQueryExecutor.class);
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}"));
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order_item", "ds_${0..1}.t_order_item_${0..1}"));
+        shardingRuleConfig.getBindingTableGroups().add("t_order, t_order_item");
+        return new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+    }
+    
+    private TableRuleConfiguration createTableRuleConfiguration(final String logicTable, final String actualDataNodes) {
+        TableRuleConfiguration result = new TableRuleConfiguration();
+        result.setLogicTable(logicTable);
+        result.setActualDataNodes(actualDataNodes);
+        result.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        result.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", logicTable + "_${order_id % 2}"));
+        return result;
+    }
+    
+    private ShardingTableMetaData createShardingTableMetaData(final ColumnMetaData... orderColumnMetaData) {
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(2, 1);
+        tableMetaDataMap.put("t_order", new TableMetaData(Arrays.asList(orderColumnMetaData)));
+        tableMetaDataMap.put("t_order_item", new TableMetaData(Arrays.asList(new ColumnMetaData("item_id", "int", true), new ColumnMetaData("order_id", "int", false))));
+        return new ShardingTableMetaData(tableMetaDataMap);
+    }
+    
+    private ShardingDataSourceMetaData createShardingDataSourceMetaData() {
+        Map<String, String> shardingDataSourceURLs = new LinkedHashMap<>();
+        shardingDataSourceURLs.put("ds_0", "jdbc:mysql://127.0.0.1:3306/actual_db");
+        shardingDataSourceURLs.put("ds_1", "jdbc:mysql://127.0.0.1:3306/actual_db");
+        return new ShardingDataSourceMetaData(shardingDataSourceURLs, shardingRule, DatabaseType.MySQL);
+    }
+    
+    @Test
+    public void assertRouteWithDeepPagination() {
+        assertThat(route("SELECT order_id FROM t_order ORDER BY order_id LIMIT ?, ?", 100, 100, 10), notNullValue());
+    }
+    
+    @Test
+    public void assertRouteWithoutDeepPaginationWhenDisabled() {
+        assertThat(route("SELECT order_id FROM t_order ORDER BY order_id LIMIT ?, ?", 0, 100, 10), nullValue());
+    }
+    
+    @Test
+    public void assertRouteWithoutDeepPaginationWhenOffsetBelowThreshold() {
+        assertThat(route("SELECT order_id FROM t_order ORDER BY order_id LIMIT ?, ?", 1000, 100, 10), nullValue());
+    }
+    
+    @Test
+    public void assertRouteWithoutDeepPaginationWhenNotSupported() {
+        assertThat(route("SELECT order_id FROM t_order ORDER BY user_id LIMIT ?, ?", 100, 100, 10), nullValue());
+    }
+    
+    @Test
+    public void assertRouteWithoutDeepPaginationForSingleRouting() {
+        assertThat(route("SELECT order_id FROM t_order WHERE user_id = ? AND order_id = ? ORDER BY order_id LIMIT ?, ?", 100, 1, 1, 100, 10), nullValue());
+    }
+    
+    private PaginationRouteContext route(final String sql, final int offsetThreshold, final Object... parameters) {
+        PreparedStatementRoutingEngine routingEngine = new PreparedStatementRoutingEngine(
+                sql, shardingRule, shardingTableMetaData, DatabaseType.MySQL, false, shardingDataSourceMetaData, new ParsingResultCache(), new RoutingResultCache(), offsetThreshold);
+        return routingEngine.route(Arrays.asList(parameters)).getPaginationRouteContext();
+    }
+    
+    @Test
+    public void assertIsSupported() {
+        assertTrue(DeepPaginationEngine.isSupported(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 10"), shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsSupportedWithOwnerAndAlias() {
+        assertTrue(DeepPaginationEngine.isSupported(
+                createPaginationRouteContext("SELECT o.order_id AS order_id FROM t_order o ORDER BY o.order_id DESC LIMIT 100, 10"), shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWhenDisabled() {
+        assertFalse(DeepPaginationEngine.isSupported(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 10"), shardingTableMetaData, 0));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithoutPaginationRouteContext() {
+        assertFalse(DeepPaginationEngine.isSupported(null, shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithoutLimit() {
+        assertFalse(DeepPaginationEngine.isSupported(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id"), shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithoutRewriteRowCount() {
+        PaginationRouteContext paginationRouteContext = createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 10");
+        Limit limit = new Limit(DatabaseType.Oracle);
+        limit.setOffset(new LimitValue(100, -1, true));
+        limit.setRowCount(new LimitValue(110, -1, false));
+        paginationRouteContext.getSelectStatement().setLimit(limit);
+        assertFalse(DeepPaginationEngine.isSupported(paginationRouteContext, shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithoutOffset() {
+        assertFalse(DeepPaginationEngine.isSupported(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 10"), shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithoutRowCount() {
+        PaginationRouteContext paginationRouteContext = createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 10");
+        Limit limit = new Limit(DatabaseType.MySQL);
+        limit.setOffset(new LimitValue(100, -1, true));
+        paginationRouteContext.getSelectStatement().setLimit(limit);
+        assertFalse(DeepPaginationEngine.isSupported(paginationRouteContext, shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWhenOffsetBelowThreshold() {
+        assertFalse(DeepPaginationEngine.isSupported(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 10"), shardingTableMetaData, 101));
+    }
+    
+    @Test
+    public void assertIsNotSupportedForSingleTableUnit() {
+        assertFalse(DeepPaginationEngine.isSupported(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 10", 1), shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWhenOffsetBelowTableUnitsSize() {
+        assertFalse(DeepPaginationEngine.isSupported(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 3, 10"), shardingTableMetaData, 1));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithGroupBy() {
+        assertFalse(DeepPaginationEngine.isSupported(
+                createPaginationRouteContext("SELECT order_id FROM t_order GROUP BY order_id ORDER BY order_id LIMIT 100, 10"), shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithAggregation() {
+        assertFalse(DeepPaginationEngine.isSupported(
+                createPaginationRouteContext("SELECT order_id, COUNT(user_id) FROM t_order ORDER BY order_id LIMIT 100, 10"), shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithDistinct() {
+        assertFalse(DeepPaginationEngine.isSupported(createPaginationRouteContext("SELECT DISTINCT order_id FROM t_order ORDER BY order_id LIMIT 100, 10"), shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithAggregationDistinct() {
+        assertFalse(DeepPaginationEngine.isSupported(
+                createPaginationRouteContext("SELECT order_id, COUNT(DISTINCT user_id) FROM t_order ORDER BY order_id LIMIT 100, 10"), shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithSubQueryStatement() {
+        PaginationRouteContext paginationRouteContext = createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 10");
+        paginationRouteContext.getSelectStatement().setSubQueryStatement(new SelectStatement());
+        assertFalse(DeepPaginationEngine.isSupported(paginationRouteContext, shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithSubQueryStatements() {
+        PaginationRouteContext paginationRouteContext = createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 10");
+        paginationRouteContext.getSelectStatement().getSubQueryStatements().add(new SelectStatement());
+        assertFalse(DeepPaginationEngine.isSupported(paginationRouteContext, shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithoutWhereLastPosition() {
+        PaginationRouteContext paginationRouteContext = createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 10");
+        paginationRouteContext.getSelectStatement().setWhereLastPosition(-1);
+        assertFalse(DeepPaginationEngine.isSupported(paginationRouteContext, shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedForMultipleTables() {
+        assertFalse(DeepPaginationEngine.isSupported(createPaginationRouteContext(
+                "SELECT o.order_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id ORDER BY o.order_id LIMIT 100, 10"), shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithoutOrderBy() {
+        assertFalse(DeepPaginationEngine.isSupported(createPaginationRouteContext("SELECT order_id FROM t_order LIMIT 100, 10"), shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithMultipleOrderByItems() {
+        assertFalse(DeepPaginationEngine.isSupported(
+                createPaginationRouteContext("SELECT order_id, user_id FROM t_order ORDER BY order_id, user_id LIMIT 100, 10"), shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithOrderByIndex() {
+        assertFalse(DeepPaginationEngine.isSupported(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY 1 LIMIT 100, 10"), shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithUnknownOrderByOwner() {
+        assertFalse(DeepPaginationEngine.isSupported(
+                createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY x.order_id LIMIT 100, 10"), shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithoutShardingTableMetaData() {
+        assertFalse(DeepPaginationEngine.isSupported(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 10"), null, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithoutTableMetaData() {
+        assertFalse(DeepPaginationEngine.isSupported(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 10"),
+                new ShardingTableMetaData(Collections.<String, TableMetaData>emptyMap()), 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithoutPrimaryKey() {
+        assertFalse(DeepPaginationEngine.isSupported(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 10"),
+                createShardingTableMetaData(new ColumnMetaData("order_id", "int", false), new ColumnMetaData("user_id", "int", false)), 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithCompositePrimaryKey() {
+        assertFalse(DeepPaginationEngine.isSupported(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 10"),
+                createShardingTableMetaData(new ColumnMetaData("order_id", "int", true), new ColumnMetaData("user_id", "int", true)), 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWhenOrderByNotPrimaryKey() {
+        assertFalse(DeepPaginationEngine.isSupported(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY user_id LIMIT 100, 10"), shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWhenOrderByAliasOfOtherColumn() {
+        assertFalse(DeepPaginationEngine.isSupported(
+                createPaginationRouteContext("SELECT user_id AS order_id FROM t_order ORDER BY order_id LIMIT 100, 10"), shardingTableMetaData, 100));
+    }
+    
+    @Test
+    public void assertExecuteWithUnevenDataNodes() throws SQLException {
+        mockExecuteQuery(
+                createQueryResults(new Integer[] {3}, new Integer[] {6}, new Integer[] {9}, new Integer[] {16}),
+                createQueryResults(new Integer[] {4, 5}, new Integer[] {7, 8}, new Integer[] {14, 15}),
+                createQueryResults(new Integer[] {3, 10, 11}, new Integer[] {4, 5, 6, 12}, new Integer[] {7, 8, 9, 13}, new Integer[] {14, 15, 16}));
+        Optional<MergedResult> actual = new DeepPaginationEngine(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 8, 2"), paginationQueryExecutor).execute();
+        assertTrue(actual.isPresent());
+        assertMergedResult(actual.get(), 9, 10);
+        List<List<RouteUnit>> routeUnits = getExecutedRouteUnits(3);
+        assertThat(routeUnits.get(0).size(), is(4));
+        assertThat(routeUnits.get(0).get(0).getSqlUnit().getSql(), is("SELECT order_id FROM t_order_0 ORDER BY order_id LIMIT 2, 1"));
+        assertThat(routeUnits.get(1).size(), is(3));
+        assertThat(routeUnits.get(1).get(0).getDataSourceName(), is("ds_0"));
+        assertThat(routeUnits.get(1).get(0).getSqlUnit().getSql(), is("SELECT order_id FROM t_order_1 WHERE order_id >= ? AND order_id < ? ORDER BY order_id LIMIT 0, 2"));
+        assertThat(routeUnits.get(1).get(0).getSqlUnit().getParameterSets().get(0), is(Arrays.<Object>asList(3, 6)));
+        assertThat(routeUnits.get(2).size(), is(4));
+        assertThat(routeUnits.get(2).get(3).getDataSourceName(), is("ds_1"));
+        assertThat(routeUnits.get(2).get(3).getSqlUnit().getSql(), is("SELECT order_id FROM t_order_1 WHERE order_id >= ? ORDER BY order_id LIMIT 0, 8"));
+        assertThat(routeUnits.get(2).get(3).getSqlUnit().getParameterSets().get(0), is(Arrays.<Object>asList(3)));
+    }
+    
+    @Test
+    public void assertExecuteWithDescendingOrder() throws SQLException {
+        mockExecuteQuery(
+                createQueryResults(new Integer[] {3}, new Integer[] {5}, new Integer[] {8}, new Integer[] {14}),
+                createQueryResults(new Integer[] {11, 10}, new Integer[] {12, 6}, new Integer[] {13, 9}),
+                createQueryResults(new Integer[] {11, 10, 3, 2, 1}, new Integer[] {12, 6, 5, 4}, new Integer[] {13, 9, 8, 7}, new Integer[] {14}));
+        Optional<MergedResult> actual = new DeepPaginationEngine(
+                createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id DESC LIMIT 8, 2"), paginationQueryExecutor).execute();
+        assertTrue(actual.isPresent());
+        assertMergedResult(actual.get(), 8, 7);
+        List<List<RouteUnit>> routeUnits = getExecutedRouteUnits(3);
+        assertThat(routeUnits.get(1).size(), is(3));
+        assertThat(routeUnits.get(1).get(0).getSqlUnit().getSql(), is("SELECT order_id FROM t_order_0 WHERE order_id <= ? AND order_id > ? ORDER BY order_id DESC LIMIT 0, 2"));
+        assertThat(routeUnits.get(1).get(0).getSqlUnit().getParameterSets().get(0), is(Arrays.<Object>asList(14, 3)));
+        assertThat(routeUnits.get(2).get(0).getSqlUnit().getSql(), is("SELECT order_id FROM t_order_0 WHERE order_id <= ? ORDER BY order_id DESC LIMIT 0, 8"));
+        assertThat(routeUnits.get(2).get(0).getSqlUnit().getParameterSets().get(0), is(Arrays.<Object>asList(14)));
+    }
+    
+    @Test
+    public void assertExecuteWhenOffsetLandsOnProbedKey() throws SQLException {
+        mockExecuteQuery(
+                createQueryResults(new Integer[] {9}, new Integer[] {10}, new Integer[] {11}, new Integer[] {12}),
+                createQueryResults(new Integer[0], new Integer[0], new Integer[0]),
+                createQueryResults(new Integer[] {9, 13}, new Integer[] {10, 14}, new Integer[] {11, 15}, new Integer[] {12, 16}));
+        Optional<MergedResult> actual = new DeepPaginationEngine(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 8, 2"), paginationQueryExecutor).execute();
+        assertTrue(actual.isPresent());
+        assertMergedResult(actual.get(), 9, 10);
+        RouteUnit fetchRouteUnit = getExecutedRouteUnits(3).get(2).get(0);
+        assertThat(fetchRouteUnit.getSqlUnit().getSql(), is("SELECT order_id FROM t_order_0 WHERE order_id >= ? ORDER BY order_id LIMIT 0, 2"));
+        assertThat(fetchRouteUnit.getSqlUnit().getParameterSets().get(0), is(Arrays.<Object>asList(9)));
+    }
+    
+    @Test
+    public void assertExecuteWithoutCountWhenAllProbedKeysAreBoundary() throws SQLException {
+        mockExecuteQuery(
+                createQueryResults(new Integer[] {9}, new Integer[] {9}, new Integer[] {9}, new Integer[] {9}),
+                createQueryResults(new Integer[] {9, 13}, new Integer[] {9, 14}, new Integer[] {9, 15}, new Integer[] {9, 16}));
+        Optional<MergedResult> actual = new DeepPaginationEngine(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 8, 2"), paginationQueryExecutor).execute();
+        assertTrue(actual.isPresent());
+        assertMergedResult(actual.get(), 9, 9);
+        getExecutedRouteUnits(2);
+    }
+    
+    @Test
+    public void assertExecuteWhenDataNodeHasNoRowAtProbeOffset() throws SQLException {
+        mockExecuteQuery(createQueryResults(new Integer[] {3}, new Integer[0], new Integer[] {9}, new Integer[] {16}));
+        assertFalse(new DeepPaginationEngine(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 8, 2"), paginationQueryExecutor).execute().isPresent());
+        getExecutedRouteUnits(1);
+    }
+    
+    @Test
+    public void assertExecuteWhenDataNodeCanNotBeProbed() throws SQLException {
+        List<QueryResult> queryResults = createQueryResults(new Integer[] {3}, new Integer[] {6}, new Integer[] {9}, new Integer[] {16});
+        queryResults.set(2, null);
+        mockExecuteQuery(queryResults);
+        assertFalse(new DeepPaginationEngine(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 8, 2"), paginationQueryExecutor).execute().isPresent());
+        getExecutedRouteUnits(1);
+    }
+    
+    @Test
+    public void assertExecuteWhenDataNodeCanNotBeCounted() throws SQLException {
+        List<QueryResult> countQueryResults = createQueryResults(new Integer[] {4, 5}, new Integer[] {7, 8}, new Integer[] {14, 15});
+        countQueryResults.set(1, null);
+        mockExecuteQuery(createQueryResults(new Integer[] {3}, new Integer[] {6}, new Integer[] {9}, new Integer[] {16}), countQueryResults);
+        assertFalse(new DeepPaginationEngine(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 8, 2"), paginationQueryExecutor).execute().isPresent());
+        getExecutedRouteUnits(2);
+    }
+    
+    @Test
+    public void assertExecuteWhenDataNodeCanNotBeFetched() throws SQLException {
+        List<QueryResult> fetchQueryResults = createQueryResults(new Integer[] {3, 10, 11}, new Integer[] {4, 5, 6, 12}, new Integer[] {7, 8, 9, 13}, new Integer[] {14, 15, 16});
+        fetchQueryResults.set(3, null);
+        mockExecuteQuery(createQueryResults(new Integer[] {3}, new Integer[] {6}, new Integer[] {9}, new Integer[] {16}),
+                createQueryResults(new Integer[] {4, 5}, new Integer[] {7, 8}, new Integer[] {14, 15}), fetchQueryResults);
+        assertFalse(new DeepPaginationEngine(createPaginationRouteContext("SELECT order_id FROM t_order ORDER BY order_id LIMIT 8, 2"), paginationQueryExecutor).execute().isPresent());
+        getExecutedRouteUnits(3);
+    }
+    
+    private PaginationRouteContext createPaginationRouteContext(final String sql) {
+        return createPaginationRouteContext(sql, 4);
+    }
+    
+    private PaginationRouteContext createPaginationRouteContext(final String sql, final int tableUnitsSize) {
+        SelectStatement selectStatement = (SelectStatement) new SQLParsingEngine(DatabaseType.MySQL, sql, shardingRule, shardingTableMetaData, new ParsingResultCache()).parse(false);
+        RoutingResult routingResult = new RoutingResult();
+        for (int i = 0; i < tableUnitsSize; i++) {
+            TableUnit tableUnit = new TableUnit("ds_" + i / 2);
+            tableUnit.getRoutingTables().add(new RoutingTable("t_order", "t_order_" + i % 2));
+            routingResult.getTableUnits().getTableUnits().add(tableUnit);
+        }
+        return new PaginationRouteContext(shardingRule, sql, DatabaseType.MySQL, selectStatement,
+                new ShardingConditions(Collections.<ShardingCondition>emptyList()), Collections.emptyList(), routingResult, shardingDataSourceMetaData);
+    }
+    
+    @SafeVarargs
+    private final void mockExecuteQuery(final List<QueryResult> queryResults, final List<QueryResult>... nextQueryResults) throws SQLException {
+        when(paginationQueryExecutor.executeQuery(ArgumentMatchers.<List<RouteUnit>>any())).thenReturn(queryResults, nextQueryResults);
+    }
+    
+    private List<QueryResult> createQueryResults(final Integer[]... orderIds) throws SQLException {
+        List<QueryResult> result = new LinkedList<>();
+        for (Integer[] each : orderIds) {
+            result.add(new TestQueryResult(createResultSet(each)));
+        }
+        return result;
+    }
+    
+    private ResultSet createResultSet(final Integer[] orderIds) throws SQLException {
+        final AtomicInteger cursor = new AtomicInteger(-1);
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("order_id");
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+    
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return cursor.incrementAndGet() < orderIds.length;
+            }
+        });
+        Answer<Integer> orderIdAnswer = new Answer<Integer>() {
+    
+            @Override
+            public Integer answer(final InvocationOnMock invocation) {
+                return orderIds[cursor.get()];
+            }
+        };
+        when(result.getObject(1)).thenAnswer(orderIdAnswer);
+        when(result.getObject("order_id")).thenAnswer(orderIdAnswer);
+        return result;
+    }
+    
+    private void assertMergedResult(final MergedResult mergedResult, final Integer... expectedOrderIds) throws SQLException {
+        for (Integer each : expectedOrderIds) {
+            assertTrue(mergedResult.next());
+            assertThat(mergedResult.getValue(1, Object.class), is((Object) each));
+        }
+        assertFalse(mergedResult.next());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<List<RouteUnit>> getExecutedRouteUnits(final int executedTimes) throws SQLException {
+        ArgumentCaptor<List> routeUnits = ArgumentCaptor.forClass(List.class);
+        verify(paginationQueryExecutor, times(executedTimes)).executeQuery(routeUnits.capture());
+        List<List<RouteUnit>> result = new LinkedList<>();
+        for (List each : routeUnits.getAllValues()) {
+            result.add((List<RouteUnit>) each);
+        }
+        return result;
+    }
+}
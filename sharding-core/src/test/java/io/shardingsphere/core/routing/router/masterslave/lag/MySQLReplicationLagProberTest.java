@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave.lag;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MySQLReplicationLagProberTest {
+    
+    private final Connection connection = mock(Connection.class);
+    
+    private final ResultSet resultSet = mock(ResultSet.class);
+    
+    @Before
+    public void setUp() throws SQLException {
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SHOW SLAVE STATUS")).thenReturn(resultSet);
+    }
+    
+    @Test
+    public void assertProbeWithoutSlaveStatus() throws SQLException {
+        assertThat(new MySQLReplicationLagProber().probe(connection), is(0L));
+    }
+    
+    @Test
+    public void assertProbeWithSecondsBehindMaster() throws SQLException {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(3L);
+        assertThat(new MySQLReplicationLagProber().probe(connection), is(3000L));
+    }
+    
+    @Test
+    public void assertProbeWithReplicationStopped() throws SQLException {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.wasNull()).thenReturn(true);
+        assertThat(new MySQLReplicationLagProber().probe(connection), is(Long.MAX_VALUE));
+    }
+}
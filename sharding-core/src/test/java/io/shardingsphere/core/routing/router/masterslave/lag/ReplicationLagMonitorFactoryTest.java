@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave.lag;
+
+import io.shardingsphere.api.config.rule.MasterSlaveRuleConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.properties.ShardingProperties;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.rule.MasterSlaveRule;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ReplicationLagMonitorFactoryTest {
+    
+    private final Collection<MasterSlaveRule> masterSlaveRules = Collections.singletonList(
+            new MasterSlaveRule(new MasterSlaveRuleConfiguration("ds", "master_ds", Collections.singletonList("slave_ds"), null)));
+    
+    @Test
+    public void assertNewInstancesWithoutThreshold() {
+        assertTrue(ReplicationLagMonitorFactory.newInstances(masterSlaveRules, Collections.<String, DataSource>emptyMap(), DatabaseType.H2, new ShardingProperties(new Properties())).isEmpty());
+    }
+    
+    @Test
+    public void assertNewInstancesWithThreshold() {
+        Collection<ReplicationLagMonitor> actual = ReplicationLagMonitorFactory.newInstances(
+                masterSlaveRules, Collections.<String, DataSource>emptyMap(), DatabaseType.H2, new ShardingProperties(createProperties()));
+        assertThat(actual.size(), is(1));
+        for (ReplicationLagMonitor each : actual) {
+            each.close();
+        }
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertNewInstancesWithUnsupportedDatabaseType() {
+        ReplicationLagMonitorFactory.newInstances(masterSlaveRules, Collections.<String, DataSource>emptyMap(), DatabaseType.PostgreSQL, new ShardingProperties(createProperties()));
+    }
+    
+    private Properties createProperties() {
+        Properties result = new Properties();
+        result.setProperty(ShardingPropertiesConstant.MASTER_SLAVE_REPLICATION_LAG_THRESHOLD_MILLISECONDS.getKey(), "1000");
+        return result;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave.lag;
+
+import io.shardingsphere.api.config.rule.MasterSlaveRuleConfiguration;
+import io.shardingsphere.core.routing.router.masterslave.MasterSlaveRouter;
+import io.shardingsphere.core.routing.router.masterslave.MasterVisitedManager;
+import io.shardingsphere.core.routing.router.masterslave.lag.fixture.H2ReplicationLagProber;
+import io.shardingsphere.core.rule.MasterSlaveRule;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ReplicationLagMonitorTest {
+    
+    private final Map<String, DataSource> dataSourceMap = new HashMap<>();
+    
+    private MasterSlaveRule masterSlaveRule;
+    
+    private ReplicationLagMonitor replicationLagMonitor;
+    
+    @Before
+    public void setUp() throws SQLException {
+        for (String each : Arrays.asList("lag_master_ds", "lag_slave_ds_0", "lag_slave_ds_1")) {
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL(String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1;MODE=MYSQL", each));
+            dataSourceMap.put(each, dataSource);
+            execute(each, "CREATE TABLE IF NOT EXISTS t_replication_lag (lag_milliseconds BIGINT)");
+            execute(each, "DELETE FROM t_replication_lag");
+        }
+        masterSlaveRule = new MasterSlaveRule(new MasterSlaveRuleConfiguration("lag_ds", "lag_master_ds", Arrays.asList("lag_slave_ds_0", "lag_slave_ds_1"), null));
+        replicationLagMonitor = new ReplicationLagMonitor(masterSlaveRule, dataSourceMap, new H2ReplicationLagProber(), 1000L, 3600000L);
+    }
+    
+    @After
+    public void tearDown() {
+        replicationLagMonitor.close();
+        MasterVisitedManager.clear();
+    }
+    
+    @Test
+    public void assertProbeWithLaggingSlave() throws SQLException {
+        updateLag("lag_slave_ds_0", 5000L);
+        updateLag("lag_slave_ds_1", 100L);
+        replicationLagMonitor.probe();
+        assertTrue(masterSlaveRule.isReplicationLagging("lag_slave_ds_0"));
+        assertFalse(masterSlaveRule.isReplicationLagging("lag_slave_ds_1"));
+        assertThat(masterSlaveRule.getAvailableSlaveDataSourceNames(), is((Object) Collections.singletonList("lag_slave_ds_1")));
+        assertThat(new MasterSlaveRouter(masterSlaveRule, false).route("SELECT * FROM t_order"), is((Object) Collections.singletonList("lag_slave_ds_1")));
+    }
+    
+    @Test
+    public void assertProbeWithAllSlavesLagging() throws SQLException {
+        updateLag("lag_slave_ds_0", 5000L);
+        updateLag("lag_slave_ds_1", Long.MAX_VALUE);
+        replicationLagMonitor.probe();
+        assertTrue(masterSlaveRule.getAvailableSlaveDataSourceNames().isEmpty());
+        assertThat(new MasterSlaveRouter(masterSlaveRule, false).route("SELECT * FROM t_order"), is((Object) Collections.singletonList("lag_master_ds")));
+    }
+    
+    @Test
+    public void assertProbeWithSlaveCaughtUp() throws SQLException {
+        updateLag("lag_slave_ds_0", 5000L);
+        replicationLagMonitor.probe();
+        assertTrue(masterSlaveRule.isReplicationLagging("lag_slave_ds_0"));
+        updateLag("lag_slave_ds_0", 1000L);
+        replicationLagMonitor.probe();
+        assertFalse(masterSlaveRule.isReplicationLagging("lag_slave_ds_0"));
+        assertThat(masterSlaveRule.getAvailableSlaveDataSourceNames(), is((Object) Arrays.asList("lag_slave_ds_0", "lag_slave_ds_1")));
+    }
+    
+    @Test
+    public void assertProbeFailureKeepsLaggingState() throws SQLException {
+        updateLag("lag_slave_ds_0", 5000L);
+        replicationLagMonitor.probe();
+        execute("lag_slave_ds_0", "DROP TABLE t_replication_lag");
+        replicationLagMonitor.probe();
+        assertTrue(masterSlaveRule.isReplicationLagging("lag_slave_ds_0"));
+    }
+    
+    private void updateLag(final String dataSourceName, final long lagMilliseconds) throws SQLException {
+        execute(dataSourceName, "DELETE FROM t_replication_lag");
+        execute(dataSourceName, String.format("INSERT INTO t_replication_lag VALUES (%d)", lagMilliseconds));
+    }
+    
+    private void execute(final String dataSourceName, final String sql) throws SQLException {
+        try (
+                Connection connection = dataSourceMap.get(dataSourceName).getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave.lag.fixture;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.spi.masterslave.ReplicationLagProber;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public final class H2ReplicationLagProber implements ReplicationLagProber {
+    
+    @Override
+    public DatabaseType getDatabaseType() {
+        return DatabaseType.H2;
+    }
+    
+    @Override
+    public long probe(final Connection connection) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT lag_milliseconds FROM t_replication_lag")) {
+            return resultSet.next() ? resultSet.getLong(1) : 0L;
+        }
+    }
+}
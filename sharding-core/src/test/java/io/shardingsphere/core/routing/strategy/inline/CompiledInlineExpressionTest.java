@@ -0,0 +1,87 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import io.shardingsphere.core.util.InlineExpressionParser;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    @Test
+    public void assertCompileWithUnsupportedExpression() {
+        assertFalse(CompiledInlineExpression.compile("t_order").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id / 2}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 0}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${[0, 1]}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 2").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_\"order_${order_id % 2}").isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateModulo() {
+        assertEvaluate("t_order_${order_id % 2}", "order_id", 1);
+        assertEvaluate("t_order_${order_id%4}", "ORDER_ID", 10L);
+        assertEvaluate("t_order_${order_id % 3}", "order_id", -7);
+        assertEvaluate("t_order_${order_id % 16}", "order_id", (short) 33);
+        assertEvaluate("ds_${user_id % 2}_${user_id % 4}", "user_id", Long.MAX_VALUE);
+    }
+    
+    @Test
+    public void assertEvaluateIdentity() {
+        assertEvaluate("t_order_${order_id}", "order_id", 1);
+        assertEvaluate("t_order_${ order_id }_suffix", "order_id", "abc");
+    }
+    
+    @Test
+    public void assertEvaluateHashCodeModulo() {
+        assertEvaluate("t_order_${order_id.hashCode() % 4}", "order_id", "order_10");
+        assertEvaluate("t_order_${Math.abs(order_id.hashCode()) % 4}", "order_id", "order_11");
+        assertEvaluate("t_order_${Math.abs(order_id.hashCode() % 4)}", "order_id", "order_12");
+        assertEvaluate("t_order_${order_id.hashCode() % 4}", "order_id", 100L);
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 2}").get().evaluate("order_id", "1").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 2}").get().evaluate("order_id", 1.5D).isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateWithDifferentColumn() {
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 2}").get().evaluate("user_id", 1).isPresent());
+    }
+    
+    private void assertEvaluate(final String inlineExpression, final String columnName, final Comparable<?> value) {
+        assertTrue(CompiledInlineExpression.compile(inlineExpression).isPresent());
+        assertThat(CompiledInlineExpression.compile(inlineExpression).get().evaluate(columnName, value).get(), is(evaluateByGroovy(inlineExpression, columnName, value)));
+    }
+    
+    private String evaluateByGroovy(final String inlineExpression, final String columnName, final Comparable<?> value) {
+        Closure<?> result = new InlineExpressionParser(inlineExpression).evaluateClosure().rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        result.setProperty(columnName.toLowerCase(), value);
+        return result.call().toString();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.inline;
+
+import com.google.common.collect.Range;
+import io.shardingsphere.api.algorithm.sharding.ListShardingValue;
+import io.shardingsphere.api.algorithm.sharding.RangeShardingValue;
+import io.shardingsphere.api.algorithm.sharding.ShardingValue;
+import io.shardingsphere.api.config.strategy.InlineShardingStrategyConfiguration;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class InlineShardingStrategyTest {
+    
+    private final Collection<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1");
+    
+    @Test
+    public void assertDoShardingWithCompiledExpression() {
+        InlineShardingStrategy strategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        assertThat(new ArrayList<>(strategy.doSharding(availableTargetNames, createShardingValues(1, 2, 3, 1))), is(Arrays.asList("t_order_0", "t_order_1")));
+        assertThat(new ArrayList<>(strategy.doSharding(availableTargetNames, createShardingValues(3))), is(Collections.singletonList("t_order_1")));
+    }
+    
+    @Test
+    public void assertDoShardingWithGroovyExpression() {
+        InlineShardingStrategy strategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("order_id", "t_order_$->{(order_id + 1) % 2}"));
+        assertThat(new ArrayList<>(strategy.doSharding(availableTargetNames, createShardingValues(1, 2))), is(Arrays.asList("t_order_0", "t_order_1")));
+        assertThat(new ArrayList<>(strategy.doSharding(availableTargetNames, createShardingValues(2))), is(Collections.singletonList("t_order_1")));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertDoShardingWithRangeShardingValue() {
+        InlineShardingStrategy strategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        strategy.doSharding(availableTargetNames, Collections.<ShardingValue>singletonList(new RangeShardingValue<>("t_order", "order_id", Range.closed(1, 2))));
+    }
+    
+    private Collection<ShardingValue> createShardingValues(final Comparable<?>... values) {
+        return Collections.<ShardingValue>singletonList(new ListShardingValue<>("t_order", "order_id", Arrays.asList(values)));
+    }
+}
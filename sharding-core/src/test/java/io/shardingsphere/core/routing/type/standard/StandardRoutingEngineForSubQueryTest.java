@@ -35,7 +35,9 @@ import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ColumnMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.routing.PreparedStatementRoutingEngine;
+import io.shardingsphere.core.routing.cache.RoutingResultCache;
 import io.shardingsphere.core.rule.ShardingRule;
 
 public final class StandardRoutingEngineForSubQueryTest {
@@ -72,7 +74,7 @@ public final class StandardRoutingEngineForSubQueryTest {
         ShardingTableMetaData shardingTableMetaData = buildShardingTableMetaData();
         ShardingDataSourceMetaData shardingDataSourceMetaData = buildShardingDataSourceMetaData();
         PreparedStatementRoutingEngine engine = new PreparedStatementRoutingEngine(sql, shardingRule,
-                shardingTableMetaData, DatabaseType.MySQL, true, shardingDataSourceMetaData);
+                shardingTableMetaData, DatabaseType.MySQL, true, shardingDataSourceMetaData, new ParsingResultCache(), new RoutingResultCache());
         engine.route(parameters);
     }
     
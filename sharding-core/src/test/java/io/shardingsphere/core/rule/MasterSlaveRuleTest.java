@@ -17,11 +17,18 @@
 
 package io.shardingsphere.core.rule;
 
+import io.shardingsphere.api.algorithm.masterslave.LeastLoadMasterSlaveLoadBalanceAlgorithm;
 import io.shardingsphere.api.config.rule.MasterSlaveRuleConfiguration;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
 public final class MasterSlaveRuleTest {
     
     @Test(expected = NullPointerException.class)
@@ -41,4 +48,28 @@ public final class MasterSlaveRuleTest {
         MasterSlaveRuleConfiguration masterSlaveRuleConfig = new MasterSlaveRuleConfiguration("master_slave", "master0", Collections.singletonList("slave0"), null);
         new MasterSlaveRule(masterSlaveRuleConfig);
     }
+    
+    @Test
+    public void assertGetAvailableSlaveDataSourceNamesWithReplicationLagging() {
+        MasterSlaveRule actual = new MasterSlaveRule(new MasterSlaveRuleConfiguration("master_slave", "master0", Arrays.asList("slave0", "slave1"), null));
+        actual.updateReplicationLagging("slave0", true);
+        assertThat(actual.getAvailableSlaveDataSourceNames(), is((Object) Collections.singletonList("slave1")));
+        actual.updateReplicationLagging("slave0", false);
+        assertThat(actual.getAvailableSlaveDataSourceNames(), is((Object) Arrays.asList("slave0", "slave1")));
+    }
+    
+    @Test
+    public void assertGetDataSourceLoadStatisticsMapWithLeastLoadAlgorithm() {
+        LeastLoadMasterSlaveLoadBalanceAlgorithm algorithm = new LeastLoadMasterSlaveLoadBalanceAlgorithm();
+        MasterSlaveRule actual = new MasterSlaveRule(new MasterSlaveRuleConfiguration("master_slave", "master0", Arrays.asList("slave0", "slave1"), algorithm));
+        assertThat(actual.getDataSourceLoadStatisticsMap().size(), is(2));
+        assertThat(actual.getDataSourceLoadStatisticsMap().get("slave0"), sameInstance(algorithm.getDataSourceLoadStatistics()));
+        assertThat(actual.getDataSourceLoadStatisticsMap().get("slave1"), sameInstance(algorithm.getDataSourceLoadStatistics()));
+    }
+    
+    @Test
+    public void assertGetDataSourceLoadStatisticsMapWithoutLeastLoadAlgorithm() {
+        MasterSlaveRule actual = new MasterSlaveRule(new MasterSlaveRuleConfiguration("master_slave", "master0", Arrays.asList("slave0", "slave1"), null));
+        assertTrue(actual.getDataSourceLoadStatisticsMap().isEmpty());
+    }
 }
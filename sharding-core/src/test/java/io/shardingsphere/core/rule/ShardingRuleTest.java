@@ -32,6 +32,8 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -357,7 +359,7 @@ public final class ShardingRuleTest {
         shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
         assertThat(new ShardingRule(shardingRuleConfig, createDataSourceNames()).generateKey("logic_table"), instanceOf(Long.class));
     }
-     
+    
     @Test
     public void assertGenerateKeyWithKeyGenerator() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
@@ -365,7 +367,29 @@ public final class ShardingRuleTest {
         tableRuleConfig.setKeyGenerator(new IncrementKeyGenerator());
         shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
         assertThat(new ShardingRule(shardingRuleConfig, createDataSourceNames()).generateKey("logic_table"), instanceOf(Integer.class));
+        
+    }
     
+    @Test
+    public void assertGenerateKeysWithDefaultKeyGenerator() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = createTableRuleConfig();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        List<Number> actual = new ShardingRule(shardingRuleConfig, createDataSourceNames()).generateKeys("logic_table", 5000);
+        assertThat(actual.size(), is(5000));
+        assertThat(new HashSet<>(actual).size(), is(5000));
+        assertThat(actual.get(0), instanceOf(Long.class));
+    }
+    
+    @Test
+    public void assertGenerateKeysWithKeyGenerator() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = createTableRuleConfig();
+        tableRuleConfig.setKeyGenerator(new IncrementKeyGenerator());
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        List<Number> actual = new ShardingRule(shardingRuleConfig, createDataSourceNames()).generateKeys("logic_table", 2);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), instanceOf(Integer.class));
     }
     
     @Test
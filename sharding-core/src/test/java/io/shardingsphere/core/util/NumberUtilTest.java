@@ -93,4 +93,29 @@ public final class NumberUtilTest {
         assertThat(NumberUtil.getExactlyNumber(String.valueOf(Long.MIN_VALUE + 1), 10), is((Number) (Long.MIN_VALUE + 1)));
         assertThat(NumberUtil.getExactlyNumber(String.valueOf(Long.MAX_VALUE - 1), 10), is((Number) (Long.MAX_VALUE - 1)));
     }
+    
+    @Test
+    public void assertToNumberForNull() {
+        assertThat(NumberUtil.toNumber(null).intValue(), is(0));
+    }
+    
+    @Test
+    public void assertToNumberForNumber() {
+        assertThat(NumberUtil.toNumber(1L), is((Number) 1L));
+    }
+    
+    @Test
+    public void assertToNumberForString() {
+        assertThat(NumberUtil.toNumber("1.5").doubleValue(), is(1.5D));
+    }
+    
+    @Test
+    public void assertToNumberForBoolean() {
+        assertThat(NumberUtil.toNumber(true).intValue(), is(1));
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertToNumberForInvalidValue() {
+        NumberUtil.toNumber(new Object());
+    }
 }
@@ -17,13 +17,17 @@
 
 package io.shardingsphere.spi;
 
+import io.shardingsphere.spi.executor.SQLExecutionHook;
 import io.shardingsphere.spi.parsing.ParsingHook;
+import io.shardingsphere.spi.root.RootInvokeHook;
 import org.junit.Test;
 
 import java.util.Collection;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public class NewInstanceServiceLoaderTest {
     
@@ -33,4 +37,14 @@ public class NewInstanceServiceLoaderTest {
         Collection collection = NewInstanceServiceLoader.newServiceInstances(ParsingHook.class);
         assertThat(collection.size(), is(0));
     }
+    
+    @Test
+    public void assertIsRegistered() {
+        NewInstanceServiceLoader.register(ParsingHook.class);
+        NewInstanceServiceLoader.register(SQLExecutionHook.class);
+        NewInstanceServiceLoader.register(RootInvokeHook.class);
+        assertFalse(NewInstanceServiceLoader.isRegistered(ParsingHook.class));
+        assertFalse(NewInstanceServiceLoader.isRegistered(SQLExecutionHook.class));
+        assertTrue(NewInstanceServiceLoader.isRegistered(RootInvokeHook.class));
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.spi.fixture;
+
+import io.shardingsphere.core.metadata.datasource.DataSourceMetaData;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.spi.executor.SQLExecutionHook;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+public final class FixtureSQLExecutionHook implements SQLExecutionHook {
+    
+    private static final List<DataSourceMetaData> DATA_SOURCE_META_DATA_LIST = new LinkedList<>();
+    
+    /**
+     * Get data source meta data of started executions.
+     * 
+     * @return data source meta data list
+     */
+    public static List<DataSourceMetaData> getDataSourceMetaDataList() {
+        return DATA_SOURCE_META_DATA_LIST;
+    }
+    
+    @Override
+    public void start(final RouteUnit routeUnit, final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+        DATA_SOURCE_META_DATA_LIST.add(dataSourceMetaData);
+    }
+    
+    @Override
+    public void finishSuccess() {
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+    }
+}
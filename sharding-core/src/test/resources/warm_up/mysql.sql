@@ -0,0 +1,6 @@
+-- SQL to warm up MySQL parser
+CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id INT NOT NULL, status VARCHAR(45) NULL);
+ALTER TABLE t_order ADD column4 VARCHAR(10);
+
+TRUNCATE TABLE t_order;
+DROP TABLE t_order;
@@ -26,7 +26,12 @@ import io.shardingsphere.core.executor.ShardingExecuteGroup;
 import io.shardingsphere.core.executor.StatementExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteTemplate;
+import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
+import io.shardingsphere.core.executor.sql.execute.result.QueryResultMemoryBudget;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareTemplate;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLoadStatistics;
 import io.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -38,6 +43,7 @@ import java.sql.Statement;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -50,6 +56,10 @@ public class AbstractStatementExecutor {
     
     private final DatabaseType databaseType;
     
+    private final ShardingDataSourceMetaData shardingDataSourceMetaData;
+    
+    private final Map<String, DataSourceLoadStatistics> dataSourceLoadStatisticsMap;
+    
     @Getter
     private final int resultSetType;
     
@@ -80,6 +90,8 @@ public class AbstractStatementExecutor {
     
     public AbstractStatementExecutor(final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final ShardingConnection shardingConnection) {
         this.databaseType = shardingConnection.getShardingContext().getDatabaseType();
+        shardingDataSourceMetaData = shardingConnection.getShardingContext().getMetaData().getDataSource();
+        dataSourceLoadStatisticsMap = shardingConnection.getShardingContext().getShardingRule().getDataSourceLoadStatisticsMap();
         this.resultSetType = resultSetType;
         this.resultSetConcurrency = resultSetConcurrency;
         this.resultSetHoldability = resultSetHoldability;
@@ -90,6 +102,14 @@ public class AbstractStatementExecutor {
         sqlExecuteTemplate = new SQLExecuteTemplate(executeEngine);
     }
     
+    protected final QueryResult createMemoryQueryResult(final ResultSet resultSet, final QueryResultMemoryBudget memoryBudget) throws SQLException {
+        return new MemoryQueryResult(resultSet, memoryBudget, connection.getShardingContext().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.MEMORY_QUERY_RESULT_OFF_HEAP_ENABLED));
+    }
+    
+    protected final QueryResultMemoryBudget createQueryResultMemoryBudget() {
+        return new QueryResultMemoryBudget(connection.getShardingContext().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.MEMORY_QUERY_RESULT_MAX_BYTES));
+    }
+    
     protected final void cacheStatements() {
         for (ShardingExecuteGroup<StatementExecuteUnit> each : executeGroups) {
             statements.addAll(Lists.transform(each.getInputs(), new Function<StatementExecuteUnit, Statement>() {
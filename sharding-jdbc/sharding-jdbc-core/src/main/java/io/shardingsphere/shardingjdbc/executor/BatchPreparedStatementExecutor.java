@@ -157,7 +157,7 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
      */
     public int[] executeBatch() throws SQLException {
         final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
-        SQLExecuteCallback<int[]> callback = new SQLExecuteCallback<int[]>(getDatabaseType(), isExceptionThrown) {
+        SQLExecuteCallback<int[]> callback = new SQLExecuteCallback<int[]>(getShardingDataSourceMetaData(), getDataSourceLoadStatisticsMap(), isExceptionThrown) {
             
             @Override
             protected int[] executeSQL(final StatementExecuteUnit statementExecuteUnit) throws SQLException {
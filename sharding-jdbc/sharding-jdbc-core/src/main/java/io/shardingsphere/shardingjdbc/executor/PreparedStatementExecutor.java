@@ -21,7 +21,7 @@ import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.executor.ShardingExecuteGroup;
 import io.shardingsphere.core.executor.StatementExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
-import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
+import io.shardingsphere.core.executor.sql.execute.result.QueryResultMemoryBudget;
 import io.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
 import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareCallback;
@@ -98,21 +98,22 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
      */
     public List<QueryResult> executeQuery() throws SQLException {
         final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
-        SQLExecuteCallback<QueryResult> executeCallback = new SQLExecuteCallback<QueryResult>(getDatabaseType(), isExceptionThrown) {
+        final QueryResultMemoryBudget memoryBudget = createQueryResultMemoryBudget();
+        SQLExecuteCallback<QueryResult> executeCallback = new SQLExecuteCallback<QueryResult>(getShardingDataSourceMetaData(), getDataSourceLoadStatisticsMap(), isExceptionThrown) {
             
             @Override
             protected QueryResult executeSQL(final StatementExecuteUnit statementExecuteUnit) throws SQLException {
-                return getQueryResult(statementExecuteUnit);
+                return getQueryResult(statementExecuteUnit, memoryBudget);
             }
         };
         return executeCallback(executeCallback);
     }
     
-    private QueryResult getQueryResult(final StatementExecuteUnit statementExecuteUnit) throws SQLException {
+    private QueryResult getQueryResult(final StatementExecuteUnit statementExecuteUnit, final QueryResultMemoryBudget memoryBudget) throws SQLException {
         PreparedStatement preparedStatement = (PreparedStatement) statementExecuteUnit.getStatement();
         ResultSet resultSet = preparedStatement.executeQuery();
         getResultSets().add(resultSet);
-        return ConnectionMode.MEMORY_STRICTLY == statementExecuteUnit.getConnectionMode() ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
+        return ConnectionMode.MEMORY_STRICTLY == statementExecuteUnit.getConnectionMode() ? new StreamQueryResult(resultSet) : createMemoryQueryResult(resultSet, memoryBudget);
     }
     
     /**
@@ -123,7 +124,7 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
      */
     public int executeUpdate() throws SQLException {
         final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
-        SQLExecuteCallback<Integer> executeCallback = SQLExecuteCallbackFactory.getPreparedUpdateSQLExecuteCallback(getDatabaseType(), isExceptionThrown);
+        SQLExecuteCallback<Integer> executeCallback = SQLExecuteCallbackFactory.getPreparedUpdateSQLExecuteCallback(getShardingDataSourceMetaData(), getDataSourceLoadStatisticsMap(), isExceptionThrown);
         List<Integer> results = executeCallback(executeCallback);
         return accumulate(results);
     }
@@ -144,7 +145,7 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
      */
     public boolean execute() throws SQLException {
         boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
-        SQLExecuteCallback<Boolean> executeCallback = SQLExecuteCallbackFactory.getPreparedSQLExecuteCallback(getDatabaseType(), isExceptionThrown);
+        SQLExecuteCallback<Boolean> executeCallback = SQLExecuteCallbackFactory.getPreparedSQLExecuteCallback(getShardingDataSourceMetaData(), getDataSourceLoadStatisticsMap(), isExceptionThrown);
         List<Boolean> result = executeCallback(executeCallback);
         if (null == result || result.isEmpty() || null == result.get(0)) {
             return false;
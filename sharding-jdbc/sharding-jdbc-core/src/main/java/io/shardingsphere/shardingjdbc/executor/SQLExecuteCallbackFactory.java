@@ -17,12 +17,14 @@
 
 package io.shardingsphere.shardingjdbc.executor;
 
-import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.executor.StatementExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLoadStatistics;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Map;
 
 /**
  * SQL execute callback factory.
@@ -34,12 +36,14 @@ public final class SQLExecuteCallbackFactory {
     /**
      * Get update callback.
      *
-     * @param databaseType database type
+     * @param shardingDataSourceMetaData sharding data source meta data
+     * @param dataSourceLoadStatisticsMap data source load statistics map
      * @param isExceptionThrown is exception thrown
      * @return update callback
      */
-    public static SQLExecuteCallback<Integer> getPreparedUpdateSQLExecuteCallback(final DatabaseType databaseType, final boolean isExceptionThrown) {
-        return new SQLExecuteCallback<Integer>(databaseType, isExceptionThrown) {
+    public static SQLExecuteCallback<Integer> getPreparedUpdateSQLExecuteCallback(
+            final ShardingDataSourceMetaData shardingDataSourceMetaData, final Map<String, DataSourceLoadStatistics> dataSourceLoadStatisticsMap, final boolean isExceptionThrown) {
+        return new SQLExecuteCallback<Integer>(shardingDataSourceMetaData, dataSourceLoadStatisticsMap, isExceptionThrown) {
             
             @Override
             protected Integer executeSQL(final StatementExecuteUnit statementExecuteUnit) throws SQLException {
@@ -51,12 +55,14 @@ public final class SQLExecuteCallbackFactory {
     /**
      * Get execute callback.
      *
-     * @param databaseType database type
+     * @param shardingDataSourceMetaData sharding data source meta data
+     * @param dataSourceLoadStatisticsMap data source load statistics map
      * @param isExceptionThrown is exception thrown
      * @return execute callback
      */
-    public static SQLExecuteCallback<Boolean> getPreparedSQLExecuteCallback(final DatabaseType databaseType, final boolean isExceptionThrown) {
-        return new SQLExecuteCallback<Boolean>(databaseType, isExceptionThrown) {
+    public static SQLExecuteCallback<Boolean> getPreparedSQLExecuteCallback(
+            final ShardingDataSourceMetaData shardingDataSourceMetaData, final Map<String, DataSourceLoadStatistics> dataSourceLoadStatisticsMap, final boolean isExceptionThrown) {
+        return new SQLExecuteCallback<Boolean>(shardingDataSourceMetaData, dataSourceLoadStatisticsMap, isExceptionThrown) {
             
             @Override
             protected Boolean executeSQL(final StatementExecuteUnit statementExecuteUnit) throws SQLException {
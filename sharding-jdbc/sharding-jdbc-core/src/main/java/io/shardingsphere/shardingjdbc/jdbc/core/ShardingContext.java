@@ -22,6 +22,11 @@ import io.shardingsphere.core.constant.properties.ShardingProperties;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.metadata.ShardingMetaData;
+import io.shardingsphere.core.parsing.antlr.parser.SQLParserWarmer;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.routing.cache.RoutingResultCache;
+import io.shardingsphere.core.routing.router.masterslave.lag.ReplicationLagMonitor;
+import io.shardingsphere.core.routing.router.masterslave.lag.ReplicationLagMonitorFactory;
 import io.shardingsphere.core.rule.ShardingRule;
 import io.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
 import lombok.Getter;
@@ -29,6 +34,7 @@ import lombok.Getter;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -53,6 +59,12 @@ public final class ShardingContext implements AutoCloseable {
     
     private final ShardingMetaData metaData;
     
+    private final ParsingResultCache parsingResultCache;
+    
+    private final RoutingResultCache routingResultCache;
+    
+    private final Collection<ReplicationLagMonitor> replicationLagMonitors;
+    
     public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule,
                            final DatabaseType databaseType, final Properties props) throws SQLException {
         this.shardingRule = shardingRule;
@@ -61,7 +73,13 @@ public final class ShardingContext implements AutoCloseable {
         int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
         executeEngine = new ShardingExecuteEngine(executorSize);
         metaData = new ShardingMetaData(getDataSourceURLs(dataSourceMap), shardingRule, databaseType, executeEngine, 
-                new JDBCTableMetaDataConnectionManager(dataSourceMap), shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY));
+                new JDBCTableMetaDataConnectionManager(dataSourceMap), shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY), 
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.TABLE_META_DATA_SAMPLING_ENABLED), 
+                shardingProperties.<String>getValue(ShardingPropertiesConstant.TABLE_META_DATA_SNAPSHOT_FILE));
+        parsingResultCache = new ParsingResultCache(shardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSING_CACHE_MAX_SIZE));
+        routingResultCache = new RoutingResultCache(shardingProperties.<Long>getValue(ShardingPropertiesConstant.ROUTE_CACHE_MAX_SIZE));
+        replicationLagMonitors = ReplicationLagMonitorFactory.newInstances(shardingRule.getMasterSlaveRules(), dataSourceMap, databaseType, shardingProperties);
+        SQLParserWarmer.warmUp(databaseType, shardingProperties.<String>getValue(ShardingPropertiesConstant.PARSING_WARMUP_SQL_FILE));
     }
     
     private Map<String, String> getDataSourceURLs(final Map<String, DataSource> dataSourceMap) throws SQLException {
@@ -78,8 +96,21 @@ public final class ShardingContext implements AutoCloseable {
         }
     }
     
+    /**
+     * Close replication lag monitors.
+     * 
+     * <p>For sharding context which is replaced by a renewed one sharing same data sources.</p>
+     */
+    public void closeReplicationLagMonitors() {
+        for (ReplicationLagMonitor each : replicationLagMonitors) {
+            each.close();
+        }
+    }
+    
     @Override
     public void close() {
+        metaData.close();
         executeEngine.close();
+        closeReplicationLagMonitors();
     }
 }
@@ -21,15 +21,20 @@ import io.shardingsphere.api.ConfigMapContext;
 import io.shardingsphere.api.config.rule.MasterSlaveRuleConfiguration;
 import io.shardingsphere.core.constant.properties.ShardingProperties;
 import io.shardingsphere.core.constant.transaction.TransactionType;
+import io.shardingsphere.core.routing.router.masterslave.lag.ReplicationLagMonitor;
+import io.shardingsphere.core.routing.router.masterslave.lag.ReplicationLagMonitorFactory;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.core.transaction.TransactionTypeHolder;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.AbstractDataSourceAdapter;
 import io.shardingsphere.shardingjdbc.jdbc.core.connection.MasterSlaveConnection;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
 
@@ -48,6 +53,9 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter {
     
     private final ShardingProperties shardingProperties;
     
+    @Getter(AccessLevel.NONE)
+    private final Collection<ReplicationLagMonitor> replicationLagMonitors;
+    
     public MasterSlaveDataSource(final Map<String, DataSource> dataSourceMap, final MasterSlaveRuleConfiguration masterSlaveRuleConfig,
                                  final Map<String, Object> configMap, final Properties props) throws SQLException {
         super(dataSourceMap);
@@ -56,6 +64,7 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter {
         }
         this.masterSlaveRule = new MasterSlaveRule(masterSlaveRuleConfig);
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
+        replicationLagMonitors = ReplicationLagMonitorFactory.newInstances(Collections.singletonList(this.masterSlaveRule), dataSourceMap, getDatabaseType(), shardingProperties);
     }
     
     public MasterSlaveDataSource(final Map<String, DataSource> dataSourceMap, final MasterSlaveRule masterSlaveRule, final Map<String, Object> configMap, final Properties props) throws SQLException {
@@ -65,6 +74,7 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter {
         }
         this.masterSlaveRule = masterSlaveRule;
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
+        replicationLagMonitors = ReplicationLagMonitorFactory.newInstances(Collections.singletonList(this.masterSlaveRule), dataSourceMap, getDatabaseType(), shardingProperties);
     }
     
     @Override
@@ -78,4 +88,19 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter {
         }
         return new MasterSlaveConnection(this, getDataSourceMap());
     }
+    
+    /**
+     * Close replication lag monitors without closing data sources.
+     */
+    public final void closeReplicationLagMonitors() {
+        for (ReplicationLagMonitor each : replicationLagMonitors) {
+            each.close();
+        }
+    }
+    
+    @Override
+    public void close() {
+        closeReplicationLagMonitors();
+        super.close();
+    }
 }
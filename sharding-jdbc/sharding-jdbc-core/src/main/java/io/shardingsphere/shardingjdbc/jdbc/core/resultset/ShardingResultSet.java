@@ -17,7 +17,9 @@
 
 package io.shardingsphere.shardingjdbc.jdbc.core.resultset;
 
+import com.google.common.base.Optional;
 import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.dql.pagination.KeysetDecoratorMergedResult;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.AbstractResultSetAdapter;
 
 import java.io.InputStream;
@@ -50,11 +52,34 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
         this.mergeResultSet = mergeResultSet;
     }
     
+    /**
+     * Get keyset cursor of next page.
+     * 
+     * <p>Keyset cursor is order by value of last fetched row, which is available when keyset pagination is set by hint manager.</p>
+     *
+     * @return keyset cursor of next page, absent if keyset pagination is not used or no row fetched
+     */
+    public Optional<Comparable<?>> getKeysetCursor() {
+        if (mergeResultSet instanceof KeysetDecoratorMergedResult) {
+            return ((KeysetDecoratorMergedResult) mergeResultSet).getKeysetCursor();
+        }
+        return Optional.absent();
+    }
+    
     @Override
     public boolean next() throws SQLException {
         return mergeResultSet.next();
     }
     
+    @Override
+    public void close() throws SQLException {
+        try {
+            mergeResultSet.close();
+        } finally {
+            super.close();
+        }
+    }
+    
     @Override
     public boolean wasNull() throws SQLException {
         return mergeResultSet.wasNull();
@@ -92,22 +117,22 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
     
     @Override
     public int getInt(final int columnIndex) throws SQLException {
-        return (int) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, int.class), int.class);
+        return mergeResultSet.getInt(columnIndex);
     }
     
     @Override
     public int getInt(final String columnLabel) throws SQLException {
-        return (int) ResultSetUtil.convertValue(mergeResultSet.getValue(columnLabel, int.class), int.class);
+        return getInt(findColumn(columnLabel));
     }
     
     @Override
     public long getLong(final int columnIndex) throws SQLException {
-        return (long) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, long.class), long.class);
+        return mergeResultSet.getLong(columnIndex);
     }
     
     @Override
     public long getLong(final String columnLabel) throws SQLException {
-        return (long) ResultSetUtil.convertValue(mergeResultSet.getValue(columnLabel, long.class), long.class);
+        return getLong(findColumn(columnLabel));
     }
     
     @Override
@@ -122,12 +147,12 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
     
     @Override
     public double getDouble(final int columnIndex) throws SQLException {
-        return (double) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, double.class), double.class);
+        return mergeResultSet.getDouble(columnIndex);
     }
     
     @Override
     public double getDouble(final String columnLabel) throws SQLException {
-        return (double) ResultSetUtil.convertValue(mergeResultSet.getValue(columnLabel, double.class), double.class);
+        return getDouble(findColumn(columnLabel));
     }
     
     @Override
@@ -209,7 +234,7 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
     public Time getTime(final String columnLabel, final Calendar cal) throws SQLException {
         return (Time) ResultSetUtil.convertValue(mergeResultSet.getCalendarValue(columnLabel, Time.class, cal), Time.class);
     }
-            
+    
     @Override
     public Timestamp getTimestamp(final int columnIndex) throws SQLException {
         return (Timestamp) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, Timestamp.class), Timestamp.class);
@@ -284,7 +309,7 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
     public Clob getClob(final int columnIndex) throws SQLException {
         return (Clob) mergeResultSet.getValue(columnIndex, Clob.class);
     }
-        
+    
     @Override
     public Clob getClob(final String columnLabel) throws SQLException {
         return (Clob) mergeResultSet.getValue(columnLabel, Clob.class);
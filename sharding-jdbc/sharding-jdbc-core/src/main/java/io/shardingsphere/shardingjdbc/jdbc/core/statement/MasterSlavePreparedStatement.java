@@ -19,6 +19,8 @@ package io.shardingsphere.shardingjdbc.jdbc.core.statement;
 
 import com.google.common.base.Preconditions;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLoad;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLoadStatistics;
 import io.shardingsphere.core.routing.router.masterslave.MasterSlaveRouter;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.AbstractMasterSlavePreparedStatementAdapter;
 import io.shardingsphere.shardingjdbc.jdbc.core.connection.MasterSlaveConnection;
@@ -29,6 +31,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedList;
 
 /**
@@ -47,6 +50,9 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
     
     private final Collection<PreparedStatement> routedStatements = new LinkedList<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> routedDataSourceNames = new LinkedList<>();
+    
     public MasterSlavePreparedStatement(final MasterSlaveConnection connection, final String sql) throws SQLException {
         this(connection, sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
     }
@@ -63,6 +69,7 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
         for (String each : masterSlaveRouter.route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(preparedStatement);
+            routedDataSourceNames.add(each);
         }
     }
     
@@ -73,6 +80,7 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
         for (String each : masterSlaveRouter.route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, autoGeneratedKeys);
             routedStatements.add(preparedStatement);
+            routedDataSourceNames.add(each);
         }
     }
     
@@ -83,6 +91,7 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
         for (String each : masterSlaveRouter.route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, columnIndexes);
             routedStatements.add(preparedStatement);
+            routedDataSourceNames.add(each);
         }
     }
     
@@ -93,13 +102,20 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
         for (String each : masterSlaveRouter.route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, columnNames);
             routedStatements.add(preparedStatement);
+            routedDataSourceNames.add(each);
         }
     }
     
     @Override
     public ResultSet executeQuery() throws SQLException {
         Preconditions.checkArgument(1 == routedStatements.size(), "Cannot support executeQuery for DDL");
-        return routedStatements.iterator().next().executeQuery();
+        DataSourceLoad dataSourceLoad = startDataSourceLoad(routedDataSourceNames.iterator().next());
+        long startNanos = null == dataSourceLoad ? 0L : System.nanoTime();
+        try {
+            return routedStatements.iterator().next().executeQuery();
+        } finally {
+            finishDataSourceLoad(dataSourceLoad, startNanos);
+        }
     }
     
     @Override
@@ -114,8 +130,15 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
     @Override
     public boolean execute() throws SQLException {
         boolean result = false;
+        Iterator<String> dataSourceNames = routedDataSourceNames.iterator();
         for (PreparedStatement each : routedStatements) {
-            result = each.execute();
+            DataSourceLoad dataSourceLoad = startDataSourceLoad(dataSourceNames.next());
+            long startNanos = null == dataSourceLoad ? 0L : System.nanoTime();
+            try {
+                result = each.execute();
+            } finally {
+                finishDataSourceLoad(dataSourceLoad, startNanos);
+            }
         }
         return result;
     }
@@ -164,4 +187,15 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
     public int getResultSetType() throws SQLException {
         return routedStatements.iterator().next().getResultSetType();
     }
+    
+    private DataSourceLoad startDataSourceLoad(final String dataSourceName) {
+        DataSourceLoadStatistics dataSourceLoadStatistics = connection.getMasterSlaveDataSource().getMasterSlaveRule().getDataSourceLoadStatisticsMap().get(dataSourceName);
+        return null == dataSourceLoadStatistics ? null : dataSourceLoadStatistics.start(dataSourceName);
+    }
+    
+    private void finishDataSourceLoad(final DataSourceLoad dataSourceLoad, final long startNanos) {
+        if (null != dataSourceLoad) {
+            dataSourceLoad.finish(System.nanoTime() - startNanos);
+        }
+    }
 }
@@ -19,6 +19,8 @@ package io.shardingsphere.shardingjdbc.jdbc.core.statement;
 
 import com.google.common.base.Preconditions;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLoad;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLoadStatistics;
 import io.shardingsphere.core.routing.router.masterslave.MasterSlaveRouter;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.AbstractStatementAdapter;
 import io.shardingsphere.shardingjdbc.jdbc.core.connection.MasterSlaveConnection;
@@ -76,9 +78,16 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
         clearPrevious();
         Collection<String> dataSourceNames = masterSlaveRouter.route(sql);
         Preconditions.checkState(1 == dataSourceNames.size(), "Cannot support executeQuery for DML or DDL");
-        Statement statement = connection.getConnection(dataSourceNames.iterator().next()).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+        String dataSourceName = dataSourceNames.iterator().next();
+        Statement statement = connection.getConnection(dataSourceName).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
         routedStatements.add(statement);
-        return statement.executeQuery(sql);
+        DataSourceLoad dataSourceLoad = startDataSourceLoad(dataSourceName);
+        long startNanos = null == dataSourceLoad ? 0L : System.nanoTime();
+        try {
+            return statement.executeQuery(sql);
+        } finally {
+            finishDataSourceLoad(dataSourceLoad, startNanos);
+        }
     }
     
     @Override
@@ -136,7 +145,13 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
         for (String each : masterSlaveRouter.route(sql)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
-            result = statement.execute(sql);
+            DataSourceLoad dataSourceLoad = startDataSourceLoad(each);
+            long startNanos = null == dataSourceLoad ? 0L : System.nanoTime();
+            try {
+                result = statement.execute(sql);
+            } finally {
+                finishDataSourceLoad(dataSourceLoad, startNanos);
+            }
         }
         return result;
     }
@@ -189,6 +204,17 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
         return routedStatements.iterator().next().getResultSet();
     }
     
+    private DataSourceLoad startDataSourceLoad(final String dataSourceName) {
+        DataSourceLoadStatistics dataSourceLoadStatistics = connection.getMasterSlaveDataSource().getMasterSlaveRule().getDataSourceLoadStatisticsMap().get(dataSourceName);
+        return null == dataSourceLoadStatistics ? null : dataSourceLoadStatistics.start(dataSourceName);
+    }
+    
+    private void finishDataSourceLoad(final DataSourceLoad dataSourceLoad, final long startNanos) {
+        if (null != dataSourceLoad) {
+            dataSourceLoad.finish(System.nanoTime() - startNanos);
+        }
+    }
+    
     private void clearPrevious() throws SQLException {
         for (Statement each : routedStatements) {
             each.close();
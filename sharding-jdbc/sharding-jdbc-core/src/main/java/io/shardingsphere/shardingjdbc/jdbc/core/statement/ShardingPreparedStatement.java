@@ -25,16 +25,19 @@ import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
 import io.shardingsphere.core.merger.MergeEngine;
 import io.shardingsphere.core.merger.MergeEngineFactory;
+import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataLoader;
-import io.shardingsphere.core.parsing.antlr.sql.statement.ddl.AlterTableStatement;
+import io.shardingsphere.core.metadata.table.executor.TableMetaDataRefresher;
 import io.shardingsphere.core.parsing.parser.sql.dal.DALStatement;
-import io.shardingsphere.core.parsing.parser.sql.ddl.create.table.CreateTableStatement;
 import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.DQLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.routing.PreparedStatementRoutingEngine;
+import io.shardingsphere.core.routing.RouteUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.pagination.DeepPaginationEngine;
+import io.shardingsphere.core.routing.pagination.PaginationQueryExecutor;
 import io.shardingsphere.core.routing.router.sharding.GeneratedKey;
 import io.shardingsphere.shardingjdbc.executor.BatchPreparedStatementExecutor;
 import io.shardingsphere.shardingjdbc.executor.PreparedStatementExecutor;
@@ -98,7 +101,9 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         this.connection = connection;
         ShardingContext shardingContext = connection.getShardingContext();
         routingEngine = new PreparedStatementRoutingEngine(sql, shardingContext.getShardingRule(), shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), 
-                shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW), shardingContext.getMetaData().getDataSource());
+                shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW), shardingContext.getMetaData().getDataSource(),
+                shardingContext.getParsingResultCache(), shardingContext.getRoutingResultCache(), 
+                shardingContext.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.DEEP_PAGINATION_OFFSET_THRESHOLD));
         preparedStatementExecutor = new PreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
     }
@@ -109,10 +114,16 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         try {
             clearPrevious();
             sqlRoute();
-            initPreparedStatementExecutor();
-            MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getShardingRule(), 
-                    preparedStatementExecutor.executeQuery(), routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable());
-            result = new ShardingResultSet(preparedStatementExecutor.getResultSets(), mergeEngine.merge(), this);
+            Optional<MergedResult> deepPaginationMergedResult = executeDeepPagination();
+            if (deepPaginationMergedResult.isPresent()) {
+                result = new ShardingResultSet(preparedStatementExecutor.getResultSets(), deepPaginationMergedResult.get(), this);
+            } else {
+                initPreparedStatementExecutor();
+                MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getShardingRule(), 
+                        preparedStatementExecutor.executeQuery(), routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable(), 
+                        connection.getShardingContext().getExecuteEngine(), connection.getShardingContext().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MERGE_SPILL_THRESHOLD));
+                result = new ShardingResultSet(preparedStatementExecutor.getResultSets(), mergeEngine.merge(), this);
+            }
         } finally {
             clearBatch();
         }
@@ -120,6 +131,28 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         return result;
     }
     
+    private Optional<MergedResult> executeDeepPagination() throws SQLException {
+        if (null == routeResult.getPaginationRouteContext()) {
+            return Optional.absent();
+        }
+        Optional<MergedResult> result = new DeepPaginationEngine(routeResult.getPaginationRouteContext(), new PaginationQueryExecutor() {
+            
+            @Override
+            public List<QueryResult> executeQuery(final List<RouteUnit> routeUnits) throws SQLException {
+                clearPrevious();
+                SQLRouteResult paginationRouteResult = new SQLRouteResult(routeResult.getSqlStatement());
+                paginationRouteResult.getRouteUnits().addAll(routeUnits);
+                preparedStatementExecutor.init(paginationRouteResult);
+                setParametersForStatements();
+                return preparedStatementExecutor.executeQuery();
+            }
+        }).execute();
+        if (!result.isPresent()) {
+            clearPrevious();
+        }
+        return result;
+    }
+    
     @Override
     public int executeUpdate() throws SQLException {
         try {
@@ -184,30 +217,20 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         if (routeResult.getSqlStatement() instanceof SelectStatement || routeResult.getSqlStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
                     connection.getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(),
-                    connection.getShardingContext().getMetaData().getTable());
+                    connection.getShardingContext().getMetaData().getTable(), connection.getShardingContext().getExecuteEngine(), 
+                    connection.getShardingContext().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MERGE_SPILL_THRESHOLD));
             currentResultSet = new ShardingResultSet(resultSets, mergeEngine.merge(), this);
         }
         return currentResultSet;
     }
     
-    // TODO refresh table meta data by SQL parse result
-    private void refreshTableMetaData() throws SQLException {
-        if (null != routeResult && null != connection && SQLType.DDL == routeResult.getSqlStatement().getType() && !routeResult.getSqlStatement().getTables().isEmpty()) {
-            String logicTableName = routeResult.getSqlStatement().getTables().getSingleTableName();
-            
-            if (routeResult.getSqlStatement() instanceof CreateTableStatement) {
-                CreateTableStatement createStatement = (CreateTableStatement) routeResult.getSqlStatement();
-                connection.getShardingContext().getMetaData().getTable().put(logicTableName, createStatement.getTableMetaData());
-            } else if (routeResult.getSqlStatement() instanceof AlterTableStatement) {
-                AlterTableStatement alterStatement = (AlterTableStatement) routeResult.getSqlStatement();
-                connection.getShardingContext().getMetaData().getTable().put(logicTableName, alterStatement.getTableMetaData());
-            } else {
-                TableMetaDataLoader tableMetaDataLoader = new TableMetaDataLoader(connection.getShardingContext().getMetaData().getDataSource(),
-                        connection.getShardingContext().getExecuteEngine(), new JDBCTableMetaDataConnectionManager(connection.getDataSourceMap()),
-                        connection.getShardingContext().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY));
-                connection.getShardingContext().getMetaData().getTable().put(
-                        logicTableName, tableMetaDataLoader.load(logicTableName, connection.getShardingContext().getShardingRule()));
-            }
+    private void refreshTableMetaData() {
+        if (null != routeResult && null != connection && SQLType.DDL == routeResult.getSqlStatement().getType()) {
+            ShardingContext shardingContext = connection.getShardingContext();
+            TableMetaDataLoader tableMetaDataLoader = new TableMetaDataLoader(shardingContext.getMetaData().getDataSource(), shardingContext.getExecuteEngine(), 
+                    new JDBCTableMetaDataConnectionManager(connection.getDataSourceMap()), shardingContext.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            new TableMetaDataRefresher(shardingContext.getMetaData().getTable(), tableMetaDataLoader, shardingContext.getShardingRule(), shardingContext.getMetaData().getVerifyExecutor())
+                    .refresh(routeResult.getSqlStatement());
         }
     }
     
@@ -25,9 +25,8 @@ import io.shardingsphere.core.merger.MergeEngine;
 import io.shardingsphere.core.merger.MergeEngineFactory;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataLoader;
-import io.shardingsphere.core.parsing.antlr.sql.statement.ddl.AlterTableStatement;
+import io.shardingsphere.core.metadata.table.executor.TableMetaDataRefresher;
 import io.shardingsphere.core.parsing.parser.sql.dal.DALStatement;
-import io.shardingsphere.core.parsing.parser.sql.ddl.create.table.CreateTableStatement;
 import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.DQLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
@@ -95,7 +94,8 @@ public final class ShardingStatement extends AbstractStatementAdapter {
             initStatementExecutor();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
                     connection.getShardingContext().getShardingRule(), statementExecutor.executeQuery(),
-                    routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable());
+                    routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable(), connection.getShardingContext().getExecuteEngine(), 
+                    connection.getShardingContext().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MERGE_SPILL_THRESHOLD));
             result = new ShardingResultSet(statementExecutor.getResultSets(), mergeEngine.merge(), this);
         } finally {
             currentResultSet = null;
@@ -231,7 +231,8 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         if (routeResult.getSqlStatement() instanceof SelectStatement || routeResult.getSqlStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
                     connection.getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(), 
-                    connection.getShardingContext().getMetaData().getTable());
+                    connection.getShardingContext().getMetaData().getTable(), connection.getShardingContext().getExecuteEngine(), 
+                    connection.getShardingContext().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MERGE_SPILL_THRESHOLD));
             currentResultSet = new ShardingResultSet(resultSets, mergeEngine.merge(), this);
         }
         return currentResultSet;
@@ -251,27 +252,17 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     private void sqlRoute(final String sql) {
         ShardingContext shardingContext = connection.getShardingContext();
         routeResult = new StatementRoutingEngine(shardingContext.getShardingRule(), shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), 
-                shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW), shardingContext.getMetaData().getDataSource()).route(sql);
+                shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW), shardingContext.getMetaData().getDataSource(),
+                shardingContext.getParsingResultCache(), shardingContext.getRoutingResultCache()).route(sql);
     }
     
-    // TODO refresh table meta data by SQL parse result
-    private void refreshTableMetaData() throws SQLException {
-        if (null != routeResult && null != connection && SQLType.DDL == routeResult.getSqlStatement().getType() && !routeResult.getSqlStatement().getTables().isEmpty()) {
-            String logicTableName = routeResult.getSqlStatement().getTables().getSingleTableName();
-            
-            if (routeResult.getSqlStatement() instanceof CreateTableStatement) {
-                CreateTableStatement createStatement = (CreateTableStatement) routeResult.getSqlStatement();
-                connection.getShardingContext().getMetaData().getTable().put(logicTableName, createStatement.getTableMetaData());
-            } else if (routeResult.getSqlStatement() instanceof AlterTableStatement) {
-                AlterTableStatement alterStatement = (AlterTableStatement) routeResult.getSqlStatement();
-                connection.getShardingContext().getMetaData().getTable().put(logicTableName, alterStatement.getTableMetaData());
-            } else {
-                TableMetaDataLoader tableMetaDataLoader = new TableMetaDataLoader(connection.getShardingContext().getMetaData().getDataSource(),
-                        connection.getShardingContext().getExecuteEngine(), new JDBCTableMetaDataConnectionManager(connection.getDataSourceMap()),
-                        connection.getShardingContext().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY));
-                connection.getShardingContext().getMetaData().getTable().put(
-                        logicTableName, tableMetaDataLoader.load(logicTableName, connection.getShardingContext().getShardingRule()));            
-            }
+    private void refreshTableMetaData() {
+        if (null != routeResult && null != connection && SQLType.DDL == routeResult.getSqlStatement().getType()) {
+            ShardingContext shardingContext = connection.getShardingContext();
+            TableMetaDataLoader tableMetaDataLoader = new TableMetaDataLoader(shardingContext.getMetaData().getDataSource(), shardingContext.getExecuteEngine(), 
+                    new JDBCTableMetaDataConnectionManager(connection.getDataSourceMap()), shardingContext.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY));
+            new TableMetaDataRefresher(shardingContext.getMetaData().getTable(), tableMetaDataLoader, shardingContext.getShardingRule(), shardingContext.getMetaData().getVerifyExecutor())
+                    .refresh(routeResult.getSqlStatement());
         }
     }
     
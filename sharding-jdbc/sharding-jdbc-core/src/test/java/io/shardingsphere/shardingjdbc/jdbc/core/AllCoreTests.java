@@ -24,6 +24,7 @@ import io.shardingsphere.shardingjdbc.jdbc.core.resultset.GeneratedKeysResultSet
 import io.shardingsphere.shardingjdbc.jdbc.core.resultset.GeneratedKeysResultSetTest;
 import io.shardingsphere.shardingjdbc.jdbc.core.resultset.ResultSetUtilTest;
 import io.shardingsphere.shardingjdbc.jdbc.core.resultset.ShardingResultSetTest;
+import io.shardingsphere.shardingjdbc.jdbc.core.statement.MasterSlaveStatementTest;
 import io.shardingsphere.shardingjdbc.jdbc.core.statement.ShardingPreparedStatementTest;
 import io.shardingsphere.shardingjdbc.jdbc.core.statement.ShardingStatementTest;
 import org.junit.runner.RunWith;
@@ -37,6 +38,7 @@ import org.junit.runners.Suite.SuiteClasses;
         ShardingConnectionTest.class, 
         ShardingStatementTest.class, 
         ShardingPreparedStatementTest.class, 
+        MasterSlaveStatementTest.class, 
         ShardingResultSetTest.class,
         ResultSetUtilTest.class, 
         GeneratedKeysResultSetTest.class, 
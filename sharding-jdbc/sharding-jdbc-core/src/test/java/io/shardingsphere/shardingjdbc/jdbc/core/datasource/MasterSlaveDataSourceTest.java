@@ -20,9 +20,11 @@ package io.shardingsphere.shardingjdbc.jdbc.core.datasource;
 import io.shardingsphere.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithmType;
 import io.shardingsphere.api.config.rule.MasterSlaveRuleConfiguration;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.constant.transaction.TransactionType;
 import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.routing.router.masterslave.MasterVisitedManager;
+import io.shardingsphere.core.routing.router.masterslave.lag.ReplicationLagMonitor;
 import io.shardingsphere.core.transaction.TransactionTypeHolder;
 import io.shardingsphere.shardingjdbc.api.MasterSlaveDataSourceFactory;
 import io.shardingsphere.shardingjdbc.fixture.TestDataSource;
@@ -38,15 +40,18 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -156,6 +161,38 @@ public final class MasterSlaveDataSourceTest {
         
     }
     
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertCloseReplicationLagMonitors() throws SQLException {
+        DataSource masterDataSource = mock(DataSource.class);
+        DataSource slaveDataSource = mock(DataSource.class);
+        Connection masterConnection = mockConnection("MySQL");
+        Connection slaveConnection = mockConnection("MySQL");
+        when(masterDataSource.getConnection()).thenReturn(masterConnection);
+        when(slaveDataSource.getConnection()).thenReturn(slaveConnection);
+        Map<String, DataSource> dataSourceMap = new HashMap<>(2, 1);
+        dataSourceMap.put("masterDataSource", masterDataSource);
+        dataSourceMap.put("slaveDataSource", slaveDataSource);
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MASTER_SLAVE_REPLICATION_LAG_THRESHOLD_MILLISECONDS.getKey(), "1000");
+        props.setProperty(ShardingPropertiesConstant.MASTER_SLAVE_REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS.getKey(), "60000");
+        MasterSlaveDataSource actual = new MasterSlaveDataSource(dataSourceMap, new MasterSlaveRuleConfiguration(
+                "ds", "masterDataSource", Collections.singletonList("slaveDataSource"), MasterSlaveLoadBalanceAlgorithmType.ROUND_ROBIN.getAlgorithm()), Collections.<String, Object>emptyMap(), props);
+        Collection<ReplicationLagMonitor> replicationLagMonitors = (Collection<ReplicationLagMonitor>) getFieldValue(actual, "replicationLagMonitors");
+        assertThat(replicationLagMonitors.size(), is(1));
+        ExecutorService scheduledService = (ExecutorService) getFieldValue(replicationLagMonitors.iterator().next(), "scheduledService");
+        actual.closeReplicationLagMonitors();
+        assertTrue(scheduledService.isShutdown());
+        assertThat(actual.getDataSourceMap().size(), is(2));
+    }
+    
+    @SneakyThrows
+    private Object getFieldValue(final Object target, final String fieldName) {
+        Field field = getField(target, fieldName);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+    
     @SneakyThrows
     private void setXaDataSourceMapEmpty() {
         Field xaDataSourceMap = getField(masterSlaveDataSource, "xaDataSourceMap");
@@ -46,6 +46,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -57,11 +58,14 @@ public final class ShardingResultSetTest {
     @Mock
     private Statement statement;
     
+    @Mock
+    private ResultSet resultSet;
+    
     private ShardingResultSet shardingResultSet;
     
     @Before
     public void setUp() {
-        shardingResultSet = new ShardingResultSet(Collections.singletonList(mock(ResultSet.class)), mergeResultSet, statement);
+        shardingResultSet = new ShardingResultSet(Collections.singletonList(resultSet), mergeResultSet, statement);
     }
     
     @Test
@@ -70,6 +74,13 @@ public final class ShardingResultSetTest {
         assertTrue(shardingResultSet.next());
     }
     
+    @Test
+    public void assertClose() throws SQLException {
+        shardingResultSet.close();
+        assertTrue(shardingResultSet.isClosed());
+        verify(mergeResultSet).close();
+    }
+    
     @Test
     public void assertWasNull() throws SQLException {
         assertFalse(shardingResultSet.wasNull());
@@ -113,25 +124,27 @@ public final class ShardingResultSetTest {
     
     @Test
     public void assertGetIntWithColumnIndex() throws SQLException {
-        when(mergeResultSet.getValue(1, int.class)).thenReturn(1);
+        when(mergeResultSet.getInt(1)).thenReturn(1);
         assertThat(shardingResultSet.getInt(1), is(1));
     }
     
     @Test
     public void assertGetIntWithColumnLabel() throws SQLException {
-        when(mergeResultSet.getValue("label", int.class)).thenReturn((short) 1);
+        when(resultSet.findColumn("label")).thenReturn(1);
+        when(mergeResultSet.getInt(1)).thenReturn(1);
         assertThat(shardingResultSet.getInt("label"), is(1));
     }
     
     @Test
     public void assertGetLongWithColumnIndex() throws SQLException {
-        when(mergeResultSet.getValue(1, long.class)).thenReturn(1L);
+        when(mergeResultSet.getLong(1)).thenReturn(1L);
         assertThat(shardingResultSet.getLong(1), is(1L));
     }
     
     @Test
     public void assertGetLongWithColumnLabel() throws SQLException {
-        when(mergeResultSet.getValue("label", long.class)).thenReturn(1L);
+        when(resultSet.findColumn("label")).thenReturn(1);
+        when(mergeResultSet.getLong(1)).thenReturn(1L);
         assertThat(shardingResultSet.getLong("label"), is(1L));
     }
     
@@ -149,13 +162,14 @@ public final class ShardingResultSetTest {
     
     @Test
     public void assertGetDoubleWithColumnIndex() throws SQLException {
-        when(mergeResultSet.getValue(1, double.class)).thenReturn(1D);
+        when(mergeResultSet.getDouble(1)).thenReturn(1D);
         assertThat(shardingResultSet.getDouble(1), is(1D));
     }
     
     @Test
     public void assertGetDoubleWithColumnLabel() throws SQLException {
-        when(mergeResultSet.getValue("label", double.class)).thenReturn(1D);
+        when(resultSet.findColumn("label")).thenReturn(1);
+        when(mergeResultSet.getDouble(1)).thenReturn(1D);
         assertThat(shardingResultSet.getDouble("label"), is(1D));
     }
     
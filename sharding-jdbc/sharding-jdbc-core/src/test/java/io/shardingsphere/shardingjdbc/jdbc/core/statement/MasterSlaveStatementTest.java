@@ -0,0 +1,143 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingjdbc.jdbc.core.statement;
+
+import io.shardingsphere.api.algorithm.masterslave.LeastLoadMasterSlaveLoadBalanceAlgorithm;
+import io.shardingsphere.api.config.rule.MasterSlaveRuleConfiguration;
+import io.shardingsphere.core.hint.HintManagerHolder;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLoadStatistics;
+import io.shardingsphere.core.routing.router.masterslave.MasterVisitedManager;
+import io.shardingsphere.shardingjdbc.jdbc.core.connection.MasterSlaveConnection;
+import io.shardingsphere.shardingjdbc.jdbc.core.datasource.MasterSlaveDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MasterSlaveStatementTest {
+    
+    private static final String SLAVE_DATA_SOURCE_NAME = "test_ds_slave";
+    
+    private final LeastLoadMasterSlaveLoadBalanceAlgorithm algorithm = new LeastLoadMasterSlaveLoadBalanceAlgorithm();
+    
+    private final DataSourceLoadStatistics dataSourceLoadStatistics = algorithm.getDataSourceLoadStatistics();
+    
+    private Statement slaveStatement;
+    
+    private PreparedStatement slavePreparedStatement;
+    
+    private MasterSlaveConnection connection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        slaveStatement = mock(Statement.class);
+        slavePreparedStatement = mock(PreparedStatement.class);
+        Connection slaveConnection = mockConnection();
+        when(slaveConnection.createStatement(anyInt(), anyInt(), anyInt())).thenReturn(slaveStatement);
+        when(slaveConnection.prepareStatement(anyString(), anyInt(), anyInt(), anyInt())).thenReturn(slavePreparedStatement);
+        Map<String, DataSource> dataSourceMap = new HashMap<>(2, 1);
+        dataSourceMap.put("test_ds_master", mockDataSource(mockConnection()));
+        dataSourceMap.put(SLAVE_DATA_SOURCE_NAME, mockDataSource(slaveConnection));
+        MasterSlaveDataSource masterSlaveDataSource = new MasterSlaveDataSource(dataSourceMap,
+                new MasterSlaveRuleConfiguration("test_ds", "test_ds_master", Collections.singletonList(SLAVE_DATA_SOURCE_NAME), algorithm), Collections.<String, Object>emptyMap(), new Properties());
+        connection = masterSlaveDataSource.getConnection();
+    }
+    
+    private DataSource mockDataSource(final Connection connection) throws SQLException {
+        DataSource result = mock(DataSource.class);
+        when(result.getConnection()).thenReturn(connection);
+        return result;
+    }
+    
+    private Connection mockConnection() throws SQLException {
+        Connection result = mock(Connection.class);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(result.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getDatabaseProductName()).thenReturn("H2");
+        return result;
+    }
+    
+    @After
+    public void tearDown() {
+        HintManagerHolder.clear();
+        MasterVisitedManager.clear();
+    }
+    
+    @Test
+    public void assertExecuteQueryWithDataSourceLoad() throws SQLException {
+        when(slaveStatement.executeQuery("SELECT 1")).thenAnswer(new OutstandingRequestsAnswer<ResultSet>(mock(ResultSet.class)));
+        new MasterSlaveStatement(connection).executeQuery("SELECT 1");
+        assertThat(dataSourceLoadStatistics.getDataSourceLoad(SLAVE_DATA_SOURCE_NAME).getOutstandingRequests(), is(0));
+    }
+    
+    @Test
+    public void assertExecuteWithDataSourceLoad() throws SQLException {
+        when(slaveStatement.execute("SELECT 1")).thenAnswer(new OutstandingRequestsAnswer<Boolean>(true));
+        assertThat(new MasterSlaveStatement(connection).execute("SELECT 1"), is(true));
+        assertThat(dataSourceLoadStatistics.getDataSourceLoad(SLAVE_DATA_SOURCE_NAME).getOutstandingRequests(), is(0));
+    }
+    
+    @Test
+    public void assertPreparedStatementExecuteQueryWithDataSourceLoad() throws SQLException {
+        when(slavePreparedStatement.executeQuery()).thenAnswer(new OutstandingRequestsAnswer<ResultSet>(mock(ResultSet.class)));
+        new MasterSlavePreparedStatement(connection, "SELECT 1").executeQuery();
+        assertThat(dataSourceLoadStatistics.getDataSourceLoad(SLAVE_DATA_SOURCE_NAME).getOutstandingRequests(), is(0));
+    }
+    
+    @Test
+    public void assertPreparedStatementExecuteWithDataSourceLoad() throws SQLException {
+        when(slavePreparedStatement.execute()).thenAnswer(new OutstandingRequestsAnswer<Boolean>(true));
+        assertThat(new MasterSlavePreparedStatement(connection, "SELECT 1").execute(), is(true));
+        assertThat(dataSourceLoadStatistics.getDataSourceLoad(SLAVE_DATA_SOURCE_NAME).getOutstandingRequests(), is(0));
+    }
+    
+    private final class OutstandingRequestsAnswer<T> implements Answer<T> {
+        
+        private final T result;
+        
+        private OutstandingRequestsAnswer(final T result) {
+            this.result = result;
+        }
+        
+        @Override
+        public T answer(final InvocationOnMock invocation) {
+            assertThat(dataSourceLoadStatistics.getDataSourceLoad(SLAVE_DATA_SOURCE_NAME).getOutstandingRequests(), is(1));
+            return result;
+        }
+    }
+}
@@ -19,7 +19,9 @@ package io.shardingsphere.shardingproxy;
 
 import io.shardingsphere.api.config.rule.RuleConfiguration;
 import io.shardingsphere.core.config.DataSourceConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.parsing.antlr.parser.SQLParserWarmer;
 import io.shardingsphere.core.rule.Authentication;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.opentracing.ShardingTracer;
@@ -88,6 +90,7 @@ public final class Bootstrap {
                                                    final Map<String, Object> configMap, final Properties prop, final int port) throws InterruptedException {
         GlobalRegistry.getInstance().init(getDataSourceParameterMap(ruleConfigs), getRuleConfiguration(ruleConfigs), authentication, configMap, prop);
         initOpenTracing();
+        warmUpSQLParser();
         ShardingProxy.getInstance().start(port);
     }
     
@@ -99,6 +102,7 @@ public final class Bootstrap {
                     shardingOrchestrationFacade.getConfigService().loadAuthentication(), shardingOrchestrationFacade.getConfigService().loadConfigMap(),
                     shardingOrchestrationFacade.getConfigService().loadProperties(), true);
             initOpenTracing();
+            warmUpSQLParser();
             ShardingProxy.getInstance().start(port);
         }
     }
@@ -139,6 +143,10 @@ public final class Bootstrap {
         }
     }
     
+    private static void warmUpSQLParser() {
+        SQLParserWarmer.warmUp(DatabaseType.MySQL, GlobalRegistry.getInstance().getShardingProperties().<String>getValue(ShardingPropertiesConstant.PARSING_WARMUP_SQL_FILE));
+    }
+    
     private static Map<String, Map<String, DataSourceConfiguration>> getDataSourceConfigurationMap(final Map<String, YamlProxyRuleConfiguration> ruleConfigs) {
         Map<String, Map<String, DataSourceConfiguration>> result = new LinkedHashMap<>();
         for (Entry<String, YamlProxyRuleConfiguration> entry : ruleConfigs.entrySet()) {
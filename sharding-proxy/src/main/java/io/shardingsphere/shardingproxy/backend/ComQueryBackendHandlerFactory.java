@@ -21,7 +21,7 @@ import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.constant.transaction.TransactionOperationType;
-import io.shardingsphere.core.parsing.SQLJudgeEngine;
+import io.shardingsphere.core.parsing.cache.JudgingResultCache;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.SetStatement;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowDatabasesStatement;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.UseStatement;
@@ -64,7 +64,7 @@ public class ComQueryBackendHandlerFactory {
         } else if (sql.toUpperCase().contains(SKIP_SQL)) {
             return new SkipBackendHandler();
         }
-        SQLStatement sqlStatement = new SQLJudgeEngine(sql).judge();
+        SQLStatement sqlStatement = JudgingResultCache.getInstance().getSQLStatement(sql);
         if (SQLType.DCL == sqlStatement.getType() || sqlStatement instanceof SetStatement) {
             return new SchemaBroadcastBackendHandler(sequenceId, sql, backendConnection, databaseType, BackendHandlerFactory.getInstance());
         } else if (sqlStatement instanceof UseStatement) {
@@ -17,10 +17,12 @@
 
 package io.shardingsphere.shardingproxy.backend;
 
+import io.shardingsphere.shardingproxy.transport.common.packet.DatabasePacket;
 import io.shardingsphere.shardingproxy.transport.mysql.constant.ColumnType;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -39,4 +41,14 @@ public final class ResultPacket {
     private final int columnCount;
     
     private final List<ColumnType> columnTypes;
+    
+    private final DatabasePacket passthroughPacket;
+    
+    public ResultPacket(final int sequenceId, final List<Object> data, final int columnCount, final List<ColumnType> columnTypes) {
+        this(sequenceId, data, columnCount, columnTypes, null);
+    }
+    
+    public ResultPacket(final DatabasePacket passthroughPacket) {
+        this(passthroughPacket.getSequenceId(), Collections.<Object>emptyList(), 0, Collections.<ColumnType>emptyList(), passthroughPacket);
+    }
 }
@@ -18,7 +18,6 @@
 package io.shardingsphere.shardingproxy.backend.jdbc.execute;
 
 import io.shardingsphere.core.constant.ConnectionMode;
-import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.executor.ShardingExecuteGroup;
@@ -26,14 +25,17 @@ import io.shardingsphere.core.executor.StatementExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteTemplate;
 import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
+import io.shardingsphere.core.executor.sql.execute.result.QueryResultMemoryBudget;
 import io.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
 import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareCallback;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareTemplate;
 import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
 import io.shardingsphere.core.routing.RouteUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.router.masterslave.DataSourceLoadStatistics;
 import io.shardingsphere.shardingproxy.backend.BackendExecutorContext;
 import io.shardingsphere.shardingproxy.backend.SQLExecuteEngine;
 import io.shardingsphere.shardingproxy.backend.jdbc.connection.BackendConnection;
@@ -45,6 +47,9 @@ import io.shardingsphere.shardingproxy.backend.jdbc.execute.response.unit.Execut
 import io.shardingsphere.shardingproxy.backend.jdbc.execute.response.unit.ExecuteUpdateResponseUnit;
 import io.shardingsphere.shardingproxy.backend.jdbc.wrapper.JDBCExecutorWrapper;
 import io.shardingsphere.shardingproxy.runtime.GlobalRegistry;
+import io.shardingsphere.shardingproxy.runtime.schema.LogicSchema;
+import io.shardingsphere.shardingproxy.runtime.schema.MasterSlaveSchema;
+import io.shardingsphere.shardingproxy.runtime.schema.ShardingSchema;
 import io.shardingsphere.shardingproxy.transport.mysql.constant.ColumnType;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.FieldCountPacket;
@@ -63,6 +68,7 @@ import java.sql.Statement;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * SQL Execute engine for JDBC.
@@ -92,6 +98,8 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
     
     private final SQLExecuteTemplate sqlExecuteTemplate;
     
+    private QueryResultMemoryBudget memoryBudget;
+    
     public JDBCExecuteEngine(final BackendConnection backendConnection, final JDBCExecutorWrapper jdbcExecutorWrapper) {
         this.backendConnection = backendConnection;
         this.jdbcExecutorWrapper = jdbcExecutorWrapper;
@@ -106,10 +114,15 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
     public ExecuteResponse execute(final SQLRouteResult routeResult) throws SQLException {
         boolean isReturnGeneratedKeys = routeResult.getSqlStatement() instanceof InsertStatement;
         boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
+        memoryBudget = new QueryResultMemoryBudget(GlobalRegistry.getInstance().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.MEMORY_QUERY_RESULT_MAX_BYTES));
         Collection<ShardingExecuteGroup<StatementExecuteUnit>> sqlExecuteGroups =
                 sqlExecutePrepareTemplate.getExecuteUnitGroups(routeResult.getRouteUnits(), new ProxyJDBCExecutePrepareCallback(isReturnGeneratedKeys));
-        SQLExecuteCallback<ExecuteResponseUnit> firstProxySQLExecuteCallback = new FirstProxyJDBCExecuteCallback(isExceptionThrown, isReturnGeneratedKeys);
-        SQLExecuteCallback<ExecuteResponseUnit> proxySQLExecuteCallback = new ProxyJDBCExecuteCallback(isExceptionThrown, isReturnGeneratedKeys);
+        LogicSchema logicSchema = backendConnection.getLogicSchema();
+        ShardingDataSourceMetaData shardingDataSourceMetaData = logicSchema.getMetaData().getDataSource();
+        Map<String, DataSourceLoadStatistics> dataSourceLoadStatisticsMap = getDataSourceLoadStatisticsMap(logicSchema);
+        SQLExecuteCallback<ExecuteResponseUnit> firstProxySQLExecuteCallback =
+                new FirstProxyJDBCExecuteCallback(shardingDataSourceMetaData, dataSourceLoadStatisticsMap, isExceptionThrown, isReturnGeneratedKeys);
+        SQLExecuteCallback<ExecuteResponseUnit> proxySQLExecuteCallback = new ProxyJDBCExecuteCallback(shardingDataSourceMetaData, dataSourceLoadStatisticsMap, isExceptionThrown, isReturnGeneratedKeys);
         Collection<ExecuteResponseUnit> executeResponseUnits = sqlExecuteTemplate.executeGroup((Collection) sqlExecuteGroups,
                 firstProxySQLExecuteCallback, proxySQLExecuteCallback);
         ExecuteResponseUnit firstExecuteResponseUnit = executeResponseUnits.iterator().next();
@@ -117,6 +130,11 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
                 ? getExecuteQueryResponse(((ExecuteQueryResponseUnit) firstExecuteResponseUnit).getQueryResponsePackets(), executeResponseUnits) : new ExecuteUpdateResponse(executeResponseUnits);
     }
     
+    private Map<String, DataSourceLoadStatistics> getDataSourceLoadStatisticsMap(final LogicSchema logicSchema) {
+        return logicSchema instanceof MasterSlaveSchema
+                ? ((MasterSlaveSchema) logicSchema).getMasterSlaveRule().getDataSourceLoadStatisticsMap() : ((ShardingSchema) logicSchema).getShardingRule().getDataSourceLoadStatisticsMap();
+    }
+    
     private ExecuteResponse getExecuteQueryResponse(final QueryResponsePackets queryResponsePackets, final Collection<ExecuteResponseUnit> executeResponseUnits) {
         ExecuteQueryResponse result = new ExecuteQueryResponse(queryResponsePackets);
         for (ExecuteResponseUnit each : executeResponseUnits) {
@@ -166,7 +184,8 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
     }
     
     private QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode) throws SQLException {
-        return connectionMode == ConnectionMode.MEMORY_STRICTLY ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
+        return connectionMode == ConnectionMode.MEMORY_STRICTLY ? new StreamQueryResult(resultSet)
+                : new MemoryQueryResult(resultSet, memoryBudget, GlobalRegistry.getInstance().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.MEMORY_QUERY_RESULT_OFF_HEAP_ENABLED));
     }
     
     @RequiredArgsConstructor
@@ -195,8 +214,9 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         
         private boolean hasMetaData;
         
-        private FirstProxyJDBCExecuteCallback(final boolean isExceptionThrown, final boolean isReturnGeneratedKeys) {
-            super(DatabaseType.MySQL, isExceptionThrown);
+        private FirstProxyJDBCExecuteCallback(final ShardingDataSourceMetaData shardingDataSourceMetaData, final Map<String, DataSourceLoadStatistics> dataSourceLoadStatisticsMap,
+                                              final boolean isExceptionThrown, final boolean isReturnGeneratedKeys) {
+            super(shardingDataSourceMetaData, dataSourceLoadStatisticsMap, isExceptionThrown);
             this.isReturnGeneratedKeys = isReturnGeneratedKeys;
         }
         
@@ -217,8 +237,9 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         
         private final boolean isReturnGeneratedKeys;
         
-        private ProxyJDBCExecuteCallback(final boolean isExceptionThrown, final boolean isReturnGeneratedKeys) {
-            super(DatabaseType.MySQL, isExceptionThrown);
+        private ProxyJDBCExecuteCallback(final ShardingDataSourceMetaData shardingDataSourceMetaData, final Map<String, DataSourceLoadStatistics> dataSourceLoadStatisticsMap,
+                                         final boolean isExceptionThrown, final boolean isReturnGeneratedKeys) {
+            super(shardingDataSourceMetaData, dataSourceLoadStatisticsMap, isExceptionThrown);
             this.isReturnGeneratedKeys = isReturnGeneratedKeys;
         }
         
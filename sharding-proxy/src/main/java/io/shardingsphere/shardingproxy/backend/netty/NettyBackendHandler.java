@@ -17,6 +17,7 @@
 
 package io.shardingsphere.shardingproxy.backend.netty;
 
+import com.google.common.base.Optional;
 import io.netty.channel.Channel;
 import io.netty.channel.pool.SimpleChannelPool;
 import io.shardingsphere.core.constant.DatabaseType;
@@ -26,7 +27,8 @@ import io.shardingsphere.core.merger.MergeEngineFactory;
 import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataLoader;
-import io.shardingsphere.core.parsing.SQLJudgeEngine;
+import io.shardingsphere.core.metadata.table.executor.TableMetaDataRefresher;
+import io.shardingsphere.core.parsing.cache.JudgingResultCache;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.routing.RouteUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
@@ -48,6 +50,7 @@ import io.shardingsphere.shardingproxy.runtime.schema.ShardingSchema;
 import io.shardingsphere.shardingproxy.transport.common.packet.DatabasePacket;
 import io.shardingsphere.shardingproxy.transport.mysql.constant.ColumnType;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.RawTextResultSetRowPacket;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.query.ComQueryPacket;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.generic.ErrPacket;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.generic.OKPacket;
@@ -58,7 +61,6 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -91,6 +93,8 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     
     private final DatabaseType databaseType;
     
+    private final boolean isTextProtocol;
+    
     private final Map<String, List<Channel>> channelMap = new HashMap<>();
     
     private SynchronizedFuture synchronizedFuture;
@@ -101,6 +105,10 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     
     private MergedResult mergedResult;
     
+    private MySQLQueryResult passthroughQueryResult;
+    
+    private RawTextResultSetRowPacket currentRawRow;
+    
     @Override
     protected CommandResponsePackets execute0() throws InterruptedException, ExecutionException, TimeoutException, SQLException {
         return logicSchema instanceof MasterSlaveSchema ? executeForMasterSlave() : executeForSharding();
@@ -115,17 +123,14 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
         List<QueryResult> queryResults = synchronizedFuture.get(
                 GLOBAL_REGISTRY.getShardingProperties().<Long>getValue(ShardingPropertiesConstant.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS), TimeUnit.SECONDS);
         FutureRegistry.getInstance().delete(connectionId);
-        List<CommandResponsePackets> packets = new LinkedList<>();
-        for (QueryResult each : queryResults) {
-            packets.add(((MySQLQueryResult) each).getCommandResponsePackets());
-        }
-        return merge(new SQLJudgeEngine(sql).judge(), packets, queryResults);
+        return merge(JudgingResultCache.getInstance().getSQLStatement(sql), getCommandResponsePackets(queryResults), queryResults);
     }
     
     private CommandResponsePackets executeForSharding() throws InterruptedException, ExecutionException, TimeoutException, SQLException {
         StatementRoutingEngine routingEngine = new StatementRoutingEngine(
                 ((ShardingSchema) logicSchema).getShardingRule(), logicSchema.getMetaData().getTable(), databaseType,
-                GLOBAL_REGISTRY.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW), logicSchema.getMetaData().getDataSource());
+                GLOBAL_REGISTRY.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW), logicSchema.getMetaData().getDataSource(),
+                logicSchema.getParsingResultCache(), logicSchema.getRoutingResultCache());
         SQLRouteResult routeResult = routingEngine.route(sql);
         if (routeResult.getRouteUnits().isEmpty()) {
             return new CommandResponsePackets(new OKPacket(1));
@@ -138,21 +143,10 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
         List<QueryResult> queryResults = synchronizedFuture.get(
                 GLOBAL_REGISTRY.getShardingProperties().<Long>getValue(ShardingPropertiesConstant.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS), TimeUnit.SECONDS);
         FutureRegistry.getInstance().delete(connectionId);
-        List<CommandResponsePackets> packets = new ArrayList<>(queryResults.size());
-        for (QueryResult each : queryResults) {
-            MySQLQueryResult queryResult = (MySQLQueryResult) each;
-            if (0 == currentSequenceId) {
-                currentSequenceId = queryResult.getCurrentSequenceId();
-            }
-            if (0 == columnCount) {
-                columnCount = queryResult.getColumnCount();
-            }
-            packets.add(queryResult.getCommandResponsePackets());
-        }
         SQLStatement sqlStatement = routeResult.getSqlStatement();
-        CommandResponsePackets result = merge(sqlStatement, packets, queryResults);
-        if (SQLType.DDL == sqlStatement.getType() && !sqlStatement.getTables().isEmpty()) {
-            refreshTableMetaData(sqlStatement.getTables().getSingleTableName());
+        CommandResponsePackets result = merge(sqlStatement, getCommandResponsePackets(queryResults), queryResults);
+        if (SQLType.DDL == sqlStatement.getType()) {
+            refreshTableMetaData(sqlStatement);
         }
         return result;
     }
@@ -168,6 +162,21 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
         channel.writeAndFlush(new ComQueryPacket(sequenceId, sql));
     }
     
+    private List<CommandResponsePackets> getCommandResponsePackets(final List<QueryResult> queryResults) {
+        List<CommandResponsePackets> result = new ArrayList<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            MySQLQueryResult queryResult = (MySQLQueryResult) each;
+            if (0 == currentSequenceId) {
+                currentSequenceId = queryResult.getCurrentSequenceId();
+            }
+            if (0 == columnCount) {
+                columnCount = queryResult.getColumnCount();
+            }
+            result.add(queryResult.getCommandResponsePackets());
+        }
+        return result;
+    }
+    
     private CommandResponsePackets merge(final SQLStatement sqlStatement, final List<CommandResponsePackets> packets, final List<QueryResult> queryResults) {
         CommandResponsePackets headPackets = new CommandResponsePackets();
         for (CommandResponsePackets each : packets) {
@@ -184,6 +193,10 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
         if (SQLType.DML == sqlStatement.getType()) {
             return mergeDML(headPackets);
         }
+        if (SQLType.DQL == sqlStatement.getType() && isTextProtocol && 1 == queryResults.size()) {
+            passthroughQueryResult = (MySQLQueryResult) queryResults.get(0);
+            return packets.get(0);
+        }
         if (SQLType.DQL == sqlStatement.getType() || SQLType.DAL == sqlStatement.getType()) {
             return mergeDQLorDAL(sqlStatement, packets, queryResults);
         }
@@ -205,7 +218,8 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     
     private CommandResponsePackets mergeDQLorDAL(final SQLStatement sqlStatement, final List<CommandResponsePackets> packets, final List<QueryResult> queryResults) {
         try {
-            mergedResult = MergeEngineFactory.newInstance(((ShardingSchema) logicSchema).getShardingRule(), queryResults, sqlStatement, logicSchema.getMetaData().getTable()).merge();
+            mergedResult = MergeEngineFactory.newInstance(((ShardingSchema) logicSchema).getShardingRule(), queryResults, sqlStatement, logicSchema.getMetaData().getTable(), 
+                    BackendExecutorContext.getInstance().getExecuteEngine(), GLOBAL_REGISTRY.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MERGE_SPILL_THRESHOLD)).merge();
         } catch (final SQLException ex) {
             return new CommandResponsePackets(new ErrPacket(1, ex));
         }
@@ -213,25 +227,44 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     }
     
     // TODO :jiaqi use sql packet to refresh meta data
-    // TODO refresh table meta data by SQL parse result
-    private void refreshTableMetaData(final String logicTableName) throws SQLException {
+    private void refreshTableMetaData(final SQLStatement sqlStatement) {
         TableMetaDataLoader tableMetaDataLoader = new TableMetaDataLoader(
                 logicSchema.getMetaData().getDataSource(), BackendExecutorContext.getInstance().getExecuteEngine(), new ProxyTableMetaDataConnectionManager(
                         logicSchema.getBackendDataSource()), GLOBAL_REGISTRY.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY));
-        logicSchema.getMetaData().getTable().put(logicTableName, tableMetaDataLoader.load(logicTableName, ((ShardingSchema) logicSchema).getShardingRule()));
+        new TableMetaDataRefresher(logicSchema.getMetaData().getTable(), tableMetaDataLoader, ((ShardingSchema) logicSchema).getShardingRule(), 
+                logicSchema.getMetaData().getVerifyExecutor()).refresh(sqlStatement);
     }
     
     @Override
     public boolean next() throws SQLException {
+        if (null != passthroughQueryResult) {
+            return nextRawRow();
+        }
         if (null == mergedResult || !mergedResult.next()) {
+            if (null != mergedResult) {
+                mergedResult.close();
+            }
             channelRelease();
             return false;
         }
         return true;
     }
     
+    private boolean nextRawRow() {
+        Optional<RawTextResultSetRowPacket> rawRow = passthroughQueryResult.nextRawRow();
+        if (!rawRow.isPresent()) {
+            channelRelease();
+            return false;
+        }
+        currentRawRow = rawRow.get();
+        return true;
+    }
+    
     @Override
     public ResultPacket getResultValue() throws SQLException {
+        if (null != passthroughQueryResult) {
+            return new ResultPacket(new RawTextResultSetRowPacket(++currentSequenceId, currentRawRow.getByteBuf()));
+        }
         List<Object> data = new ArrayList<>(columnCount);
         for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
             data.add(mergedResult.getValue(columnIndex, Object.class));
@@ -50,9 +50,12 @@ public abstract class ResponseHandler extends ChannelInboundHandlerAdapter {
     
     protected abstract void executeCommand(ChannelHandlerContext context, ByteBuf byteBuf, int header);
     
+    protected abstract void releaseResults();
+    
     @Override
     public final void channelInactive(final ChannelHandlerContext context) throws Exception {
         //TODO delete connection map
+        releaseResults();
         super.channelInactive(context);
     }
 }
@@ -17,19 +17,23 @@
 
 package io.shardingsphere.shardingproxy.backend.netty.client.response.mysql;
 
+import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.util.NumberUtil;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.FieldCountPacket;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.RawTextResultSetRowPacket;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.generic.EofPacket;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.InputStream;
+import java.sql.Types;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
@@ -121,9 +125,9 @@ public final class MySQLQueryResult implements QueryResult {
     /**
      * Add text result set row.
      * 
-     * @param textResultSetRow text result set row
+     * @param textResultSetRow text result set row, which is decoded only if read by {@code next}
      */
-    public void addTextResultSetRow(final TextResultSetRowPacket textResultSetRow) {
+    public void addTextResultSetRow(final RawTextResultSetRowPacket textResultSetRow) {
         put(textResultSetRow);
     }
     
@@ -155,14 +159,43 @@ public final class MySQLQueryResult implements QueryResult {
     
     @Override
     public boolean next() {
+        Optional<RawTextResultSetRowPacket> rawRow = nextRawRow();
+        currentRow = rawRow.isPresent() ? rawRow.get().decode(columnCount) : null;
+        return null != currentRow;
+    }
+    
+    /**
+     * Goto next row without decoding.
+     * 
+     * <p>Raw row is taken over by caller, which should release it after written.</p>
+     * 
+     * @return raw row, absent if no more rows
+     */
+    public Optional<RawTextResultSetRowPacket> nextRawRow() {
         try {
             MySQLPacket mysqlPacket = resultSet.take();
-            currentRow = (mysqlPacket instanceof TextResultSetRowPacket) ? (TextResultSetRowPacket) mysqlPacket : null;
-            return null != currentRow;
+            return mysqlPacket instanceof RawTextResultSetRowPacket ? Optional.of((RawTextResultSetRowPacket) mysqlPacket) : Optional.<RawTextResultSetRowPacket>absent();
         } catch (final InterruptedException ex) {
             log.error(ex.getMessage(), ex);
         }
-        return false;
+        return Optional.absent();
+    }
+    
+    /**
+     * Release raw rows which are received but not read yet.
+     * 
+     * <p>Raw rows are released if backend channel is inactive before all rows are received, because they will never be read.</p>
+     */
+    public void releaseRawRows() {
+        if (null == resultSet) {
+            return;
+        }
+        MySQLPacket mysqlPacket;
+        while (null != (mysqlPacket = resultSet.poll())) {
+            if (mysqlPacket instanceof RawTextResultSetRowPacket) {
+                ((RawTextResultSetRowPacket) mysqlPacket).getByteBuf().release();
+            }
+        }
     }
     
     @Override
@@ -175,6 +208,11 @@ public final class MySQLQueryResult implements QueryResult {
         return columnIndexAndLabelMap.get(columnIndex);
     }
     
+    @Override
+    public int getColumnType(final int columnIndex) {
+        return Types.VARCHAR;
+    }
+    
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
         return currentRow.getData().get(columnIndex - 1);
@@ -185,6 +223,21 @@ public final class MySQLQueryResult implements QueryResult {
         return currentRow.getData().get(columnLabelAndIndexMap.get(columnLabel));
     }
     
+    @Override
+    public int getInt(final int columnIndex) {
+        return NumberUtil.toNumber(currentRow.getData().get(columnIndex - 1)).intValue();
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        return NumberUtil.toNumber(currentRow.getData().get(columnIndex - 1)).longValue();
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        return NumberUtil.toNumber(currentRow.getData().get(columnIndex - 1)).doubleValue();
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
         return currentRow.getData().get(columnIndex - 1);
@@ -29,7 +29,7 @@ import io.shardingsphere.shardingproxy.transport.mysql.constant.CapabilityFlag;
 import io.shardingsphere.shardingproxy.transport.mysql.constant.ServerInfo;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
-import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.RawTextResultSetRowPacket;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.generic.EofPacket;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.generic.ErrPacket;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.generic.OKPacket;
@@ -168,17 +168,24 @@ public final class MySQLResponseHandler extends ResponseHandler {
         }
     }
     
+    @Override
+    protected void releaseResults() {
+        for (MySQLQueryResult each : resultMap.values()) {
+            each.releaseRawRows();
+        }
+        resultMap.clear();
+    }
+    
     private void commandPacket(final ChannelHandlerContext context, final ByteBuf byteBuf) {
         int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
         MySQLQueryResult mysqlQueryResult = resultMap.get(connectionId);
-        MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf);
         if (null == mysqlQueryResult) {
-            mysqlQueryResult = new MySQLQueryResult(payload);
+            mysqlQueryResult = new MySQLQueryResult(new MySQLPacketPayload(byteBuf));
             resultMap.put(connectionId, mysqlQueryResult);
         } else if (mysqlQueryResult.needColumnDefinition()) {
-            mysqlQueryResult.addColumnDefinition(new ColumnDefinition41Packet(payload));
+            mysqlQueryResult.addColumnDefinition(new ColumnDefinition41Packet(new MySQLPacketPayload(byteBuf)));
         } else {
-            mysqlQueryResult.addTextResultSetRow(new TextResultSetRowPacket(payload, mysqlQueryResult.getColumnCount()));
+            mysqlQueryResult.addTextResultSetRow(new RawTextResultSetRowPacket(byteBuf));
         }
     }
 }
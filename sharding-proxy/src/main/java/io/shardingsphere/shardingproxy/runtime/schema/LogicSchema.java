@@ -19,11 +19,15 @@ package io.shardingsphere.shardingproxy.runtime.schema;
 
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.metadata.ShardingMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.routing.cache.RoutingResultCache;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.orchestration.internal.eventbus.ShardingOrchestrationEventBus;
 import io.shardingsphere.orchestration.internal.registry.config.event.DataSourceChangedEvent;
 import io.shardingsphere.shardingproxy.backend.jdbc.datasource.JDBCBackendDataSource;
+import io.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import io.shardingsphere.shardingproxy.util.DataSourceConverter;
 import lombok.Getter;
 
@@ -47,11 +51,17 @@ public abstract class LogicSchema {
     
     private JDBCBackendDataSource backendDataSource;
     
+    private final ParsingResultCache parsingResultCache;
+    
+    private final RoutingResultCache routingResultCache;
+    
     public LogicSchema(final String name, final Map<String, DataSourceParameter> dataSources) {
         this.name = name;
         // TODO :jiaqi only use JDBC need connect db via JDBC, netty style should use SQL packet to get metadata
         this.dataSources = dataSources;
         backendDataSource = new JDBCBackendDataSource(dataSources);
+        parsingResultCache = new ParsingResultCache(GlobalRegistry.getInstance().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.PARSING_CACHE_MAX_SIZE));
+        routingResultCache = new RoutingResultCache(GlobalRegistry.getInstance().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.ROUTE_CACHE_MAX_SIZE));
         eventBus.register(this);
     }
     
@@ -84,5 +94,6 @@ public abstract class LogicSchema {
         dataSources.clear();
         dataSources.putAll(DataSourceConverter.getDataSourceParameterMap(dataSourceChangedEvent.getDataSourceConfigurations()));
         backendDataSource = new JDBCBackendDataSource(dataSources);
+        routingResultCache.clear();
     }
 }
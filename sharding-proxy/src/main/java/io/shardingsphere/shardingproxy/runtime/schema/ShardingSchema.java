@@ -17,9 +17,11 @@
 
 package io.shardingsphere.shardingproxy.runtime.schema;
 
+import com.google.common.base.Strings;
 import com.google.common.eventbus.Subscribe;
 import io.shardingsphere.api.config.rule.ShardingRuleConfiguration;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.properties.ShardingProperties;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.metadata.ShardingMetaData;
 import io.shardingsphere.core.rule.DataSourceParameter;
@@ -65,9 +67,16 @@ public final class ShardingSchema extends LogicSchema {
     }
     
     private ShardingMetaData createShardingMetaData() {
+        ShardingProperties shardingProperties = GlobalRegistry.getInstance().getShardingProperties();
         return new ShardingMetaData(getDataSourceURLs(getDataSources()), shardingRule, DatabaseType.MySQL, 
                 BackendExecutorContext.getInstance().getExecuteEngine(), new ProxyTableMetaDataConnectionManager(getBackendDataSource()), 
-                GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY));
+                shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY), 
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.TABLE_META_DATA_SAMPLING_ENABLED), getSnapshotFile(shardingProperties));
+    }
+    
+    private String getSnapshotFile(final ShardingProperties shardingProperties) {
+        String result = shardingProperties.getValue(ShardingPropertiesConstant.TABLE_META_DATA_SNAPSHOT_FILE);
+        return Strings.isNullOrEmpty(result) ? result : result + "." + getName();
     }
     
     /**
@@ -79,6 +88,8 @@ public final class ShardingSchema extends LogicSchema {
     public synchronized void renew(final ShardingRuleChangedEvent shardingRuleChangedEvent) {
         if (getName().equals(shardingRuleChangedEvent.getShardingSchemaName())) {
             shardingRule = new OrchestrationShardingRule(shardingRuleChangedEvent.getShardingRuleConfiguration(), getDataSources().keySet());
+            getParsingResultCache().clear();
+            getRoutingResultCache().clear();
         }
     }
     
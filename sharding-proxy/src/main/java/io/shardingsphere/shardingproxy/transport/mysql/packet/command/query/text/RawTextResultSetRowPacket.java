@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Text result set row packet received from backend database and not decoded.
+ * 
+ * <p>
+ * Byte buffer contains sequence ID and payload of backend packet, and will be released after decoded or written.
+ * Only sequence ID is rewritten when relayed to client, values of row are copied without decoding.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+public final class RawTextResultSetRowPacket implements MySQLPacket {
+    
+    private final int sequenceId;
+    
+    private final ByteBuf byteBuf;
+    
+    public RawTextResultSetRowPacket(final ByteBuf byteBuf) {
+        this(byteBuf.getUnsignedByte(byteBuf.readerIndex()), byteBuf);
+    }
+    
+    /**
+     * Decode to text result set row packet.
+     * 
+     * @param columnCount column count
+     * @return text result set row packet
+     */
+    public TextResultSetRowPacket decode(final int columnCount) {
+        try (MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf)) {
+            return new TextResultSetRowPacket(payload, columnCount);
+        }
+    }
+    
+    @Override
+    public void write(final MySQLPacketPayload payload) {
+        try {
+            payload.getByteBuf().writeBytes(byteBuf, byteBuf.readerIndex() + SEQUENCE_LENGTH, byteBuf.readableBytes() - SEQUENCE_LENGTH);
+        } finally {
+            byteBuf.release();
+        }
+    }
+}
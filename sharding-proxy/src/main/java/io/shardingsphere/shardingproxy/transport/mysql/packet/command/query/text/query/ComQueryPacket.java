@@ -90,6 +90,9 @@ public final class ComQueryPacket implements QueryCommandPacket {
     @Override
     public DatabasePacket getResultValue() throws SQLException {
         ResultPacket resultPacket = backendHandler.getResultValue();
+        if (null != resultPacket.getPassthroughPacket()) {
+            return resultPacket.getPassthroughPacket();
+        }
         return new TextResultSetRowPacket(resultPacket.getSequenceId(), resultPacket.getData());
     }
 }
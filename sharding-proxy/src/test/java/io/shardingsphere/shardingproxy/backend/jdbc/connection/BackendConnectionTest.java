@@ -21,6 +21,7 @@ import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.constant.transaction.TransactionOperationType;
 import io.shardingsphere.core.constant.transaction.TransactionType;
 import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.shardingproxy.backend.MockGlobalRegistryUtil;
 import io.shardingsphere.shardingproxy.backend.jdbc.datasource.JDBCBackendDataSource;
 import lombok.SneakyThrows;
@@ -212,6 +213,15 @@ public final class BackendConnectionTest {
         assertTrue(actual.getCachedStatements().isEmpty());
     }
     
+    @Test
+    public void assertCloseMergedResults() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        backendConnection.add(mergedResult);
+        backendConnection.close();
+        verify(mergedResult).close();
+        assertTrue(backendConnection.getCachedMergedResults().isEmpty());
+    }
+    
     private void mockResultSetAndStatement(final BackendConnection backendConnection) {
         ResultSet resultSet = mock(ResultSet.class);
         Statement statement = mock(Statement.class);
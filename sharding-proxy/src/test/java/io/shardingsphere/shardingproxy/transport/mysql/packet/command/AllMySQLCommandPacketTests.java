@@ -32,6 +32,7 @@ import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.bina
 import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.execute.protocol.AllMySQLBinaryProtocolTests;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.prepare.ComStmtPrepareOKPacketTest;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.prepare.ComStmtPreparePacketTest;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.RawTextResultSetRowPacketTest;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.TextResultSetRowPacketTest;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.fieldlist.ComFieldListPacketTest;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.query.ComQueryPacketTest;
@@ -51,6 +52,7 @@ import org.junit.runners.Suite.SuiteClasses;
         FieldCountPacketTest.class, 
         ColumnDefinition41PacketTest.class, 
         TextResultSetRowPacketTest.class, 
+        RawTextResultSetRowPacketTest.class, 
         ComFieldListPacketTest.class, 
         ComQueryPacketTest.class, 
         ComStmtPreparePacketTest.class, 
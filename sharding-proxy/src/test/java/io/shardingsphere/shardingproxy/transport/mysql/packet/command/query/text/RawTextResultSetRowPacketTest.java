@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class RawTextResultSetRowPacketTest {
+    
+    @Test
+    public void assertDecode() {
+        ByteBuf byteBuf = createRow();
+        RawTextResultSetRowPacket actual = new RawTextResultSetRowPacket(byteBuf);
+        assertThat(actual.getSequenceId(), is(3));
+        TextResultSetRowPacket textResultSetRowPacket = actual.decode(2);
+        assertThat(textResultSetRowPacket.getSequenceId(), is(3));
+        assertThat(textResultSetRowPacket.getData(), is(Arrays.<Object>asList("value_a", "value_b")));
+        assertThat(byteBuf.refCnt(), is(0));
+    }
+    
+    @Test
+    public void assertWrite() {
+        ByteBuf byteBuf = createRow();
+        RawTextResultSetRowPacket actual = new RawTextResultSetRowPacket(5, byteBuf);
+        assertThat(actual.getSequenceId(), is(5));
+        ByteBuf written = Unpooled.buffer();
+        actual.write(new MySQLPacketPayload(written));
+        MySQLPacketPayload writtenPayload = new MySQLPacketPayload(written);
+        assertThat(writtenPayload.readStringLenenc(), is("value_a"));
+        assertThat(writtenPayload.readStringLenenc(), is("value_b"));
+        assertThat(written.readableBytes(), is(0));
+        assertThat(byteBuf.refCnt(), is(0));
+    }
+    
+    private ByteBuf createRow() {
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.buffer());
+        payload.writeInt1(3);
+        payload.writeStringLenenc("value_a");
+        payload.writeStringLenenc("value_b");
+        return payload.getByteBuf();
+    }
+}
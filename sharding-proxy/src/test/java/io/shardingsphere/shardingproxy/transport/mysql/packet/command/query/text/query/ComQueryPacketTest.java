@@ -113,6 +113,17 @@ public final class ComQueryPacketTest {
         assertFalse(packet.next());
     }
     
+    @Test
+    public void assertGetPassthroughResultValue() throws SQLException {
+        when(payload.readStringEOF()).thenReturn("SELECT id FROM tbl");
+        ComQueryPacket packet = new ComQueryPacket(1, payload, backendConnection);
+        BackendHandler backendHandler = mock(BackendHandler.class);
+        DatabasePacket passthroughPacket = new TextResultSetRowPacket(3, Collections.<Object>singletonList("id"));
+        when(backendHandler.getResultValue()).thenReturn(new ResultPacket(passthroughPacket));
+        setBackendHandler(packet, backendHandler);
+        assertThat(packet.getResultValue(), is(passthroughPacket));
+    }
+    
     @SneakyThrows
     private void setBackendHandler(final ComQueryPacket packet, final FieldCountPacket expectedFieldCountPacket) {
         BackendHandler backendHandler = mock(BackendHandler.class);
@@ -121,6 +132,11 @@ public final class ComQueryPacketTest {
         when(backendHandler.execute()).thenReturn(new CommandResponsePackets(expectedFieldCountPacket));
         when(backendHandler.next()).thenReturn(true, false);
         when(backendHandler.getResultValue()).thenReturn(new ResultPacket(2, Collections.<Object>singletonList(99999L), 1, Collections.singletonList(ColumnType.MYSQL_TYPE_LONG)));
+        setBackendHandler(packet, backendHandler);
+    }
+    
+    @SneakyThrows
+    private void setBackendHandler(final ComQueryPacket packet, final BackendHandler backendHandler) {
         Field field = ComQueryPacket.class.getDeclaredField("backendHandler");
         field.setAccessible(true);
         field.set(packet, backendHandler);